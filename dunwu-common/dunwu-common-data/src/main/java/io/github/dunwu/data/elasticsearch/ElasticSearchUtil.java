@@ -1,19 +1,17 @@
 package io.github.dunwu.data.elasticsearch;
 
 import io.github.dunwu.data.common.QueryJudgeType;
-import io.github.dunwu.tool.bean.support.NamingStrategy;
-import io.github.dunwu.tool.util.ArrayUtil;
-import io.github.dunwu.tool.util.CharUtil;
-import io.github.dunwu.tool.util.StringUtil;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MatchPhraseQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
-import org.elasticsearch.index.query.RegexpQueryBuilder;
 import org.elasticsearch.index.query.TermQueryBuilder;
+import org.elasticsearch.index.query.WildcardQueryBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.sort.FieldSortBuilder;
-import org.elasticsearch.search.sort.SortOrder;
-import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 
-import java.lang.reflect.Field;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,73 +20,68 @@ import java.util.List;
  */
 public class ElasticSearchUtil {
 
-    private static final String LIKE_REGEX_TEMPLATE = ".*%s.*";
-
     private ElasticSearchUtil() {}
 
     public static List<QueryBuilder> transToQueryBuilders(final Object queryBean) throws IllegalAccessException {
+        return QueryBeanPlan.of(queryBean.getClass()).toQueryBuilders(queryBean);
+    }
 
-        NativeSearchQueryBuilder nativeSearchQueryBuilder = new NativeSearchQueryBuilder();
+    public static List<FieldSortBuilder> getSortBuilders(Object queryBean) {
+        return QueryBeanPlan.of(queryBean.getClass()).toSortBuilders();
+    }
 
-        QueryDocument document = queryBean.getClass().getAnnotation(QueryDocument.class);
-        if (null == document) {
-            throw new IllegalArgumentException("查询条件类定义必须使用 @QueryDocument 注解");
+    /**
+     * 将查询条件对象转为 {@link SearchSourceBuilder}，所有查询条件以 bool must 组合，并带上排序条件
+     *
+     * @param queryBean 查询条件对象，类定义必须使用 {@link QueryDocument} 注解
+     * @return {@link SearchSourceBuilder}
+     * @throws IllegalAccessException 字段无法访问
+     */
+    public static SearchSourceBuilder transToSearchSource(final Object queryBean) throws IllegalAccessException {
+        QueryBeanPlan plan = QueryBeanPlan.of(queryBean.getClass());
+        BoolQueryBuilder boolQueryBuilder = new BoolQueryBuilder();
+        for (QueryBuilder queryBuilder : plan.toQueryBuilders(queryBean)) {
+            boolQueryBuilder.must(queryBuilder);
         }
-
-        // 排序条件
-        List<FieldSortBuilder> sortBuilders = getSortBuilders(queryBean);
-
-        for (FieldSortBuilder sortBuilder : sortBuilders) {
-            nativeSearchQueryBuilder.withSort(sortBuilder);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().query(boolQueryBuilder);
+        for (FieldSortBuilder sortBuilder : plan.toSortBuilders()) {
+            searchSourceBuilder.sort(sortBuilder);
         }
-
-        // 处理查询字段和字段值
-        Field[] fields = queryBean.getClass().getDeclaredFields();
-        NamingStrategy namingStrategy = document.namingStrategy();
-        List<QueryBuilder> queryBuilders = new ArrayList<>();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Object value = field.get(queryBean);
-
-            if (value != null) {
-                // 如果字段没有被 QueryField 修饰，直接跳过
-                QueryField queryField = field.getAnnotation(QueryField.class);
-                if (null == queryField) {
-                    continue;
-                }
-
-                // 获取查询字段实际 key
-                String fieldName = getFieldName(namingStrategy, field, queryField);
-                if (StringUtil.isBlank(fieldName)) {
-                    continue;
-                }
-
-                QueryBuilder queryBuilder = getQueryBuilder(queryField.judgeType(), fieldName, value);
-                queryBuilders.add(queryBuilder);
-            }
-        }
-
-        return queryBuilders;
+        return searchSourceBuilder;
     }
 
-    public static List<FieldSortBuilder> getSortBuilders(Object queryBean) {
-        QueryDocument document = queryBean.getClass().getAnnotation(QueryDocument.class);
-        if (null == document) {
-            throw new IllegalArgumentException("查询条件类定义必须使用 @QueryDocument 注解");
+    /**
+     * 将多个查询条件对象转为一次 multi search 请求，每个查询条件对象对应其中一个 {@link SearchRequest}，响应顺序与查询条件对象的顺序一致
+     *
+     * @param queryBeans 查询条件对象集合
+     * @param indices    查询的索引
+     * @return {@link MultiSearchRequest}
+     * @throws IllegalAccessException 字段无法访问
+     */
+    public static MultiSearchRequest transToMultiSearchRequest(final Collection<?> queryBeans, String... indices)
+        throws IllegalAccessException {
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        for (Object queryBean : queryBeans) {
+            multiSearchRequest.add(new SearchRequest(indices).source(transToSearchSource(queryBean)));
         }
-
-        List<FieldSortBuilder> sortBuilders = new ArrayList<>();
-        if (ArrayUtil.isNotEmpty(document.orderItem())) {
-            SortOrder order = SortOrder.fromString(document.orderType().name());
-            for (String orderItem : document.orderItem()) {
-                FieldSortBuilder sortBuilder = new FieldSortBuilder(orderItem).order(order);
-                sortBuilders.add(sortBuilder);
-            }
-        }
-        return sortBuilders;
+        return multiSearchRequest;
     }
 
     public static QueryBuilder getQueryBuilder(QueryJudgeType judgeType, String fieldName, Object value) {
+        return getQueryBuilder(judgeType, fieldName, value, false);
+    }
+
+    /**
+     * 根据判断类型生成查询条件
+     *
+     * @param judgeType 判断类型
+     * @param fieldName ES 字段名
+     * @param value     字段值
+     * @param ngram     字段是否使用 ngram 分词，为 true 时 Like 使用 match_phrase 查询，否则使用 wildcard 查询
+     * @return 查询条件，不支持的判断类型返回 null
+     */
+    public static QueryBuilder getQueryBuilder(QueryJudgeType judgeType, String fieldName, Object value,
+        boolean ngram) {
         QueryBuilder queryBuilder = null;
 
         switch (judgeType) {
@@ -96,8 +89,11 @@ public class ElasticSearchUtil {
                 queryBuilder = new TermQueryBuilder(fieldName, value);
                 break;
             case Like:
-                String regexp = String.format(LIKE_REGEX_TEMPLATE, value);
-                queryBuilder = new RegexpQueryBuilder(fieldName, regexp);
+                if (ngram) {
+                    queryBuilder = new MatchPhraseQueryBuilder(fieldName, value);
+                } else {
+                    queryBuilder = new WildcardQueryBuilder(fieldName, "*" + escapeWildcard(value.toString()) + "*");
+                }
                 break;
             default:
                 break;
@@ -105,37 +101,22 @@ public class ElasticSearchUtil {
         return queryBuilder;
     }
 
-    private static String getFieldName(NamingStrategy namingStrategy, Field field, QueryField queryField) {
-        if (StringUtil.isNotBlank(queryField.value())) {
-            return queryField.value();
-        } else {
-            return getFieldName(namingStrategy, field);
-        }
-    }
-
-    private static String getFieldName(NamingStrategy namingStrategy, Field field) {
-        String fieldName;
-        switch (namingStrategy) {
-            case CAMEL:
-                fieldName = StringUtil.toCamelCase(field.getName());
-                break;
-            case LOWER_UNDERLINE:
-                fieldName = StringUtil.toUnderlineCase(field.getName()).toLowerCase();
-                break;
-            case UPPER_UNDERLINE:
-                fieldName = StringUtil.toUnderlineCase(field.getName()).toUpperCase();
-                break;
-            case LOWER_DASHED:
-                fieldName = StringUtil.toSymbolCase(field.getName(), CharUtil.DASHED).toLowerCase();
-                break;
-            case UPPER_DASHED:
-                fieldName = StringUtil.toSymbolCase(field.getName(), CharUtil.DASHED).toUpperCase();
-                break;
-            default:
-                fieldName = field.getName();
-                break;
+    /**
+     * 转义 wildcard 查询中的特殊字符 *、? 和 \
+     *
+     * @param value 查询值
+     * @return 转义后的值
+     */
+    static String escapeWildcard(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '\\') {
+                builder.append('\\');
+            }
+            builder.append(c);
         }
-        return fieldName;
+        return builder.toString();
     }
 
 }
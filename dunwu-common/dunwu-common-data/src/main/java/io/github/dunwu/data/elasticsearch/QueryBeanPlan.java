@@ -0,0 +1,170 @@
+package io.github.dunwu.data.elasticsearch;
+
+import io.github.dunwu.data.common.QueryJudgeType;
+import io.github.dunwu.tool.bean.support.NamingStrategy;
+import io.github.dunwu.tool.util.CharUtil;
+import io.github.dunwu.tool.util.StringUtil;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 查询条件类的查询计划<br> 按类缓存 {@link QueryDocument} 和 {@link QueryField} 的解析结果：参与查询的字段、ES 字段名、判断类型以及排序条件，
+ * 每个类只解析一次注解、执行一次 {@link Field#setAccessible(boolean)} 和命名策略转换。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class QueryBeanPlan {
+
+    /**
+     * 查询计划引用了类的 {@link Field}，使用 {@link ClassValue} 保存在类自身上，类卸载时一同回收
+     */
+    private static final ClassValue<QueryBeanPlan> CACHE = new ClassValue<QueryBeanPlan>() {
+        @Override
+        protected QueryBeanPlan computeValue(Class<?> type) {
+            return new QueryBeanPlan(type);
+        }
+    };
+
+    private final String[] orderItems;
+
+    private final SortOrder sortOrder;
+
+    private final QueryFieldPlan[] fields;
+
+    private QueryBeanPlan(Class<?> clazz) {
+        QueryDocument document = clazz.getAnnotation(QueryDocument.class);
+        if (null == document) {
+            throw new IllegalArgumentException("查询条件类定义必须使用 @QueryDocument 注解");
+        }
+        this.orderItems = document.orderItem();
+        this.sortOrder = SortOrder.fromString(document.orderType().name());
+
+        Field[] declaredFields = clazz.getDeclaredFields();
+        AccessibleObject.setAccessible(declaredFields, true);
+        List<QueryFieldPlan> fields = new ArrayList<>();
+        for (Field field : declaredFields) {
+            // 如果字段没有被 QueryField 修饰，直接跳过
+            QueryField queryField = field.getAnnotation(QueryField.class);
+            if (null == queryField) {
+                continue;
+            }
+
+            // 获取查询字段实际 key
+            String fieldName = getFieldName(document.namingStrategy(), field, queryField);
+            if (StringUtil.isBlank(fieldName)) {
+                continue;
+            }
+            fields.add(new QueryFieldPlan(field, fieldName, queryField.judgeType(), queryField.ngram()));
+        }
+        this.fields = fields.toArray(new QueryFieldPlan[0]);
+    }
+
+    /**
+     * 获取查询条件类的查询计划，不存在时解析并缓存
+     *
+     * @param clazz 查询条件类
+     * @return 查询计划
+     * @throws IllegalArgumentException 类没有使用 {@link QueryDocument} 注解
+     */
+    static QueryBeanPlan of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * 根据查询条件对象中不为 null 的字段生成查询条件
+     *
+     * @param queryBean 查询条件对象
+     * @return 查询条件列表
+     * @throws IllegalAccessException 字段无法访问
+     */
+    List<QueryBuilder> toQueryBuilders(Object queryBean) throws IllegalAccessException {
+        List<QueryBuilder> queryBuilders = new ArrayList<>(fields.length);
+        for (QueryFieldPlan field : fields) {
+            Object value = field.field.get(queryBean);
+            if (value != null) {
+                QueryBuilder queryBuilder =
+                    ElasticSearchUtil.getQueryBuilder(field.judgeType, field.fieldName, value, field.ngram);
+                if (null != queryBuilder) {
+                    queryBuilders.add(queryBuilder);
+                }
+            }
+        }
+        return queryBuilders;
+    }
+
+    /**
+     * 生成排序条件，{@link FieldSortBuilder} 是可变对象，每次调用都新建
+     *
+     * @return 排序条件列表
+     */
+    List<FieldSortBuilder> toSortBuilders() {
+        List<FieldSortBuilder> sortBuilders = new ArrayList<>(orderItems.length);
+        for (String orderItem : orderItems) {
+            sortBuilders.add(new FieldSortBuilder(orderItem).order(sortOrder));
+        }
+        return sortBuilders;
+    }
+
+    private static String getFieldName(NamingStrategy namingStrategy, Field field, QueryField queryField) {
+        if (StringUtil.isNotBlank(queryField.value())) {
+            return queryField.value();
+        } else {
+            return getFieldName(namingStrategy, field);
+        }
+    }
+
+    private static String getFieldName(NamingStrategy namingStrategy, Field field) {
+        String fieldName;
+        switch (namingStrategy) {
+            case CAMEL:
+                fieldName = StringUtil.toCamelCase(field.getName());
+                break;
+            case LOWER_UNDERLINE:
+                fieldName = StringUtil.toUnderlineCase(field.getName()).toLowerCase();
+                break;
+            case UPPER_UNDERLINE:
+                fieldName = StringUtil.toUnderlineCase(field.getName()).toUpperCase();
+                break;
+            case LOWER_DASHED:
+                fieldName = StringUtil.toSymbolCase(field.getName(), CharUtil.DASHED).toLowerCase();
+                break;
+            case UPPER_DASHED:
+                fieldName = StringUtil.toSymbolCase(field.getName(), CharUtil.DASHED).toUpperCase();
+                break;
+            default:
+                fieldName = field.getName();
+                break;
+        }
+        return fieldName;
+    }
+
+    /**
+     * 单个查询字段的解析结果
+     */
+    private static final class QueryFieldPlan {
+
+        private final Field field;
+
+        private final String fieldName;
+
+        private final QueryJudgeType judgeType;
+
+        private final boolean ngram;
+
+        QueryFieldPlan(Field field, String fieldName, QueryJudgeType judgeType, boolean ngram) {
+            this.field = field;
+            this.fieldName = fieldName;
+            this.judgeType = judgeType;
+            this.ngram = ngram;
+        }
+
+    }
+
+}
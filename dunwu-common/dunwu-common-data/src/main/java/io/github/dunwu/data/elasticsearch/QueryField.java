@@ -18,4 +18,9 @@ public @interface QueryField {
 
     QueryJudgeType judgeType() default QueryJudgeType.Equals;
 
+    /**
+     * 字段是否使用 ngram 分词。为 true 时 {@link QueryJudgeType#Like} 使用 match_phrase 查询，否则使用 wildcard 查询
+     */
+    boolean ngram() default false;
+
 }
@@ -0,0 +1,128 @@
+package io.github.dunwu.data.elasticsearch;
+
+import io.github.dunwu.data.common.OrderType;
+import io.github.dunwu.data.common.QueryJudgeType;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.MatchPhraseQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.TermQueryBuilder;
+import org.elasticsearch.index.query.WildcardQueryBuilder;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link ElasticSearchUtil} 单元测试类
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class ElasticSearchUtilTest {
+
+    @Test
+    public void escapeWildcardTest() {
+        Assertions.assertEquals("abc", ElasticSearchUtil.escapeWildcard("abc"));
+        Assertions.assertEquals("a\\*b\\?c\\\\d", ElasticSearchUtil.escapeWildcard("a*b?c\\d"));
+        Assertions.assertEquals("", ElasticSearchUtil.escapeWildcard(""));
+    }
+
+    @Test
+    public void likeTest() {
+        QueryBuilder queryBuilder = ElasticSearchUtil.getQueryBuilder(QueryJudgeType.Like, "name", "a*b?c\\d");
+        Assertions.assertTrue(queryBuilder instanceof WildcardQueryBuilder);
+        WildcardQueryBuilder wildcard = (WildcardQueryBuilder) queryBuilder;
+        Assertions.assertEquals("name", wildcard.fieldName());
+        Assertions.assertEquals("*a\\*b\\?c\\\\d*", wildcard.value());
+        // JSON 中反斜杠会再转义一次
+        String json = wildcard.toString();
+        Assertions.assertTrue(json.contains("\"wildcard\""));
+        Assertions.assertTrue(json.contains("\"*a\\\\*b\\\\?c\\\\\\\\d*\""));
+
+        queryBuilder = ElasticSearchUtil.getQueryBuilder(QueryJudgeType.Like, "nick", "张三", true);
+        Assertions.assertTrue(queryBuilder instanceof MatchPhraseQueryBuilder);
+        MatchPhraseQueryBuilder matchPhrase = (MatchPhraseQueryBuilder) queryBuilder;
+        Assertions.assertEquals("nick", matchPhrase.fieldName());
+        Assertions.assertEquals("张三", matchPhrase.value());
+        Assertions.assertTrue(matchPhrase.toString().contains("\"match_phrase\""));
+
+        Assertions.assertNull(ElasticSearchUtil.getQueryBuilder(QueryJudgeType.In, "name", "a"));
+    }
+
+    @Test
+    public void transToQueryBuildersTest() throws IllegalAccessException {
+        User user = new User();
+        user.userName = "a*";
+        user.nickName = "b";
+        List<QueryBuilder> queryBuilders = ElasticSearchUtil.transToQueryBuilders(user);
+
+        // 值为 null 的字段不生成查询条件
+        Assertions.assertEquals(2, queryBuilders.size());
+        WildcardQueryBuilder wildcard = (WildcardQueryBuilder) queryBuilders.get(0);
+        Assertions.assertEquals("user_name", wildcard.fieldName());
+        Assertions.assertEquals("*a\\**", wildcard.value());
+        MatchPhraseQueryBuilder matchPhrase = (MatchPhraseQueryBuilder) queryBuilders.get(1);
+        Assertions.assertEquals("nick", matchPhrase.fieldName());
+
+        List<FieldSortBuilder> sortBuilders = ElasticSearchUtil.getSortBuilders(user);
+        Assertions.assertEquals(1, sortBuilders.size());
+        Assertions.assertEquals("age", sortBuilders.get(0).getFieldName());
+        Assertions.assertEquals(SortOrder.DESC, sortBuilders.get(0).order());
+        // 排序条件每次新建，修改返回值不影响下一次调用
+        sortBuilders.get(0).order(SortOrder.ASC);
+        Assertions.assertEquals(SortOrder.DESC, ElasticSearchUtil.getSortBuilders(user).get(0).order());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ElasticSearchUtil.transToQueryBuilders(new Object()));
+    }
+
+    @Test
+    public void transToMultiSearchRequestTest() throws IllegalAccessException {
+        User first = new User();
+        first.age = 1;
+        User second = new User();
+        second.age = 2;
+        User third = new User();
+        third.age = 3;
+        MultiSearchRequest multiSearchRequest =
+            ElasticSearchUtil.transToMultiSearchRequest(Arrays.asList(first, second, third), "user");
+
+        // 请求顺序与查询条件对象的顺序一致
+        List<SearchRequest> requests = multiSearchRequest.requests();
+        Assertions.assertEquals(3, requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SearchRequest request = requests.get(i);
+            Assertions.assertArrayEquals(new String[] { "user" }, request.indices());
+            SearchSourceBuilder source = request.source();
+            BoolQueryBuilder bool = (BoolQueryBuilder) source.query();
+            Assertions.assertEquals(1, bool.must().size());
+            TermQueryBuilder term = (TermQueryBuilder) bool.must().get(0);
+            Assertions.assertEquals("age", term.fieldName());
+            Assertions.assertEquals(i + 1, term.value());
+            Assertions.assertEquals(1, source.sorts().size());
+        }
+    }
+
+    @QueryDocument(orderItem = "age", orderType = OrderType.DESC)
+    static class User {
+
+        @QueryField(judgeType = QueryJudgeType.Like)
+        private String userName;
+
+        @QueryField(value = "nick", judgeType = QueryJudgeType.Like, ngram = true)
+        private String nickName;
+
+        @QueryField
+        private Integer age;
+
+        private String ignored = "ignored";
+
+    }
+
+}
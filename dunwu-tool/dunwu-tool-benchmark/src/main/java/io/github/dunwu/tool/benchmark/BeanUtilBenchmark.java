@@ -0,0 +1,80 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.bean.BeanUtil;
+import io.github.dunwu.tool.bean.support.BeanCopier;
+import io.github.dunwu.tool.bean.support.BeanCopyPlan;
+import io.github.dunwu.tool.bean.support.BeanOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BeanUtil} 基准测试，覆盖同类型拷贝、带类型转换的拷贝和 Bean 转 Map
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanUtilBenchmark {
+
+    private BenchmarkFixtures.User user;
+
+    private BenchmarkFixtures.UserDTO dto;
+
+    private List<BenchmarkFixtures.User> users;
+
+    private BeanCopyPlan<BenchmarkFixtures.User, BenchmarkFixtures.UserDTO> plan;
+
+    @Setup
+    public void setup() {
+        users = BenchmarkFixtures.users(100);
+        user = users.get(0);
+        dto = BeanUtil.toBean(user, BenchmarkFixtures.UserDTO.class);
+        plan = BeanCopier.plan(BenchmarkFixtures.User.class, BenchmarkFixtures.UserDTO.class,
+            BeanOptions.create());
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.User copySameType() {
+        BenchmarkFixtures.User target = new BenchmarkFixtures.User();
+        BeanUtil.copyProperties(user, target);
+        return target;
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.UserDTO copyWithConversion() {
+        return BeanUtil.toBean(user, BenchmarkFixtures.UserDTO.class);
+    }
+
+    @Benchmark
+    public BenchmarkFixtures.User copyFromDto() {
+        return BeanUtil.toBean(dto, BenchmarkFixtures.User.class);
+    }
+
+    @Benchmark
+    public List<BenchmarkFixtures.UserDTO> copyListWithPlan() {
+        return plan.copyList(users);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return BeanUtil.toMap(user);
+    }
+
+}
@@ -0,0 +1,357 @@
+package io.github.dunwu.tool.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试数据
+ * <p>
+ * 使用固定随机种子生成，保证每次执行、每个版本使用的数据完全一致，结果才有可比性。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 20261018L;
+
+    private static final String[] WORDS = { "order", "user", "account", "payment", "invoice", "product", "catalog",
+        "region", "status", "created", "updated", "amount", "quantity", "discount" };
+
+    private static final String[] CHINESE_NAMES = { "张三", "李四", "王五", "赵六", "钱七", "孙八", "周九", "吴十" };
+
+    private static final String[] CITIES = { "北京市", "上海市", "广州市", "深圳市", "杭州市", "南京市", "成都市", "武汉市" };
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Random newRandom() {
+        return new Random(SEED);
+    }
+
+    /**
+     * 生成驼峰形式的字段名，如：orderPaymentAmount
+     */
+    public static String[] camelCaseNames(int count) {
+        Random random = newRandom();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            StringBuilder sb = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            int parts = 1 + random.nextInt(3);
+            for (int j = 0; j < parts; j++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                sb.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+            }
+            names[i] = sb.toString();
+        }
+        return names;
+    }
+
+    /**
+     * 生成逗号分隔的文本行
+     */
+    public static String delimitedLine(int fieldCount) {
+        Random random = newRandom();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fieldCount; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(1000));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成常见格式的日期时间字符串
+     */
+    public static String[] dateStrings(int count) {
+        Random random = newRandom();
+        String[] dates = new String[count];
+        for (int i = 0; i < count; i++) {
+            int year = 2000 + random.nextInt(30);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(28);
+            int hour = random.nextInt(24);
+            int minute = random.nextInt(60);
+            int second = random.nextInt(60);
+            switch (i % 4) {
+                case 0:
+                    dates[i] = String.format("%04d-%02d-%02d %02d:%02d:%02d", year, month, day, hour, minute, second);
+                    break;
+                case 1:
+                    dates[i] = String.format("%04d-%02d-%02d", year, month, day);
+                    break;
+                case 2:
+                    dates[i] = String.format("%04d%02d%02d%02d%02d%02d", year, month, day, hour, minute, second);
+                    break;
+                default:
+                    dates[i] = String.format("%04d-%02d-%02dT%02d:%02d:%02dZ", year, month, day, hour, minute, second);
+                    break;
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 生成数字字符串，包含整数、负数、小数
+     */
+    public static String[] numberStrings(int count) {
+        Random random = newRandom();
+        String[] numbers = new String[count];
+        for (int i = 0; i < count; i++) {
+            switch (i % 3) {
+                case 0:
+                    numbers[i] = String.valueOf(random.nextInt(100000));
+                    break;
+                case 1:
+                    numbers[i] = String.valueOf(-random.nextInt(1000));
+                    break;
+                default:
+                    numbers[i] = String.valueOf(random.nextInt(10000) / 100.0);
+                    break;
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * 生成用户数据
+     */
+    public static List<User> users(int count) {
+        Random random = newRandom();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setName(CHINESE_NAMES[random.nextInt(CHINESE_NAMES.length)]);
+            user.setAge(18 + random.nextInt(50));
+            user.setEmail("user" + i + "@example.com");
+            user.setCity(CITIES[random.nextInt(CITIES.length)]);
+            user.setBalance(random.nextInt(1000000) / 100.0);
+            user.setVip(random.nextBoolean());
+            user.setScore(String.valueOf(random.nextInt(100)));
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     * 生成带表头的 CSV 文本，部分字段带引号、逗号和换行
+     */
+    public static String csv(int rowCount) {
+        StringBuilder sb = new StringBuilder("id,name,age,email,city,balance,vip,remark\n");
+        for (User user : users(rowCount)) {
+            sb.append(user.getId()).append(',')
+                .append(user.getName()).append(',')
+                .append(user.getAge()).append(',')
+                .append(user.getEmail()).append(',')
+                .append(user.getCity()).append(',')
+                .append(user.getBalance()).append(',')
+                .append(user.isVip()).append(',');
+            if (user.getId() % 10 == 0) {
+                sb.append("\"备注, 包含 \"\"引号\"\"\n和换行\"");
+            } else {
+                sb.append("普通备注");
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 生成随机字节数组
+     */
+    public static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        newRandom().nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * 生成中英文混合文本的 UTF-8 字节
+     */
+    public static byte[] textBytes(int size) {
+        Random random = newRandom();
+        StringBuilder sb = new StringBuilder(size);
+        while (sb.length() < size) {
+            sb.append(random.nextBoolean() ? WORDS[random.nextInt(WORDS.length)]
+                : CITIES[random.nextInt(CITIES.length)]).append(' ');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static class User {
+
+        private Long id;
+
+        private String name;
+
+        private int age;
+
+        private String email;
+
+        private String city;
+
+        private double balance;
+
+        private boolean vip;
+
+        private String score;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public double getBalance() {
+            return balance;
+        }
+
+        public void setBalance(double balance) {
+            this.balance = balance;
+        }
+
+        public boolean isVip() {
+            return vip;
+        }
+
+        public void setVip(boolean vip) {
+            this.vip = vip;
+        }
+
+        public String getScore() {
+            return score;
+        }
+
+        public void setScore(String score) {
+            this.score = score;
+        }
+
+    }
+
+    /**
+     * 与 {@link User} 属性名相同但部分类型不同的 DTO，用于测试带类型转换的属性拷贝
+     */
+    public static class UserDTO {
+
+        private String id;
+
+        private String name;
+
+        private String age;
+
+        private String email;
+
+        private String city;
+
+        private String balance;
+
+        private Boolean vip;
+
+        private Integer score;
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getAge() {
+            return age;
+        }
+
+        public void setAge(String age) {
+            this.age = age;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getBalance() {
+            return balance;
+        }
+
+        public void setBalance(String balance) {
+            this.balance = balance;
+        }
+
+        public Boolean getVip() {
+            return vip;
+        }
+
+        public void setVip(Boolean vip) {
+            this.vip = vip;
+        }
+
+        public Integer getScore() {
+            return score;
+        }
+
+        public void setScore(Integer score) {
+            this.score = score;
+        }
+
+    }
+
+}
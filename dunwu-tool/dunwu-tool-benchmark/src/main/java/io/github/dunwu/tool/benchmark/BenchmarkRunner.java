@@ -0,0 +1,66 @@
+package io.github.dunwu.tool.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * 基准测试启动入口
+ * <p>
+ * 支持 JMH 的全部命令行参数，在此基础上：
+ * <ul>
+ * <li>未指定 -rf 时，结果以 JSON 格式输出，便于不同版本之间对比</li>
+ * <li>未指定 -rff 时，结果写入 jmh-result.json</li>
+ * <li>未指定 -prof 时，默认启用 GC 分析器（输出每次操作的内存分配量）</li>
+ * </ul>
+ * 示例：
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                                      # 执行全部基准测试
+ * java -jar target/benchmarks.jar CsvParserBenchmark -rff csv.json     # 执行指定基准测试
+ * java -jar target/benchmarks.jar -h                                   # 查看 JMH 帮助
+ * </pre>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class BenchmarkRunner {
+
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        if (cmdOptions.shouldHelp()) {
+            cmdOptions.showHelp();
+            return;
+        }
+        if (cmdOptions.shouldList() || cmdOptions.shouldListProfilers() || cmdOptions.shouldListResultFormats()) {
+            // 列表类命令交给 JMH 原生入口处理
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cmdOptions.getResult().hasValue()) {
+            builder.result(DEFAULT_RESULT_FILE);
+        }
+        if (cmdOptions.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        new Runner(builder.build()).run();
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.codec.Base64;
+import io.github.dunwu.tool.util.HexUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Base64}、{@link HexUtil} 编解码基准测试
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({ "64", "4096", "65536" })
+    private int size;
+
+    private byte[] data;
+
+    private String base64;
+
+    private String hex;
+
+    @Setup
+    public void setup() {
+        data = BenchmarkFixtures.bytes(size);
+        base64 = Base64.encode(data);
+        hex = HexUtil.encodeHexStr(data);
+    }
+
+    @Benchmark
+    public String base64Encode() {
+        return Base64.encode(data);
+    }
+
+    @Benchmark
+    public byte[] base64Decode() {
+        return Base64.decode(base64);
+    }
+
+    @Benchmark
+    public String hexEncode() {
+        return HexUtil.encodeHexStr(data);
+    }
+
+    @Benchmark
+    public byte[] hexDecode() {
+        return HexUtil.decodeHex(hex);
+    }
+
+}
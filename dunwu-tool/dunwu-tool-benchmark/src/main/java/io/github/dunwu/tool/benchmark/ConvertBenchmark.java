@@ -0,0 +1,70 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.convert.Convert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Convert} 基准测试
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConvertBenchmark {
+
+    private String[] numbers;
+
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        numbers = BenchmarkFixtures.numberStrings(100);
+        values = new Object[] { 1, 2L, 3.5d, "4", '5', true, 6.5f };
+    }
+
+    @Benchmark
+    public void toInt(Blackhole blackhole) {
+        for (String number : numbers) {
+            blackhole.consume(Convert.toInt(number));
+        }
+    }
+
+    @Benchmark
+    public void toLong(Blackhole blackhole) {
+        for (String number : numbers) {
+            blackhole.consume(Convert.toLong(number));
+        }
+    }
+
+    @Benchmark
+    public void toDouble(Blackhole blackhole) {
+        for (String number : numbers) {
+            blackhole.consume(Convert.toDouble(number));
+        }
+    }
+
+    @Benchmark
+    public void toStr(Blackhole blackhole) {
+        for (Object value : values) {
+            blackhole.consume(Convert.toStr(value));
+        }
+    }
+
+}
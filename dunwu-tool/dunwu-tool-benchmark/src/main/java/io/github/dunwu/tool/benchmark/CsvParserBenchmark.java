@@ -0,0 +1,62 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.text.csv.CsvData;
+import io.github.dunwu.tool.text.csv.CsvParser;
+import io.github.dunwu.tool.text.csv.CsvReadConfig;
+import io.github.dunwu.tool.text.csv.CsvReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Param;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CsvParser} 基准测试，数据包含引号转义和字段内换行
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvParserBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int rows;
+
+    private String csv;
+
+    private CsvReadConfig config;
+
+    @Setup
+    public void setup() {
+        csv = BenchmarkFixtures.csv(rows);
+        config = CsvReadConfig.defaultConfig();
+        config.setContainsHeader(true);
+    }
+
+    @Benchmark
+    public CsvData read() {
+        return new CsvReader(config).read(new StringReader(csv));
+    }
+
+    @Benchmark
+    public long readWithRowHandler() {
+        long[] count = new long[1];
+        new CsvReader(config).read(new StringReader(csv), row -> count[0] += row.size());
+        return count[0];
+    }
+
+}
@@ -0,0 +1,66 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.date.DateTime;
+import io.github.dunwu.tool.date.DateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DateUtil} 基准测试，日期字符串混合了多种常见格式
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilBenchmark {
+
+    private String[] dateStrings;
+
+    private Date date;
+
+    @Setup
+    public void setup() {
+        dateStrings = BenchmarkFixtures.dateStrings(100);
+        date = DateUtil.parse(dateStrings[0]);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String dateString : dateStrings) {
+            blackhole.consume(DateUtil.parse(dateString));
+        }
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtil.formatDateTime(date);
+    }
+
+    @Benchmark
+    public String format() {
+        return DateUtil.format(date, "yyyy/MM/dd HH:mm");
+    }
+
+    @Benchmark
+    public DateTime beginOfDay() {
+        return DateUtil.beginOfDay(date);
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.github.dunwu.tool.benchmark;
+
+import io.github.dunwu.tool.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link StringUtil} 基准测试
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+
+    private String[] camelCaseNames;
+
+    private String[] underlineNames;
+
+    private String line;
+
+    private Object[] formatParams;
+
+    @Setup
+    public void setup() {
+        camelCaseNames = BenchmarkFixtures.camelCaseNames(100);
+        underlineNames = new String[camelCaseNames.length];
+        for (int i = 0; i < camelCaseNames.length; i++) {
+            underlineNames[i] = StringUtil.toUnderlineCase(camelCaseNames[i]);
+        }
+        line = BenchmarkFixtures.delimitedLine(20);
+        formatParams = new Object[] { "张三", 18, "北京市", 1024.5 };
+    }
+
+    @Benchmark
+    public String format() {
+        return StringUtil.format("用户 {} 年龄 {} 来自 {}，余额 {}", formatParams);
+    }
+
+    @Benchmark
+    public List<String> split() {
+        return StringUtil.split(line, ',');
+    }
+
+    @Benchmark
+    public void toUnderlineCase(Blackhole blackhole) {
+        for (String name : camelCaseNames) {
+            blackhole.consume(StringUtil.toUnderlineCase(name));
+        }
+    }
+
+    @Benchmark
+    public void toCamelCase(Blackhole blackhole) {
+        for (String name : underlineNames) {
+            blackhole.consume(StringUtil.toCamelCase(name));
+        }
+    }
+
+    @Benchmark
+    public void isBlank(Blackhole blackhole) {
+        for (String name : camelCaseNames) {
+            blackhole.consume(StringUtil.isBlank(name));
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.github.dunwu.tool.bean;
 
+import io.github.dunwu.tool.exceptions.UtilException;
 import io.github.dunwu.tool.lang.Assert;
 import io.github.dunwu.tool.map.CaseInsensitiveMap;
 import io.github.dunwu.tool.util.*;
@@ -9,8 +10,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * Bean信息描述做为BeanInfo替代方案，此对象持有JavaBean中的setters和getters等相关信息描述<br> 查找Getter和Setter方法时会：
@@ -39,6 +43,11 @@ public class BeanDesc implements Serializable {
      */
     private final Map<String, PropDesc> propMap = new LinkedHashMap<>();
 
+    /**
+     * 忽略大小写的属性Map，首次使用时创建
+     */
+    private transient volatile Map<String, PropDesc> ignoreCasePropMap;
+
     /**
      * 构造
      *
@@ -224,13 +233,21 @@ public class BeanDesc implements Serializable {
     }
 
     /**
-     * 获取字段名-字段属性Map
+     * 获取字段名-字段属性Map<br> 忽略大小写的Map只创建一次，为只读Map
      *
      * @param ignoreCase 是否忽略大小写，true为忽略，false不忽略
      * @return 字段名-字段属性Map
      */
     public Map<String, PropDesc> getPropMap(boolean ignoreCase) {
-        return ignoreCase ? new CaseInsensitiveMap<>(1, this.propMap) : this.propMap;
+        if (false == ignoreCase) {
+            return this.propMap;
+        }
+        Map<String, PropDesc> map = this.ignoreCasePropMap;
+        if (null == map) {
+            map = Collections.unmodifiableMap(new CaseInsensitiveMap<>(1, this.propMap));
+            this.ignoreCasePropMap = map;
+        }
+        return map;
     }
 
     /**
@@ -310,6 +327,16 @@ public class BeanDesc implements Serializable {
          */
         private final Method setter;
 
+        /**
+         * Getter方法的直接调用访问器，首次使用时由{@link PropAccessorFactory}生成，多线程同时初始化时可能生成多次，结果等价
+         */
+        private volatile Function<Object, Object> getterAccessor;
+
+        /**
+         * Setter方法的直接调用访问器，首次使用时由{@link PropAccessorFactory}生成，多线程同时初始化时可能生成多次，结果等价
+         */
+        private volatile BiConsumer<Object, Object> setterAccessor;
+
         /**
          * 构造<br> Getter和Setter方法设置为默认可访问
          *
@@ -422,7 +449,8 @@ public class BeanDesc implements Serializable {
         //------------------------------------------------------------------------------------ Private method start
 
         /**
-         * 获取字段值<br> 首先调用字段对应的Getter方法获取值，如果Getter方法不存在，则判断字段如果为public，则直接获取字段值
+         * 获取字段值<br> 首先调用字段对应的Getter方法获取值，如果Getter方法不存在，则判断字段如果为public，则直接获取字段值<br>
+         * Getter方法通过{@link PropAccessorFactory}生成的访问器直接调用，无法生成时使用反射
          *
          * @param bean Bean对象
          * @return 字段值
@@ -430,7 +458,19 @@ public class BeanDesc implements Serializable {
          */
         public Object getValue(Object bean) {
             if (null != this.getter) {
-                return ReflectUtil.invoke(bean, this.getter);
+                Function<Object, Object> accessor = this.getterAccessor;
+                if (null == accessor) {
+                    accessor = PropAccessorFactory.createGetter(this.getter);
+                    this.getterAccessor = accessor;
+                }
+                try {
+                    return accessor.apply(bean);
+                } catch (UtilException e) {
+                    throw e;
+                } catch (Exception e) {
+                    // 生成的访问器会原样抛出Getter、Setter声明的受检异常，与反射调用保持一致的异常类型
+                    throw new UtilException(e);
+                }
             } else if (ModifierUtil.isPublic(this.field)) {
                 return ReflectUtil.getFieldValue(bean, this.field);
             }
@@ -438,7 +478,8 @@ public class BeanDesc implements Serializable {
         }
 
         /**
-         * 设置Bean的字段值<br> 首先调用字段对应的Setter方法，如果Setter方法不存在，则判断字段如果为public，则直接赋值字段值
+         * 设置Bean的字段值<br> 首先调用字段对应的Setter方法，如果Setter方法不存在，则判断字段如果为public，则直接赋值字段值<br>
+         * Setter方法通过{@link PropAccessorFactory}生成的访问器直接调用，无法生成时使用反射
          *
          * @param bean  Bean对象
          * @param value 值
@@ -447,7 +488,19 @@ public class BeanDesc implements Serializable {
          */
         public PropDesc setValue(Object bean, Object value) {
             if (null != this.setter) {
-                ReflectUtil.invoke(bean, this.setter, value);
+                BiConsumer<Object, Object> accessor = this.setterAccessor;
+                if (null == accessor) {
+                    accessor = PropAccessorFactory.createSetter(this.setter);
+                    this.setterAccessor = accessor;
+                }
+                try {
+                    accessor.accept(bean, value);
+                } catch (UtilException e) {
+                    throw e;
+                } catch (Exception e) {
+                    // 生成的访问器会原样抛出Getter、Setter声明的受检异常，与反射调用保持一致的异常类型
+                    throw new UtilException(e);
+                }
             } else if (ModifierUtil.isPublic(this.field)) {
                 ReflectUtil.setFieldValue(bean, this.field, value);
             }
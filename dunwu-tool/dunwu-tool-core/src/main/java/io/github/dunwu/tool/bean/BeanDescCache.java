@@ -1,6 +1,7 @@
 package io.github.dunwu.tool.bean;
 
 import io.github.dunwu.tool.lang.SimpleCache;
+import io.github.dunwu.tool.lang.func.Func0;
 
 /**
  * Bean属性缓存<br> 缓存用于防止多次反射造成的性能问题
@@ -22,6 +23,17 @@ public enum BeanDescCache {
         return bdCache.get(beanClass);
     }
 
+    /**
+     * 获得属性名和{@link BeanDesc}Map映射，不存在时使用回调创建并缓存，同一个类并发时只创建一次
+     *
+     * @param beanClass Bean的类
+     * @param supplier  对象不存在时创建对象的函数
+     * @return 属性名和{@link BeanDesc}映射
+     */
+    public BeanDesc getBeanDesc(Class<?> beanClass, Func0<BeanDesc> supplier) {
+        return bdCache.get(beanClass, supplier);
+    }
+
     /**
      * 加入缓存
      *
@@ -1,6 +1,7 @@
 package io.github.dunwu.tool.bean;
 
 import io.github.dunwu.tool.lang.SimpleCache;
+import io.github.dunwu.tool.lang.func.Func0;
 
 import java.beans.PropertyDescriptor;
 import java.util.Map;
@@ -28,6 +29,19 @@ public enum BeanInfoCache {
         return (ignoreCase ? ignoreCasePdCache : pdCache).get(beanClass);
     }
 
+    /**
+     * 获得属性名和{@link PropertyDescriptor}Map映射，不存在时使用回调创建并缓存，同一个类并发时只创建一次
+     *
+     * @param beanClass  Bean的类
+     * @param ignoreCase 是否忽略大小写
+     * @param supplier   缓存对象不存在时创建对象的函数
+     * @return 属性名和{@link PropertyDescriptor}Map映射
+     */
+    public Map<String, PropertyDescriptor> getPropertyDescriptorMap(Class<?> beanClass, boolean ignoreCase,
+        Func0<Map<String, PropertyDescriptor>> supplier) {
+        return (ignoreCase ? ignoreCasePdCache : pdCache).get(beanClass, supplier);
+    }
+
     /**
      * 加入缓存
      *
@@ -102,12 +102,7 @@ public class BeanUtil {
      * @since 3.1.2
      */
     public static BeanDesc getBeanDesc(Class<?> clazz) {
-        BeanDesc beanDesc = BeanDescCache.INSTANCE.getBeanDesc(clazz);
-        if (null == beanDesc) {
-            beanDesc = new BeanDesc(clazz);
-            BeanDescCache.INSTANCE.putBeanDesc(clazz, beanDesc);
-        }
-        return beanDesc;
+        return BeanDescCache.INSTANCE.getBeanDesc(clazz, () -> new BeanDesc(clazz));
     }
 
     /**
@@ -240,12 +235,8 @@ public class BeanUtil {
      */
     public static Map<String, PropertyDescriptor> getPropertyDescriptorMap(Class<?> clazz, boolean ignoreCase)
         throws BeanException {
-        Map<String, PropertyDescriptor> map = BeanInfoCache.INSTANCE.getPropertyDescriptorMap(clazz, ignoreCase);
-        if (null == map) {
-            map = internalGetPropertyDescriptorMap(clazz, ignoreCase);
-            BeanInfoCache.INSTANCE.putPropertyDescriptorMap(clazz, map, ignoreCase);
-        }
-        return map;
+        return BeanInfoCache.INSTANCE.getPropertyDescriptorMap(clazz, ignoreCase,
+            () -> internalGetPropertyDescriptorMap(clazz, ignoreCase));
     }
 
     /**
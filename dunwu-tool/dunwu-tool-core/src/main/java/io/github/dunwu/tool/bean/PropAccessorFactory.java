@@ -0,0 +1,181 @@
+package io.github.dunwu.tool.bean;
+
+import io.github.dunwu.tool.convert.BasicType;
+import io.github.dunwu.tool.exceptions.UtilException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 属性访问器工厂<br> 使用{@link LambdaMetafactory}为Getter和Setter方法生成直接调用的{@link Function}和{@link BiConsumer}，
+ * 避免每次调用都通过{@link Method#invoke(Object, Object...)}反射执行。无法生成时（如静态方法、模块不可访问等）退化为反射调用。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class PropAccessorFactory {
+
+    /**
+     * JDK8中{@link MethodHandles.Lookup}的全部访问权限
+     */
+    private static final int ALLOWED_MODES = MethodHandles.Lookup.PRIVATE | MethodHandles.Lookup.PROTECTED
+        | MethodHandles.Lookup.PACKAGE | MethodHandles.Lookup.PUBLIC;
+
+    private static final MethodType GETTER_SAM_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_SAM_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * JDK9+ 的 MethodHandles.privateLookupIn 方法
+     */
+    private static final Method PRIVATE_LOOKUP_IN_METHOD;
+
+    /**
+     * JDK8 的 Lookup(Class, int) 私有构造方法
+     */
+    private static final Constructor<MethodHandles.Lookup> JDK8_LOOKUP_CONSTRUCTOR;
+
+    static {
+        Method privateLookupIn = null;
+        Constructor<MethodHandles.Lookup> jdk8LookupConstructor = null;
+        try {
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class,
+                MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            try {
+                jdk8LookupConstructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class, int.class);
+                jdk8LookupConstructor.setAccessible(true);
+            } catch (Exception ignore) {
+                jdk8LookupConstructor = null;
+            }
+        }
+        PRIVATE_LOOKUP_IN_METHOD = privateLookupIn;
+        JDK8_LOOKUP_CONSTRUCTOR = jdk8LookupConstructor;
+    }
+
+    private PropAccessorFactory() {
+    }
+
+    /**
+     * 创建Getter方法访问器，无法生成时使用反射调用<br>
+     * 访问器引用了Getter方法及其所在类，由{@link BeanDesc.PropDesc}持有，不能放入以方法或类为弱引用键的缓存
+     *
+     * @param getter Getter方法
+     * @return 访问器
+     */
+    static Function<Object, Object> createGetter(Method getter) {
+        final Function<Object, Object> generated = generateGetter(getter);
+        if (null != generated) {
+            return generated;
+        }
+        return bean -> invoke(getter, bean);
+    }
+
+    /**
+     * 创建Setter方法访问器，无法生成时使用反射调用<br>
+     * 访问器引用了Setter方法及其所在类，由{@link BeanDesc.PropDesc}持有，不能放入以方法或类为弱引用键的缓存
+     *
+     * @param setter Setter方法
+     * @return 访问器
+     */
+    static BiConsumer<Object, Object> createSetter(Method setter) {
+        final BiConsumer<Object, Object> generated = generateSetter(setter);
+        if (null != generated) {
+            return generated;
+        }
+        return (bean, value) -> invoke(setter, bean, value);
+    }
+
+    /**
+     * 反射调用方法，调用失败和方法抛出的异常包装为{@link UtilException}
+     *
+     * @param method 方法
+     * @param bean   Bean对象
+     * @param args   参数
+     * @return 返回值
+     */
+    private static Object invoke(Method method, Object bean, Object... args) {
+        try {
+            return method.invoke(bean, args);
+        } catch (InvocationTargetException e) {
+            throw new UtilException(e.getTargetException());
+        } catch (Exception e) {
+            throw new UtilException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> generateGetter(Method getter) {
+        if (false == isSupported(getter)) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = privateLookup(getter.getDeclaringClass());
+            if (null == lookup) {
+                return null;
+            }
+            final MethodHandle handle = lookup.unreflect(getter);
+            final MethodType instantiatedType =
+                MethodType.methodType(BasicType.wrap(getter.getReturnType()), getter.getDeclaringClass());
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(Function.class), GETTER_SAM_TYPE, handle, instantiatedType);
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> generateSetter(Method setter) {
+        if (false == isSupported(setter)) {
+            return null;
+        }
+        try {
+            final MethodHandles.Lookup lookup = privateLookup(setter.getDeclaringClass());
+            if (null == lookup) {
+                return null;
+            }
+            final MethodHandle handle = lookup.unreflect(setter);
+            final MethodType instantiatedType = MethodType.methodType(void.class, setter.getDeclaringClass(),
+                BasicType.wrap(setter.getParameterTypes()[0]));
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                MethodType.methodType(BiConsumer.class), SETTER_SAM_TYPE, handle, instantiatedType);
+            return (BiConsumer<Object, Object>) site.getTarget().invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 是否支持生成访问器，静态方法、桥接方法不生成
+     */
+    private static boolean isSupported(Method method) {
+        return false == Modifier.isStatic(method.getModifiers()) && false == method.isBridge();
+    }
+
+    /**
+     * 获取拥有目标类私有访问权限的{@link MethodHandles.Lookup}，生成的Lambda类与目标类位于同一类加载器中
+     *
+     * @param targetClass 目标类
+     * @return {@link MethodHandles.Lookup}，无法获取时返回{@code null}
+     */
+    private static MethodHandles.Lookup privateLookup(Class<?> targetClass) throws Exception {
+        if (null != PRIVATE_LOOKUP_IN_METHOD) {
+            return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN_METHOD.invoke(null, targetClass, MethodHandles.lookup());
+        }
+        if (null != JDK8_LOOKUP_CONSTRUCTOR) {
+            return JDK8_LOOKUP_CONSTRUCTOR.newInstance(targetClass, ALLOWED_MODES);
+        }
+        return null;
+    }
+
+}
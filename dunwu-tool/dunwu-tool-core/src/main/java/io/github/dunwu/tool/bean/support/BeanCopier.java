@@ -95,6 +95,20 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
         return new BeanCopier<>(source, dest, destType, beanOptions);
     }
 
+    /**
+     * 创建Bean到Bean的拷贝计划<br> 拷贝计划预先解析属性对应关系和转换器，线程安全，适合对同一对类型反复拷贝时缓存复用
+     *
+     * @param <S>         源Bean类型
+     * @param <T>         目标Bean类型
+     * @param sourceClass 源Bean类型
+     * @param destClass   目标Bean类型
+     * @param beanOptions 拷贝属性选项，{@code null}表示使用默认选项
+     * @return {@link BeanCopyPlan}
+     */
+    public static <S, T> BeanCopyPlan<S, T> plan(Class<S> sourceClass, Class<T> destClass, BeanOptions beanOptions) {
+        return new BeanCopyPlan<>(sourceClass, destClass, beanOptions);
+    }
+
     /**
      * 获取指定字段名对应的映射值
      *
@@ -103,7 +117,7 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
      * @return 映射值，无对应值返回字段名
      * @since 4.1.10
      */
-    private static String mappingKey(Map<String, String> mapping, String fieldName) {
+    static String mappingKey(Map<String, String> mapping, String fieldName) {
         if (MapUtil.isEmpty(mapping)) {
             return fieldName;
         }
@@ -183,17 +197,15 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
         final BeanOptions beanOptions = this.beanOptions;
 
         String key;
-        Method getter;
         Object value;
         for (BeanDesc.PropDesc prop : props) {
             key = prop.getFieldName();
             // 过滤class属性
             // 得到property对应的getter方法
-            getter = prop.getGetter();
-            if (null != getter) {
+            if (null != prop.getGetter()) {
                 // 只读取有getter方法的属性
                 try {
-                    value = getter.invoke(bean);
+                    value = prop.getValue(bean);
                 } catch (Exception e) {
                     if (beanOptions.ignoreError) {
                         continue;// 忽略反射失败
@@ -265,28 +277,7 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
                 continue;
             }
 
-            Type firstParamType = TypeUtil.getFirstParamType(setterMethod);
-            if (firstParamType instanceof ParameterizedType) {
-                // 参数为泛型参数类型，解析对应泛型类型为真实类型
-                ParameterizedType tmp = (ParameterizedType) firstParamType;
-                Type[] actualTypeArguments = tmp.getActualTypeArguments();
-                if (TypeUtil.hasTypeVeriable(actualTypeArguments)) {
-                    // 泛型对象中含有未被转换的泛型变量
-                    actualTypeArguments = TypeUtil.getActualTypes(this.destType, setterMethod.getDeclaringClass(),
-                        tmp.getActualTypeArguments());
-                    if (ArrayUtil.isNotEmpty(actualTypeArguments)) {
-                        // 替换泛型变量为实际类型
-                        firstParamType =
-                            new ParameterizedTypeImpl(actualTypeArguments, tmp.getOwnerType(), tmp.getRawType());
-                    }
-                }
-            } else if (firstParamType instanceof TypeVariable) {
-                // 参数为泛型，查找其真实类型（适用于泛型方法定义于泛型父类）
-                firstParamType =
-                    TypeUtil.getActualType(this.destType, setterMethod.getDeclaringClass(), firstParamType);
-            }
-
-            value = valueProvider.value(providerKey, firstParamType);
+            value = valueProvider.value(providerKey, getSetterParamType(this.destType, setterMethod));
             if (null == value && beanOptions.ignoreNullValue) {
                 continue;// 当允许跳过空时，跳过
             }
@@ -305,7 +296,7 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
                 }
 
                 // 执行set方法注入值
-                setterMethod.invoke(bean, value);
+                prop.setValue(bean, value);
             } catch (Exception e) {
                 if (!beanOptions.ignoreError) {
                     throw new UtilException(e, "Inject [{}] error!", prop.getFieldName());
@@ -315,4 +306,58 @@ public class BeanCopier<T> implements Copier<T>, Serializable {
         }
     }
 
+    /**
+     * 是否为指定了元素类型的集合或Map，如{@code List<Long>}，此类属性即使值为同类集合也需要按泛型转换元素
+     *
+     * @param type 属性类型
+     * @return 是否需要转换元素
+     */
+    static boolean isGenericContainer(Type type) {
+        if (false == type instanceof ParameterizedType) {
+            return false;
+        }
+        final ParameterizedType parameterizedType = (ParameterizedType) type;
+        final Type rawType = parameterizedType.getRawType();
+        if (false == (rawType instanceof Class) || (false == Collection.class.isAssignableFrom((Class<?>) rawType)
+            && false == Map.class.isAssignableFrom((Class<?>) rawType))) {
+            return false;
+        }
+        for (Type argument : parameterizedType.getActualTypeArguments()) {
+            if (argument instanceof ParameterizedType || (argument instanceof Class && Object.class != argument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取Setter方法的参数类型，参数为泛型时根据目标类型解析为真实类型
+     *
+     * @param destType     目标的泛型类型
+     * @param setterMethod Setter方法
+     * @return 参数类型
+     */
+    static Type getSetterParamType(Type destType, Method setterMethod) {
+        Type firstParamType = TypeUtil.getFirstParamType(setterMethod);
+        if (firstParamType instanceof ParameterizedType) {
+            // 参数为泛型参数类型，解析对应泛型类型为真实类型
+            ParameterizedType tmp = (ParameterizedType) firstParamType;
+            Type[] actualTypeArguments = tmp.getActualTypeArguments();
+            if (TypeUtil.hasTypeVeriable(actualTypeArguments)) {
+                // 泛型对象中含有未被转换的泛型变量
+                actualTypeArguments = TypeUtil.getActualTypes(destType, setterMethod.getDeclaringClass(),
+                    tmp.getActualTypeArguments());
+                if (ArrayUtil.isNotEmpty(actualTypeArguments)) {
+                    // 替换泛型变量为实际类型
+                    firstParamType =
+                        new ParameterizedTypeImpl(actualTypeArguments, tmp.getOwnerType(), tmp.getRawType());
+                }
+            }
+        } else if (firstParamType instanceof TypeVariable) {
+            // 参数为泛型，查找其真实类型（适用于泛型方法定义于泛型父类）
+            firstParamType = TypeUtil.getActualType(destType, setterMethod.getDeclaringClass(), firstParamType);
+        }
+        return firstParamType;
+    }
+
 }
@@ -0,0 +1,273 @@
+package io.github.dunwu.tool.bean.support;
+
+import io.github.dunwu.tool.bean.BeanDesc;
+import io.github.dunwu.tool.bean.BeanUtil;
+import io.github.dunwu.tool.collection.CollectionUtil;
+import io.github.dunwu.tool.convert.BasicType;
+import io.github.dunwu.tool.convert.Converter;
+import io.github.dunwu.tool.convert.ConverterRegistry;
+import io.github.dunwu.tool.exceptions.UtilException;
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.util.ReflectUtil;
+import io.github.dunwu.tool.util.StringUtil;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean拷贝计划<br> 预先解析源类型和目标类型的属性对应关系、{@link BeanOptions}中的映射和忽略规则以及属性值转换器，
+ * 拷贝时不再做属性查找和字符串匹配。拷贝计划创建后不可变，线程安全，可以缓存复用。
+ *
+ * <pre>
+ * BeanCopyPlan&lt;UserDTO, User&gt; plan = BeanCopier.plan(UserDTO.class, User.class, BeanOptions.create());
+ * List&lt;User&gt; users = plan.copyList(dtoList);
+ * </pre>
+ *
+ * <p>
+ * 注意：属性值转换器在创建计划时从{@link ConverterRegistry}中获取，之后注册的自定义转换器不会生效。
+ * </p>
+ *
+ * @param <S> 源Bean类型
+ * @param <T> 目标Bean类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class BeanCopyPlan<S, T> {
+
+    private final Class<S> sourceClass;
+
+    private final Class<T> destClass;
+
+    private final boolean ignoreError;
+
+    private final boolean ignoreNullValue;
+
+    /**
+     * 预先解析好的属性对
+     */
+    private final PropPair[] pairs;
+
+    /**
+     * 构造
+     *
+     * @param sourceClass 源Bean类型
+     * @param destClass   目标Bean类型
+     * @param beanOptions 拷贝属性选项，{@code null}表示使用默认选项
+     */
+    BeanCopyPlan(Class<S> sourceClass, Class<T> destClass, BeanOptions beanOptions) {
+        Assert.notNull(sourceClass, "Source class must be not null");
+        Assert.notNull(destClass, "Dest class must be not null");
+        if (null == beanOptions) {
+            beanOptions = BeanOptions.create();
+        }
+        this.sourceClass = sourceClass;
+        this.destClass = destClass;
+        this.ignoreError = beanOptions.ignoreError;
+        this.ignoreNullValue = beanOptions.ignoreNullValue;
+        this.pairs = compile(sourceClass, destClass, beanOptions);
+    }
+
+    /**
+     * 源Bean类型
+     *
+     * @return 源Bean类型
+     */
+    public Class<S> getSourceClass() {
+        return sourceClass;
+    }
+
+    /**
+     * 目标Bean类型
+     *
+     * @return 目标Bean类型
+     */
+    public Class<T> getDestClass() {
+        return destClass;
+    }
+
+    /**
+     * 拷贝到新创建的目标对象
+     *
+     * @param source 源Bean，{@code null}时返回{@code null}
+     * @return 目标Bean
+     */
+    public T copy(S source) {
+        if (null == source) {
+            return null;
+        }
+        return copy(source, ReflectUtil.newInstanceIfPossible(this.destClass));
+    }
+
+    /**
+     * 拷贝到指定目标对象
+     *
+     * @param source 源Bean，{@code null}时不做拷贝
+     * @param dest   目标Bean
+     * @return 目标Bean
+     */
+    public T copy(S source, T dest) {
+        if (null == source || null == dest) {
+            return dest;
+        }
+
+        Object value;
+        for (PropPair pair : this.pairs) {
+            try {
+                value = pair.getValue(source);
+            } catch (Exception e) {
+                if (!this.ignoreError) {
+                    throw new UtilException(e, "Inject [{}] error!", pair.fieldName);
+                }
+                continue;
+            }
+            if (null == value && this.ignoreNullValue) {
+                continue;// 当允许跳过空时，跳过
+            }
+            if (dest.equals(value)) {
+                continue;// 值不能为bean本身，防止循环引用
+            }
+
+            try {
+                value = pair.convert(value);
+                if (null == value && this.ignoreNullValue) {
+                    continue;// 当允许跳过空时，跳过
+                }
+                pair.destProp.setValue(dest, value);
+            } catch (Exception e) {
+                if (!this.ignoreError) {
+                    throw new UtilException(e, "Inject [{}] error!", pair.fieldName);
+                }
+                // 忽略注入失败
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * 批量拷贝，每个源对象拷贝到新创建的目标对象，源对象为{@code null}时对应位置为{@code null}
+     *
+     * @param sources 源Bean集合
+     * @return 目标Bean列表
+     */
+    public List<T> copyList(Collection<? extends S> sources) {
+        if (null == sources) {
+            return new ArrayList<>(0);
+        }
+        final List<T> result = new ArrayList<>(sources.size());
+        for (S source : sources) {
+            result.add(copy(source));
+        }
+        return result;
+    }
+
+    /**
+     * 解析属性对，逻辑与{@link BeanCopier}中Bean到Bean的拷贝保持一致
+     */
+    private static PropPair[] compile(Class<?> sourceClass, Class<?> destClass, BeanOptions beanOptions) {
+        Class<?> actualEditable = destClass;
+        if (null != beanOptions.editable) {
+            // 检查限制类是否为target的父类或接口
+            if (!beanOptions.editable.isAssignableFrom(destClass)) {
+                throw new IllegalArgumentException(
+                    StringUtil.format("Target class [{}] not assignable to Editable class [{}]", destClass.getName(),
+                        beanOptions.editable.getName()));
+            }
+            actualEditable = beanOptions.editable;
+        }
+        final HashSet<String> ignoreSet =
+            (null != beanOptions.ignoreProperties) ? CollectionUtil.newHashSet(beanOptions.ignoreProperties) : null;
+        final Map<String, String> fieldReverseMapping = beanOptions.getReversedMapping();
+        final Map<String, BeanDesc.PropDesc> sourcePropMap =
+            BeanUtil.getBeanDesc(sourceClass).getPropMap(beanOptions.ignoreCase);
+        final ConverterRegistry registry = ConverterRegistry.getInstance();
+
+        final List<PropPair> pairs = new ArrayList<>();
+        String fieldName;
+        for (BeanDesc.PropDesc destProp : BeanUtil.getBeanDesc(actualEditable).getProps()) {
+            fieldName = destProp.getFieldName();
+            if (CollectionUtil.contains(ignoreSet, fieldName)) {
+                continue;
+            }
+            final Method setter = destProp.getSetter();
+            if (null == setter) {
+                continue;
+            }
+            final String providerKey = BeanCopier.mappingKey(fieldReverseMapping, fieldName);
+            // Setter参数的泛型类型，泛型集合和Map按此类型转换元素
+            final Type propType = BeanCopier.getSetterParamType(destClass, setter);
+            BeanDesc.PropDesc sourceProp = sourcePropMap.get(providerKey);
+            if (null == sourceProp) {
+                //boolean类型字段字段名支持两种方式
+                final String isKey = StringUtil.upperFirstAndAddPre(providerKey, "is");
+                if (!sourcePropMap.containsKey(isKey)) {
+                    // 无对应值可提供
+                    continue;
+                }
+                if (Boolean.class == propType || boolean.class == propType) {
+                    sourceProp = sourcePropMap.get(isKey);
+                }
+            }
+
+            pairs.add(new PropPair(fieldName, sourceProp, destProp, propType, registry.lookup(propType)));
+        }
+        return pairs.toArray(new PropPair[0]);
+    }
+
+    /**
+     * 源属性和目标属性对
+     */
+    private static class PropPair {
+
+        final String fieldName;
+
+        /**
+         * 源属性，为{@code null}或无Getter方法时值始终为{@code null}
+         */
+        final BeanDesc.PropDesc sourceProp;
+
+        final BeanDesc.PropDesc destProp;
+
+        /**
+         * 目标属性的包装类型，值为此类型实例时无需转换
+         */
+        final Class<?> wrappedPropClass;
+
+        /**
+         * 目标属性是否为带泛型参数的集合或Map，此时即使值为此类型的实例也需要按泛型转换元素
+         */
+        final boolean convertElements;
+
+        /**
+         * 按Setter参数泛型类型预先查找的转换器
+         */
+        final Converter<?> converter;
+
+        PropPair(String fieldName, BeanDesc.PropDesc sourceProp, BeanDesc.PropDesc destProp, Type propType,
+            Converter<?> converter) {
+            this.fieldName = fieldName;
+            this.sourceProp = (null != sourceProp && null != sourceProp.getGetter()) ? sourceProp : null;
+            this.destProp = destProp;
+            final Class<?> propClass = destProp.getFieldClass();
+            this.wrappedPropClass = BasicType.wrap(propClass);
+            this.convertElements = BeanCopier.isGenericContainer(propType);
+            this.converter = converter;
+        }
+
+        Object getValue(Object source) {
+            return null == this.sourceProp ? null : this.sourceProp.getValue(source);
+        }
+
+        Object convert(Object value) {
+            if (null == value || (false == this.convertElements && this.wrappedPropClass.isInstance(value))) {
+                return value;
+            }
+            return this.converter.convert(value, null);
+        }
+    }
+
+}
@@ -3,10 +3,10 @@ package io.github.dunwu.tool.bean.support;
 import io.github.dunwu.tool.bean.BeanDesc;
 import io.github.dunwu.tool.bean.BeanUtil;
 import io.github.dunwu.tool.bean.support.ValueProvider;
+import io.github.dunwu.tool.convert.Convert;
 import io.github.dunwu.tool.exceptions.UtilException;
 import io.github.dunwu.tool.util.StringUtil;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Map;
 
@@ -46,10 +46,11 @@ public class BeanValueProvider implements ValueProvider<String> {
         }
 
         if (null != sourcePd) {
-            final Method getter = sourcePd.getGetter();
-            if (null != getter) {
+            if (null != sourcePd.getGetter()) {
                 try {
-                    return getter.invoke(source);
+                    final Object value = sourcePd.getValue(source);
+                    // 泛型集合和Map按目标泛型转换元素，与MapValueProvider一致
+                    return BeanCopier.isGenericContainer(valueType) ? Convert.convert(valueType, value) : value;
                 } catch (Exception e) {
                     if (!ignoreError) {
                         throw new UtilException(e, "Inject [{}] error!", key);
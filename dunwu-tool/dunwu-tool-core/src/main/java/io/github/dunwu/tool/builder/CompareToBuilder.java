@@ -2,9 +2,6 @@ package io.github.dunwu.tool.builder;
 
 import io.github.dunwu.tool.util.ArrayUtil;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Comparator;
 
@@ -260,21 +257,13 @@ public class CompareToBuilder implements Builder<Integer> {
         final boolean useTransients,
         final String[] excludeFields) {
 
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
-        for (int i = 0; i < fields.length && builder.comparison == 0; i++) {
-            final Field f = fields[i];
-            if (false == ArrayUtil.contains(excludeFields, f.getName())
-                && (f.getName().indexOf('$') == -1)
-                && (useTransients || !Modifier.isTransient(f.getModifiers()))
-                && (!Modifier.isStatic(f.getModifiers()))) {
-                try {
-                    builder.append(f.get(lhs), f.get(rhs));
-                } catch (final IllegalAccessException e) {
-                    // This can't happen. Would get a Security exception instead.
-                    // Throw a runtime exception in case the impossible happens.
-                    throw new InternalError("Unexpected IllegalAccessException");
-                }
+        final FieldPlan.Accessor[] accessors = FieldPlan.of(clazz).select(useTransients, excludeFields);
+        for (int i = 0; i < accessors.length && builder.comparison == 0; i++) {
+            final FieldPlan.Accessor accessor = accessors[i];
+            if (accessor.isPrimitive()) {
+                builder.comparison = accessor.compare(lhs, rhs);
+            } else {
+                builder.append(accessor.get(lhs), accessor.get(rhs));
             }
         }
     }
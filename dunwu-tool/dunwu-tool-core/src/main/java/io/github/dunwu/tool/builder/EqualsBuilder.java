@@ -3,9 +3,6 @@ package io.github.dunwu.tool.builder;
 import io.github.dunwu.tool.lang.Pair;
 import io.github.dunwu.tool.util.ArrayUtil;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -315,21 +312,18 @@ public class EqualsBuilder implements Builder<Boolean> {
 
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
-            for (int i = 0; i < fields.length && builder.isEquals; i++) {
-                final Field f = fields[i];
-                if (false == ArrayUtil.contains(excludeFields, f.getName())
-                    && (f.getName().indexOf('$') == -1)
-                    && (useTransients || !Modifier.isTransient(f.getModifiers()))
-                    && (!Modifier.isStatic(f.getModifiers()))) {
-                    try {
-                        builder.append(f.get(lhs), f.get(rhs));
-                    } catch (final IllegalAccessException e) {
-                        //this can't happen. Would get a Security exception instead
-                        //throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
-                    }
+            final FieldPlan.Accessor[] accessors = FieldPlan.of(clazz).select(useTransients, excludeFields);
+            if (accessors.length > 0 && builder.isEquals
+                && (false == clazz.isInstance(lhs) || false == clazz.isInstance(rhs))) {
+                // Same as Field.get on an object of another class, caught by reflectionEquals
+                throw new IllegalArgumentException("Can not read fields of " + clazz.getName());
+            }
+            for (int i = 0; i < accessors.length && builder.isEquals; i++) {
+                final FieldPlan.Accessor accessor = accessors[i];
+                if (accessor.isPrimitive()) {
+                    builder.isEquals = accessor.isEqual(lhs, rhs);
+                } else {
+                    builder.append(accessor.get(lhs), accessor.get(rhs));
                 }
             }
         } finally {
@@ -0,0 +1,286 @@
+package io.github.dunwu.tool.builder;
+
+import io.github.dunwu.tool.util.ArrayUtil;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 反射比较字段计划<br> 按类缓存{@link EqualsBuilder#reflectionEquals}、{@link HashCodeBuilder#reflectionHashCode}、
+ * {@link CompareToBuilder#reflectionCompare}需要访问的字段，每个类只调用一次{@link Class#getDeclaredFields()}和
+ * {@link AccessibleObject#setAccessible(AccessibleObject[], boolean)}。
+ * <p>
+ * 每个字段预先生成{@link MethodHandle}访问器并记录基本类型种类，基本类型字段直接取值比较，不再装箱。
+ * 比较、哈希规则与包装类型的{@code equals}、{@code hashCode}、{@code compareTo}一致，结果与逐字段装箱计算相同。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class FieldPlan {
+
+    /**
+     * 字段计划引用了类的{@link Field}和{@link MethodHandle}，使用{@link ClassValue}保存在类自身上，类卸载时一同回收；
+     * 放入以类为弱引用键的缓存时，值对键的强引用会导致条目永远无法回收
+     */
+    private static final ClassValue<FieldPlan> CACHE = new ClassValue<FieldPlan>() {
+        @Override
+        protected FieldPlan computeValue(Class<?> type) {
+            return new FieldPlan(type);
+        }
+    };
+
+    private static final Accessor[] EMPTY = new Accessor[0];
+
+    /**
+     * 非静态、名称不含'$'的全部字段
+     */
+    private final Accessor[] all;
+
+    /**
+     * 在{@link #all}基础上去除transient字段
+     */
+    private final Accessor[] persistent;
+
+    private FieldPlan(Class<?> clazz) {
+        final Field[] fields = clazz.getDeclaredFields();
+        AccessibleObject.setAccessible(fields, true);
+        final List<Accessor> all = new ArrayList<>(fields.length);
+        final List<Accessor> persistent = new ArrayList<>(fields.length);
+        for (final Field field : fields) {
+            if (field.getName().indexOf('$') == -1 && false == Modifier.isStatic(field.getModifiers())) {
+                final Accessor accessor = new Accessor(field);
+                all.add(accessor);
+                if (false == accessor.isTransient) {
+                    persistent.add(accessor);
+                }
+            }
+        }
+        this.all = all.toArray(EMPTY);
+        this.persistent = persistent.toArray(EMPTY);
+    }
+
+    /**
+     * 获取类的字段计划，不存在时创建并缓存
+     *
+     * @param clazz 类，只包含此类自身声明的字段，不含父类字段
+     * @return 字段计划
+     */
+    static FieldPlan of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * 获取参与比较的字段访问器，按{@link Class#getDeclaredFields()}的顺序排列
+     *
+     * @param useTransients 是否包含transient字段
+     * @param excludeFields 排除的字段名，可以为{@code null}
+     * @return 字段访问器
+     */
+    Accessor[] select(boolean useTransients, String[] excludeFields) {
+        final Accessor[] accessors = useTransients ? all : persistent;
+        if (ArrayUtil.isEmpty(excludeFields)) {
+            return accessors;
+        }
+        final List<Accessor> selected = new ArrayList<>(accessors.length);
+        for (final Accessor accessor : accessors) {
+            if (false == ArrayUtil.contains(excludeFields, accessor.name)) {
+                selected.add(accessor);
+            }
+        }
+        return selected.toArray(EMPTY);
+    }
+
+    /**
+     * 字段访问器，通过预先生成的{@link MethodHandle}读取字段
+     */
+    static final class Accessor {
+
+        private static final int OBJECT = 0;
+        private static final int INT = 1;
+        /**
+         * short、byte、char，按int读取，比较时与包装类型的compareTo一样直接相减
+         */
+        private static final int SMALL_INT = 2;
+        private static final int LONG = 3;
+        private static final int FLOAT = 4;
+        private static final int DOUBLE = 5;
+        private static final int BOOLEAN = 6;
+
+        private final String name;
+
+        private final boolean isTransient;
+
+        private final int kind;
+
+        /**
+         * 参数为{@link Object}，返回值为{@link Object}或对应的基本类型，可直接使用invokeExact调用
+         */
+        private final MethodHandle getter;
+
+        private Accessor(Field field) {
+            this.name = field.getName();
+            this.isTransient = Modifier.isTransient(field.getModifiers());
+            final Class<?> type = field.getType();
+            final Class<?> handleType;
+            if (false == type.isPrimitive()) {
+                this.kind = OBJECT;
+                handleType = Object.class;
+            } else if (type == int.class) {
+                this.kind = INT;
+                handleType = int.class;
+            } else if (type == long.class) {
+                this.kind = LONG;
+                handleType = long.class;
+            } else if (type == float.class) {
+                this.kind = FLOAT;
+                handleType = float.class;
+            } else if (type == double.class) {
+                this.kind = DOUBLE;
+                handleType = double.class;
+            } else if (type == boolean.class) {
+                this.kind = BOOLEAN;
+                handleType = boolean.class;
+            } else {
+                this.kind = SMALL_INT;
+                handleType = int.class;
+            }
+            try {
+                this.getter = MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(handleType, Object.class));
+            } catch (final IllegalAccessException e) {
+                // setAccessible已成功，不会出现此异常
+                throw new InternalError("Unexpected IllegalAccessException");
+            }
+        }
+
+        /**
+         * 是否为基本类型字段
+         *
+         * @return 是否为基本类型字段
+         */
+        boolean isPrimitive() {
+            return kind != OBJECT;
+        }
+
+        /**
+         * 读取字段值，基本类型会被装箱，用于非基本类型字段
+         *
+         * @param obj 对象
+         * @return 字段值
+         */
+        Object get(Object obj) {
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (final Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        /**
+         * 比较两个对象的基本类型字段是否相等，规则同包装类型的{@code equals}
+         *
+         * @param lhs 左侧对象
+         * @param rhs 右侧对象
+         * @return 是否相等
+         */
+        boolean isEqual(Object lhs, Object rhs) {
+            try {
+                switch (kind) {
+                    case INT:
+                    case SMALL_INT:
+                        return (int) getter.invokeExact(lhs) == (int) getter.invokeExact(rhs);
+                    case LONG:
+                        return (long) getter.invokeExact(lhs) == (long) getter.invokeExact(rhs);
+                    case FLOAT:
+                        return Float.floatToIntBits((float) getter.invokeExact(lhs))
+                            == Float.floatToIntBits((float) getter.invokeExact(rhs));
+                    case DOUBLE:
+                        return Double.doubleToLongBits((double) getter.invokeExact(lhs))
+                            == Double.doubleToLongBits((double) getter.invokeExact(rhs));
+                    case BOOLEAN:
+                        return (boolean) getter.invokeExact(lhs) == (boolean) getter.invokeExact(rhs);
+                    default:
+                        throw new IllegalStateException("Not a primitive field: " + name);
+                }
+            } catch (final Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        /**
+         * 计算基本类型字段的哈希值，规则同包装类型的{@code hashCode}
+         *
+         * @param obj 对象
+         * @return 哈希值
+         */
+        int hash(Object obj) {
+            try {
+                switch (kind) {
+                    case INT:
+                    case SMALL_INT:
+                        return (int) getter.invokeExact(obj);
+                    case LONG:
+                        return Long.hashCode((long) getter.invokeExact(obj));
+                    case FLOAT:
+                        return Float.hashCode((float) getter.invokeExact(obj));
+                    case DOUBLE:
+                        return Double.hashCode((double) getter.invokeExact(obj));
+                    case BOOLEAN:
+                        return Boolean.hashCode((boolean) getter.invokeExact(obj));
+                    default:
+                        throw new IllegalStateException("Not a primitive field: " + name);
+                }
+            } catch (final Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        /**
+         * 比较两个对象的基本类型字段，规则同包装类型的{@code compareTo}
+         *
+         * @param lhs 左侧对象
+         * @param rhs 右侧对象
+         * @return 比较结果
+         */
+        int compare(Object lhs, Object rhs) {
+            try {
+                switch (kind) {
+                    case INT:
+                        return Integer.compare((int) getter.invokeExact(lhs), (int) getter.invokeExact(rhs));
+                    case SMALL_INT:
+                        return (int) getter.invokeExact(lhs) - (int) getter.invokeExact(rhs);
+                    case LONG:
+                        return Long.compare((long) getter.invokeExact(lhs), (long) getter.invokeExact(rhs));
+                    case FLOAT:
+                        return Float.compare((float) getter.invokeExact(lhs), (float) getter.invokeExact(rhs));
+                    case DOUBLE:
+                        return Double.compare((double) getter.invokeExact(lhs), (double) getter.invokeExact(rhs));
+                    case BOOLEAN:
+                        return Boolean.compare((boolean) getter.invokeExact(lhs), (boolean) getter.invokeExact(rhs));
+                    default:
+                        throw new IllegalStateException("Not a primitive field: " + name);
+                }
+            } catch (final Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            throw new InternalError("Unexpected exception: " + e);
+        }
+    }
+
+}
@@ -3,9 +3,6 @@ package io.github.dunwu.tool.builder;
 import io.github.dunwu.tool.lang.Assert;
 import io.github.dunwu.tool.util.ArrayUtil;
 
-import java.lang.reflect.AccessibleObject;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -491,21 +488,12 @@ public class HashCodeBuilder implements Builder<Integer> {
         }
         try {
             register(object);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
-            for (final Field field : fields) {
-                if (false == ArrayUtil.contains(excludeFields, field.getName())
-                    && (field.getName().indexOf('$') == -1)
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && (!Modifier.isStatic(field.getModifiers()))) {
-                    try {
-                        final Object fieldValue = field.get(object);
-                        builder.append(fieldValue);
-                    } catch (final IllegalAccessException e) {
-                        // this can't happen. Would get a Security exception instead
-                        // throw a runtime exception in case the impossible happens.
-                        throw new InternalError("Unexpected IllegalAccessException");
-                    }
+            for (final FieldPlan.Accessor accessor : FieldPlan.of(clazz).select(useTransients, excludeFields)) {
+                if (accessor.isPrimitive()) {
+                    // Same value as appending the boxed field, without boxing it
+                    builder.iTotal = builder.iTotal * builder.iConstant + accessor.hash(object);
+                } else {
+                    builder.append(accessor.get(object));
                 }
             }
         } finally {
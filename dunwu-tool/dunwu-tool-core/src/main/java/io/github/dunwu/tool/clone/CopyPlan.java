@@ -0,0 +1,544 @@
+package io.github.dunwu.tool.clone;
+
+import io.github.dunwu.tool.exceptions.UtilException;
+import io.github.dunwu.tool.util.ObjectUtil;
+
+import java.io.Externalizable;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * 深度克隆的复制计划，描述如何复制某个类的对象，按类缓存，每个类只分析一次<br>
+ * <ul>
+ *     <li>不可变对象（String、包装类型、java.time、枚举等）直接共享</li>
+ *     <li>数组使用{@link System#arraycopy(Object, int, Object, int, int)}复制，元素可能可变时逐个深度复制</li>
+ *     <li>常用JDK集合和Map创建同类型的空对象后逐个放入深度复制的元素，保留比较器</li>
+ *     <li>LinkedHashMap及其子类的访问顺序（accessOrder）无法从外部得知，重建会改变其迭代语义，使用序列化复制</li>
+ *     <li>普通对象通过无参构造创建后逐字段复制，transient字段保留构造方法中的初始值</li>
+ *     <li>自定义了序列化过程（writeObject、readResolve等）的可序列化对象，逐字段复制会丢失其自定义的状态，使用序列化复制</li>
+ *     <li>以上都不适用的可序列化对象使用序列化复制，其余抛出{@link CloneRuntimeException}</li>
+ * </ul>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+abstract class CopyPlan {
+
+    /**
+     * 复制计划引用了类的构造方法和字段，使用{@link ClassValue}保存在类自身上，类卸载时一同回收
+     */
+    private static final ClassValue<CopyPlan> CACHE = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    /**
+     * 直接共享的不可变类型，按精确类型匹配
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class, Class.class, UUID.class, Locale.class,
+        Currency.class, Pattern.class, URI.class, URL.class, File.class, OptionalInt.class, OptionalLong.class,
+        OptionalDouble.class));
+
+    /**
+     * 没有需要复制的状态的JDK父类，继承这些类的对象可以逐字段复制
+     */
+    private static final Set<Class<?>> STATELESS_BASES = new HashSet<>(Arrays.asList(
+        Object.class, AbstractCollection.class, AbstractList.class, AbstractSequentialList.class, AbstractSet.class,
+        AbstractQueue.class, AbstractMap.class));
+
+    /**
+     * 可以重建的JDK集合和Map，值为根据原对象创建空对象的函数
+     */
+    private static final Map<Class<?>, Function<Object, Object>> CONTAINER_FACTORIES = new HashMap<>();
+
+    static final CopyPlan SHARE = new CopyPlan() {
+        @Override
+        Object copy(Object src, DeepCloner cloner) {
+            return src;
+        }
+    };
+
+    static {
+        CONTAINER_FACTORIES.put(ArrayList.class, src -> new ArrayList<>(((Collection<?>) src).size()));
+        CONTAINER_FACTORIES.put(LinkedList.class, src -> new LinkedList<>());
+        CONTAINER_FACTORIES.put(Vector.class, src -> new Vector<>(((Collection<?>) src).size()));
+        CONTAINER_FACTORIES.put(ArrayDeque.class, src -> new ArrayDeque<>(((Collection<?>) src).size()));
+        CONTAINER_FACTORIES.put(HashSet.class, src -> new HashSet<>(hashCapacity(((Collection<?>) src).size())));
+        CONTAINER_FACTORIES.put(LinkedHashSet.class,
+            src -> new LinkedHashSet<>(hashCapacity(((Collection<?>) src).size())));
+        CONTAINER_FACTORIES.put(TreeSet.class, src -> new TreeSet<>(comparator(((TreeSet<?>) src).comparator())));
+        CONTAINER_FACTORIES.put(PriorityQueue.class, src -> new PriorityQueue<>(
+            Math.max(1, ((PriorityQueue<?>) src).size()), comparator(((PriorityQueue<?>) src).comparator())));
+        CONTAINER_FACTORIES.put(HashMap.class, src -> new HashMap<>(hashCapacity(((Map<?, ?>) src).size())));
+        CONTAINER_FACTORIES.put(Hashtable.class, src -> new Hashtable<>(hashCapacity(((Map<?, ?>) src).size())));
+        CONTAINER_FACTORIES.put(IdentityHashMap.class, src -> new IdentityHashMap<>(((Map<?, ?>) src).size()));
+        CONTAINER_FACTORIES.put(TreeMap.class, src -> new TreeMap<>(comparator(((TreeMap<?, ?>) src).comparator())));
+        CONTAINER_FACTORIES.put(EnumMap.class, src -> {
+            final EnumMap<?, ?> map = new EnumMap<>((EnumMap<?, ?>) src);
+            map.clear();
+            return map;
+        });
+        CONTAINER_FACTORIES.put(ConcurrentHashMap.class,
+            src -> new ConcurrentHashMap<>(hashCapacity(((Map<?, ?>) src).size())));
+        CONTAINER_FACTORIES.put(ConcurrentSkipListMap.class,
+            src -> new ConcurrentSkipListMap<>(comparator(((ConcurrentSkipListMap<?, ?>) src).comparator())));
+        CONTAINER_FACTORIES.put(ConcurrentSkipListSet.class,
+            src -> new ConcurrentSkipListSet<>(comparator(((ConcurrentSkipListSet<?>) src).comparator())));
+        CONTAINER_FACTORIES.put(ConcurrentLinkedQueue.class, src -> new ConcurrentLinkedQueue<>());
+        CONTAINER_FACTORIES.put(ConcurrentLinkedDeque.class, src -> new ConcurrentLinkedDeque<>());
+        CONTAINER_FACTORIES.put(CopyOnWriteArrayList.class, src -> new CopyOnWriteArrayList<>());
+        CONTAINER_FACTORIES.put(CopyOnWriteArraySet.class, src -> new CopyOnWriteArraySet<>());
+    }
+
+    /**
+     * 复制对象，创建副本后需先调用{@link DeepCloner#register(Object, Object)}再复制其内容，以便处理循环引用
+     *
+     * @param src    被复制的对象
+     * @param cloner 当前克隆上下文
+     * @return 副本
+     */
+    abstract Object copy(Object src, DeepCloner cloner);
+
+    /**
+     * 获取类的复制计划，不存在时创建并缓存
+     *
+     * @param clazz 类
+     * @return 复制计划
+     */
+    static CopyPlan of(Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    /**
+     * 是否为可共享的不可变类型
+     *
+     * @param clazz 类
+     * @return 是否可共享
+     */
+    static boolean isImmutable(Class<?> clazz) {
+        return IMMUTABLE_TYPES.contains(clazz)
+            || Enum.class.isAssignableFrom(clazz)
+            || clazz.getName().startsWith("java.time.")
+            || Path.class.isAssignableFrom(clazz)
+            || Charset.class.isAssignableFrom(clazz)
+            || Proxy.isProxyClass(clazz)
+            // Lambda无法通过构造方法创建，与序列化的处理方式不同，直接共享
+            || (clazz.isSynthetic() && clazz.getName().contains("$$Lambda"));
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    private static CopyPlan create(Class<?> clazz) {
+        if (isImmutable(clazz)) {
+            return SHARE;
+        }
+        if (clazz.isArray()) {
+            return new ArrayPlan(clazz.getComponentType());
+        }
+        if (clazz == Object.class) {
+            return new CopyPlan() {
+                @Override
+                Object copy(Object src, DeepCloner cloner) {
+                    final Object copy = new Object();
+                    cloner.register(src, copy);
+                    return copy;
+                }
+            };
+        }
+        if (isJdkClass(clazz)) {
+            return createJdkPlan(clazz);
+        }
+
+        Class<?> jdkBase = clazz;
+        while (false == isJdkClass(jdkBase)) {
+            jdkBase = jdkBase.getSuperclass();
+        }
+        final boolean container = CONTAINER_FACTORIES.containsKey(jdkBase);
+        if ((container || STATELESS_BASES.contains(jdkBase)) && false == hasSerializationHook(clazz, jdkBase)) {
+            try {
+                final Constructor<?> constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return new BeanPlan(clazz, constructor, jdkBase, container);
+            } catch (NoSuchMethodException e) {
+                // 没有无参构造，使用序列化
+            }
+        }
+        return fallback(clazz);
+    }
+
+    private static CopyPlan createJdkPlan(Class<?> clazz) {
+        final Function<Object, Object> factory = CONTAINER_FACTORIES.get(clazz);
+        if (null != factory) {
+            return new ContainerPlan(factory);
+        }
+        // 以下类型的clone方法已复制全部状态，且状态中没有可变的引用
+        if (Date.class.isAssignableFrom(clazz)) {
+            return new ShallowPlan(src -> ((Date) src).clone());
+        }
+        if (Calendar.class.isAssignableFrom(clazz)) {
+            return new ShallowPlan(src -> ((Calendar) src).clone());
+        }
+        if (EnumSet.class.isAssignableFrom(clazz)) {
+            return new ShallowPlan(src -> ((EnumSet<?>) src).clone());
+        }
+        if (BitSet.class == clazz) {
+            return new ShallowPlan(src -> ((BitSet) src).clone());
+        }
+        return fallback(clazz);
+    }
+
+    private static CopyPlan fallback(Class<?> clazz) {
+        if (Serializable.class.isAssignableFrom(clazz)) {
+            return new ShallowPlan(CopyPlan::cloneByStream);
+        }
+        return new CopyPlan() {
+            @Override
+            Object copy(Object src, DeepCloner cloner) {
+                throw new CloneRuntimeException("Can not deep clone [{}]: no default constructor and not Serializable",
+                    clazz.getName());
+            }
+        };
+    }
+
+    /**
+     * 可序列化的类及其父类（到JDK父类为止）是否自定义了序列化过程，此时只有序列化才能得到正确的副本
+     */
+    private static boolean hasSerializationHook(Class<?> clazz, Class<?> jdkBase) {
+        if (false == Serializable.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        if (Externalizable.class.isAssignableFrom(clazz)) {
+            return true;
+        }
+        for (Class<?> c = clazz; c != jdkBase; c = c.getSuperclass()) {
+            if (hasMethod(c, "writeObject", ObjectOutputStream.class)
+                || hasMethod(c, "readObject", ObjectInputStream.class)
+                || hasMethod(c, "readObjectNoData")
+                || hasMethod(c, "writeReplace")
+                || hasMethod(c, "readResolve")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return false == Modifier.isStatic(clazz.getDeclaredMethod(name, parameterTypes).getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Object cloneByStream(Object src) {
+        try {
+            return ObjectUtil.cloneByStream(src);
+        } catch (UtilException e) {
+            throw new CloneRuntimeException(e);
+        }
+    }
+
+    private static boolean isJdkClass(Class<?> clazz) {
+        final String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.")
+            || name.startsWith("com.sun.") || name.startsWith("jdk.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparator(Comparator<?> comparator) {
+        return (Comparator<Object>) comparator;
+    }
+
+    private static int hashCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    /**
+     * 将原集合或Map中的元素深度复制后放入新的集合或Map
+     */
+    @SuppressWarnings("unchecked")
+    private static void copyElements(Object src, Object dst, DeepCloner cloner) {
+        if (src instanceof Map) {
+            final Map<Object, Object> dstMap = (Map<Object, Object>) dst;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) src).entrySet()) {
+                dstMap.put(cloner.copy(entry.getKey()), cloner.copy(entry.getValue()));
+            }
+        } else {
+            final Collection<?> srcCollection = (Collection<?>) src;
+            final List<Object> elements = new ArrayList<>(srcCollection.size());
+            for (Object element : srcCollection) {
+                elements.add(cloner.copy(element));
+            }
+            ((Collection<Object>) dst).addAll(elements);
+        }
+    }
+
+    /**
+     * 通过无参构造创建的集合或Map是否与原对象的比较器相同
+     */
+    private static boolean isSameKind(Object src, Object dst) {
+        if (src instanceof SortedMap) {
+            return Objects.equals(((SortedMap<?, ?>) src).comparator(), ((SortedMap<?, ?>) dst).comparator());
+        }
+        if (src instanceof SortedSet) {
+            return Objects.equals(((SortedSet<?>) src).comparator(), ((SortedSet<?>) dst).comparator());
+        }
+        if (src instanceof PriorityQueue) {
+            return Objects.equals(((PriorityQueue<?>) src).comparator(), ((PriorityQueue<?>) dst).comparator());
+        }
+        return true;
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+    /**
+     * 数组复制计划
+     */
+    private static final class ArrayPlan extends CopyPlan {
+
+        private final Class<?> componentType;
+
+        /**
+         * 元素是否无需深度复制，即基本类型或不可变的final类型
+         */
+        private final boolean flat;
+
+        ArrayPlan(Class<?> componentType) {
+            this.componentType = componentType;
+            this.flat = componentType.isPrimitive()
+                || (Modifier.isFinal(componentType.getModifiers()) && isImmutable(componentType));
+        }
+
+        @Override
+        Object copy(Object src, DeepCloner cloner) {
+            final int length = Array.getLength(src);
+            final Object copy = Array.newInstance(componentType, length);
+            cloner.register(src, copy);
+            if (flat) {
+                System.arraycopy(src, 0, copy, 0, length);
+            } else {
+                final Object[] srcArray = (Object[]) src;
+                final Object[] dstArray = (Object[]) copy;
+                for (int i = 0; i < length; i++) {
+                    dstArray[i] = cloner.copy(srcArray[i]);
+                }
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * JDK集合和Map复制计划
+     */
+    private static final class ContainerPlan extends CopyPlan {
+
+        private final Function<Object, Object> factory;
+
+        ContainerPlan(Function<Object, Object> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        Object copy(Object src, DeepCloner cloner) {
+            final Object copy = factory.apply(src);
+            cloner.register(src, copy);
+            copyElements(src, copy, cloner);
+            return copy;
+        }
+    }
+
+    /**
+     * 使用给定函数一次性得到完整副本的复制计划，如clone方法和序列化
+     */
+    private static final class ShallowPlan extends CopyPlan {
+
+        private final Function<Object, Object> copier;
+
+        ShallowPlan(Function<Object, Object> copier) {
+            this.copier = copier;
+        }
+
+        @Override
+        Object copy(Object src, DeepCloner cloner) {
+            final Object copy = copier.apply(src);
+            cloner.register(src, copy);
+            return copy;
+        }
+    }
+
+    /**
+     * 普通对象复制计划，通过无参构造创建后逐字段复制；继承JDK集合或Map时再复制其中的元素
+     */
+    private static final class BeanPlan extends CopyPlan {
+
+        private final Constructor<?> constructor;
+
+        private final FieldCopier[] fields;
+
+        private final boolean container;
+
+        /**
+         * 无参构造创建的集合或Map与原对象不一致时使用
+         */
+        private final CopyPlan fallback;
+
+        BeanPlan(Class<?> clazz, Constructor<?> constructor, Class<?> jdkBase, boolean container) {
+            this.constructor = constructor;
+            this.container = container;
+            this.fallback = container ? fallback(clazz) : null;
+            final List<FieldCopier> fields = new ArrayList<>();
+            for (Class<?> c = clazz; c != jdkBase; c = c.getSuperclass()) {
+                final Field[] declaredFields = c.getDeclaredFields();
+                AccessibleObject.setAccessible(declaredFields, true);
+                for (Field field : declaredFields) {
+                    final int modifiers = field.getModifiers();
+                    if (false == Modifier.isStatic(modifiers) && false == Modifier.isTransient(modifiers)) {
+                        fields.add(new FieldCopier(field));
+                    }
+                }
+            }
+            this.fields = fields.toArray(new FieldCopier[0]);
+        }
+
+        @Override
+        Object copy(Object src, DeepCloner cloner) {
+            final Object copy;
+            try {
+                copy = constructor.newInstance();
+            } catch (Exception e) {
+                throw new CloneRuntimeException(e, "Can not create instance of [{}]", constructor.getName());
+            }
+            if (container) {
+                if (false == isSameKind(src, copy)) {
+                    return fallback.copy(src, cloner);
+                }
+                if (src instanceof Map) {
+                    ((Map<?, ?>) copy).clear();
+                } else {
+                    ((Collection<?>) copy).clear();
+                }
+            }
+            cloner.register(src, copy);
+            try {
+                for (FieldCopier field : fields) {
+                    field.copy(src, copy, cloner);
+                }
+            } catch (IllegalAccessException e) {
+                throw new CloneRuntimeException(e);
+            }
+            if (container) {
+                copyElements(src, copy, cloner);
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * 字段复制器，基本类型字段直接读写，不装箱
+     */
+    private static final class FieldCopier {
+
+        private static final int OBJECT = 0;
+        private static final int SHARED = 1;
+        private static final int INT = 2;
+        private static final int LONG = 3;
+        private static final int BOOLEAN = 4;
+        private static final int DOUBLE = 5;
+        private static final int FLOAT = 6;
+        private static final int SHORT = 7;
+        private static final int BYTE = 8;
+        private static final int CHAR = 9;
+
+        private final Field field;
+
+        private final int kind;
+
+        FieldCopier(Field field) {
+            this.field = field;
+            final Class<?> type = field.getType();
+            if (int.class == type) {
+                this.kind = INT;
+            } else if (long.class == type) {
+                this.kind = LONG;
+            } else if (boolean.class == type) {
+                this.kind = BOOLEAN;
+            } else if (double.class == type) {
+                this.kind = DOUBLE;
+            } else if (float.class == type) {
+                this.kind = FLOAT;
+            } else if (short.class == type) {
+                this.kind = SHORT;
+            } else if (byte.class == type) {
+                this.kind = BYTE;
+            } else if (char.class == type) {
+                this.kind = CHAR;
+            } else if (Modifier.isFinal(type.getModifiers()) && isImmutable(type)) {
+                this.kind = SHARED;
+            } else {
+                this.kind = OBJECT;
+            }
+        }
+
+        void copy(Object src, Object dst, DeepCloner cloner) throws IllegalAccessException {
+            switch (kind) {
+                case INT:
+                    field.setInt(dst, field.getInt(src));
+                    break;
+                case LONG:
+                    field.setLong(dst, field.getLong(src));
+                    break;
+                case BOOLEAN:
+                    field.setBoolean(dst, field.getBoolean(src));
+                    break;
+                case DOUBLE:
+                    field.setDouble(dst, field.getDouble(src));
+                    break;
+                case FLOAT:
+                    field.setFloat(dst, field.getFloat(src));
+                    break;
+                case SHORT:
+                    field.setShort(dst, field.getShort(src));
+                    break;
+                case BYTE:
+                    field.setByte(dst, field.getByte(src));
+                    break;
+                case CHAR:
+                    field.setChar(dst, field.getChar(src));
+                    break;
+                case SHARED:
+                    field.set(dst, field.get(src));
+                    break;
+                default:
+                    field.set(dst, cloner.copy(field.get(src)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.dunwu.tool.clone;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 深度克隆<br> 按类缓存复制计划（见{@link CopyPlan}），逐字段复制对象图，不经过序列化：
+ * <ul>
+ *     <li>String、包装类型、java.time、枚举等不可变对象直接共享，不复制</li>
+ *     <li>数组使用{@link System#arraycopy(Object, int, Object, int, int)}复制</li>
+ *     <li>常用JDK集合和Map重建为同类型对象，保留比较器和迭代顺序，子类由其无参构造决定</li>
+ *     <li>LinkedHashMap及其子类（如{@link io.github.dunwu.tool.lang.Dict}）可能按访问顺序迭代，使用序列化复制以保留访问顺序</li>
+ *     <li>普通对象需要无参构造方法（可以是私有的），transient字段不复制，保留构造方法中的初始值</li>
+ *     <li>同一对象在图中多次出现时只复制一次，循环引用的副本也保持循环</li>
+ *     <li>无法逐字段复制的对象（如没有无参构造，或定义了writeObject、readResolve等序列化方法）如果实现了Serializable，使用序列化复制，此部分与图中其它对象不共享引用</li>
+ * </ul>
+ *
+ * <pre>
+ * Config copy = DeepCloner.clone(config);
+ * </pre>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class DeepCloner {
+
+    /**
+     * 已复制的对象，键为原对象，值为副本，按引用比较
+     */
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private DeepCloner() {
+    }
+
+    /**
+     * 深度克隆对象
+     *
+     * @param <T> 对象类型
+     * @param obj 被克隆对象，可以为{@code null}
+     * @return 克隆后的对象，不可变对象返回原对象
+     * @throws CloneRuntimeException 对象图中存在无法复制的对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T clone(T obj) {
+        if (null == obj) {
+            return null;
+        }
+        return (T) new DeepCloner().copy(obj);
+    }
+
+    /**
+     * 对象是否为可直接共享的不可变对象，深度克隆时此类对象不复制
+     *
+     * @param obj 对象
+     * @return 是否为不可变对象，{@code null}返回{@code true}
+     */
+    public static boolean isImmutable(Object obj) {
+        return null == obj || CopyPlan.SHARE == CopyPlan.of(obj.getClass());
+    }
+
+    /**
+     * 复制对象图中的一个对象，已复制过的对象返回之前的副本
+     *
+     * @param obj 对象
+     * @return 副本
+     */
+    Object copy(Object obj) {
+        if (null == obj) {
+            return null;
+        }
+        final CopyPlan plan = CopyPlan.of(obj.getClass());
+        if (CopyPlan.SHARE == plan) {
+            return obj;
+        }
+        final Object copy = copies.get(obj);
+        if (null != copy) {
+            return copy;
+        }
+        return plan.copy(obj, this);
+    }
+
+    /**
+     * 登记副本，须在复制其字段或元素之前调用
+     *
+     * @param src  原对象
+     * @param copy 副本
+     */
+    void register(Object src, Object copy) {
+        copies.put(src, copy);
+    }
+
+}
@@ -1,17 +1,25 @@
 package io.github.dunwu.tool.codec;
 
+import io.github.dunwu.tool.io.FastByteArrayOutputStream;
 import io.github.dunwu.tool.io.FileUtil;
+import io.github.dunwu.tool.io.IORuntimeException;
 import io.github.dunwu.tool.io.IoUtil;
 import io.github.dunwu.tool.util.CharsetUtil;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Base64工具类，提供Base64的编码和解码方案<br> base64编码是用64（2的6次方）个ASCII字符来表示256（2的8次方）个ASCII字符，<br>
  * 也就是三位二进制数组经过编码后变为四位的ASCII字符显示，长度比原来增加1/3。
+ * <p>
+ * 大文件使用{@link #encode(InputStream, OutputStream, boolean)}和{@link #decode(InputStream, OutputStream)}流式处理，内存占用固定；
+ * 编码到调用方提供的缓冲区见{@link BaseNCodec#BASE64}。
+ * </p>
  *
  * @author Looly
  */
@@ -132,6 +140,25 @@ public class Base64 {
         IoUtil.write(out, isCloseOut, Base64Decoder.decode(base64));
     }
 
+    /**
+     * base64解码，从输入流读取编码数据，解码后写出到输出流，内存占用固定，不关闭流<br> 同时接受标准和URL安全字符，忽略非Base64字符
+     *
+     * @param in  被解码的流
+     * @param out 解码后写出到的流
+     * @return 读取的字节数
+     * @since 2026-10-18
+     */
+    public static long decode(InputStream in, OutputStream out) {
+        final BaseNOutputStream decoder = BaseNCodec.BASE64.decodingStream(out);
+        final long size = IoUtil.copy(in, decoder);
+        try {
+            decoder.finish();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return size;
+    }
+
     /**
      * 编码为Base64，非URL安全的
      *
@@ -193,7 +220,7 @@ public class Base64 {
      * @since 4.0.9
      */
     public static String encode(InputStream in) {
-        return Base64Encoder.encode(IoUtil.readBytes(in));
+        return encodeToString(in, 0, false);
     }
 
     /**
@@ -204,7 +231,27 @@ public class Base64 {
      * @since 4.0.9
      */
     public static String encode(File file) {
-        return Base64Encoder.encode(FileUtil.readBytes(file));
+        return encodeToString(FileUtil.getInputStream(file), file.length(), false);
+    }
+
+    /**
+     * base64编码，从输入流读取数据，编码后写出到输出流，内存占用固定，不关闭流
+     *
+     * @param in        被编码的流
+     * @param out       编码后写出到的流
+     * @param isUrlSafe 是否使用URL安全字符，一般为<code>false</code>
+     * @return 读取的字节数
+     * @since 2026-10-18
+     */
+    public static long encode(InputStream in, OutputStream out, boolean isUrlSafe) {
+        final BaseNOutputStream encoder = (isUrlSafe ? BaseNCodec.BASE64_URL : BaseNCodec.BASE64).encodingStream(out);
+        final long size = IoUtil.copy(in, encoder);
+        try {
+            encoder.finish();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        return size;
     }
 
     /**
@@ -313,7 +360,7 @@ public class Base64 {
      * @since 4.0.9
      */
     public static String encodeUrlSafe(InputStream in) {
-        return Base64Encoder.encodeUrlSafe(IoUtil.readBytes(in));
+        return encodeToString(in, 0, true);
     }
 
     /**
@@ -324,7 +371,7 @@ public class Base64 {
      * @since 4.0.9
      */
     public static String encodeUrlSafe(File file) {
-        return Base64Encoder.encodeUrlSafe(FileUtil.readBytes(file));
+        return encodeToString(FileUtil.getInputStream(file), file.length(), true);
     }
 
     /**
@@ -355,4 +402,27 @@ public class Base64 {
         return Base64Encoder.encodeUrlSafe(source);
     }
 
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 流式编码为字符串，不读取原始数据的完整副本，编码后关闭输入流
+     *
+     * @param in        被编码的流
+     * @param size      预计的原始数据长度，未知时为0
+     * @param isUrlSafe 是否使用URL安全字符
+     * @return 编码后的字符串
+     */
+    private static String encodeToString(InputStream in, long size, boolean isUrlSafe) {
+        final BaseNCodec codec = isUrlSafe ? BaseNCodec.BASE64_URL : BaseNCodec.BASE64;
+        final FastByteArrayOutputStream out =
+            new FastByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, Math.max(32, codec.encodedLength(size))));
+        try {
+            encode(in, out, isUrlSafe);
+        } finally {
+            IoUtil.close(in);
+        }
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
 }
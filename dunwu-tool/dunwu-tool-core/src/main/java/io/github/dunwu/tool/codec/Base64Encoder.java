@@ -4,6 +4,7 @@ import io.github.dunwu.tool.util.CharsetUtil;
 import io.github.dunwu.tool.util.StringUtil;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Base64编码
@@ -73,7 +74,8 @@ public class Base64Encoder {
      * @return 被加密后的字符串
      */
     public static String encode(byte[] source) {
-        return StringUtil.str(encode(source, false), DEFAULT_CHARSET);
+        // 编码结果只有ASCII字符，按ISO-8859-1转换无需解码
+        return StringUtil.str(encode(source, false), StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -183,7 +185,7 @@ public class Base64Encoder {
      * @since 3.0.6
      */
     public static String encodeUrlSafe(byte[] source) {
-        return StringUtil.str(encodeUrlSafe(source, false), DEFAULT_CHARSET);
+        return StringUtil.str(encodeUrlSafe(source, false), StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -0,0 +1,475 @@
+package io.github.dunwu.tool.codec;
+
+import io.github.dunwu.tool.exceptions.UtilException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 以2的幂为基数的编码解码器，用于Base64、Base32和Hex<br> 每个字符表示固定位数，按组处理：Base64每3字节4字符，Base32每5字节8字符，Hex每1字节2字符。
+ * <p>
+ * 编码解码直接在调用方提供的{@link ByteBuffer}、{@link CharBuffer}之间进行，不分配新数组，可分块处理任意长度的数据：
+ * 每次调用只处理源中的完整组，剩余不足一组的数据留在源中（position不越过），调用方compact后继续填充即可；
+ * 最后一次调用传入endOfInput为{@code true}处理结尾不完整的组。流式处理见{@link BaseNInputStream}和{@link BaseNOutputStream}。
+ * </p>
+ * 实例不可变，可在多个线程间共享。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class BaseNCodec implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String BASE64_STANDARD = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+
+    private static final String BASE64_URL_SAFE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+    private static final String BASE32_UPPER = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+    private static final String HEX_LOWER = "0123456789abcdef";
+
+    private static final String HEX_UPPER = "0123456789ABCDEF";
+
+    /**
+     * Base64，标准字符表，结尾补=，与{@link Base64Encoder#encode(byte[], boolean, boolean)}单行模式一致；解码同时接受URL安全字符，忽略非Base64字符
+     */
+    public static final BaseNCodec BASE64 = new BaseNCodec(BASE64_STANDARD, true, true, BASE64_URL_SAFE);
+
+    /**
+     * Base64，URL安全字符表，结尾不补=，与{@link Base64Encoder#encodeUrlSafe(byte[], boolean)}单行模式一致
+     */
+    public static final BaseNCodec BASE64_URL = new BaseNCodec(BASE64_URL_SAFE, false, true, BASE64_STANDARD);
+
+    /**
+     * Base32，结尾不补=，与{@link Base32#encode(byte[])}一致；解码不区分大小写，忽略非Base32字符
+     */
+    public static final BaseNCodec BASE32 = new BaseNCodec(BASE32_UPPER, false, true, BASE32_UPPER.toLowerCase());
+
+    /**
+     * Hex，小写；解码不区分大小写，遇到非Hex字符抛出异常
+     */
+    public static final BaseNCodec HEX = new BaseNCodec(HEX_LOWER, false, false, HEX_UPPER);
+
+    /**
+     * Hex，大写；解码不区分大小写，遇到非Hex字符抛出异常
+     */
+    public static final BaseNCodec HEX_UPPERCASE = new BaseNCodec(HEX_UPPER, false, false, HEX_LOWER);
+
+    private final byte[] alphabet;
+
+    /**
+     * 字符到值的映射，-1表示非法字符
+     */
+    private final byte[] decodeTable;
+
+    /**
+     * 每个字符表示的位数
+     */
+    private final int bits;
+
+    private final int mask;
+
+    /**
+     * 每组的字节数和字符数
+     */
+    private final int groupBytes;
+
+    private final int groupChars;
+
+    /**
+     * 编码结尾不完整的组是否补=
+     */
+    private final boolean padding;
+
+    /**
+     * 解码时是否忽略非法字符，否则抛出异常
+     */
+    private final boolean lenient;
+
+    /**
+     * 构造
+     *
+     * @param alphabet      编码字符表，长度为16、32或64
+     * @param padding       编码结尾不完整的组是否补=
+     * @param lenient       解码时是否忽略非法字符
+     * @param decodeAliases 解码时额外接受的字符表，与alphabet按位置对应
+     */
+    private BaseNCodec(String alphabet, boolean padding, boolean lenient, String... decodeAliases) {
+        this.alphabet = alphabet.getBytes(StandardCharsets.US_ASCII);
+        this.bits = Integer.numberOfTrailingZeros(alphabet.length());
+        this.mask = alphabet.length() - 1;
+        // 组的位数为8和bits的最小公倍数
+        final int groupBits = bits * 8 / gcd(bits, 8);
+        this.groupBytes = groupBits / 8;
+        this.groupChars = groupBits / bits;
+        this.padding = padding;
+        this.lenient = lenient;
+
+        this.decodeTable = new byte[256];
+        Arrays.fill(decodeTable, (byte) -1);
+        for (String aliases : decodeAliases) {
+            for (int i = 0; i < aliases.length(); i++) {
+                decodeTable[aliases.charAt(i)] = (byte) i;
+            }
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            decodeTable[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /**
+     * 计算编码后的长度
+     *
+     * @param length 原始数据长度
+     * @return 编码后的字符数
+     */
+    public long encodedLength(long length) {
+        final long full = length / groupBytes * groupChars;
+        final int rest = (int) (length % groupBytes);
+        if (0 == rest) {
+            return full;
+        }
+        return full + (padding ? groupChars : (rest * 8 + bits - 1) / bits);
+    }
+
+    /**
+     * 计算解码后的最大长度，编码中混有非法字符或补位时实际长度更短
+     *
+     * @param length 编码长度
+     * @return 解码后的最大字节数
+     */
+    public long decodedLength(long length) {
+        return length * bits / 8;
+    }
+
+    // ---------------------------------------------------------------------------------------- encode
+
+    /**
+     * 编码数组中的全部数据到调用方提供的数组
+     *
+     * @param src       原始数据
+     * @param offset    开始位置
+     * @param length    长度
+     * @param dst       目标数组，剩余空间不小于{@link #encodedLength(long)}
+     * @param dstOffset 目标开始位置
+     * @return 写入的字节数
+     */
+    public int encode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        final ByteBuffer in = ByteBuffer.wrap(src, offset, length);
+        final ByteBuffer out = ByteBuffer.wrap(dst, dstOffset, dst.length - dstOffset);
+        encode(in, out, true);
+        if (in.hasRemaining()) {
+            throw new IndexOutOfBoundsException("Destination array is too small");
+        }
+        return out.position() - dstOffset;
+    }
+
+    /**
+     * 编码为字符串
+     *
+     * @param src 原始数据
+     * @return 编码后的字符串
+     */
+    public String encodeToString(byte[] src) {
+        final byte[] dst = new byte[Math.toIntExact(encodedLength(src.length))];
+        encode(src, 0, src.length, dst, 0);
+        return new String(dst, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 编码源中的数据写入目标，处理到源中不足一组或目标空间不足一组为止
+     *
+     * @param src        原始数据
+     * @param dst        目标
+     * @param endOfInput 是否为最后一段数据，是则同时编码结尾不完整的组
+     */
+    public void encode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        final int groups = Math.min(src.remaining() / groupBytes, dst.remaining() / groupChars);
+        if (groups > 0 && src.hasArray() && dst.hasArray()) {
+            final int srcPos = src.position();
+            final int dstPos = dst.position();
+            encodeGroups(src.array(), src.arrayOffset() + srcPos, groups, dst.array(), dst.arrayOffset() + dstPos);
+            src.position(srcPos + groups * groupBytes);
+            dst.position(dstPos + groups * groupChars);
+        } else {
+            final IntConsumer out = c -> dst.put((byte) c);
+            for (int i = 0; i < groups; i++) {
+                encodeGroup(readGroup(src, groupBytes), groupChars, out);
+            }
+        }
+        if (endOfInput) {
+            final int rest = src.remaining();
+            if (rest > 0 && rest < groupBytes && dst.remaining() >= encodedLength(rest)) {
+                encodeTail(src, c -> dst.put((byte) c));
+            }
+        }
+    }
+
+    /**
+     * 编码源中的数据写入字符目标，处理到源中不足一组或目标空间不足一组为止
+     *
+     * @param src        原始数据
+     * @param dst        目标
+     * @param endOfInput 是否为最后一段数据，是则同时编码结尾不完整的组
+     */
+    public void encode(ByteBuffer src, CharBuffer dst, boolean endOfInput) {
+        final int groups = Math.min(src.remaining() / groupBytes, dst.remaining() / groupChars);
+        final IntConsumer out = c -> dst.put((char) c);
+        for (int i = 0; i < groups; i++) {
+            encodeGroup(readGroup(src, groupBytes), groupChars, out);
+        }
+        if (endOfInput) {
+            final int rest = src.remaining();
+            if (rest > 0 && rest < groupBytes && dst.remaining() >= encodedLength(rest)) {
+                encodeTail(src, out);
+            }
+        }
+    }
+
+    /**
+     * 创建编码输出流，写入的原始数据编码后写入out
+     *
+     * @param out 编码数据的输出流
+     * @return {@link BaseNOutputStream}
+     */
+    public BaseNOutputStream encodingStream(OutputStream out) {
+        return new BaseNOutputStream(out, this, true);
+    }
+
+    /**
+     * 创建编码输入流，读取时返回in中数据编码后的结果
+     *
+     * @param in 原始数据的输入流
+     * @return {@link BaseNInputStream}
+     */
+    public BaseNInputStream encodingStream(InputStream in) {
+        return new BaseNInputStream(in, this, true);
+    }
+
+    // ---------------------------------------------------------------------------------------- decode
+
+    /**
+     * 解码源中的编码数据写入目标，处理到源中不足一组或目标空间不足一组为止
+     *
+     * @param src        编码数据
+     * @param dst        目标
+     * @param endOfInput 是否为最后一段数据，是则同时解码结尾不完整的组
+     */
+    public void decode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        decode(src.position(), src.limit(), i -> src.get(i) & 0xFF, src::position, dst, endOfInput);
+    }
+
+    /**
+     * 解码源中的编码字符写入目标，处理到源中不足一组或目标空间不足一组为止
+     *
+     * @param src        编码字符
+     * @param dst        目标
+     * @param endOfInput 是否为最后一段数据，是则同时解码结尾不完整的组
+     */
+    public void decode(CharBuffer src, ByteBuffer dst, boolean endOfInput) {
+        decode(src.position(), src.limit(), src::get, src::position, dst, endOfInput);
+    }
+
+    /**
+     * 解码字符串
+     *
+     * @param src 编码字符串
+     * @return 解码后的数据
+     */
+    public byte[] decode(CharSequence src) {
+        final ByteBuffer dst = ByteBuffer.allocate(Math.toIntExact(decodedLength(src.length())));
+        decode(CharBuffer.wrap(src), dst, true);
+        return (dst.position() == dst.capacity()) ? dst.array() : Arrays.copyOf(dst.array(), dst.position());
+    }
+
+    /**
+     * 创建解码输出流，写入的编码数据解码后写入out
+     *
+     * @param out 原始数据的输出流
+     * @return {@link BaseNOutputStream}
+     */
+    public BaseNOutputStream decodingStream(OutputStream out) {
+        return new BaseNOutputStream(out, this, false);
+    }
+
+    /**
+     * 创建解码输入流，读取时返回in中编码数据解码后的结果
+     *
+     * @param in 编码数据的输入流
+     * @return {@link BaseNInputStream}
+     */
+    public BaseNInputStream decodingStream(InputStream in) {
+        return new BaseNInputStream(in, this, false);
+    }
+
+    /**
+     * 移除源中剩余部分里解码时忽略的字符，其余字符前移，limit随之减小<br>
+     * 宽松模式下不完整的组之后跟着大量被忽略的字符时，源的position无法前进，流式解码用此方法腾出缓冲区空间
+     *
+     * @param src 编码数据，为读模式
+     */
+    void discardIgnored(ByteBuffer src) {
+        int write = src.position();
+        byte c;
+        for (int read = write; read < src.limit(); read++) {
+            c = src.get(read);
+            if (decodeTable[c & 0xFF] >= 0) {
+                src.put(write++, c);
+            }
+        }
+        src.limit(write);
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 数组间批量编码完整的组，Base64和Hex展开循环
+     */
+    private void encodeGroups(byte[] src, int s, int groups, byte[] dst, int d) {
+        final byte[] table = this.alphabet;
+        final int end = s + groups * groupBytes;
+        if (6 == bits) {
+            int i;
+            while (s < end) {
+                i = (src[s++] & 0xff) << 16 | (src[s++] & 0xff) << 8 | (src[s++] & 0xff);
+                dst[d++] = table[(i >>> 18) & 0x3f];
+                dst[d++] = table[(i >>> 12) & 0x3f];
+                dst[d++] = table[(i >>> 6) & 0x3f];
+                dst[d++] = table[i & 0x3f];
+            }
+        } else if (4 == bits) {
+            int i;
+            while (s < end) {
+                i = src[s++];
+                dst[d++] = table[(i >>> 4) & 0x0f];
+                dst[d++] = table[i & 0x0f];
+            }
+        } else {
+            long group;
+            while (s < end) {
+                group = 0;
+                for (int j = 0; j < groupBytes; j++) {
+                    group = (group << 8) | (src[s++] & 0xff);
+                }
+                for (int j = groupChars - 1; j >= 0; j--) {
+                    dst[d++] = table[(int) (group >>> (j * bits)) & mask];
+                }
+            }
+        }
+    }
+
+    /**
+     * 读取若干字节组成大端序整数
+     */
+    private static long readGroup(ByteBuffer src, int count) {
+        long group = 0;
+        for (int i = 0; i < count; i++) {
+            group = (group << 8) | (src.get() & 0xff);
+        }
+        return group;
+    }
+
+    /**
+     * 输出一组的前count个字符
+     *
+     * @param group 一组的数据，共groupBytes个字节
+     * @param count 输出的字符数
+     * @param out   字符输出
+     */
+    private void encodeGroup(long group, int count, IntConsumer out) {
+        for (int j = groupChars - 1; j >= groupChars - count; j--) {
+            out.accept(alphabet[(int) (group >>> (j * bits)) & mask]);
+        }
+    }
+
+    /**
+     * 编码结尾不完整的组，需要时补=
+     */
+    private void encodeTail(ByteBuffer src, IntConsumer out) {
+        final int rest = src.remaining();
+        final long group = readGroup(src, rest) << ((groupBytes - rest) * 8);
+        final int count = (rest * 8 + bits - 1) / bits;
+        encodeGroup(group, count, out);
+        if (padding) {
+            for (int i = count; i < groupChars; i++) {
+                out.accept('=');
+            }
+        }
+    }
+
+    /**
+     * 解码核心逻辑，源的position只前进到最后一个完整解码的组之后
+     *
+     * @param start      源的开始位置
+     * @param limit      源的结束位置
+     * @param source     按位置读取源中字符
+     * @param position   设置源的position
+     * @param dst        目标
+     * @param endOfInput 是否为最后一段数据
+     */
+    private void decode(int start, int limit, IntUnaryOperator source, IntConsumer position, ByteBuffer dst,
+        boolean endOfInput) {
+        long group = 0;
+        int count = 0;
+        int consumed = start;
+        int pos = start;
+        int c, value;
+        boolean full = false;
+        while (pos < limit) {
+            c = source.applyAsInt(pos++);
+            value = (c < 256) ? decodeTable[c] : -1;
+            if (value < 0) {
+                if (false == lenient) {
+                    throw new UtilException("Illegal character {} at index {}", (char) c, pos - 1);
+                }
+                if (0 == count) {
+                    consumed = pos;
+                }
+                continue;
+            }
+            group = (group << bits) | value;
+            if (++count == groupChars) {
+                if (dst.remaining() < groupBytes) {
+                    // 目标空间不足，本组留待下次处理
+                    full = true;
+                    break;
+                }
+                for (int j = groupBytes - 1; j >= 0; j--) {
+                    dst.put((byte) (group >>> (j * 8)));
+                }
+                group = 0;
+                count = 0;
+                consumed = pos;
+            }
+        }
+
+        if (endOfInput && false == full) {
+            final int bytes = count * bits / 8;
+            if (false == lenient && count * bits % 8 >= bits) {
+                throw new UtilException("Incomplete character group at the end of input");
+            }
+            if (dst.remaining() >= bytes) {
+                // 剩余的位中只有完整的字节有效
+                for (int j = 0; j < bytes; j++) {
+                    dst.put((byte) (group >>> (count * bits - 8 * (j + 1))));
+                }
+                consumed = limit;
+            }
+        }
+        position.accept(consumed);
+    }
+
+    private static int gcd(int a, int b) {
+        return (0 == b) ? a : gcd(b, a % b);
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
@@ -0,0 +1,141 @@
+package io.github.dunwu.tool.codec;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 编码或解码输入流<br> 读取被包装流中的数据，经{@link BaseNCodec}编码（或解码）后返回，使用固定大小的缓冲区，内存占用与数据量无关。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class BaseNInputStream extends FilterInputStream {
+
+    private final BaseNCodec codec;
+
+    private final boolean encode;
+
+    /**
+     * 从被包装流读取、尚未处理的数据，为写模式
+     */
+    private final ByteBuffer input;
+
+    /**
+     * 已处理、尚未返回的数据，为读模式
+     */
+    private final ByteBuffer output;
+
+    private boolean eof;
+
+    /**
+     * 构造
+     *
+     * @param in     被包装的输入流
+     * @param codec  编码解码器
+     * @param encode {@code true}表示编码，{@code false}表示解码
+     */
+    public BaseNInputStream(InputStream in, BaseNCodec codec, boolean encode) {
+        super(in);
+        this.codec = codec;
+        this.encode = encode;
+        this.input = ByteBuffer.allocate(BaseNOutputStream.BUFFER_SIZE);
+        this.output = ByteBuffer.allocate(
+            encode ? (int) codec.encodedLength(BaseNOutputStream.BUFFER_SIZE) : BaseNOutputStream.BUFFER_SIZE);
+        this.output.flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        return (-1 == read(b, 0, 1)) ? -1 : (b[0] & 0xff);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (0 == len) {
+            return 0;
+        }
+        while (false == output.hasRemaining()) {
+            if (false == fill()) {
+                return -1;
+            }
+        }
+        final int n = Math.min(len, output.remaining());
+        output.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        final byte[] buffer = new byte[(int) Math.min(n, BaseNOutputStream.BUFFER_SIZE)];
+        long skipped = 0;
+        int read;
+        while (skipped < n && (read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length))) > 0) {
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return output.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("Mark not supported");
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 读取并处理下一段数据
+     *
+     * @return 是否还有数据，{@code false}表示已全部读完
+     * @throws IOException IO异常
+     */
+    private boolean fill() throws IOException {
+        if (eof && 0 == input.position()) {
+            return false;
+        }
+        if (false == eof) {
+            final int n = in.read(input.array(), input.position(), input.remaining());
+            if (n < 0) {
+                eof = true;
+            } else {
+                input.position(input.position() + n);
+            }
+        }
+
+        input.flip();
+        output.clear();
+        if (encode) {
+            codec.encode(input, output, eof);
+        } else {
+            codec.decode(input, output, eof);
+        }
+        output.flip();
+        if (false == encode && 0 == input.position() && input.capacity() == input.limit()) {
+            // 缓冲区已满却没有完整的组，只剩不完整的组和被忽略的字符，丢弃后者腾出空间
+            codec.discardIgnored(input);
+        }
+        input.compact();
+        return true;
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
@@ -0,0 +1,143 @@
+package io.github.dunwu.tool.codec;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * 编码或解码输出流<br> 写入的数据经{@link BaseNCodec}编码（或解码）后写入被包装的流，使用固定大小的缓冲区，内存占用与数据量无关。
+ * <p>
+ * 结尾不完整的组在{@link #finish()}或{@link #close()}时输出，{@link #flush()}只输出已完整的组。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class BaseNOutputStream extends FilterOutputStream {
+
+    /**
+     * 缓冲区大小，为3、5的公倍数，编码时每次处理的都是完整的组
+     */
+    static final int BUFFER_SIZE = 8190;
+
+    private final BaseNCodec codec;
+
+    private final boolean encode;
+
+    private final ByteBuffer input;
+
+    private final ByteBuffer output;
+
+    private boolean finished;
+
+    /**
+     * 构造
+     *
+     * @param out    被包装的输出流
+     * @param codec  编码解码器
+     * @param encode {@code true}表示编码，{@code false}表示解码
+     */
+    public BaseNOutputStream(OutputStream out, BaseNCodec codec, boolean encode) {
+        super(out);
+        this.codec = codec;
+        this.encode = encode;
+        this.input = ByteBuffer.allocate(BUFFER_SIZE);
+        this.output = ByteBuffer.allocate(encode ? (int) codec.encodedLength(BUFFER_SIZE) : BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        input.put((byte) b);
+        if (false == input.hasRemaining()) {
+            process(false);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        int n;
+        while (len > 0) {
+            n = Math.min(len, input.remaining());
+            input.put(b, off, n);
+            off += n;
+            len -= n;
+            if (false == input.hasRemaining()) {
+                process(false);
+            }
+        }
+    }
+
+    /**
+     * 输出已完整的组并刷新被包装的流
+     *
+     * @throws IOException IO异常
+     */
+    @Override
+    public void flush() throws IOException {
+        if (false == finished) {
+            process(false);
+        }
+        out.flush();
+    }
+
+    /**
+     * 输出全部剩余数据（包括结尾不完整的组），但不关闭被包装的流，之后不能再写入
+     *
+     * @throws IOException IO异常
+     */
+    public void finish() throws IOException {
+        if (false == finished) {
+            process(true);
+            finished = true;
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 处理缓冲区中的数据并写出结果
+     *
+     * @param endOfInput 是否为最后一段数据
+     * @throws IOException IO异常
+     */
+    private void process(boolean endOfInput) throws IOException {
+        input.flip();
+        int before;
+        do {
+            before = input.remaining();
+            if (encode) {
+                codec.encode(input, output, endOfInput);
+            } else {
+                codec.decode(input, output, endOfInput);
+            }
+            out.write(output.array(), 0, output.position());
+            output.clear();
+        } while (input.hasRemaining() && input.remaining() < before);
+        if (false == encode && 0 == input.position() && input.capacity() == input.limit()) {
+            // 缓冲区已满却没有完整的组，只剩不完整的组和被忽略的字符，丢弃后者腾出空间
+            codec.discardIgnored(input);
+        }
+        input.compact();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("Stream finished");
+        }
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
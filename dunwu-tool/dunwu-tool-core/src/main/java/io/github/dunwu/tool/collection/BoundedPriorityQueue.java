@@ -4,9 +4,13 @@ import java.util.*;
 
 /**
  * 有界优先队列<br> 按照给定的排序规则，排序元素，当队列满时，按照给定的排序规则淘汰末尾元素（去除末尾元素）
+ * <p>
+ * 每次读取都会复制并排序，大数据量的排行榜场景使用{@link TopK}、{@link LongTopK}或{@link DoubleTopK}。
+ * </p>
  *
  * @param <E> 成员类型
  * @author xiaoleilu
+ * @see TopK
  */
 public class BoundedPriorityQueue<E> extends PriorityQueue<E> {
 
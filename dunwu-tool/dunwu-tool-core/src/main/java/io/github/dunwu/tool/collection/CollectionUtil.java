@@ -9,6 +9,7 @@ import io.github.dunwu.tool.exceptions.UtilException;
 import io.github.dunwu.tool.lang.Editor;
 import io.github.dunwu.tool.lang.Filter;
 import io.github.dunwu.tool.lang.Matcher;
+import io.github.dunwu.tool.lang.mutable.MutableInt;
 import io.github.dunwu.tool.map.MapUtil;
 import io.github.dunwu.tool.util.*;
 
@@ -18,7 +19,9 @@ import java.util.Map.Entry;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.stream.IntStream;
 
 /**
  * 集合相关工具类
@@ -368,7 +371,8 @@ public class CollectionUtil {
 
     /**
      * 两个集合的差集<br> 针对一个集合中存在多个相同元素的情况，计算两个集合中此元素的个数，保留两个集合中此元素个数差的个数<br> 例如：集合1：[a, b, c, c, c]，集合2：[a, b, c, c]<br>
-     * 结果：[c]，此结果中只保留了一个<br> 任意一个集合为空，返回另一个集合<br> 两个集合无差集则返回空集合
+     * 结果：[c]，此结果中只保留了一个<br> 任意一个集合为空，返回另一个集合<br> 两个集合无差集则返回空集合<br>
+     * 结果中先按集合1中的顺序排列集合1多出的元素，再按集合2中的顺序排列集合2多出的元素
      *
      * @param <T>   集合元素类型
      * @param coll1 集合1
@@ -383,18 +387,28 @@ public class CollectionUtil {
             return coll1;
         }
 
-        final ArrayList<T> result = new ArrayList<>();
-        final Map<T, Integer> map1 = countMap(coll1);
-        final Map<T, Integer> map2 = countMap(coll2);
-        final Set<T> elts = newHashSet(coll2);
-        elts.addAll(coll1);
-        int m;
-        for (T t : elts) {
-            m = Math.abs(Convert.toInt(map1.get(t), 0) - Convert.toInt(map2.get(t), 0));
-            for (int i = 0; i < m; i++) {
+        // 集合2中的元素与集合1中的相同元素一一抵消，剩余的即为差集
+        final Map<T, MutableInt> counts = mutableCountMap(coll1);
+        final ArrayList<T> rest2 = new ArrayList<>();
+        int matched = 0;
+        for (T t : coll2) {
+            final MutableInt count = counts.get(t);
+            if (null != count && count.intValue() > 0) {
+                count.decrement();
+                matched++;
+            } else {
+                rest2.add(t);
+            }
+        }
+        final ArrayList<T> result = new ArrayList<>(coll1.size() - matched + rest2.size());
+        for (T t : coll1) {
+            final MutableInt count = counts.get(t);
+            if (count.intValue() > 0) {
+                count.decrement();
                 result.add(t);
             }
         }
+        result.addAll(rest2);
         return result;
     }
 
@@ -1039,20 +1053,19 @@ public class CollectionUtil {
      * @param <T>   集合元素类型
      * @param coll1 集合1
      * @param coll2 集合2
-     * @return 交集的集合，返回 {@link ArrayList}
+     * @return 交集的集合，返回 {@link ArrayList}，元素按集合2中的顺序排列
      */
     public static <T> Collection<T> intersection(Collection<T> coll1, Collection<T> coll2) {
-        final ArrayList<T> list = new ArrayList<>();
-        if (isNotEmpty(coll1) && isNotEmpty(coll2)) {
-            final Map<T, Integer> map1 = countMap(coll1);
-            final Map<T, Integer> map2 = countMap(coll2);
-            final Set<T> elts = newHashSet(coll2);
-            int m;
-            for (T t : elts) {
-                m = Math.min(Convert.toInt(map1.get(t), 0), Convert.toInt(map2.get(t), 0));
-                for (int i = 0; i < m; i++) {
-                    list.add(t);
-                }
+        if (isEmpty(coll1) || isEmpty(coll2)) {
+            return new ArrayList<>();
+        }
+        final Map<T, MutableInt> counts = mutableCountMap(coll1);
+        final ArrayList<T> list = new ArrayList<>(Math.min(coll1.size(), coll2.size()));
+        for (T t : coll2) {
+            final MutableInt count = counts.get(t);
+            if (null != count && count.intValue() > 0) {
+                count.decrement();
+                list.add(t);
             }
         }
         return list;
@@ -1787,26 +1800,91 @@ public class CollectionUtil {
     }
 
     /**
-     * 将多个集合排序并显示不同的段落（分页）<br> 采用{@link BoundedPriorityQueue}实现分页取局部
+     * 将多个集合排序并显示不同的段落（分页）<br> 采用{@link TopK}只保留排在当前页及之前的pageNo * pageSize个元素，不对全部元素排序，
+     * 时间复杂度为O(n log(pageNo * pageSize))<br> 结果与合并后稳定排序再分页相同，比较结果相等的元素保持在原集合中的先后顺序
      *
      * @param <T>        集合元素类型
      * @param pageNo     页码，从1开始计数，0和1效果相同
      * @param pageSize   每页的条目数
-     * @param comparator 比较器
+     * @param comparator 比较器，{@code null}表示不排序
      * @param colls      集合数组
      * @return 分页后的段落内容
      */
     @SafeVarargs
     public static <T> List<T> sortPageAll(int pageNo, int pageSize, Comparator<T> comparator, Collection<T>... colls) {
-        final List<T> list = new ArrayList<>(pageNo * pageSize);
+        final int limit = PageUtil.transToStartEnd(pageNo, pageSize)[1];
+        if (limit <= 0) {
+            return new ArrayList<>(0);
+        }
+        if (null == comparator) {
+            final List<T> list = new ArrayList<>(limit);
+            for (Collection<T> coll : colls) {
+                for (T t : coll) {
+                    if (list.size() == limit) {
+                        return page(pageNo, pageSize, list);
+                    }
+                    list.add(t);
+                }
+            }
+            return page(pageNo, pageSize, list);
+        }
+
+        final TopK<Ranked<T>> topK = new TopK<>(limit, Ranked.comparator(comparator));
+        long index = 0;
         for (Collection<T> coll : colls) {
-            list.addAll(coll);
+            for (T t : coll) {
+                topK.offer(new Ranked<>(t, index++));
+            }
         }
-        if (null != comparator) {
-            Collections.sort(list, comparator);
+        return page(pageNo, pageSize, Ranked.values(topK.toList()));
+    }
+
+    /**
+     * 将多个集合排序并显示不同的段落（分页），元素总数达到并行阈值时使用{@link ForkJoinPool#commonPool()}分段并行筛选<br>
+     * 结果与{@link #sortPageAll(int, int, Comparator, Collection[])}相同
+     *
+     * @param <T>               集合元素类型
+     * @param parallelThreshold 并行阈值，元素总数小于此值时在当前线程中处理
+     * @param pageNo            页码，从1开始计数，0和1效果相同
+     * @param pageSize          每页的条目数
+     * @param comparator        比较器，{@code null}表示不排序
+     * @param colls             集合数组
+     * @return 分页后的段落内容
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> sortPageAllParallel(int parallelThreshold, int pageNo, int pageSize,
+        Comparator<T> comparator, Collection<T>... colls) {
+        int count = 0;
+        for (Collection<T> coll : colls) {
+            count += coll.size();
+        }
+        final int total = count;
+        final int limit = PageUtil.transToStartEnd(pageNo, pageSize)[1];
+        if (null == comparator || total < parallelThreshold || 0 == total || limit <= 0) {
+            return sortPageAll(pageNo, pageSize, comparator, colls);
         }
 
-        return page(pageNo, pageSize, list);
+        final Object[] elements = new Object[total];
+        int index = 0;
+        for (Collection<T> coll : colls) {
+            for (T t : coll) {
+                elements[index++] = t;
+            }
+        }
+        // 每段至少包含limit个元素，避免分段过多时合并的开销超过筛选
+        final int segmentSize = Math.max(limit, total / (ForkJoinPool.getCommonPoolParallelism() * 4) + 1);
+        final int segments = (total + segmentSize - 1) / segmentSize;
+        final Comparator<Ranked<T>> rankedComparator = Ranked.comparator(comparator);
+        final TopK<Ranked<T>> topK = IntStream.range(0, segments).parallel().mapToObj(segment -> {
+            final TopK<Ranked<T>> segmentTopK = new TopK<>(limit, rankedComparator);
+            final int end = Math.min(total, (segment + 1) * segmentSize);
+            for (int i = segment * segmentSize; i < end; i++) {
+                segmentTopK.offer(new Ranked<>((T) elements[i], i));
+            }
+            return segmentTopK;
+        }).reduce(TopK::merge).get();
+        return page(pageNo, pageSize, Ranked.values(topK.toList()));
     }
 
     /**
@@ -2189,25 +2267,25 @@ public class CollectionUtil {
      * @param <T>   集合元素类型
      * @param coll1 集合1
      * @param coll2 集合2
-     * @return 并集的集合，返回 {@link ArrayList}
+     * @return 并集的集合，返回 {@link ArrayList}，先按顺序排列集合1的全部元素，再按顺序排列集合2多出的元素
      */
     public static <T> Collection<T> union(Collection<T> coll1, Collection<T> coll2) {
-        final ArrayList<T> list = new ArrayList<>();
         if (isEmpty(coll1)) {
-            list.addAll(coll2);
-        } else if (isEmpty(coll2)) {
-            list.addAll(coll1);
-        } else {
-            final Map<T, Integer> map1 = countMap(coll1);
-            final Map<T, Integer> map2 = countMap(coll2);
-            final Set<T> elts = newHashSet(coll2);
-            elts.addAll(coll1);
-            int m;
-            for (T t : elts) {
-                m = Math.max(Convert.toInt(map1.get(t), 0), Convert.toInt(map2.get(t), 0));
-                for (int i = 0; i < m; i++) {
-                    list.add(t);
-                }
+            return isEmpty(coll2) ? new ArrayList<>() : new ArrayList<>(coll2);
+        }
+        if (isEmpty(coll2)) {
+            return new ArrayList<>(coll1);
+        }
+        // 集合2中的元素先与集合1中的相同元素一一抵消，抵消不了的才加入
+        final Map<T, MutableInt> counts = mutableCountMap(coll1);
+        final ArrayList<T> list = new ArrayList<>(coll1.size() + coll2.size());
+        list.addAll(coll1);
+        for (T t : coll2) {
+            final MutableInt count = counts.get(t);
+            if (null != count && count.intValue() > 0) {
+                count.decrement();
+            } else {
+                list.add(t);
             }
         }
         return list;
@@ -2228,6 +2306,26 @@ public class CollectionUtil {
         return IterUtil.countMap(collection);
     }
 
+    /**
+     * 元素计数，与{@link #countMap(Iterable)}相同，但计数使用可变的{@link MutableInt}，累加和扣减时不装箱
+     *
+     * @param <T>        集合元素类型
+     * @param collection 集合
+     * @return 元素计数的{@link HashMap}
+     */
+    private static <T> Map<T, MutableInt> mutableCountMap(Collection<T> collection) {
+        final Map<T, MutableInt> counts = new HashMap<>(Math.max((int) (collection.size() / 0.75f) + 1, 16));
+        for (T t : collection) {
+            final MutableInt count = counts.get(t);
+            if (null == count) {
+                counts.put(t, new MutableInt(1));
+            } else {
+                count.increment();
+            }
+        }
+        return counts;
+    }
+
     /**
      * 新建一个HashSet
      *
@@ -2398,6 +2496,41 @@ public class CollectionUtil {
         return MapUtil.newHashMap(size);
     }
 
+    /**
+     * 带原始位置的元素，用于在{@link TopK}中按比较器排序时保持相等元素的先后顺序
+     *
+     * @param <T> 元素类型
+     */
+    private static final class Ranked<T> {
+
+        private final T value;
+
+        private final long index;
+
+        Ranked(T value, long index) {
+            this.value = value;
+            this.index = index;
+        }
+
+        /**
+         * {@link TopK}保留最大的元素，因此比较器排在前面的元素、位置靠前的元素视为更大
+         */
+        static <T> Comparator<Ranked<T>> comparator(Comparator<T> comparator) {
+            return (r1, r2) -> {
+                final int result = comparator.compare(r2.value, r1.value);
+                return (0 != result) ? result : Long.compare(r2.index, r1.index);
+            };
+        }
+
+        static <T> List<T> values(List<Ranked<T>> rankedList) {
+            final List<T> values = new ArrayList<>(rankedList.size());
+            for (Ranked<T> ranked : rankedList) {
+                values.add(ranked.value);
+            }
+            return values;
+        }
+    }
+
     // ---------------------------------------------------------------------------------------------- Interface start
 
     /**
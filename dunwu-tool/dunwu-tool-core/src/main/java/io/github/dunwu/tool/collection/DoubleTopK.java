@@ -0,0 +1,140 @@
+package io.github.dunwu.tool.collection;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * 按double分数取最大的K个对象<br> 分数按{@link Double#compare(double, double)}的顺序转换为保序的long后由{@link LongTopK}保存，比较时不装箱。
+ * <p>
+ * NaN大于所有数值，-0.0小于0.0。
+ * </p>
+ * 非线程安全，多线程使用时每个线程各自累加，最后通过{@link #merge(DoubleTopK)}合并。
+ *
+ * @param <V> 对象类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @see LongTopK
+ * @since 2026-10-18
+ */
+public class DoubleTopK<V> {
+
+    private final LongTopK<V> topK;
+
+    /**
+     * 构造
+     *
+     * @param capacity 保留的对象个数K
+     */
+    public DoubleTopK(int capacity) {
+        this.topK = new LongTopK<>(capacity);
+    }
+
+    /**
+     * 创建收集分数最大的K个对象的{@link Collector}，可用于并行流
+     *
+     * @param <T>      流中元素类型
+     * @param <V>      对象类型
+     * @param capacity 保留的对象个数K
+     * @param scorer   分数计算函数
+     * @param mapper   对象转换函数
+     * @return {@link Collector}
+     */
+    public static <T, V> Collector<T, ?, DoubleTopK<V>> collector(int capacity, ToDoubleFunction<? super T> scorer,
+        Function<? super T, ? extends V> mapper) {
+        return Collector.of(() -> new DoubleTopK<V>(capacity),
+            (topK, t) -> topK.offer(scorer.applyAsDouble(t), mapper.apply(t)),
+            DoubleTopK::merge, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * 加入对象
+     *
+     * @param score 分数
+     * @param value 对象
+     * @return 是否被保留
+     */
+    public boolean offer(double score, V value) {
+        return topK.offer(toSortable(score), value);
+    }
+
+    /**
+     * 合并另一个结果，合并后本对象保留两者中分数最大的K个对象
+     *
+     * @param other 另一个结果
+     * @return this
+     */
+    public DoubleTopK<V> merge(DoubleTopK<? extends V> other) {
+        topK.merge(other.topK);
+        return this;
+    }
+
+    /**
+     * 保留的分数，按从大到小排列，与{@link #values()}一一对应
+     *
+     * @return 分数数组
+     */
+    public double[] scores() {
+        final long[] sortable = topK.scores();
+        final double[] scores = new double[sortable.length];
+        for (int i = 0; i < sortable.length; i++) {
+            scores[i] = fromSortable(sortable[i]);
+        }
+        return scores;
+    }
+
+    /**
+     * 保留的对象，按分数从大到小排列，与{@link #scores()}一一对应
+     *
+     * @return 不可修改的列表
+     */
+    public List<V> values() {
+        return topK.values();
+    }
+
+    /**
+     * 保留的最小分数，即新对象被保留需要超过的分数；未满K个时返回{@link Double#NEGATIVE_INFINITY}
+     *
+     * @return 最小分数
+     */
+    public double threshold() {
+        return (topK.size() < topK.capacity()) ? Double.NEGATIVE_INFINITY : fromSortable(topK.threshold());
+    }
+
+    /**
+     * 当前保留的对象个数
+     *
+     * @return 对象个数
+     */
+    public int size() {
+        return topK.size();
+    }
+
+    /**
+     * 保留的对象个数上限K
+     *
+     * @return K
+     */
+    public int capacity() {
+        return topK.capacity();
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 转换为与{@link Double#compare(double, double)}同序的long：负数翻转除符号位外的所有位
+     *
+     * @param value double值
+     * @return long值
+     */
+    private static long toSortable(double value) {
+        final long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static double fromSortable(long sortable) {
+        return Double.longBitsToDouble(sortable ^ ((sortable >> 63) & Long.MAX_VALUE));
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
@@ -0,0 +1,226 @@
+package io.github.dunwu.tool.collection;
+
+import io.github.dunwu.tool.lang.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * 按long分数取最大的K个对象<br> 分数与对象分别保存在基本类型数组和对象数组中组成小顶堆，比较时不装箱。
+ * <p>
+ * 新分数不大于堆顶分数时只做一次整数比较即丢弃，适合在大量数据的扫描中维护排行榜。分数相等时先到者保留。
+ * 排序结果在读取时生成并缓存。
+ * </p>
+ * 非线程安全，多线程使用时每个线程各自累加，最后通过{@link #merge(LongTopK)}合并，见{@link #collector(int, ToLongFunction, Function)}
+ * 和{@link ThreadLocalAccumulator}。
+ *
+ * @param <V> 对象类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @see TopK
+ * @since 2026-10-18
+ */
+public class LongTopK<V> {
+
+    private final int capacity;
+
+    private long[] scores;
+
+    private Object[] values;
+
+    private int size;
+
+    /**
+     * 缓存的排序后分数，与sortedValues对应，元素变化时清除
+     */
+    private long[] sortedScores;
+
+    private List<V> sortedValues;
+
+    /**
+     * 构造
+     *
+     * @param capacity 保留的对象个数K
+     */
+    public LongTopK(int capacity) {
+        Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+        this.capacity = capacity;
+        final int initialSize = Math.min(capacity, 16);
+        this.scores = new long[initialSize];
+        this.values = new Object[initialSize];
+    }
+
+    /**
+     * 创建收集分数最大的K个对象的{@link Collector}，可用于并行流
+     *
+     * @param <T>      流中元素类型
+     * @param <V>      对象类型
+     * @param capacity 保留的对象个数K
+     * @param scorer   分数计算函数
+     * @param mapper   对象转换函数
+     * @return {@link Collector}
+     */
+    public static <T, V> Collector<T, ?, LongTopK<V>> collector(int capacity, ToLongFunction<? super T> scorer,
+        Function<? super T, ? extends V> mapper) {
+        return Collector.of(() -> new LongTopK<V>(capacity),
+            (topK, t) -> topK.offer(scorer.applyAsLong(t), mapper.apply(t)),
+            LongTopK::merge, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * 加入对象
+     *
+     * @param score 分数
+     * @param value 对象
+     * @return 是否被保留
+     */
+    public boolean offer(long score, V value) {
+        if (size < capacity) {
+            if (size == scores.length) {
+                final int newLength = (int) Math.min(capacity, (long) size << 1);
+                scores = Arrays.copyOf(scores, newLength);
+                values = Arrays.copyOf(values, newLength);
+            }
+            siftUp(size++, score, value);
+        } else if (score > scores[0]) {
+            siftDown(scores, values, size, score, value);
+        } else {
+            return false;
+        }
+        sortedScores = null;
+        sortedValues = null;
+        return true;
+    }
+
+    /**
+     * 合并另一个结果，合并后本对象保留两者中分数最大的K个对象
+     *
+     * @param other 另一个结果
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public LongTopK<V> merge(LongTopK<? extends V> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.scores[i], (V) other.values[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 保留的分数，按从大到小排列，与{@link #values()}一一对应
+     *
+     * @return 分数数组，为副本
+     */
+    public long[] scores() {
+        sort();
+        return sortedScores.clone();
+    }
+
+    /**
+     * 保留的对象，按分数从大到小排列，与{@link #scores()}一一对应
+     *
+     * @return 不可修改的列表
+     */
+    public List<V> values() {
+        sort();
+        return sortedValues;
+    }
+
+    /**
+     * 保留的最小分数，即新对象被保留需要超过的分数；未满K个时返回{@link Long#MIN_VALUE}
+     *
+     * @return 最小分数
+     */
+    public long threshold() {
+        return (size < capacity) ? Long.MIN_VALUE : scores[0];
+    }
+
+    /**
+     * 当前保留的对象个数
+     *
+     * @return 对象个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 保留的对象个数上限K
+     *
+     * @return K
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 生成排序结果：在堆的副本上反复将堆顶（最小值）交换到末尾，得到从大到小的顺序
+     */
+    @SuppressWarnings("unchecked")
+    private void sort() {
+        if (null != sortedScores) {
+            return;
+        }
+        final long[] heapScores = Arrays.copyOf(scores, size);
+        final Object[] heapValues = Arrays.copyOf(values, size);
+        for (int end = size - 1; end > 0; end--) {
+            final long score = heapScores[end];
+            final Object value = heapValues[end];
+            heapScores[end] = heapScores[0];
+            heapValues[end] = heapValues[0];
+            siftDown(heapScores, heapValues, end, score, value);
+        }
+        sortedScores = heapScores;
+        sortedValues = Collections.unmodifiableList((List<V>) Arrays.asList(heapValues));
+    }
+
+    private void siftUp(int index, long score, Object value) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (score >= scores[parent]) {
+                break;
+            }
+            scores[index] = scores[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        scores[index] = score;
+        values[index] = value;
+    }
+
+    /**
+     * 以新元素替换堆顶并下沉
+     *
+     * @param scores 堆的分数数组
+     * @param values 堆的对象数组
+     * @param size   堆的大小
+     * @param score  分数
+     * @param value  对象
+     */
+    private static void siftDown(long[] scores, Object[] values, int size, long score, Object value) {
+        int index = 0;
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            final int right = child + 1;
+            if (right < size && scores[child] > scores[right]) {
+                child = right;
+            }
+            if (score <= scores[child]) {
+                break;
+            }
+            scores[index] = scores[child];
+            values[index] = values[child];
+            index = child;
+        }
+        scores[index] = score;
+        values[index] = value;
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
@@ -0,0 +1,84 @@
+package io.github.dunwu.tool.collection;
+
+import io.github.dunwu.tool.lang.Assert;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 线程级累加器<br> 每个线程第一次调用{@link #get()}时创建自己的累加对象，之后只访问本线程的对象，累加过程无锁、无竞争；
+ * 所有线程结束累加后调用{@link #merge(BinaryOperator)}合并为一个结果。
+ * <p>
+ * 适用于在自建线程池中并行扫描数据，例如每个线程维护一个{@link LongTopK}，扫描完成后合并出排行榜。
+ * 合并时不会与仍在累加的线程同步，调用方需保证累加已经结束（如等待任务完成）。
+ * </p>
+ *
+ * <pre>
+ * ThreadLocalAccumulator&lt;LongTopK&lt;User&gt;&gt; accumulator = new ThreadLocalAccumulator&lt;&gt;(() -&gt; new LongTopK&lt;&gt;(100));
+ * // 各线程中
+ * accumulator.get().offer(user.getScore(), user);
+ * // 全部完成后
+ * LongTopK&lt;User&gt; top = accumulator.merge(LongTopK::merge);
+ * </pre>
+ *
+ * @param <A> 累加对象类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class ThreadLocalAccumulator<A> {
+
+    private final Supplier<A> supplier;
+
+    /**
+     * 所有线程创建的累加对象
+     */
+    private final Queue<A> accumulators = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<A> local;
+
+    /**
+     * 构造
+     *
+     * @param supplier 累加对象的创建函数
+     */
+    public ThreadLocalAccumulator(Supplier<A> supplier) {
+        Assert.notNull(supplier);
+        this.supplier = supplier;
+        this.local = ThreadLocal.withInitial(() -> {
+            final A accumulator = supplier.get();
+            accumulators.add(accumulator);
+            return accumulator;
+        });
+    }
+
+    /**
+     * 获取当前线程的累加对象
+     *
+     * @return 累加对象
+     */
+    public A get() {
+        return local.get();
+    }
+
+    /**
+     * 合并所有线程的累加对象，没有线程参与累加时返回新创建的空对象
+     *
+     * @param combiner 合并函数，返回合并后的对象
+     * @return 合并结果
+     */
+    public A merge(BinaryOperator<A> combiner) {
+        final Iterator<A> iterator = accumulators.iterator();
+        if (false == iterator.hasNext()) {
+            return supplier.get();
+        }
+        A result = iterator.next();
+        while (iterator.hasNext()) {
+            result = combiner.apply(result, iterator.next());
+        }
+        return result;
+    }
+
+}
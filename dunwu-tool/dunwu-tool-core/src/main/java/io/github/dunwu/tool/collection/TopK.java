@@ -0,0 +1,187 @@
+package io.github.dunwu.tool.collection;
+
+import io.github.dunwu.tool.lang.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * 取最大的K个元素<br> 内部为容量K的小顶堆，堆顶为当前保留的最小元素。
+ * <p>
+ * 新元素只与堆顶比较一次，不大于堆顶时直接丢弃；否则替换堆顶并下沉，不需要先删除再插入。排序结果在读取时生成并缓存，
+ * 元素不变时重复读取不会再次排序。相等的元素先到者保留。
+ * </p>
+ * 非线程安全，多线程使用时每个线程各自累加，最后通过{@link #merge(TopK)}合并，见{@link #collector(int, Comparator)}和{@link ThreadLocalAccumulator}。
+ *
+ * @param <E> 元素类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @see LongTopK
+ * @see DoubleTopK
+ * @since 2026-10-18
+ */
+public class TopK<E> {
+
+    private final int capacity;
+
+    private final Comparator<? super E> comparator;
+
+    private Object[] heap;
+
+    private int size;
+
+    /**
+     * 缓存的排序结果，元素变化时清除
+     */
+    private List<E> sorted;
+
+    /**
+     * 构造，元素需实现{@link Comparable}
+     *
+     * @param capacity 保留的元素个数K
+     */
+    public TopK(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * 构造
+     *
+     * @param capacity   保留的元素个数K
+     * @param comparator 比较器，{@code null}表示按元素的自然顺序
+     */
+    @SuppressWarnings("unchecked")
+    public TopK(int capacity, Comparator<? super E> comparator) {
+        Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+        this.capacity = capacity;
+        this.comparator = (null == comparator) ? (Comparator<? super E>) Comparator.naturalOrder() : comparator;
+        this.heap = new Object[Math.min(capacity, 16)];
+    }
+
+    /**
+     * 创建收集最大K个元素的{@link Collector}，可用于并行流，结果按从大到小排列
+     *
+     * @param <E>        元素类型
+     * @param capacity   保留的元素个数K
+     * @param comparator 比较器，{@code null}表示按元素的自然顺序
+     * @return {@link Collector}
+     */
+    public static <E> Collector<E, ?, List<E>> collector(int capacity, Comparator<? super E> comparator) {
+        return Collector.of(() -> new TopK<E>(capacity, comparator), TopK::offer, TopK::merge, TopK::toList);
+    }
+
+    /**
+     * 加入元素
+     *
+     * @param e 元素
+     * @return 是否被保留
+     */
+    @SuppressWarnings("unchecked")
+    public boolean offer(E e) {
+        if (size < capacity) {
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, (int) Math.min(capacity, (long) size << 1));
+            }
+            siftUp(size++, e);
+        } else if (comparator.compare(e, (E) heap[0]) > 0) {
+            siftDown(e);
+        } else {
+            return false;
+        }
+        sorted = null;
+        return true;
+    }
+
+    /**
+     * 合并另一个结果，合并后本对象保留两者中最大的K个元素
+     *
+     * @param other 另一个结果
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public TopK<E> merge(TopK<? extends E> other) {
+        for (int i = 0; i < other.size; i++) {
+            offer((E) other.heap[i]);
+        }
+        return this;
+    }
+
+    /**
+     * 保留的元素，按从大到小排列
+     *
+     * @return 不可修改的列表
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toList() {
+        if (null == sorted) {
+            final Object[] array = Arrays.copyOf(heap, size);
+            Arrays.sort(array, (o1, o2) -> comparator.compare((E) o2, (E) o1));
+            sorted = Collections.unmodifiableList((List<E>) Arrays.asList(array));
+        }
+        return sorted;
+    }
+
+    /**
+     * 当前保留的元素个数
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 保留的元素个数上限K
+     *
+     * @return K
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, E e) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            final E p = (E) heap[parent];
+            if (comparator.compare(e, p) >= 0) {
+                break;
+            }
+            heap[index] = p;
+            index = parent;
+        }
+        heap[index] = e;
+    }
+
+    /**
+     * 以新元素替换堆顶并下沉
+     *
+     * @param e 新元素
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(E e) {
+        int index = 0;
+        final int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            E c = (E) heap[child];
+            final int right = child + 1;
+            if (right < size && comparator.compare(c, (E) heap[right]) > 0) {
+                child = right;
+                c = (E) heap[child];
+            }
+            if (comparator.compare(e, c) <= 0) {
+                break;
+            }
+            heap[index] = c;
+            index = child;
+        }
+        heap[index] = e;
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
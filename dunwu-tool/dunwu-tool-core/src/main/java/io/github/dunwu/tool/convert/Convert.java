@@ -375,6 +375,19 @@ public class Convert {
         return convertQuietly(Boolean.class, value, defaultValue);
     }
 
+    /**
+     * 转换为boolean<br> 如果给定的值为空，或者转换失败，返回默认值<br> 转换失败不会报错<br>
+     * 常见的字符串、数字源值不经过装箱，适合在循环中大量调用
+     *
+     * @param value        被转换的值
+     * @param defaultValue 转换错误时的默认值
+     * @return 结果
+     * @see ConverterRegistry#convertToBoolean(Object, boolean)
+     */
+    public static boolean toBool(Object value, boolean defaultValue) {
+        return ConverterRegistry.getInstance().convertToBoolean(value, defaultValue);
+    }
+
     /**
      * 转换为Boolean数组<br>
      *
@@ -532,6 +545,19 @@ public class Convert {
         return convertQuietly(Double.class, value, defaultValue);
     }
 
+    /**
+     * 转换为double<br> 如果给定的值为空，或者转换失败，返回默认值<br> 转换失败不会报错<br>
+     * 常见的字符串、数字源值不经过装箱，适合在循环中大量调用
+     *
+     * @param value        被转换的值
+     * @param defaultValue 转换错误时的默认值
+     * @return 结果
+     * @see ConverterRegistry#convertToDouble(Object, double)
+     */
+    public static double toDouble(Object value, double defaultValue) {
+        return ConverterRegistry.getInstance().convertToDouble(value, defaultValue);
+    }
+
     /**
      * 转换为Double数组<br>
      *
@@ -588,6 +614,19 @@ public class Convert {
         return convertQuietly(Float.class, value, defaultValue);
     }
 
+    /**
+     * 转换为float<br> 如果给定的值为空，或者转换失败，返回默认值<br> 转换失败不会报错<br>
+     * 常见的字符串、数字源值不经过装箱，适合在循环中大量调用
+     *
+     * @param value        被转换的值
+     * @param defaultValue 转换错误时的默认值
+     * @return 结果
+     * @see ConverterRegistry#convertToFloat(Object, float)
+     */
+    public static float toFloat(Object value, float defaultValue) {
+        return ConverterRegistry.getInstance().convertToFloat(value, defaultValue);
+    }
+
     /**
      * 转换为Float数组<br>
      *
@@ -654,6 +693,19 @@ public class Convert {
         return convertQuietly(Integer.class, value, defaultValue);
     }
 
+    /**
+     * 转换为int<br> 如果给定的值为空，或者转换失败，返回默认值<br> 转换失败不会报错<br>
+     * 常见的字符串、数字源值不经过装箱，适合在循环中大量调用
+     *
+     * @param value        被转换的值
+     * @param defaultValue 转换错误时的默认值
+     * @return 结果
+     * @see ConverterRegistry#convertToInt(Object, int)
+     */
+    public static int toInt(Object value, int defaultValue) {
+        return ConverterRegistry.getInstance().convertToInt(value, defaultValue);
+    }
+
     /**
      * 转换为Integer数组<br>
      *
@@ -739,6 +791,19 @@ public class Convert {
         return convertQuietly(Long.class, value, defaultValue);
     }
 
+    /**
+     * 转换为long<br> 如果给定的值为空，或者转换失败，返回默认值<br> 转换失败不会报错<br>
+     * 常见的字符串、数字源值不经过装箱，适合在循环中大量调用
+     *
+     * @param value        被转换的值
+     * @param defaultValue 转换错误时的默认值
+     * @return 结果
+     * @see ConverterRegistry#convertToLong(Object, long)
+     */
+    public static long toLong(Object value, long defaultValue) {
+        return ConverterRegistry.getInstance().convertToLong(value, defaultValue);
+    }
+
     /**
      * byte[] 转换为 Long
      *
@@ -4,8 +4,11 @@ import io.github.dunwu.tool.bean.BeanUtil;
 import io.github.dunwu.tool.convert.impl.*;
 import io.github.dunwu.tool.date.DateTime;
 import io.github.dunwu.tool.lang.TypeReference;
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.util.CharUtil;
 import io.github.dunwu.tool.util.ObjectUtil;
 import io.github.dunwu.tool.util.ReflectUtil;
+import io.github.dunwu.tool.util.StringUtil;
 import io.github.dunwu.tool.util.TypeUtil;
 
 import java.io.Serializable;
@@ -42,6 +45,36 @@ public class ConverterRegistry implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * 原始类型快速转换中，字符串无法直接解析的标记
+     */
+    private static final long NOT_PARSED = Long.MIN_VALUE;
+
+    /**
+     * 原始类型快速转换中，字符串为空白的标记
+     */
+    private static final long BLANK = Long.MAX_VALUE;
+
+    /**
+     * 原始类型快速转换可直接处理的源类型，不在表中的类型走通用转换流程
+     */
+    private static final Map<Class<?>, SourceKind> SOURCE_KINDS = new IdentityHashMap<>();
+
+    static {
+        SOURCE_KINDS.put(String.class, SourceKind.STRING);
+        SOURCE_KINDS.put(Boolean.class, SourceKind.BOOLEAN);
+        SOURCE_KINDS.put(Integer.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(Long.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(Short.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(Byte.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(Double.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(Float.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(BigDecimal.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(BigInteger.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(AtomicInteger.class, SourceKind.NUMBER);
+        SOURCE_KINDS.put(AtomicLong.class, SourceKind.NUMBER);
+    }
+
     /**
      * 默认类型转换器
      */
@@ -260,6 +293,186 @@ public class ConverterRegistry implements Serializable {
         throw new ConvertException("No Converter for type [{}]", rowType.getName());
     }
 
+    /**
+     * 获得指定类型的转换器句柄，适合在循环中重复转换同一类型时先获取一次再反复调用<br>
+     * 有标准转换器（自定义优先）时直接返回，否则返回按{@link #convert(Type, Object, Object)}规则转换的转换器<br>
+     * 句柄在获取时确定转换器，之后登记的自定义转换器对已获取的句柄无效
+     *
+     * @param <T>  转换的目标类型
+     * @param type 目标类型
+     * @return 转换器
+     */
+    public <T> Converter<T> lookup(Type type) {
+        Assert.isFalse(TypeUtil.isUnknow(type), "Type must be known");
+        final Type targetType = (type instanceof TypeReference) ? ((TypeReference<?>) type).getType() : type;
+        final Converter<T> converter = getConverter(targetType, true);
+        if (null != converter) {
+            return converter;
+        }
+        return (value, defaultValue) -> convert(targetType, value, defaultValue);
+    }
+
+    /**
+     * 转换为int，规则与{@code convert(Integer.class, value, defaultValue)}一致，转换失败返回默认值<br>
+     * 常见的字符串、数字、Boolean源值直接计算，不装箱、不创建对象
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的值
+     */
+    public int convertToInt(Object value, int defaultValue) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (false == hasCustomConverter(Integer.class)) {
+            switch (sourceKind(value)) {
+                case NUMBER:
+                    return ((Number) value).intValue();
+                case BOOLEAN:
+                    return (Boolean) value ? 1 : 0;
+                case STRING:
+                    final long parsed = parseDecimal((String) value);
+                    if (BLANK == parsed) {
+                        return defaultValue;
+                    }
+                    if (NOT_PARSED != parsed) {
+                        // 超出int范围时Integer.parseInt失败，结果为默认值
+                        return (parsed < Integer.MIN_VALUE || parsed > Integer.MAX_VALUE) ? defaultValue : (int) parsed;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        final Integer result = convertQuietly(Integer.class, value);
+        return (null == result) ? defaultValue : result;
+    }
+
+    /**
+     * 转换为long，规则与{@code convert(Long.class, value, defaultValue)}一致，转换失败返回默认值<br>
+     * 常见的字符串、数字、Boolean源值直接计算，不装箱、不创建对象
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的值
+     */
+    public long convertToLong(Object value, long defaultValue) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (false == hasCustomConverter(Long.class)) {
+            switch (sourceKind(value)) {
+                case NUMBER:
+                    return ((Number) value).longValue();
+                case BOOLEAN:
+                    return (Boolean) value ? 1L : 0L;
+                case STRING:
+                    final long parsed = parseDecimal((String) value);
+                    if (BLANK == parsed) {
+                        return defaultValue;
+                    }
+                    if (NOT_PARSED != parsed) {
+                        return parsed;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        final Long result = convertQuietly(Long.class, value);
+        return (null == result) ? defaultValue : result;
+    }
+
+    /**
+     * 转换为double，规则与{@code convert(Double.class, value, defaultValue)}一致，转换失败返回默认值<br>
+     * 常见的字符串、数字、Boolean源值直接计算，不装箱
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的值
+     */
+    public double convertToDouble(Object value, double defaultValue) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (false == hasCustomConverter(Double.class)) {
+            switch (sourceKind(value)) {
+                case NUMBER:
+                    return ((Number) value).doubleValue();
+                case BOOLEAN:
+                    return (Boolean) value ? 1D : 0D;
+                case STRING:
+                    final String valueStr = StringUtil.trim((String) value);
+                    if (valueStr.isEmpty()) {
+                        return defaultValue;
+                    }
+                    try {
+                        return Double.parseDouble(valueStr);
+                    } catch (NumberFormatException e) {
+                        return defaultValue;
+                    }
+                default:
+                    break;
+            }
+        }
+        final Double result = convertQuietly(Double.class, value);
+        return (null == result) ? defaultValue : result;
+    }
+
+    /**
+     * 转换为float，规则与{@code convert(Float.class, value, defaultValue)}一致，转换失败返回默认值<br>
+     * 常见的字符串、数字、Boolean源值直接计算，不装箱
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的值
+     */
+    public float convertToFloat(Object value, float defaultValue) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (false == hasCustomConverter(Float.class)) {
+            switch (sourceKind(value)) {
+                case NUMBER:
+                    return ((Number) value).floatValue();
+                case BOOLEAN:
+                    return (Boolean) value ? 1F : 0F;
+                case STRING:
+                    final String valueStr = StringUtil.trim((String) value);
+                    if (valueStr.isEmpty()) {
+                        return defaultValue;
+                    }
+                    try {
+                        return Float.parseFloat(valueStr);
+                    } catch (NumberFormatException e) {
+                        return defaultValue;
+                    }
+                default:
+                    break;
+            }
+        }
+        final Float result = convertQuietly(Float.class, value);
+        return (null == result) ? defaultValue : result;
+    }
+
+    /**
+     * 转换为boolean，规则与{@code convert(Boolean.class, value, defaultValue)}一致，转换失败返回默认值
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的值
+     */
+    public boolean convertToBoolean(Object value, boolean defaultValue) {
+        if (null == value) {
+            return defaultValue;
+        }
+        if (false == hasCustomConverter(Boolean.class) && value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        final Boolean result = convertQuietly(Boolean.class, value);
+        return (null == result) ? defaultValue : result;
+    }
+
     /**
      * 获得转换器<br>
      *
@@ -310,6 +523,100 @@ public class ConverterRegistry implements Serializable {
 
     // ----------------------------------------------------------- Private method start
 
+    /**
+     * 是否登记了指定类型的自定义转换器，登记后原始类型快速转换让位于自定义转换器
+     *
+     * @param type 类型
+     * @return 是否登记
+     */
+    private boolean hasCustomConverter(Class<?> type) {
+        final Map<Type, Converter<?>> customConverterMap = this.customConverterMap;
+        return null != customConverterMap && customConverterMap.containsKey(type);
+    }
+
+    /**
+     * 不抛异常地按通用流程转换，失败返回{@code null}
+     *
+     * @param <T>   目标类型
+     * @param type  目标类型
+     * @param value 被转换的值
+     * @return 转换后的值
+     */
+    private <T> T convertQuietly(Class<T> type, Object value) {
+        try {
+            return convert(type, value, null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 源值的类型分类
+     *
+     * @param value 源值
+     * @return 分类
+     */
+    private static SourceKind sourceKind(Object value) {
+        final SourceKind kind = SOURCE_KINDS.get(value.getClass());
+        return (null == kind) ? SourceKind.OTHER : kind;
+    }
+
+    /**
+     * 解析十进制整数字符串，规则与{@link io.github.dunwu.tool.util.NumberUtil#parseLong(String)}一致：<br>
+     * 去除首尾空白，可带正负号，小数点及之后的部分被舍弃<br>
+     * 十六进制、类型后缀、超过18位等不常见的情况返回{@link #NOT_PARSED}，交给通用流程
+     *
+     * @param str 字符串
+     * @return 解析结果，空白返回{@link #BLANK}，无法直接解析返回{@link #NOT_PARSED}
+     */
+    private static long parseDecimal(String str) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && CharUtil.isBlankChar(str.charAt(start))) {
+            start++;
+        }
+        while (start < end && CharUtil.isBlankChar(str.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return BLANK;
+        }
+
+        boolean negative = false;
+        char c = str.charAt(start);
+        if ('-' == c || '+' == c) {
+            negative = ('-' == c);
+            start++;
+        }
+        long result = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            c = str.charAt(i);
+            if (CharUtil.DOT == c) {
+                break;
+            }
+            // 18位以内不会溢出
+            if (c < '0' || c > '9' || ++digits > 18) {
+                return NOT_PARSED;
+            }
+            result = result * 10 + (c - '0');
+        }
+        if (0 == digits) {
+            return NOT_PARSED;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * 原始类型快速转换的源值分类
+     */
+    private enum SourceKind {
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        OTHER
+    }
+
     /**
      * 特殊类型转换<br> 包括：
      *
@@ -0,0 +1,469 @@
+package io.github.dunwu.tool.date;
+
+import java.util.TimeZone;
+
+/**
+ * {@link DateUtil#parse(CharSequence)}使用的日期快速识别器
+ * <p>
+ * 逐字符扫描一遍日期字符串，识别{@link DateUtil#parse(CharSequence)}支持的常用格式并直接计算出毫秒数，不创建中间字符串，不使用正则：
+ * <ol>
+ * <li>纯数字：yyyyMMddHHmmss、yyyyMMddHHmmssSSS、yyyyMMdd、HHmmss</li>
+ * <li>HH:mm:ss（日期为今天）</li>
+ * <li>yyyy-MM-dd、yyyy-MM-dd HH:mm、yyyy-MM-dd HH:mm:ss、yyyy-MM-dd HH:mm:ss.SSS，日期分隔符也可以是"/"或"."</li>
+ * <li>yyyy-MM-dd'T'HH:mm:ss'Z'、yyyy-MM-dd'T'HH:mm:ss.SSS'Z'及带+0800、+08:00时区偏移的形式</li>
+ * <li>EEE MMM dd HH:mm:ss zzz yyyy（JDK的Date.toString格式），时区为+0800或GMT+08:00形式</li>
+ * </ol>
+ * 识别规则比原解析器严格：字段越界、1900年以前、夏令时切换前后、命名时区（如CST）等情况一律返回{@code null}，
+ * 由调用方回退到原有的解析流程，保证结果与原流程完全一致。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class DateSniffer {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * 本地时间附近存在时区偏移变化（夏令时切换）时不做快速计算的窗口
+     */
+    private static final long TRANSITION_WINDOW = 12 * 3_600_000L;
+
+    /**
+     * 0000-01-01到1970-01-01的天数
+     */
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    /**
+     * 快速计算支持的最小年份，更早的日期涉及儒略历和地方平时，交给原有流程
+     */
+    private static final int MIN_YEAR = 1900;
+
+    private static final String[] WEEKS = { "sun", "mon", "tue", "wed", "thu", "fri", "sat" };
+
+    private static final String[] MONTHS =
+        { "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec" };
+
+    private DateSniffer() {
+    }
+
+    /**
+     * 识别并解析日期字符串
+     *
+     * @param text 日期字符串
+     * @return 日期，无法快速识别时返回{@code null}
+     */
+    static DateTime parse(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        final char first = text.charAt(start);
+        if (isDigit(first)) {
+            return parseNumeric(text, start, end);
+        }
+        if (isLetter(first)) {
+            return parseJdk(text, start, end);
+        }
+        return null;
+    }
+
+    //--------------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 解析以数字开头的格式
+     */
+    private static DateTime parseNumeric(CharSequence text, int start, int end) {
+        final int length = end - start;
+        if (allDigits(text, start, end)) {
+            return parsePureDigits(text, start, length);
+        }
+
+        if (length == 8) {
+            // HH:mm:ss，日期为今天
+            if (text.charAt(start + 2) != ':' || text.charAt(start + 5) != ':') {
+                return null;
+            }
+            final int hour = digits(text, start, 2);
+            final int minute = digits(text, start + 3, 2);
+            final int second = digits(text, start + 6, 2);
+            if (hour < 0 || minute < 0 || second < 0) {
+                return null;
+            }
+            final TimeZone zone = DatePattern.NORM_DATETIME_FORMAT.getTimeZone();
+            final long now = System.currentTimeMillis();
+            final TimeZone defaultZone = TimeZone.getDefault();
+            final long today = Math.floorDiv(now + defaultZone.getOffset(now), MILLIS_PER_DAY);
+            return ofLocal(zone, today, hour, minute, second, 0);
+        }
+
+        if (length < 10) {
+            return null;
+        }
+        // yyyy-MM-dd
+        final int year = digits(text, start, 4);
+        final int month = digits(text, start + 5, 2);
+        final int day = digits(text, start + 8, 2);
+        final char sep1 = text.charAt(start + 4);
+        final char sep2 = text.charAt(start + 7);
+        if (year < 0 || month < 0 || day < 0 || false == isDateSeparator(sep1) || false == isDateSeparator(sep2)) {
+            return null;
+        }
+        final long epochDay = epochDay(year, month, day);
+        if (epochDay == Long.MIN_VALUE) {
+            return null;
+        }
+        if (length == 10) {
+            return ofLocal(DatePattern.NORM_DATE_FORMAT.getTimeZone(), epochDay, 0, 0, 0, 0);
+        }
+
+        final char timeSep = text.charAt(start + 10);
+        if (length < 16 || text.charAt(start + 13) != ':') {
+            return null;
+        }
+        final int hour = digits(text, start + 11, 2);
+        final int minute = digits(text, start + 14, 2);
+        if (hour < 0 || minute < 0) {
+            return null;
+        }
+        if (timeSep == ' ') {
+            return parseNormTime(text, start, length, epochDay, hour, minute);
+        }
+        if (timeSep == 'T' && sep1 == '-' && sep2 == '-') {
+            return parseUtcTime(text, start, length, epochDay, hour, minute);
+        }
+        return null;
+    }
+
+    /**
+     * 纯数字格式
+     */
+    private static DateTime parsePureDigits(CharSequence text, int start, int length) {
+        final TimeZone zone;
+        final long epochDay;
+        int pos = start;
+        if (length == 6) {
+            // HHmmss，日期为1970-01-01
+            zone = DatePattern.PURE_TIME_FORMAT.getTimeZone();
+            epochDay = 0;
+        } else if (length == 8 || length == 14 || length == 17) {
+            epochDay = epochDay(digits(text, start, 4), digits(text, start + 4, 2), digits(text, start + 6, 2));
+            if (epochDay == Long.MIN_VALUE) {
+                return null;
+            }
+            if (length == 8) {
+                return ofLocal(DatePattern.PURE_DATE_FORMAT.getTimeZone(), epochDay, 0, 0, 0, 0);
+            }
+            zone = (length == 14 ? DatePattern.PURE_DATETIME_FORMAT : DatePattern.PURE_DATETIME_MS_FORMAT)
+                .getTimeZone();
+            pos += 8;
+        } else {
+            return null;
+        }
+        final int hour = digits(text, pos, 2);
+        final int minute = digits(text, pos + 2, 2);
+        final int second = digits(text, pos + 4, 2);
+        final int millis = length == 17 ? digits(text, pos + 6, 3) : 0;
+        if (hour < 0 || minute < 0 || second < 0) {
+            return null;
+        }
+        return ofLocal(zone, epochDay, hour, minute, second, millis);
+    }
+
+    /**
+     * 日期之后为空格：HH:mm、HH:mm:ss、HH:mm:ss.SSS
+     */
+    private static DateTime parseNormTime(CharSequence text, int start, int length, long epochDay, int hour,
+        int minute) {
+        if (length == 16) {
+            return ofLocal(DatePattern.NORM_DATETIME_MINUTE_FORMAT.getTimeZone(), epochDay, hour, minute, 0, 0);
+        }
+        if (length < 19 || text.charAt(start + 16) != ':') {
+            return null;
+        }
+        final int second = digits(text, start + 17, 2);
+        if (second < 0) {
+            return null;
+        }
+        if (length == 19) {
+            return ofLocal(DatePattern.NORM_DATETIME_FORMAT.getTimeZone(), epochDay, hour, minute, second, 0);
+        }
+        if (length == 23 && text.charAt(start + 19) == '.') {
+            final int millis = digits(text, start + 20, 3);
+            if (millis < 0) {
+                return null;
+            }
+            return ofLocal(DatePattern.NORM_DATETIME_MS_FORMAT.getTimeZone(), epochDay, hour, minute, second,
+                millis);
+        }
+        return null;
+    }
+
+    /**
+     * 日期之后为'T'：HH:mm:ss[.SSS]，之后为Z或时区偏移
+     */
+    private static DateTime parseUtcTime(CharSequence text, int start, int length, long epochDay, int hour,
+        int minute) {
+        if (length < 20 || text.charAt(start + 16) != ':') {
+            return null;
+        }
+        final int second = digits(text, start + 17, 2);
+        if (second < 0) {
+            return null;
+        }
+        int pos = start + 19;
+        final int end = start + length;
+        int millis = 0;
+        boolean withMillis = false;
+        if (text.charAt(pos) == '.') {
+            millis = pos + 4 < end ? digits(text, pos + 1, 3) : -1;
+            if (millis < 0) {
+                return null;
+            }
+            withMillis = true;
+            pos += 4;
+        }
+        final TimeZone utc;
+        final int offset;
+        if (text.charAt(pos) == 'Z' && pos + 1 == end) {
+            utc = (withMillis ? DatePattern.UTC_MS_FORMAT : DatePattern.UTC_FORMAT).getTimeZone();
+            offset = 0;
+        } else {
+            utc = (withMillis ? DatePattern.UTC_MS_WITH_ZONE_OFFSET_FORMAT : DatePattern.UTC_WITH_ZONE_OFFSET_FORMAT)
+                .getTimeZone();
+            offset = zoneOffset(text, pos, end);
+            if (offset == Integer.MIN_VALUE) {
+                return null;
+            }
+        }
+        final long local = localMillis(epochDay, hour, minute, second, millis);
+        if (local == Long.MIN_VALUE) {
+            return null;
+        }
+        return new DateTime(local - offset, utc);
+    }
+
+    /**
+     * JDK的Date.toString格式：EEE MMM dd HH:mm:ss zzz yyyy，例如Tue Jun 4 16:25:15 +0800 2019
+     */
+    private static DateTime parseJdk(CharSequence text, int start, int end) {
+        // EEE
+        final int week = indexOfName(WEEKS, text, start, end);
+        int pos = start + 3;
+        if (week < 0 || pos >= end || text.charAt(pos) != ' ') {
+            return null;
+        }
+        // MMM
+        final int month = indexOfName(MONTHS, text, pos + 1, end) + 1;
+        pos += 4;
+        if (month <= 0 || pos >= end || text.charAt(pos) != ' ') {
+            return null;
+        }
+        // dd，可能只有一位
+        pos++;
+        int dayEnd = pos;
+        while (dayEnd < end && dayEnd - pos < 3 && isDigit(text.charAt(dayEnd))) {
+            dayEnd++;
+        }
+        if (dayEnd == pos || dayEnd - pos > 2 || dayEnd >= end || text.charAt(dayEnd) != ' ') {
+            return null;
+        }
+        final int day = digits(text, pos, dayEnd - pos);
+        // HH:mm:ss
+        pos = dayEnd + 1;
+        if (pos + 9 > end || text.charAt(pos + 2) != ':' || text.charAt(pos + 5) != ':'
+            || text.charAt(pos + 8) != ' ') {
+            return null;
+        }
+        final int hour = digits(text, pos, 2);
+        final int minute = digits(text, pos + 3, 2);
+        final int second = digits(text, pos + 6, 2);
+        // zzz
+        pos += 9;
+        int zoneEnd = pos;
+        while (zoneEnd < end && text.charAt(zoneEnd) != ' ') {
+            zoneEnd++;
+        }
+        int zoneStart = pos;
+        if (zoneEnd - zoneStart > 3 && regionMatchesIgnoreCase(text, zoneStart, "GMT")) {
+            zoneStart += 3;
+        }
+        final int offset = zoneOffset(text, zoneStart, zoneEnd);
+        // yyyy
+        if (offset == Integer.MIN_VALUE || zoneEnd + 5 != end) {
+            return null;
+        }
+        final int year = digits(text, zoneEnd + 1, 4);
+        if (hour < 0 || minute < 0 || second < 0 || year < 0) {
+            return null;
+        }
+        final long epochDay = epochDay(year, month, day);
+        if (epochDay == Long.MIN_VALUE || Math.floorMod(epochDay + 4, 7L) != week) {
+            // 星期与日期不符时交给原流程处理
+            return null;
+        }
+        final long local = localMillis(epochDay, hour, minute, second, 0);
+        if (local == Long.MIN_VALUE) {
+            return null;
+        }
+        return new DateTime(local - offset, DatePattern.JDK_DATETIME_FORMAT.getTimeZone());
+    }
+
+    /**
+     * 按本地时间计算时刻，本地时间附近有时区偏移变化时返回{@code null}
+     */
+    private static DateTime ofLocal(TimeZone zone, long epochDay, int hour, int minute, int second, int millis) {
+        final long local = localMillis(epochDay, hour, minute, second, millis);
+        if (local == Long.MIN_VALUE) {
+            return null;
+        }
+        final int offset = zone.getOffset(local - zone.getRawOffset());
+        final long time = local - offset;
+        if (zone.getOffset(time) != offset || zone.getOffset(time - TRANSITION_WINDOW) != offset
+            || zone.getOffset(time + TRANSITION_WINDOW) != offset) {
+            return null;
+        }
+        return new DateTime(time, zone);
+    }
+
+    /**
+     * 计算本地时间的毫秒数，时分秒越界时返回{@link Long#MIN_VALUE}
+     */
+    private static long localMillis(long epochDay, int hour, int minute, int second, int millis) {
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || millis < 0) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay * MILLIS_PER_DAY + hour * 3_600_000L + minute * 60_000L + second * 1000L + millis;
+    }
+
+    /**
+     * 计算距1970-01-01的天数，字段越界时返回{@link Long#MIN_VALUE}
+     */
+    private static long epochDay(int year, int month, int day) {
+        if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return Long.MIN_VALUE;
+        }
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (false == isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * 解析时区偏移：+0800、+08:00，返回毫秒数，格式不符时返回{@link Integer#MIN_VALUE}
+     */
+    private static int zoneOffset(CharSequence text, int pos, int end) {
+        final int length = end - pos;
+        if (length != 5 && length != 6) {
+            return Integer.MIN_VALUE;
+        }
+        final char sign = text.charAt(pos);
+        if (sign != '+' && sign != '-') {
+            return Integer.MIN_VALUE;
+        }
+        final int hours = digits(text, pos + 1, 2);
+        final int minutes;
+        if (length == 6) {
+            minutes = text.charAt(pos + 3) == ':' ? digits(text, pos + 4, 2) : -1;
+        } else {
+            minutes = digits(text, pos + 3, 2);
+        }
+        if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+            return Integer.MIN_VALUE;
+        }
+        final int offset = (hours * 60 + minutes) * 60_000;
+        return sign == '-' ? -offset : offset;
+    }
+
+    /**
+     * 读取指定位数的数字，包含非数字字符时返回-1
+     */
+    private static int digits(CharSequence text, int pos, int count) {
+        int value = 0;
+        for (int i = pos; i < pos + count; i++) {
+            final char c = text.charAt(i);
+            if (false == isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 查找与三个字母的英文缩写匹配的下标，忽略大小写
+     */
+    private static int indexOfName(String[] names, CharSequence text, int pos, int end) {
+        if (pos + 3 > end) {
+            return -1;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (regionMatchesIgnoreCase(text, pos, names[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionMatchesIgnoreCase(CharSequence text, int pos, String lowerCase) {
+        for (int i = 0; i < lowerCase.length(); i++) {
+            if (Character.toLowerCase(text.charAt(pos + i)) != lowerCase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean allDigits(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (false == isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDateSeparator(char c) {
+        return c == '-' || c == '/' || c == '.';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+}
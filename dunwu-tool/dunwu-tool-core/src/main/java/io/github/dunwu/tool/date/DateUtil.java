@@ -77,6 +77,11 @@ public class DateUtil {
         if (StringUtil.isBlank(dateCharSequence)) {
             return null;
         }
+        // 常用格式单次扫描直接计算，无法识别的交给下面的流程
+        final DateTime sniffed = DateSniffer.parse(dateCharSequence);
+        if (null != sniffed) {
+            return sniffed;
+        }
         String dateStr = dateCharSequence.toString();
         // 去掉两边空格并去掉中文日期中的“日”和“秒”，以规范长度
         dateStr = StringUtil.removeAll(dateStr.trim(), '日', '秒');
@@ -1442,14 +1447,14 @@ public class DateUtil {
         final StringBuilder builder = StringUtil.getStringBuilder();
 
         // 日期部分（"\"、"/"、"."、"年"、"月"都替换为"-"）
-        String datePart = dateAndTime.get(0).replaceAll("[/.年月]", "-");
+        String datePart = RegexUtil.replaceAll(dateAndTime.get(0), "[/.年月]", "-");
         datePart = StringUtil.removeSuffix(datePart, "日");
         builder.append(datePart);
 
         // 时间部分
         if (size == 2) {
             builder.append(' ');
-            String timePart = dateAndTime.get(1).replaceAll("[时分秒]", ":");
+            String timePart = RegexUtil.replaceAll(dateAndTime.get(1), "[时分秒]", ":");
             timePart = StringUtil.removeSuffix(timePart, ":");
             builder.append(timePart);
         }
@@ -16,7 +16,9 @@ import java.nio.file.WatchEvent;
  *
  * @author looly
  * @since 4.5.2
+ * @deprecated {@link Tailer}已改为在共享的{@link TailerEngine}中轮询读取，不再使用此类，请使用{@link Tailer}
  */
+@Deprecated
 public class LineReadWatcher extends SimpleWatcher implements Runnable {
 
     private RandomAccessFile randomAccessFile;
@@ -0,0 +1,428 @@
+package io.github.dunwu.tool.io.file;
+
+import io.github.dunwu.tool.io.IoUtil;
+import io.github.dunwu.tool.io.LineHandler;
+import io.github.dunwu.tool.util.CharUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+
+/**
+ * 单个被跟随文件的读取状态<br> 通过{@link FileChannel}按位置读取新增内容，按行解码后交给{@link LineHandler}。
+ * <p>
+ * 读取使用线程级复用的直接缓冲区，不同文件在同一线程上共用；跨越缓冲区的未完成行暂存在本文件的字节数组中，直到遇到换行符才输出。
+ * 暂存的内容超过单行上限时直接作为一行输出，避免一直不写换行符的文件使内存无限增长，此时多字节字符可能在分割处被替换。
+ * 读取和关闭互斥执行，关闭时等待正在进行的读取结束。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class TailFile implements Closeable {
+
+    /**
+     * 读取缓冲区大小
+     */
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 默认单行上限，单位字节
+     */
+    static final int DEFAULT_MAX_LINE_BYTES = 1024 * 1024;
+
+    private static final ThreadLocal<ByteBuffer> BYTE_BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private static final ThreadLocal<CharBuffer> CHAR_BUFFER =
+        ThreadLocal.withInitial(() -> CharBuffer.allocate(BUFFER_SIZE));
+
+    private final Path path;
+
+    private final Charset charset;
+
+    private final CharsetDecoder decoder;
+
+    private final LineHandler lineHandler;
+
+    /**
+     * 单行上限，暂存的未完成行达到此长度时直接输出
+     */
+    private final int maxLineBytes;
+
+    private FileChannel channel;
+
+    private boolean closed;
+
+    /**
+     * 打开文件时的文件标识，用于识别文件被轮转（重命名后新建同名文件）
+     */
+    private Object fileKey;
+
+    /**
+     * 下一次读取的位置
+     */
+    private long position;
+
+    /**
+     * 上一个字节为CR，紧随的LF不产生新行
+     */
+    private boolean skipLF;
+
+    /**
+     * 未完成的行
+     */
+    private byte[] partial;
+
+    private int partialLength;
+
+    /**
+     * 构造
+     *
+     * @param path        文件路径
+     * @param charset     编码，需兼容ASCII，即换行符为单字节
+     * @param lineHandler 行处理器
+     */
+    TailFile(Path path, Charset charset, LineHandler lineHandler) {
+        this(path, charset, lineHandler, DEFAULT_MAX_LINE_BYTES);
+    }
+
+    /**
+     * 构造
+     *
+     * @param path         文件路径
+     * @param charset      编码，需兼容ASCII，即换行符为单字节
+     * @param lineHandler  行处理器
+     * @param maxLineBytes 单行上限，单位字节
+     */
+    TailFile(Path path, Charset charset, LineHandler lineHandler, int maxLineBytes) {
+        this.path = path;
+        this.maxLineBytes = maxLineBytes;
+        this.charset = charset;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.lineHandler = lineHandler;
+    }
+
+    /**
+     * 打开文件
+     *
+     * @throws IOException IO异常
+     */
+    synchronized void open() throws IOException {
+        this.channel = FileChannel.open(this.path, StandardOpenOption.READ);
+        this.fileKey = fileKey(this.path);
+        this.position = 0;
+        resetLine();
+    }
+
+    /**
+     * 读取文件末尾的若干行，之后从文件末尾开始跟随
+     *
+     * @param lineCount 读取的行数，小于1表示不读取
+     * @throws IOException IO异常
+     */
+    synchronized void readTail(int lineCount) throws IOException {
+        final long size = this.channel.size();
+        if (lineCount > 0 && size > 0) {
+            this.position = findTailStart(size, lineCount);
+            readLines(size, true);
+        }
+        this.position = size;
+        resetLine();
+    }
+
+    /**
+     * 检查文件变化并读取新增的完整行<br> 文件被轮转时先读完旧文件，再从新文件开头读取；文件被截断时从开头重新读取；已关闭时不做任何事
+     *
+     * @throws IOException IO异常
+     */
+    synchronized void poll() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        final Object currentKey = fileKey(this.path);
+        if (null != currentKey && false == currentKey.equals(this.fileKey)) {
+            final FileChannel rotated;
+            try {
+                rotated = FileChannel.open(this.path, StandardOpenOption.READ);
+            } catch (NoSuchFileException e) {
+                // 新文件尚未创建完成，下次再检查
+                return;
+            }
+            readLines(this.channel.size(), true);
+            IoUtil.close(this.channel);
+            this.channel = rotated;
+            this.fileKey = currentKey;
+            this.position = 0;
+            resetLine();
+        }
+
+        final long size = this.channel.size();
+        if (size < this.position) {
+            // 内容变短，说明文件被截断，从头读取
+            this.position = 0;
+            resetLine();
+        }
+        if (size > this.position) {
+            readLines(size, false);
+        }
+    }
+
+    /**
+     * 关闭文件，正在进行的读取结束后才关闭，之后的{@link #poll()}不再读取
+     */
+    @Override
+    public synchronized void close() {
+        this.closed = true;
+        IoUtil.close(this.channel);
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 从当前位置读取到指定位置，输出其中的完整行
+     *
+     * @param limit   读取的结束位置
+     * @param flushAll 是否将结尾未完成的行也输出
+     * @throws IOException IO异常
+     */
+    private void readLines(long limit, boolean flushAll) throws IOException {
+        final ByteBuffer buffer = BYTE_BUFFER.get();
+        // 行处理器中关闭时不再继续读取
+        while (this.position < limit && false == this.closed) {
+            buffer.clear();
+            if (limit - this.position < buffer.capacity()) {
+                buffer.limit((int) (limit - this.position));
+            }
+            final int n = this.channel.read(buffer, this.position);
+            if (n <= 0) {
+                break;
+            }
+            this.position += n;
+
+            int lineStart = 0;
+            byte b;
+            for (int i = 0; i < n; i++) {
+                b = buffer.get(i);
+                if (CharUtil.LF == b) {
+                    if (this.skipLF) {
+                        this.skipLF = false;
+                    } else {
+                        emit(buffer, lineStart, i);
+                    }
+                    lineStart = i + 1;
+                } else if (CharUtil.CR == b) {
+                    emit(buffer, lineStart, i);
+                    this.skipLF = true;
+                    lineStart = i + 1;
+                } else {
+                    this.skipLF = false;
+                }
+            }
+            if (lineStart < n) {
+                appendPartial(buffer, lineStart, n);
+                if (this.partialLength >= this.maxLineBytes) {
+                    // 超长的行直接输出，剩余部分作为新的一行继续
+                    flushPartial();
+                }
+            }
+        }
+
+        if (flushAll && this.partialLength > 0) {
+            flushPartial();
+        }
+    }
+
+    /**
+     * 将暂存的未完成行作为一行输出
+     */
+    private void flushPartial() {
+        final String line = new String(this.partial, 0, this.partialLength, this.charset);
+        this.partialLength = 0;
+        if (this.partial.length > BUFFER_SIZE) {
+            // 超长行之后不再保留大数组
+            this.partial = null;
+        }
+        this.lineHandler.handle(line);
+    }
+
+    /**
+     * 输出一行，行内容为暂存的未完成部分加上缓冲区中的指定范围
+     *
+     * @param buffer 缓冲区
+     * @param start  开始位置（包含）
+     * @param end    结束位置（不包含）
+     */
+    private void emit(ByteBuffer buffer, int start, int end) {
+        final String line;
+        if (this.partialLength > 0) {
+            appendPartial(buffer, start, end);
+            line = new String(this.partial, 0, this.partialLength, this.charset);
+            this.partialLength = 0;
+        } else if (start == end) {
+            line = "";
+        } else {
+            line = decode(buffer, start, end);
+        }
+        this.lineHandler.handle(line);
+    }
+
+    /**
+     * 将缓冲区中的指定范围直接解码为字符串
+     *
+     * @param buffer 缓冲区
+     * @param start  开始位置（包含）
+     * @param end    结束位置（不包含）
+     * @return 字符串
+     */
+    private String decode(ByteBuffer buffer, int start, int end) {
+        final int limit = buffer.limit();
+        final int maxChars = (int) Math.ceil((end - start) * (double) this.decoder.maxCharsPerByte()) + 1;
+        CharBuffer chars = CHAR_BUFFER.get();
+        if (chars.capacity() < maxChars) {
+            chars = CharBuffer.allocate(maxChars);
+            CHAR_BUFFER.set(chars);
+        }
+        chars.clear();
+
+        buffer.limit(end).position(start);
+        this.decoder.reset();
+        this.decoder.decode(buffer, chars, true);
+        this.decoder.flush(chars);
+        buffer.limit(limit).position(0);
+
+        chars.flip();
+        return chars.toString();
+    }
+
+    /**
+     * 暂存未完成的行
+     *
+     * @param buffer 缓冲区
+     * @param start  开始位置（包含）
+     * @param end    结束位置（不包含）
+     */
+    private void appendPartial(ByteBuffer buffer, int start, int end) {
+        final int length = end - start;
+        if (null == this.partial) {
+            this.partial = new byte[Math.max(256, length)];
+        } else if (this.partial.length - this.partialLength < length) {
+            this.partial = Arrays.copyOf(this.partial, Math.max(this.partial.length << 1, this.partialLength + length));
+        }
+        final int limit = buffer.limit();
+        buffer.limit(end).position(start);
+        buffer.get(this.partial, this.partialLength, length);
+        buffer.limit(limit).position(0);
+        this.partialLength += length;
+    }
+
+    /**
+     * 从文件末尾按块向前扫描，找到倒数第lineCount行的开始位置<br> 文件结尾的换行符不产生新行
+     *
+     * @param size      文件大小
+     * @param lineCount 行数
+     * @return 开始位置
+     * @throws IOException IO异常
+     */
+    private long findTailStart(long size, int lineCount) throws IOException {
+        long end = size;
+        final byte last = byteAt(size - 1);
+        if (CharUtil.LF == last) {
+            end--;
+            if (end > 0 && CharUtil.CR == byteAt(end - 1)) {
+                end--;
+            }
+        } else if (CharUtil.CR == last) {
+            end--;
+        }
+        // 已扫描字节的后一个字节，用于把CRLF识别为一个换行
+        byte next = (end < size) ? byteAt(end) : 0;
+
+        final ByteBuffer buffer = BYTE_BUFFER.get();
+        int found = 0;
+        long blockEnd = end;
+        while (blockEnd > 0) {
+            final long blockStart = Math.max(0, blockEnd - buffer.capacity());
+            final int length = (int) (blockEnd - blockStart);
+            buffer.clear();
+            buffer.limit(length);
+            readFully(buffer, blockStart);
+
+            byte b;
+            for (int i = length - 1; i >= 0; i--) {
+                b = buffer.get(i);
+                if (CharUtil.LF == b || (CharUtil.CR == b && CharUtil.LF != next)) {
+                    if (++found == lineCount) {
+                        return blockStart + i + 1;
+                    }
+                }
+                next = b;
+            }
+            blockEnd = blockStart;
+        }
+        return 0;
+    }
+
+    /**
+     * 读取指定位置的字节
+     *
+     * @param offset 位置
+     * @return 字节
+     * @throws IOException IO异常
+     */
+    private byte byteAt(long offset) throws IOException {
+        final ByteBuffer one = ByteBuffer.allocate(1);
+        readFully(one, offset);
+        return one.get(0);
+    }
+
+    /**
+     * 从指定位置读满缓冲区
+     *
+     * @param buffer 缓冲区
+     * @param offset 位置
+     * @throws IOException IO异常
+     */
+    private void readFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int n = this.channel.read(buffer, offset + buffer.position());
+            if (n < 0) {
+                throw new IOException("Unexpected end of file: " + this.path);
+            }
+        }
+    }
+
+    private void resetLine() {
+        this.skipLF = false;
+        this.partialLength = 0;
+    }
+
+    /**
+     * 获取文件标识，文件不存在或系统不支持时返回{@code null}
+     *
+     * @param path 路径
+     * @return 文件标识
+     */
+    private static Object fileKey(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+}
@@ -2,23 +2,24 @@ package io.github.dunwu.tool.io.file;
 
 import io.github.dunwu.tool.date.DateUnit;
 import io.github.dunwu.tool.exceptions.UtilException;
-import io.github.dunwu.tool.io.FileUtil;
 import io.github.dunwu.tool.io.IORuntimeException;
 import io.github.dunwu.tool.io.LineHandler;
 import io.github.dunwu.tool.lang.Console;
-import io.github.dunwu.tool.util.CharUtil;
 import io.github.dunwu.tool.util.CharsetUtil;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.io.Serializable;
 import java.nio.charset.Charset;
-import java.util.Stack;
-import java.util.concurrent.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
 
 /**
- * 文件内容跟随器，实现类似Linux下"tail -f"命令功能
+ * 文件内容跟随器，实现类似Linux下"tail -F"命令功能<br>
+ * 检查任务运行在{@link TailerEngine}的共用线程池上，新增内容通过FileChannel按块读取后按行输出，结尾未换行的内容等到换行后再输出；
+ * 文件被轮转（重命名后新建同名文件）时读完旧文件后跟随新文件，文件被截断时从头读取。<br>
+ * 编码需兼容ASCII，即换行符为单字节，例如UTF-8、GBK
  *
  * @author looly
  * @since 4.5.2
@@ -49,9 +50,16 @@ public class Tailer implements Serializable {
      */
     private long period;
 
-    private RandomAccessFile randomAccessFile;
+    /**
+     * 被跟随的文件
+     */
+    private final File file;
+
+    private transient TailerEngine engine;
+
+    private transient TailFile tailFile;
 
-    private ScheduledExecutorService executorService;
+    private transient ScheduledFuture<?> scheduledFuture;
 
     /**
      * 构造，默认UTF-8编码
@@ -84,13 +92,28 @@ public class Tailer implements Serializable {
      * @param period       检查间隔
      */
     public Tailer(File file, Charset charset, LineHandler lineHandler, int initReadLine, long period) {
+        this(file, charset, lineHandler, initReadLine, period, TailerEngine.getDefault());
+    }
+
+    /**
+     * 构造
+     *
+     * @param file         文件
+     * @param charset      编码
+     * @param lineHandler  行处理器
+     * @param initReadLine 启动时预读取的行数
+     * @param period       检查间隔
+     * @param engine       跟随引擎，多个跟随器共用其线程池
+     */
+    public Tailer(File file, Charset charset, LineHandler lineHandler, int initReadLine, long period,
+        TailerEngine engine) {
         checkFile(file);
+        this.file = file;
         this.charset = charset;
         this.lineHandler = lineHandler;
         this.period = period;
         this.initReadLine = initReadLine;
-        this.randomAccessFile = FileUtil.createRandomAccessFile(file, FileMode.r);
-        this.executorService = Executors.newSingleThreadScheduledExecutor();
+        this.engine = engine;
     }
 
     /**
@@ -130,92 +153,56 @@ public class Tailer implements Serializable {
     /**
      * 开始监听
      *
-     * @param async 是否异步执行
+     * @param async 是否异步执行，同步执行时阻塞直到{@link #stop()}
      */
     public void start(boolean async) {
+        final TailFile tailFile = new TailFile(this.file.toPath(), this.charset, this.lineHandler);
         // 初始读取
         try {
-            this.readTail();
+            tailFile.open();
+            tailFile.readTail(this.initReadLine);
         } catch (IOException e) {
+            tailFile.close();
             throw new IORuntimeException(e);
         }
+        this.tailFile = tailFile;
 
-        final LineReadWatcher lineReadWatcher =
-            new LineReadWatcher(this.randomAccessFile, this.charset, this.lineHandler);
-        final ScheduledFuture<?> scheduledFuture = this.executorService.scheduleAtFixedRate(//
-            lineReadWatcher, //
-            0, //
-            this.period, TimeUnit.MILLISECONDS//
-        );
+        final ScheduledFuture<?> scheduledFuture = getEngine().schedule(tailFile, this.period);
+        this.scheduledFuture = scheduledFuture;
 
         if (false == async) {
             try {
                 scheduledFuture.get();
             } catch (ExecutionException e) {
                 throw new UtilException(e);
-            } catch (InterruptedException e) {
+            } catch (InterruptedException | CancellationException e) {
                 // ignore and exist
             }
         }
     }
 
     /**
-     * 预读取行
-     *
-     * @throws IOException IO异常
-     */
-    private void readTail() throws IOException {
-        final long len = this.randomAccessFile.length();
-
-        if (initReadLine > 0) {
-            Stack<String> stack = new Stack<>();
-
-            long start = this.randomAccessFile.getFilePointer();
-            long nextEnd = len - 1;
-            this.randomAccessFile.seek(nextEnd);
-            int c;
-            int currentLine = 0;
-            while (nextEnd > start) {
-                // 满
-                if (currentLine > initReadLine) {
-                    break;
-                }
-
-                c = this.randomAccessFile.read();
-                if (c == CharUtil.LF || c == CharUtil.CR) {
-                    // FileUtil.readLine(this.randomAccessFile, this.charset, this.lineHandler);
-                    final String line = FileUtil.readLine(this.randomAccessFile, this.charset);
-                    if (null != line) {
-                        stack.push(line);
-                    }
-                    currentLine++;
-                    nextEnd--;
-                }
-                nextEnd--;
-                this.randomAccessFile.seek(nextEnd);
-                if (nextEnd == 0) {
-                    // 当文件指针退至文件开始处，输出第一行
-                    // FileUtil.readLine(this.randomAccessFile, this.charset, this.lineHandler);
-                    final String line = FileUtil.readLine(this.randomAccessFile, this.charset);
-                    if (null != line) {
-                        stack.push(line);
-                    }
-                    break;
-                }
-            }
-
-            // 输出缓存栈中的内容
-            while (false == stack.isEmpty()) {
-                this.lineHandler.handle(stack.pop());
-            }
+     * 停止监听，释放文件<br> 正在进行的检查结束后才关闭文件，可以在行处理器中调用
+     */
+    public void stop() {
+        if (null != this.scheduledFuture) {
+            this.scheduledFuture.cancel(false);
+        }
+        if (null != this.tailFile) {
+            this.tailFile.close();
         }
+    }
 
-        // 将指针置于末尾
-        try {
-            this.randomAccessFile.seek(len);
-        } catch (IOException e) {
-            throw new IORuntimeException(e);
+    /**
+     * 获取跟随引擎，反序列化后使用默认引擎
+     *
+     * @return {@link TailerEngine}
+     */
+    private TailerEngine getEngine() {
+        if (null == this.engine) {
+            this.engine = TailerEngine.getDefault();
         }
+        return this.engine;
     }
     // ---------------------------------------------------------------------------------------- Private method end
 
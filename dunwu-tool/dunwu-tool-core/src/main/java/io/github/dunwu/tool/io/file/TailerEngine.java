@@ -0,0 +1,82 @@
+package io.github.dunwu.tool.io.file;
+
+import io.github.dunwu.tool.io.IORuntimeException;
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.thread.ThreadUtil;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 文件跟随引擎<br> 多个{@link Tailer}共用一个小线程池，每个文件一个周期检查任务，检查时才占用线程，因此可以同时跟随大量文件。
+ * <p>
+ * 默认引擎{@link #getDefault()}为守护线程，线程数不超过4；需要隔离时可以自行创建引擎并在不用时关闭。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class TailerEngine implements Closeable {
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    /**
+     * 构造
+     *
+     * @param threadSize 线程数
+     */
+    public TailerEngine(int threadSize) {
+        Assert.isTrue(threadSize > 0, "Thread size must be greater than 0");
+        this.executor = new ScheduledThreadPoolExecutor(threadSize, ThreadUtil.newNamedThreadFactory("tailer-", true));
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 获取默认的共用引擎
+     *
+     * @return {@link TailerEngine}
+     */
+    public static TailerEngine getDefault() {
+        return SingletonHolder.instance;
+    }
+
+    /**
+     * 关闭引擎，已添加的跟随任务全部停止
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * 添加文件的周期检查任务
+     *
+     * @param tailFile 文件读取状态
+     * @param period   检查间隔，单位毫秒
+     * @return 任务，取消即停止跟随
+     */
+    ScheduledFuture<?> schedule(TailFile tailFile, long period) {
+        return this.executor.scheduleWithFixedDelay(() -> {
+            try {
+                tailFile.poll();
+            } catch (IOException e) {
+                // 抛出异常后此文件的任务停止，不影响其它文件
+                throw new IORuntimeException(e);
+            }
+        }, 0, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 类级的内部类，只有被调用到才会装载，从而实现了延迟加载
+     */
+    private static class SingletonHolder {
+
+        private static final TailerEngine instance =
+            new TailerEngine(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())));
+
+    }
+
+}
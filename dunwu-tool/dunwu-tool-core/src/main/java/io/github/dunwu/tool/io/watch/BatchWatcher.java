@@ -0,0 +1,31 @@
+package io.github.dunwu.tool.io.watch;
+
+import io.github.dunwu.tool.io.watch.watchers.BatchDelayWatcher;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 批量观察者<br> 以批次接收一段时间内合并后的净变化，配合{@link BatchDelayWatcher}使用
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public interface BatchWatcher {
+
+    /**
+     * 一个批次内的净变化，按路径首次发生变化的顺序排列
+     *
+     * @param changes 净变化列表，不为空
+     */
+    void onChanges(List<PathChange> changes);
+
+    /**
+     * 事件丢失时执行的方法<br> 系统事件队列溢出，或者待处理的变化超过上限时，无法得知具体变化的文件，调用方需要重新扫描这些目录
+     *
+     * @param dirs 需要重新扫描的目录，不为空
+     */
+    void onOverflow(Set<Path> dirs);
+
+}
@@ -0,0 +1,104 @@
+package io.github.dunwu.tool.io.watch;
+
+import java.nio.file.Path;
+
+/**
+ * 路径的净变化<br> 一个批次内同一路径的多次创建、修改、删除事件合并为一个净变化，例如创建后删除的路径不会出现在批次中
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class PathChange {
+
+    /**
+     * 变化类型
+     */
+    public enum Type {
+        /**
+         * 新建
+         */
+        CREATE,
+        /**
+         * 修改（包括删除后重新创建）
+         */
+        MODIFY,
+        /**
+         * 删除
+         */
+        DELETE
+    }
+
+    private final Path path;
+
+    private final Type type;
+
+    /**
+     * 构造
+     *
+     * @param path 发生变化的路径
+     * @param type 变化类型
+     */
+    public PathChange(Path path, Type type) {
+        this.path = path;
+        this.type = type;
+    }
+
+    /**
+     * 发生变化的路径，为所在目录与事件上下文拼接后的完整路径
+     *
+     * @return 路径
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 变化类型
+     *
+     * @return 变化类型
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * 在已有变化上叠加新事件，得到净变化
+     *
+     * <pre>
+     * CREATE + MODIFY = CREATE
+     * CREATE + DELETE = 无变化（返回{@code null}）
+     * MODIFY + DELETE = DELETE
+     * DELETE + CREATE = MODIFY
+     * 其它情况以新事件为准
+     * </pre>
+     *
+     * @param previous 已有的变化类型，{@code null}表示无
+     * @param current  新事件的变化类型
+     * @return 净变化类型，{@code null}表示相互抵消
+     */
+    public static Type merge(Type previous, Type current) {
+        if (null == previous) {
+            return current;
+        }
+        switch (previous) {
+            case CREATE:
+                if (Type.DELETE == current) {
+                    return null;
+                }
+                return Type.CREATE;
+            case DELETE:
+                if (Type.DELETE == current) {
+                    return Type.DELETE;
+                }
+                return Type.MODIFY;
+            default:
+                return current;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + ":" + path;
+    }
+
+}
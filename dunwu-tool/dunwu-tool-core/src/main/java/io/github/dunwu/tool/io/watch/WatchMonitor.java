@@ -3,6 +3,7 @@ package io.github.dunwu.tool.io.watch;
 import io.github.dunwu.tool.io.FileUtil;
 import io.github.dunwu.tool.io.IORuntimeException;
 import io.github.dunwu.tool.io.IoUtil;
+import io.github.dunwu.tool.io.watch.watchers.BatchDelayWatcher;
 import io.github.dunwu.tool.io.watch.watchers.WatcherChain;
 import io.github.dunwu.tool.util.ArrayUtil;
 import io.github.dunwu.tool.util.CharUtil;
@@ -360,6 +361,18 @@ public class WatchMonitor extends Thread implements Closeable, Serializable {
         return this;
     }
 
+    /**
+     * 设置批量监听<br> 事件按路径合并为净变化，在批次第一个事件之后延迟指定时间批量交给{@link BatchWatcher}
+     *
+     * @param watcher 批量监听
+     * @param delay   延迟时间，单位毫秒
+     * @return {@link WatchMonitor}
+     * @see BatchDelayWatcher
+     */
+    public WatchMonitor setWatcher(BatchWatcher watcher, long delay) {
+        return setWatcher(new BatchDelayWatcher(watcher, delay));
+    }
+
     /**
      * 创建并初始化监听，监听所有事件
      *
@@ -404,12 +417,15 @@ public class WatchMonitor extends Thread implements Closeable, Serializable {
     }
 
     /**
-     * 关闭监听
+     * 关闭监听<br> 监听器实现了{@link Closeable}时一并关闭，例如投递{@link BatchDelayWatcher}中剩余的变化
      */
     @Override
     public void close() {
         isClosed = true;
         IoUtil.close(watchService);
+        if (this.watcher instanceof Closeable) {
+            IoUtil.close((Closeable) this.watcher);
+        }
     }
 
     /**
@@ -492,8 +508,9 @@ public class WatchMonitor extends Thread implements Closeable, Serializable {
         for (WatchEvent<?> event : wk.pollEvents()) {
             kind = event.kind();
 
-            // 如果监听文件，检查当前事件是否与所监听文件关联
-            if (null != this.filePath && false == this.filePath.endsWith(event.context().toString())) {
+            // 如果监听文件，检查当前事件是否与所监听文件关联，OVERFLOW事件没有上下文
+            if (null != this.filePath && null != event.context()
+                && false == this.filePath.endsWith(event.context().toString())) {
                 //					log.debug("[{}] is not fit for [{}], pass it.", event.context(), this.filePath.getFileName());
                 continue;
             }
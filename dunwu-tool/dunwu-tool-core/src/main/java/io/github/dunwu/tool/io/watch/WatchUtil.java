@@ -380,6 +380,36 @@ public class WatchUtil {
         return createModify(path, 0, watcher);
     }
 
+    /**
+     * 创建并初始化批量监听，监听所有事件，事件按路径合并后延迟批量交给{@link BatchWatcher}
+     *
+     * @param path     路径
+     * @param maxDepth 当监听目录时，监听目录的最大深度，当设置值为1（或小于1）时，表示不递归监听子目录
+     * @param delay    延迟时间，单位毫秒
+     * @param watcher  {@link BatchWatcher}
+     * @return {@link WatchMonitor}
+     * @since 2026-10-18
+     */
+    public static WatchMonitor createBatch(Path path, int maxDepth, long delay, BatchWatcher watcher) {
+        final WatchMonitor watchMonitor = create(path, maxDepth, WatchMonitor.EVENTS_ALL);
+        watchMonitor.setWatcher(watcher, delay);
+        return watchMonitor;
+    }
+
+    /**
+     * 创建并初始化批量监听，监听所有事件，事件按路径合并后延迟批量交给{@link BatchWatcher}
+     *
+     * @param file     被监听文件
+     * @param maxDepth 当监听目录时，监听目录的最大深度，当设置值为1（或小于1）时，表示不递归监听子目录
+     * @param delay    延迟时间，单位毫秒
+     * @param watcher  {@link BatchWatcher}
+     * @return {@link WatchMonitor}
+     * @since 2026-10-18
+     */
+    public static WatchMonitor createBatch(File file, int maxDepth, long delay, BatchWatcher watcher) {
+        return createBatch(file.toPath(), maxDepth, delay, watcher);
+    }
+
     /**
      * 注册Watchable对象到WatchService服务
      *
@@ -0,0 +1,279 @@
+package io.github.dunwu.tool.io.watch.watchers;
+
+import io.github.dunwu.tool.io.watch.BatchWatcher;
+import io.github.dunwu.tool.io.watch.PathChange;
+import io.github.dunwu.tool.io.watch.Watcher;
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.thread.ThreadUtil;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 批量延迟观察者<br> 将监听线程上逐个到达的事件按路径合并为净变化，在批次第一个事件之后延迟指定时间，由调度器一次性交给{@link BatchWatcher}处理。<br>
+ * 监听线程只做合并，不执行业务逻辑；调度器只负责计时，到期后由线程池执行投递，耗时的处理不会阻塞其它观察者的计时。
+ * 定时投递、{@link #flush()}和{@link #close()}共用一把投递锁，批次严格串行投递，不会同时进入{@link BatchWatcher}。
+ * <p>
+ * 待处理的路径数超过上限时，已合并的变化按所在目录折叠为溢出目录，之后这些目录下的事件不再逐个记录，
+ * 因此在大量文件同时变化或系统事件溢出时，内存占用不超过上限与被监听目录数之和。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class BatchDelayWatcher implements Watcher, Closeable {
+
+    /**
+     * 默认待处理路径上限
+     */
+    public static final int DEFAULT_MAX_PENDING = 10000;
+
+    private final BatchWatcher watcher;
+
+    private final long delay;
+
+    private final int maxPending;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Executor executor;
+
+    private final Object lock = new Object();
+
+    /**
+     * 投递锁，保证同一时间只有一个批次在投递
+     */
+    private final ReentrantLock deliverLock = new ReentrantLock();
+
+    /**
+     * 待处理的净变化，按路径首次变化的顺序
+     */
+    private Map<Path, PathChange.Type> pending = new LinkedHashMap<>();
+
+    /**
+     * 需要重新扫描的目录
+     */
+    private Set<Path> overflowDirs = new LinkedHashSet<>();
+
+    /**
+     * 是否已有待执行的定时投递任务，只在定时任务取走批次时清除，保证队列中最多一个定时任务
+     */
+    private boolean scheduled;
+
+    private volatile boolean closed;
+
+    //---------------------------------------------------------------------------------------------------------- Constructor start
+
+    /**
+     * 构造，使用共用的调度器
+     *
+     * @param watcher 批量处理变化的观察者
+     * @param delay   延迟时间，单位毫秒
+     */
+    public BatchDelayWatcher(BatchWatcher watcher, long delay) {
+        this(watcher, delay, DEFAULT_MAX_PENDING, WatchScheduler.get());
+    }
+
+    /**
+     * 构造
+     *
+     * @param watcher    批量处理变化的观察者
+     * @param delay      延迟时间，单位毫秒
+     * @param maxPending 待处理路径上限，超过后按目录折叠为溢出
+     * @param scheduler  调度器，只用于计时，到期后由全局线程池投递批次
+     */
+    public BatchDelayWatcher(BatchWatcher watcher, long delay, int maxPending, ScheduledExecutorService scheduler) {
+        this(watcher, delay, maxPending, scheduler, ThreadUtil::execute);
+    }
+
+    /**
+     * 构造
+     *
+     * @param watcher    批量处理变化的观察者
+     * @param delay      延迟时间，单位毫秒
+     * @param maxPending 待处理路径上限，超过后按目录折叠为溢出
+     * @param scheduler  调度器，只用于计时
+     * @param executor   执行投递的线程池，{@link BatchWatcher}的回调在此执行
+     */
+    public BatchDelayWatcher(BatchWatcher watcher, long delay, int maxPending, ScheduledExecutorService scheduler,
+        Executor executor) {
+        Assert.notNull(watcher);
+        Assert.notNull(scheduler);
+        Assert.notNull(executor);
+        Assert.isTrue(maxPending > 0, "Max pending must be greater than 0");
+        this.watcher = watcher;
+        this.delay = Math.max(0, delay);
+        this.maxPending = maxPending;
+        this.scheduler = scheduler;
+        this.executor = executor;
+    }
+    //---------------------------------------------------------------------------------------------------------- Constructor end
+
+    @Override
+    public void onCreate(WatchEvent<?> event, Path currentPath) {
+        onChange(event, currentPath, PathChange.Type.CREATE);
+    }
+
+    @Override
+    public void onModify(WatchEvent<?> event, Path currentPath) {
+        onChange(event, currentPath, PathChange.Type.MODIFY);
+    }
+
+    @Override
+    public void onDelete(WatchEvent<?> event, Path currentPath) {
+        onChange(event, currentPath, PathChange.Type.DELETE);
+    }
+
+    @Override
+    public void onOverflow(WatchEvent<?> event, Path currentPath) {
+        if (null == currentPath) {
+            return;
+        }
+        synchronized (lock) {
+            overflowDirs.add(currentPath);
+            scheduleIfNecessary();
+        }
+    }
+
+    /**
+     * 立即在当前线程投递已合并的变化，不等待延迟；正在投递其它批次时等待其完成后再投递。<br>
+     * 在{@link BatchWatcher}的回调中调用时不会重入，剩余的变化交给定时任务投递。
+     */
+    public void flush() {
+        deliver(false);
+    }
+
+    /**
+     * 关闭，投递剩余的变化，之后到达的事件被忽略
+     */
+    @Override
+    public void close() {
+        closed = true;
+        deliver(false);
+    }
+
+    //---------------------------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 合并一个事件
+     *
+     * @param event       事件
+     * @param currentPath 事件发生的当前Path路径
+     * @param type        变化类型
+     */
+    private void onChange(WatchEvent<?> event, Path currentPath, PathChange.Type type) {
+        if (closed || null == currentPath) {
+            return;
+        }
+        final Object context = event.context();
+        final Path path = (context instanceof Path) ? currentPath.resolve((Path) context)
+            : currentPath.resolve(String.valueOf(context));
+
+        synchronized (lock) {
+            if (overflowDirs.contains(currentPath)) {
+                // 目录会被整体重新扫描，无需记录单个文件
+                return;
+            }
+            final PathChange.Type previous = pending.get(path);
+            if (null == previous && pending.size() >= maxPending) {
+                collapse(currentPath);
+            } else {
+                final PathChange.Type merged = PathChange.merge(previous, type);
+                if (null == merged) {
+                    pending.remove(path);
+                } else {
+                    pending.put(path, merged);
+                }
+            }
+            scheduleIfNecessary();
+        }
+    }
+
+    /**
+     * 待处理路径过多时，将已合并的变化折叠为所在目录，调用时需持有锁
+     *
+     * @param currentPath 当前事件所在目录
+     */
+    private void collapse(Path currentPath) {
+        for (Path path : pending.keySet()) {
+            final Path parent = path.getParent();
+            overflowDirs.add((null == parent) ? path : parent);
+        }
+        overflowDirs.add(currentPath);
+        pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * 没有待执行的定时投递任务时安排一个，调用时需持有锁<br>
+     * 调度器只负责计时，到期后交给线程池执行，避免耗时的处理阻塞共用调度器上的其它任务
+     */
+    private void scheduleIfNecessary() {
+        if (false == scheduled) {
+            scheduled = true;
+            scheduler.schedule(() -> executor.execute(() -> deliver(true)), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 取出当前批次并投递，投递期间到达的事件进入下一批次
+     *
+     * @param timer 是否由定时任务调用
+     */
+    private void deliver(boolean timer) {
+        if (deliverLock.isHeldByCurrentThread()) {
+            // 回调中调用flush或close，不重入，交给定时任务
+            synchronized (lock) {
+                if (false == pending.isEmpty() || false == overflowDirs.isEmpty()) {
+                    scheduleIfNecessary();
+                }
+            }
+            return;
+        }
+
+        deliverLock.lock();
+        try {
+            final Map<Path, PathChange.Type> changes;
+            final Set<Path> dirs;
+            synchronized (lock) {
+                if (timer) {
+                    // 与取走批次在同一临界区内清除，之后到达的事件会安排新的定时任务
+                    scheduled = false;
+                }
+                changes = pending;
+                dirs = overflowDirs;
+                if (changes.isEmpty() && dirs.isEmpty()) {
+                    // 变化已被flush取走或相互抵消
+                    return;
+                }
+                pending = new LinkedHashMap<>();
+                overflowDirs = new LinkedHashSet<>();
+            }
+
+            if (false == dirs.isEmpty()) {
+                watcher.onOverflow(dirs);
+            }
+            if (false == changes.isEmpty()) {
+                final List<PathChange> list = new ArrayList<>(changes.size());
+                for (Map.Entry<Path, PathChange.Type> entry : changes.entrySet()) {
+                    list.add(new PathChange(entry.getKey(), entry.getValue()));
+                }
+                watcher.onChanges(list);
+            }
+        } finally {
+            deliverLock.unlock();
+        }
+    }
+    //---------------------------------------------------------------------------------------------------------- Private method end
+
+}
@@ -10,10 +10,12 @@ import java.nio.file.Paths;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchService;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 延迟观察者<br> 使用此观察者通过定义一定的延迟时间，解决{@link WatchService}多个modify的问题<br> 在监听目录或文件时，如果这个文件有修改操作，会多次触发modify方法。<br>
- * 此类通过维护一个Set将短时间内相同文件多次modify的事件合并处理触发，从而避免以上问题。<br> 注意：延迟只针对modify事件，其它事件无效
+ * 此类通过维护一个Set将短时间内相同文件多次modify的事件合并处理触发，从而避免以上问题。<br> 注意：延迟只针对modify事件，其它事件无效<br>
+ * 延迟处理由共用的调度器完成，不会为每个文件占用一个等待线程；需要按批次处理合并后的变化时使用{@link BatchDelayWatcher}
  *
  * @author Looly
  * @since 3.1.0
@@ -86,32 +88,29 @@ public class DelayWatcher implements Watcher {
      * @param currentPath 事件发生的当前Path路径
      */
     private void onDelayModify(WatchEvent<?> event, Path currentPath) {
-        Path eventPath = Paths.get(currentPath.toString(), event.context().toString());
-        if (eventSet.contains(eventPath)) {
+        final Path eventPath = Paths.get(currentPath.toString(), event.context().toString());
+        if (false == eventSet.add(eventPath)) {
             //此事件已经被触发过，后续事件忽略，等待统一处理。
             return;
         }
 
-        //事件第一次触发，此时标记事件，并启动处理线程延迟处理，处理结束后会删除标记
-        eventSet.add(eventPath);
-        startHandleModifyThread(event, currentPath);
+        //事件第一次触发，此时已标记事件，延迟处理，处理结束后会删除标记
+        startHandleModifyTask(event, currentPath, eventPath);
     }
 
     /**
-     * 开启处理线程
+     * 安排延迟处理任务
      *
      * @param event       事件
      * @param currentPath 事件发生的当前Path路径
+     * @param eventPath   事件对应的完整路径
      */
-    private void startHandleModifyThread(final WatchEvent<?> event, final Path currentPath) {
-        ThreadUtil.execute(new Runnable() {
-            @Override
-            public void run() {
-                ThreadUtil.sleep(delay);
-                eventSet.remove(Paths.get(currentPath.toString(), event.context().toString()));
-                watcher.onModify(event, currentPath);
-            }
-        });
+    private void startHandleModifyTask(final WatchEvent<?> event, final Path currentPath, final Path eventPath) {
+        // 调度器只负责计时，到期后交给线程池执行，避免耗时的处理阻塞其它文件的延迟任务
+        WatchScheduler.get().schedule(() -> ThreadUtil.execute(() -> {
+            eventSet.remove(eventPath);
+            watcher.onModify(event, currentPath);
+        }), delay, TimeUnit.MILLISECONDS);
     }
     //---------------------------------------------------------------------------------------------------------- Private method end
 }
@@ -0,0 +1,42 @@
+package io.github.dunwu.tool.io.watch.watchers;
+
+import io.github.dunwu.tool.thread.ThreadUtil;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * 观察者共用的延迟调度器<br> 单个守护线程，延迟任务只占用队列中的一个条目，不会因等待而占用线程
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class WatchScheduler {
+
+    private WatchScheduler() {
+    }
+
+    /**
+     * 获取共用的调度器
+     *
+     * @return {@link ScheduledExecutorService}
+     */
+    static ScheduledExecutorService get() {
+        return Holder.SCHEDULER;
+    }
+
+    private static class Holder {
+
+        private static final ScheduledExecutorService SCHEDULER = create();
+
+        private static ScheduledExecutorService create() {
+            final ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(1, ThreadUtil.newNamedThreadFactory("watch-scheduler-", true));
+            // 取消的任务立即出队，避免大量取消的任务堆积
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+
+    }
+
+}
@@ -3,12 +3,21 @@ package io.github.dunwu.tool.lang;
 import io.github.dunwu.tool.util.HashUtil;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.SortedMap;
+import java.util.Map;
 import java.util.TreeMap;
 
 /**
  * 一致性Hash算法 算法详解：http://blog.csdn.net/sparkliang/article/details/5279393 算法实现：https://weblogs.java.net/blog/2007/11/27/consistent-hashing
+ * <p>
+ * Hash环以有序的int数组快照保存，查找为无锁的二分查找；增删节点时在锁内生成新的快照并整体替换（写时复制），
+ * 因此适合读多写少的分片路由，查找可在多个线程间并发执行。
+ * </p>
+ * <p>
+ * 通过{@link #murmur(int, Collection)}创建时使用MurmurHash计算键和虚拟节点的Hash，虚拟节点由节点Hash直接派生，无需拼接字符串；
+ * 节点只按顺序增加或只从末尾移除的场景也可以使用{@link JumpConsistentHash}。
+ * </p>
  *
  * @param <T> 节点类型
  * @author xiaoleilu
@@ -23,9 +32,19 @@ public class ConsistentHash<T> implements Serializable {
     private final int numberOfReplicas;
 
     /**
-     * 一致性Hash环
+     * 一致性Hash环，只在增删节点时访问，需持有锁
      */
-    private final SortedMap<Integer, T> circle = new TreeMap<Integer, T>();
+    private final TreeMap<Integer, T> circle = new TreeMap<Integer, T>();
+
+    /**
+     * 当前Hash环的只读快照
+     */
+    private volatile Ring ring = Ring.EMPTY;
+
+    /**
+     * 是否使用MurmurHash计算键和虚拟节点的Hash
+     */
+    private final boolean murmur;
 
     /**
      * Hash计算对象，用于自定义hash算法
@@ -39,46 +58,69 @@ public class ConsistentHash<T> implements Serializable {
      * @param nodes            节点对象
      */
     public ConsistentHash(int numberOfReplicas, Collection<T> nodes) {
-        this.numberOfReplicas = numberOfReplicas;
-        this.hashFunc = new HashFunc() {
+        this(new HashFunc() {
 
             @Override
             public Integer hash(Object key) {
                 //默认使用FNV1hash算法
                 return HashUtil.fnvHash(key.toString());
             }
-        };
-        //初始化节点
-        for (T node : nodes) {
-            add(node);
-        }
+        }, numberOfReplicas, nodes);
     }
 
     /**
-     * 增加节点<br> 每增加一个节点，就会在闭环上增加给定复制节点数<br> 例如复制节点数是2，则每调用此方法一次，增加两个虚拟节点，这两个节点指向同一Node
-     * 由于hash算法会调用node的toString方法，故按照toString去重
+     * 构造
      *
-     * @param node 节点对象
+     * @param hashFunc         hash算法对象
+     * @param numberOfReplicas 复制的节点个数，增加每个节点的复制节点有利于负载均衡
+     * @param nodes            节点对象
      */
-    public void add(T node) {
-        for (int i = 0; i < numberOfReplicas; i++) {
-            circle.put(hashFunc.hash(node.toString() + i), node);
+    public ConsistentHash(HashFunc hashFunc, int numberOfReplicas, Collection<T> nodes) {
+        this(hashFunc, false, numberOfReplicas, nodes);
+    }
+
+    private ConsistentHash(HashFunc hashFunc, boolean murmur, int numberOfReplicas, Collection<T> nodes) {
+        this.numberOfReplicas = numberOfReplicas;
+        this.hashFunc = hashFunc;
+        this.murmur = murmur;
+        //初始化节点，最后统一生成快照
+        synchronized (circle) {
+            for (T node : nodes) {
+                putNode(node);
+            }
+            this.ring = Ring.of(circle);
         }
     }
 
     /**
-     * 构造
+     * 创建使用MurmurHash的一致性Hash<br> 键的Hash为其toString的MurmurHash，虚拟节点的Hash由节点toString的64位MurmurHash混合序号得到
      *
-     * @param hashFunc         hash算法对象
+     * @param <T>              节点类型
      * @param numberOfReplicas 复制的节点个数，增加每个节点的复制节点有利于负载均衡
      * @param nodes            节点对象
+     * @return {@link ConsistentHash}
+     * @since 2026-10-18
      */
-    public ConsistentHash(HashFunc hashFunc, int numberOfReplicas, Collection<T> nodes) {
-        this.numberOfReplicas = numberOfReplicas;
-        this.hashFunc = hashFunc;
-        //初始化节点
-        for (T node : nodes) {
-            add(node);
+    public static <T> ConsistentHash<T> murmur(int numberOfReplicas, Collection<T> nodes) {
+        return new ConsistentHash<>(new HashFunc() {
+
+            @Override
+            public Integer hash(Object key) {
+                return MurmurHash.hash32(key.toString());
+            }
+        }, true, numberOfReplicas, nodes);
+    }
+
+    /**
+     * 增加节点<br> 每增加一个节点，就会在闭环上增加给定复制节点数<br> 例如复制节点数是2，则每调用此方法一次，增加两个虚拟节点，这两个节点指向同一Node
+     * 由于hash算法会调用node的toString方法，故按照toString去重
+     *
+     * @param node 节点对象
+     */
+    public void add(T node) {
+        synchronized (circle) {
+            putNode(node);
+            this.ring = Ring.of(circle);
         }
     }
 
@@ -88,8 +130,12 @@ public class ConsistentHash<T> implements Serializable {
      * @param node 节点对象
      */
     public void remove(T node) {
-        for (int i = 0; i < numberOfReplicas; i++) {
-            circle.remove(hashFunc.hash(node.toString() + i));
+        synchronized (circle) {
+            final long base = murmur ? MurmurHash.hash64(node.toString()) : 0;
+            for (int i = 0; i < numberOfReplicas; i++) {
+                circle.remove(virtualHash(node, base, i));
+            }
+            this.ring = Ring.of(circle);
         }
     }
 
@@ -99,17 +145,85 @@ public class ConsistentHash<T> implements Serializable {
      * @param key 为给定键取Hash，取得顺时针方向上最近的一个虚拟节点对应的实际节点
      * @return 节点对象
      */
+    @SuppressWarnings("unchecked")
     public T get(Object key) {
-        if (circle.isEmpty()) {
+        final Ring ring = this.ring;
+        if (0 == ring.hashes.length) {
             return null;
         }
-        int hash = hashFunc.hash(key);
-        if (!circle.containsKey(hash)) {
-            SortedMap<Integer, T> tailMap = circle.tailMap(hash);    //返回此映射的部分视图，其键大于等于 hash
-            hash = tailMap.isEmpty() ? circle.firstKey() : tailMap.firstKey();
+        final int hash = murmur ? MurmurHash.hash32(key.toString()) : hashFunc.hash(key);
+        //大于等于hash的第一个虚拟节点，没有则回到环的起点
+        int index = Arrays.binarySearch(ring.hashes, hash);
+        if (index < 0) {
+            index = -index - 1;
+            if (index == ring.hashes.length) {
+                index = 0;
+            }
         }
-        //正好命中
-        return circle.get(hash);
+        return (T) ring.nodes[index];
+    }
+
+    // ---------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 将节点的虚拟节点放入环中，调用时需持有锁
+     *
+     * @param node 节点对象
+     */
+    private void putNode(T node) {
+        final long base = murmur ? MurmurHash.hash64(node.toString()) : 0;
+        for (int i = 0; i < numberOfReplicas; i++) {
+            circle.put(virtualHash(node, base, i), node);
+        }
+    }
+
+    /**
+     * 计算第i个虚拟节点的Hash
+     *
+     * @param node 节点对象
+     * @param base MurmurHash模式下节点的64位Hash
+     * @param i    虚拟节点序号
+     * @return Hash
+     */
+    private int virtualHash(T node, long base, int i) {
+        if (murmur) {
+            final long h = MurmurHash.fmix64(base + (i + 1) * 0x9E3779B97F4A7C15L);
+            return (int) (h >>> 32);
+        }
+        return hashFunc.hash(node.toString() + i);
+    }
+    // ---------------------------------------------------------------------------------------- Private method end
+
+    /**
+     * Hash环的只读快照，hashes有序，nodes为对应的节点
+     */
+    private static final class Ring implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Ring EMPTY = new Ring(new int[0], new Object[0]);
+
+        final int[] hashes;
+
+        final Object[] nodes;
+
+        Ring(int[] hashes, Object[] nodes) {
+            this.hashes = hashes;
+            this.nodes = nodes;
+        }
+
+        static Ring of(TreeMap<Integer, ?> circle) {
+            final int[] hashes = new int[circle.size()];
+            final Object[] nodes = new Object[circle.size()];
+            int i = 0;
+            for (Map.Entry<Integer, ?> entry : circle.entrySet()) {
+                hashes[i] = entry.getKey();
+                nodes[i] = entry.getValue();
+                i++;
+            }
+            return new Ring(hashes, nodes);
+        }
+
     }
 
     /**
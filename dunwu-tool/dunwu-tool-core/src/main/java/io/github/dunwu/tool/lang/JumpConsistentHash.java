@@ -0,0 +1,133 @@
+package io.github.dunwu.tool.lang;
+
+import io.github.dunwu.tool.lang.ConsistentHash.HashFunc;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Jump一致性Hash算法，参考论文：A Fast, Minimal Memory, Consistent Hash Algorithm（Lamping, Veach）
+ * <p>
+ * 不需要虚拟节点和Hash环，内存占用只有节点数组，查找为O(log n)次整数运算，且键在节点间分布均匀。
+ * 节点数由n增加到n+1时只有约1/(n+1)的键迁移到新节点；移除节点时由最后一个节点补到被移除节点的位置，
+ * 因此只有被移除节点和最后一个节点上的键发生迁移。
+ * </p>
+ * <p>
+ * 节点数组写时复制，查找可在多个线程间并发执行。
+ * </p>
+ *
+ * @param <T> 节点类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class JumpConsistentHash<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 节点的只读快照
+     */
+    private volatile Object[] nodes;
+
+    /**
+     * 键的Hash计算对象，为{@code null}时使用键toString的64位MurmurHash
+     */
+    private final HashFunc hashFunc;
+
+    /**
+     * 构造，使用MurmurHash计算键的Hash
+     *
+     * @param nodes 节点对象，顺序决定分布，各实例间需保持一致
+     */
+    public JumpConsistentHash(Collection<T> nodes) {
+        this(null, nodes);
+    }
+
+    /**
+     * 构造
+     *
+     * @param hashFunc hash算法对象
+     * @param nodes    节点对象，顺序决定分布，各实例间需保持一致
+     */
+    public JumpConsistentHash(HashFunc hashFunc, Collection<T> nodes) {
+        this.hashFunc = hashFunc;
+        this.nodes = nodes.toArray();
+    }
+
+    /**
+     * 计算键所在的桶
+     *
+     * @param key     键的Hash
+     * @param buckets 桶数
+     * @return 桶序号，范围[0, buckets)
+     */
+    public static int bucket(long key, int buckets) {
+        Assert.isTrue(buckets > 0, "Buckets must be greater than 0");
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    /**
+     * 在末尾增加节点
+     *
+     * @param node 节点对象
+     */
+    public synchronized void add(T node) {
+        final Object[] nodes = Arrays.copyOf(this.nodes, this.nodes.length + 1);
+        nodes[nodes.length - 1] = node;
+        this.nodes = nodes;
+    }
+
+    /**
+     * 移除节点，最后一个节点补到其位置
+     *
+     * @param node 节点对象
+     */
+    public synchronized void remove(T node) {
+        final Object[] nodes = this.nodes;
+        for (int i = 0; i < nodes.length; i++) {
+            if (Objects.equals(nodes[i], node)) {
+                final Object[] newNodes = Arrays.copyOf(nodes, nodes.length - 1);
+                if (i < newNodes.length) {
+                    newNodes[i] = nodes[nodes.length - 1];
+                }
+                this.nodes = newNodes;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 获得键对应的节点
+     *
+     * @param key 键
+     * @return 节点对象，没有节点时返回{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public T get(Object key) {
+        final Object[] nodes = this.nodes;
+        if (0 == nodes.length) {
+            return null;
+        }
+        final long hash = (null == hashFunc) ? MurmurHash.hash64(key.toString()) : hashFunc.hash(key);
+        return (T) nodes[bucket(hash, nodes.length)];
+    }
+
+    /**
+     * 节点个数
+     *
+     * @return 节点个数
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+}
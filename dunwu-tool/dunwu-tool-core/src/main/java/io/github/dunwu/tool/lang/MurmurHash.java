@@ -350,7 +350,14 @@ public class MurmurHash implements Serializable {
         return hash;
     }
 
-    private static long fmix64(long h) {
+    /**
+     * MurmurHash3的64位最终混合函数fmix64，为一一映射，输入的每一位都会影响输出的所有位
+     *
+     * @param h 输入
+     * @return 混合后的值
+     * @since 2026-10-18
+     */
+    public static long fmix64(long h) {
         h ^= (h >>> 33);
         h *= 0xff51afd7ed558ccdL;
         h ^= (h >>> 33);
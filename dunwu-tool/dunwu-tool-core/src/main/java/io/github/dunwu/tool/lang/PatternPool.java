@@ -0,0 +1,160 @@
+package io.github.dunwu.tool.lang;
+
+import java.util.regex.Pattern;
+
+/**
+ * 正则模式池<br> 按（正则表达式，匹配标志）缓存编译后的{@link Pattern}，避免每次匹配都重新编译。{@link Pattern}本身不可变，可以在多线程间共享。
+ * <p>
+ * 池的容量有上限（默认{@link #DEFAULT_CAPACITY}），超过容量时淘汰最近最少使用的模式，
+ * 因此即使调用方传入动态拼接的正则表达式，内存占用也不会无限增长。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class PatternPool {
+
+    /**
+     * 默认容量
+     */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final SimpleCache<RegexWithFlag, Pattern> POOL =
+        new SimpleCache<>(DEFAULT_CAPACITY, SimpleCache.EvictionPolicy.LRU);
+
+    private PatternPool() {
+    }
+
+    /**
+     * 获取正则模式，不存在时编译并放入池中
+     *
+     * @param regex 正则表达式
+     * @return {@link Pattern}
+     * @throws java.util.regex.PatternSyntaxException 正则表达式语法错误
+     */
+    public static Pattern get(String regex) {
+        return get(regex, 0);
+    }
+
+    /**
+     * 获取正则模式，不存在时编译并放入池中
+     *
+     * @param regex 正则表达式
+     * @param flags 匹配标志，见{@link Pattern#compile(String, int)}
+     * @return {@link Pattern}
+     * @throws java.util.regex.PatternSyntaxException 正则表达式语法错误
+     */
+    public static Pattern get(String regex, int flags) {
+        Assert.notNull(regex, "Regex must not be null");
+        return POOL.get(new RegexWithFlag(regex, flags), () -> Pattern.compile(regex, flags));
+    }
+
+    /**
+     * 从池中移除正则模式
+     *
+     * @param regex 正则表达式
+     * @param flags 匹配标志
+     * @return 移除的{@link Pattern}，不存在返回{@code null}
+     */
+    public static Pattern remove(String regex, int flags) {
+        if (null == regex) {
+            return null;
+        }
+        return POOL.remove(new RegexWithFlag(regex, flags));
+    }
+
+    /**
+     * 清空池
+     */
+    public static void clear() {
+        POOL.clear();
+    }
+
+    /**
+     * 池中的模式数量
+     *
+     * @return 模式数量
+     */
+    public static int size() {
+        return POOL.size();
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return 命中次数
+     */
+    public static long getHitCount() {
+        return POOL.getHitCount();
+    }
+
+    /**
+     * 未命中（即编译）次数
+     *
+     * @return 未命中次数
+     */
+    public static long getMissCount() {
+        return POOL.getMissCount();
+    }
+
+    /**
+     * 因超过容量被淘汰的模式数量
+     *
+     * @return 淘汰数量
+     */
+    public static long getEvictionCount() {
+        return POOL.getEvictionCount();
+    }
+
+    /**
+     * 命中率，无访问时为0
+     *
+     * @return 命中率，0到1之间
+     */
+    public static double getHitRate() {
+        final long hit = POOL.getHitCount();
+        final long total = hit + POOL.getMissCount();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    /**
+     * 重置统计数据
+     */
+    public static void resetStats() {
+        POOL.resetStats();
+    }
+
+    /**
+     * 正则表达式和匹配标志组成的键
+     */
+    private static final class RegexWithFlag {
+
+        private final String regex;
+
+        private final int flags;
+
+        RegexWithFlag(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return regex.hashCode() * 31 + flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (false == obj instanceof RegexWithFlag) {
+                return false;
+            }
+            final RegexWithFlag other = (RegexWithFlag) obj;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+    }
+
+}
@@ -3,14 +3,28 @@ package io.github.dunwu.tool.lang;
 import io.github.dunwu.tool.lang.func.Func0;
 
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * 简单缓存，无超时实现，使用{@link WeakHashMap}实现缓存自动清理
+ * 简单缓存，无超时实现<br>
+ * 底层使用{@link ConcurrentHashMap}，读操作无锁，未命中时只对当前键加锁计算值，不同键的计算互不阻塞。<br>
+ * 回调中再次访问缓存（包括其它SimpleCache）时未命中的值不加锁计算，不等待其它线程，避免回调互相访问时形成循环等待。<br>
+ * 支持以下特性：
+ * <ul>
+ *     <li>弱引用键（默认）：键被GC回收后缓存项自动清理，行为与{@link java.util.WeakHashMap}一致</li>
+ *     <li>强引用键：键不会被回收，适合键生命周期较短（如字符串）的场景</li>
+ *     <li>容量限制：超过容量时按{@link EvictionPolicy}淘汰（LRU或LFU），淘汰为批量近似淘汰</li>
+ *     <li>命中、未命中、淘汰次数统计</li>
+ * </ul>
  *
  * @param <K> 键类型
  * @param <V> 值类型
@@ -20,44 +34,164 @@ public class SimpleCache<K, V> implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * 超过容量时，每次批量淘汰的比例（容量的1/8），用于摊薄淘汰时的排序开销
+     */
+    private static final int EVICTION_BATCH_SHIFT = 3;
+
+    /**
+     * null键的占位键
+     */
+    private static final Object NULL_KEY = new Object();
+
+    /**
+     * 当前线程正在执行的回调层数，所有缓存共用
+     */
+    private static final ThreadLocal<int[]> COMPUTING = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * 容量上限，小于等于0表示不限制
+     */
+    private final int capacity;
+
+    /**
+     * 淘汰策略
+     */
+    private final EvictionPolicy evictionPolicy;
+
+    /**
+     * 是否使用弱引用键
+     */
+    private final boolean weakKey;
+
     /**
      * 池
      */
-    private final Map<K, V> cache = new WeakHashMap<>();
+    private transient ConcurrentHashMap<Object, CacheEntry<V>> cache;
+
+    /**
+     * 被GC回收的弱引用键队列
+     */
+    private transient ReferenceQueue<Object> staleKeys;
+
+    /**
+     * 淘汰锁，保证同一时刻只有一个线程执行淘汰
+     */
+    private transient ReentrantLock evictionLock;
 
-    private final ReentrantReadWriteLock cacheLock = new ReentrantReadWriteLock();
+    private transient LongAdder hitCount;
 
-    private final ReadLock readLock = cacheLock.readLock();
+    private transient LongAdder missCount;
 
-    private final WriteLock writeLock = cacheLock.writeLock();
+    private transient LongAdder evictionCount;
 
     /**
-     * 从缓存中获得对象，当对象不在缓存中或已经过期返回Func0回调产生的对象
+     * 构造，弱引用键，不限容量
+     */
+    public SimpleCache() {
+        this(0, EvictionPolicy.LRU, true);
+    }
+
+    /**
+     * 构造，强引用键
+     *
+     * @param capacity       容量上限，小于等于0表示不限制
+     * @param evictionPolicy 超过容量时的淘汰策略
+     */
+    public SimpleCache(int capacity, EvictionPolicy evictionPolicy) {
+        this(capacity, evictionPolicy, false);
+    }
+
+    /**
+     * 构造
+     *
+     * @param capacity       容量上限，小于等于0表示不限制
+     * @param evictionPolicy 超过容量时的淘汰策略
+     * @param weakKey        是否使用弱引用键
+     */
+    public SimpleCache(int capacity, EvictionPolicy evictionPolicy, boolean weakKey) {
+        this.capacity = capacity;
+        this.evictionPolicy = null == evictionPolicy ? EvictionPolicy.LRU : evictionPolicy;
+        this.weakKey = weakKey;
+        init();
+    }
+
+    private void init() {
+        this.cache = new ConcurrentHashMap<>();
+        this.staleKeys = weakKey ? new ReferenceQueue<>() : null;
+        this.evictionLock = new ReentrantLock();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+    }
+
+    /**
+     * 从缓存中获得对象，当对象不在缓存中或已经过期返回Func0回调产生的对象<br>
+     * 同一个键并发未命中时，回调只会被执行一次，其它线程等待其结果；不同键之间互不阻塞<br>
+     * 在回调中调用此方法时不等待其它线程正在计算的键，而是直接执行回调：键X的回调读取键Y、键Y的回调同时读取键X时不会死锁，
+     * 此时回调可能被执行多次，其它线程正在计算的键以其计算结果为准
      *
      * @param key      键
      * @param supplier 如果不存在回调方法，用于生产值对象
      * @return 值对象
      */
     public V get(K key, Func0<V> supplier) {
-        V v = get(key);
-        if (null == v && null != supplier) {
-            writeLock.lock();
-            try {
-                // 双重检查锁
-                v = cache.get(key);
+        CacheEntry<V> entry = getEntry(key);
+        if (null != entry && entry.ready) {
+            hitCount.increment();
+            return entry.value;
+        }
+        missCount.increment();
+        if (null == supplier) {
+            return null;
+        }
+
+        expungeStaleEntries();
+        final int[] computing = COMPUTING.get();
+        if (computing[0] > 0) {
+            return getNested(key, supplier);
+        }
+        if (null == entry) {
+            final CacheEntry<V> newEntry = new CacheEntry<>();
+            entry = cache.putIfAbsent(wrapKey(key), newEntry);
+            if (null == entry) {
+                entry = newEntry;
+            }
+        }
+
+        boolean created = false;
+        synchronized (entry) {
+            // 双重检查，其它线程可能已完成计算
+            if (!entry.ready) {
+                final V v;
+                computing[0]++;
+                try {
+                    v = supplier.call();
+                } catch (RuntimeException e) {
+                    cache.remove(lookupKey(key), entry);
+                    throw e;
+                } catch (Exception e) {
+                    cache.remove(lookupKey(key), entry);
+                    throw new RuntimeException(e);
+                } finally {
+                    computing[0]--;
+                }
                 if (null == v) {
-                    try {
-                        v = supplier.call();
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
-                    }
-                    cache.put(key, v);
+                    cache.remove(lookupKey(key), entry);
+                    return null;
                 }
-            } finally {
-                writeLock.unlock();
+                entry.value = v;
+                entry.ready = true;
+                touch(entry);
+                // 计算失败的线程可能已将此项移除，成功后重新放入
+                cache.putIfAbsent(wrapKey(key), entry);
+                created = true;
             }
         }
-        return v;
+        if (created) {
+            evictIfNecessary();
+        }
+        return entry.value;
     }
 
     /**
@@ -67,15 +201,13 @@ public class SimpleCache<K, V> implements Serializable {
      * @return 值
      */
     public V get(K key) {
-        // 尝试读取缓存
-        readLock.lock();
-        V value;
-        try {
-            value = cache.get(key);
-        } finally {
-            readLock.unlock();
+        final CacheEntry<V> entry = getEntry(key);
+        if (null != entry && entry.ready) {
+            hitCount.increment();
+            return entry.value;
         }
-        return value;
+        missCount.increment();
+        return null;
     }
 
     /**
@@ -86,12 +218,17 @@ public class SimpleCache<K, V> implements Serializable {
      * @return 值
      */
     public V put(K key, V value) {
-        writeLock.lock();
-        try {
-            cache.put(key, value);
-        } finally {
-            writeLock.unlock();
+        expungeStaleEntries();
+        if (null == value) {
+            cache.remove(lookupKey(key));
+            return null;
         }
+        final CacheEntry<V> entry = new CacheEntry<>();
+        entry.value = value;
+        entry.ready = true;
+        touch(entry);
+        cache.put(wrapKey(key), entry);
+        evictIfNecessary();
         return value;
     }
 
@@ -102,23 +239,322 @@ public class SimpleCache<K, V> implements Serializable {
      * @return 移除的值
      */
     public V remove(K key) {
-        writeLock.lock();
-        try {
-            return cache.remove(key);
-        } finally {
-            writeLock.unlock();
-        }
+        expungeStaleEntries();
+        final CacheEntry<V> entry = cache.remove(lookupKey(key));
+        return null == entry ? null : entry.value;
     }
 
     /**
      * 清空缓存池
      */
     public void clear() {
-        writeLock.lock();
+        this.cache.clear();
+        expungeStaleEntries();
+    }
+
+    /**
+     * 缓存项数量，包括正在计算中的项
+     *
+     * @return 缓存项数量
+     */
+    public int size() {
+        expungeStaleEntries();
+        return cache.size();
+    }
+
+    /**
+     * 容量上限，小于等于0表示不限制
+     *
+     * @return 容量上限
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 淘汰策略
+     *
+     * @return 淘汰策略
+     */
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * 是否使用弱引用键
+     *
+     * @return 是否使用弱引用键
+     */
+    public boolean isWeakKey() {
+        return weakKey;
+    }
+
+    /**
+     * 命中次数
+     *
+     * @return 命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 未命中次数
+     *
+     * @return 未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 因超过容量被淘汰的缓存项数量
+     *
+     * @return 淘汰次数
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 重置命中、未命中、淘汰统计
+     */
+    public void resetStats() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    // ---------------------------------------------------------------------------- Private method start
+
+    /**
+     * 在回调中未命中时不加锁计算，计算结果只在键不存在时放入，其它线程正在计算的项不被替换
+     */
+    private V getNested(K key, Func0<V> supplier) {
+        final V v;
         try {
-            this.cache.clear();
+            v = supplier.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+        if (null == v) {
+            return null;
+        }
+        final CacheEntry<V> entry = new CacheEntry<>();
+        entry.value = v;
+        entry.ready = true;
+        touch(entry);
+        final CacheEntry<V> existing = cache.putIfAbsent(wrapKey(key), entry);
+        if (null == existing) {
+            evictIfNecessary();
+            return v;
+        }
+        return existing.ready ? existing.value : v;
+    }
+
+    private CacheEntry<V> getEntry(K key) {
+        final CacheEntry<V> entry = cache.get(lookupKey(key));
+        if (null != entry && capacity > 0) {
+            touch(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * 记录访问，LRU记录访问时间，LFU累加访问次数（非原子累加，统计允许有误差）
+     */
+    private void touch(CacheEntry<V> entry) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (evictionPolicy == EvictionPolicy.LFU) {
+            entry.score++;
+        } else {
+            entry.score = System.nanoTime();
+        }
+    }
+
+    /**
+     * 超过容量时批量淘汰分值最低的项，直到容量的7/8。只有一个线程执行淘汰，其它线程直接返回
+     */
+    private void evictIfNecessary() {
+        if (capacity <= 0 || cache.size() <= capacity || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            final int size = cache.size();
+            if (size <= capacity) {
+                return;
+            }
+            final int target = capacity - (capacity >> EVICTION_BATCH_SHIFT);
+            final List<Map.Entry<Object, CacheEntry<V>>> candidates = new ArrayList<>(size);
+            for (Map.Entry<Object, CacheEntry<V>> e : cache.entrySet()) {
+                if (e.getValue().ready) {
+                    candidates.add(e);
+                }
+            }
+            candidates.sort(Comparator.comparingLong(e -> e.getValue().score));
+            int toEvict = size - target;
+            for (int i = 0; i < candidates.size() && toEvict > 0; i++) {
+                final Map.Entry<Object, CacheEntry<V>> e = candidates.get(i);
+                if (cache.remove(e.getKey(), e.getValue())) {
+                    evictionCount.increment();
+                    toEvict--;
+                }
+            }
+            if (evictionPolicy == EvictionPolicy.LFU) {
+                // 衰减访问次数，避免历史热点长期占用缓存
+                for (CacheEntry<V> entry : cache.values()) {
+                    entry.score >>= 1;
+                }
+            }
         } finally {
-            writeLock.unlock();
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 清理键已被GC回收的缓存项
+     */
+    private void expungeStaleEntries() {
+        if (null == staleKeys) {
+            return;
+        }
+        Reference<?> ref;
+        while (null != (ref = staleKeys.poll())) {
+            cache.remove(ref);
+        }
+    }
+
+    /**
+     * 包装用于存储的键，弱引用模式下使用{@link WeakKey}
+     */
+    private Object wrapKey(K key) {
+        if (null == key) {
+            return NULL_KEY;
+        }
+        return weakKey ? new WeakKey(key, staleKeys) : key;
+    }
+
+    /**
+     * 包装用于查找的键，弱引用模式下使用轻量的{@link LookupKey}，避免创建弱引用对象
+     */
+    private Object lookupKey(K key) {
+        if (null == key) {
+            return NULL_KEY;
+        }
+        return weakKey ? new LookupKey(key) : key;
+    }
+
+    /**
+     * 反序列化后重建一个同样配置的空缓存
+     */
+    private Object readResolve() {
+        init();
+        return this;
+    }
+
+    // ---------------------------------------------------------------------------- Private method end
+
+    /**
+     * 淘汰策略
+     */
+    public enum EvictionPolicy {
+        /**
+         * 最近最少使用
+         */
+        LRU,
+        /**
+         * 最不经常使用
+         */
+        LFU
+    }
+
+    /**
+     * 缓存项，ready为false时表示值正在计算中
+     *
+     * @param <V> 值类型
+     */
+    private static class CacheEntry<V> {
+
+        volatile V value;
+
+        volatile boolean ready;
+
+        /**
+         * LRU为最后访问时间，LFU为访问次数
+         */
+        volatile long score;
+    }
+
+    /**
+     * 弱引用键，hash和equals与原始键一致
+     */
+    private static class WeakKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        WeakKey(Object key, ReferenceQueue<Object> queue) {
+            super(key, queue);
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            final Object key = get();
+            if (null == key) {
+                // 已被回收的键只与自身相等
+                return false;
+            }
+            if (obj instanceof WeakKey) {
+                return key.equals(((WeakKey) obj).get());
+            }
+            if (obj instanceof LookupKey) {
+                return key.equals(((LookupKey) obj).key);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 查找用键，强引用，与{@link WeakKey}可互相比较
+     */
+    private static class LookupKey {
+
+        private final Object key;
+
+        private final int hash;
+
+        LookupKey(Object key) {
+            this.key = key;
+            this.hash = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof WeakKey) {
+                final Object other = ((WeakKey) obj).get();
+                return null != other && other.equals(key);
+            }
+            return obj instanceof LookupKey && key.equals(((LookupKey) obj).key);
         }
     }
 
@@ -4,6 +4,7 @@ import io.github.dunwu.tool.date.SystemClock;
 import io.github.dunwu.tool.util.StringUtil;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Twitter的Snowflake 算法<br> 分布式系统中，有一些需要使用全局唯一ID的场景，有些时候我们希望能使用一种简单一些的ID，并且希望ID能够按照时间有序生成。
@@ -56,15 +57,32 @@ public class Snowflake implements Serializable {
 
     private final long sequenceMask = -1L ^ (-1L << sequenceBits);// 4095
 
-    private long workerId;
+    /**
+     * 默认允许的时钟回拨毫秒数
+     */
+    public static final long DEFAULT_MAX_BACKWARD_MILLIS = 10L;
 
-    private long datacenterId;
+    private final boolean useSystemClock;
 
-    private long sequence = 0L;
+    /**
+     * 允许的时钟回拨毫秒数，回拨在此范围内时沿用上次的时间戳继续生成，超出时抛出异常
+     */
+    private final long maxBackwardMillis;
 
-    private long lastTimestamp = -1L;
+    /**
+     * 机器节点和数据中心节点部分，构造时预先计算
+     */
+    private final long nodeBits;
 
-    private boolean useSystemClock;
+    /**
+     * 最后一次分配的状态：高位为相对twepoch的时间戳，低12位为序列号。 序列号溢出时进位到时间戳，即预借下一毫秒，而不是自旋等待
+     */
+    private final AtomicLong state = new AtomicLong(-1L);
+
+    /**
+     * 观察到的最大系统时间（相对twepoch），用于区分时钟回拨和序列号预借
+     */
+    private volatile long lastWallTime = -1L;
 
     /**
      * 构造
@@ -84,6 +102,18 @@ public class Snowflake implements Serializable {
      * @param isUseSystemClock 是否使用{@link SystemClock} 获取当前时间戳
      */
     public Snowflake(long workerId, long datacenterId, boolean isUseSystemClock) {
+        this(workerId, datacenterId, isUseSystemClock, DEFAULT_MAX_BACKWARD_MILLIS);
+    }
+
+    /**
+     * 构造
+     *
+     * @param workerId          终端ID
+     * @param datacenterId      数据中心ID
+     * @param isUseSystemClock  是否使用{@link SystemClock} 获取当前时间戳
+     * @param maxBackwardMillis 允许的时钟回拨毫秒数，回拨在此范围内时不抛出异常，继续生成有序ID
+     */
+    public Snowflake(long workerId, long datacenterId, boolean isUseSystemClock, long maxBackwardMillis) {
         if (workerId > maxWorkerId || workerId < 0) {
             throw new IllegalArgumentException(
                 StringUtil.format("worker Id can't be greater than {} or less than 0", maxWorkerId));
@@ -92,9 +122,12 @@ public class Snowflake implements Serializable {
             throw new IllegalArgumentException(
                 StringUtil.format("datacenter Id can't be greater than {} or less than 0", maxDatacenterId));
         }
-        this.workerId = workerId;
-        this.datacenterId = datacenterId;
+        if (maxBackwardMillis < 0) {
+            throw new IllegalArgumentException("max backward millis can't be less than 0");
+        }
         this.useSystemClock = isUseSystemClock;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.nodeBits = (datacenterId << datacenterIdShift) | (workerId << workerIdShift);
     }
 
     /**
@@ -137,47 +170,102 @@ public class Snowflake implements Serializable {
     }
 
     /**
-     * 下一个ID
+     * 下一个ID<br> 无锁实现，通过CAS更新时间戳和序列号；同一毫秒内序列号用尽时预借下一毫秒，不做自旋等待
      *
      * @return ID
      */
-    public synchronized long nextId() {
-        long timestamp = genTime();
-        if (timestamp < lastTimestamp) {
-            // 如果服务器时间有问题(时钟后退) 报错。
-            throw new IllegalStateException(
-                StringUtil.format("Clock moved backwards. Refusing to generate id for {}ms",
-                    lastTimestamp - timestamp));
+    public long nextId() {
+        return toId(reserve(1));
+    }
+
+    /**
+     * 批量获取ID，一次CAS预留一段连续的序列号，返回的ID递增
+     *
+     * @param n ID个数
+     * @return ID数组
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n can't be less than 0");
         }
-        if (lastTimestamp == timestamp) {
-            sequence = (sequence + 1) & sequenceMask;
-            if (sequence == 0) {
-                timestamp = tilNextMillis(lastTimestamp);
+        final long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            // 每次最多预留一毫秒的序列号，避免时间戳被预借过多
+            final int count = (int) Math.min(n - filled, sequenceMask + 1);
+            final long last = reserve(count);
+            for (long s = last - count + 1; s <= last; s++) {
+                ids[filled++] = toId(s);
             }
-        } else {
-            sequence = 0L;
         }
-
-        lastTimestamp = timestamp;
-
-        return ((timestamp - twepoch) << timestampLeftShift) | (datacenterId << datacenterIdShift) | (workerId
-            << workerIdShift) | sequence;
+        return ids;
     }
 
     // ------------------------------------------------------------------------------------------------------------------------------------ Private method start
 
     /**
-     * 循环等待下一个时间
+     * 预留count个连续的序列号
      *
-     * @param lastTimestamp 上次记录的时间
-     * @return 下一个时间
+     * @param count 个数，不超过一毫秒的序列号数
+     * @return 预留的最后一个状态值（时间戳和序列号）
      */
-    private long tilNextMillis(long lastTimestamp) {
-        long timestamp = genTime();
-        while (timestamp <= lastTimestamp) {
-            timestamp = genTime();
+    private long reserve(int count) {
+        for (;;) {
+            final long current = state.get();
+            final long now = genTime() - twepoch;
+            final long wallTime = updateWallTime(now);
+            final long currentTime = current >> sequenceBits;
+
+            final long next;
+            if (now > currentTime) {
+                // 新的毫秒，序列号从0开始
+                next = (now << sequenceBits) + count - 1;
+            } else {
+                // 同一毫秒、时钟回拨或已预借，在上次的基础上递增，溢出时进位到下一毫秒
+                next = current + count;
+            }
+
+            final long ahead = (next >> sequenceBits) - now;
+            if (ahead > maxBackwardMillis) {
+                if (wallTime - now > maxBackwardMillis) {
+                    // 如果服务器时间有问题(时钟后退) 报错。
+                    throw new IllegalStateException(
+                        StringUtil.format("Clock moved backwards. Refusing to generate id for {}ms", wallTime - now));
+                }
+                // 预借超出允许范围，让出CPU等待时间追上
+                Thread.yield();
+                continue;
+            }
+            if (state.compareAndSet(current, next)) {
+                return next;
+            }
         }
-        return timestamp;
+    }
+
+    /**
+     * 记录观察到的最大系统时间
+     *
+     * @param now 当前时间（相对twepoch）
+     * @return 观察到的最大系统时间
+     */
+    private long updateWallTime(long now) {
+        final long wallTime = this.lastWallTime;
+        if (now > wallTime) {
+            // 非原子更新，只用于判断时钟回拨，允许少量误差
+            this.lastWallTime = now;
+            return now;
+        }
+        return wallTime;
+    }
+
+    /**
+     * 状态值转为ID
+     *
+     * @param stateValue 状态值（时间戳和序列号）
+     * @return ID
+     */
+    private long toId(long stateValue) {
+        return ((stateValue >> sequenceBits) << timestampLeftShift) | nodeBits | (stateValue & sequenceMask);
     }
 
     /**
@@ -0,0 +1,207 @@
+package io.github.dunwu.tool.text;
+
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.lang.MurmurHash;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * MinHash 文本相似度估算<br> 将文本切分为连续k个字符的片段（shingle），以片段集合的Jaccard系数作为相似度。
+ * <p>
+ * 每个文本只需计算一次固定长度的签名，两个签名中相同位置取值相等的比例即为Jaccard系数的无偏估计，比较耗时与文本长度无关，
+ * 适合长文本或一对多的大批量比较；需要精确结果时使用{@link #jaccard(CharSequence, CharSequence, int)}。
+ * </p>
+ * 相同参数的实例生成的签名可以相互比较。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class MinHash {
+
+    /**
+     * 默认签名长度
+     */
+    public static final int DEFAULT_NUM_HASHES = 128;
+
+    /**
+     * 默认片段长度
+     */
+    public static final int DEFAULT_SHINGLE_SIZE = 3;
+
+    private final int numHashes;
+
+    private final int shingleSize;
+
+    private final long[] seeds;
+
+    /**
+     * 构造，使用默认签名长度和片段长度
+     */
+    public MinHash() {
+        this(DEFAULT_NUM_HASHES, DEFAULT_SHINGLE_SIZE);
+    }
+
+    /**
+     * 构造
+     *
+     * @param numHashes   签名长度，越长估算误差越小，误差约为1/√numHashes
+     * @param shingleSize 片段长度
+     */
+    public MinHash(int numHashes, int shingleSize) {
+        Assert.isTrue(numHashes > 0, "Num hashes must be greater than 0");
+        Assert.isTrue(shingleSize > 0, "Shingle size must be greater than 0");
+        this.numHashes = numHashes;
+        this.shingleSize = shingleSize;
+        this.seeds = new long[numHashes];
+        for (int i = 0; i < numHashes; i++) {
+            seeds[i] = MurmurHash.fmix64((i + 1) * 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * 计算文本的签名
+     *
+     * @param text 文本
+     * @return 签名，长度为numHashes
+     */
+    public long[] signature(CharSequence text) {
+        final long[] signature = new long[numHashes];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long shingle : shingles(text, shingleSize)) {
+            long h;
+            for (int i = 0; i < numHashes; i++) {
+                h = MurmurHash.fmix64(shingle ^ seeds[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 比较两个签名，返回估算的Jaccard系数
+     *
+     * @param signatureA 签名1
+     * @param signatureB 签名2
+     * @return 相似度，0到1之间
+     */
+    public double similarity(long[] signatureA, long[] signatureB) {
+        Assert.isTrue(signatureA.length == numHashes && signatureB.length == numHashes,
+            "Signature length must be {}", numHashes);
+        int same = 0;
+        for (int i = 0; i < numHashes; i++) {
+            if (signatureA[i] == signatureB[i]) {
+                same++;
+            }
+        }
+        return (double) same / numHashes;
+    }
+
+    /**
+     * 估算两个文本的相似度
+     *
+     * @param strA 文本1
+     * @param strB 文本2
+     * @return 相似度，0到1之间
+     */
+    public double similar(CharSequence strA, CharSequence strB) {
+        return similarity(signature(strA), signature(strB));
+    }
+
+    /**
+     * 估算一个文本与多个文本的相似度，使用{@link ForkJoinPool#commonPool()}并行计算
+     *
+     * @param source  文本
+     * @param targets 被比较的文本列表
+     * @return 与targets一一对应的相似度
+     */
+    public double[] similarAll(CharSequence source, List<? extends CharSequence> targets) {
+        return similarAll(source, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 估算一个文本与多个文本的相似度，在指定的{@link ForkJoinPool}上并行计算
+     *
+     * @param source  文本
+     * @param targets 被比较的文本列表
+     * @param pool    并行计算使用的线程池
+     * @return 与targets一一对应的相似度
+     */
+    public double[] similarAll(CharSequence source, List<? extends CharSequence> targets, ForkJoinPool pool) {
+        final long[] sourceSignature = signature(source);
+        final double[] result = new double[targets.size()];
+        pool.submit(() -> IntStream.range(0, result.length).parallel()
+            .forEach(i -> result[i] = similarity(sourceSignature, signature(targets.get(i))))).join();
+        return result;
+    }
+
+    /**
+     * 计算两个文本片段集合的精确Jaccard系数，两个文本均为空时返回1
+     *
+     * @param strA        文本1
+     * @param strB        文本2
+     * @param shingleSize 片段长度
+     * @return 相似度，0到1之间
+     */
+    public static double jaccard(CharSequence strA, CharSequence strB, int shingleSize) {
+        Assert.isTrue(shingleSize > 0, "Shingle size must be greater than 0");
+        final long[] a = shingles(strA, shingleSize);
+        final long[] b = shingles(strB, shingleSize);
+        if (0 == a.length && 0 == b.length) {
+            return 1;
+        }
+        int i = 0, j = 0, intersection = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                intersection++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) intersection / (a.length + b.length - intersection);
+    }
+
+    // ---------------------------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 计算文本所有片段的哈希值，已排序去重<br> 文本短于片段长度时整个文本作为一个片段，空文本没有片段
+     *
+     * @param text        文本
+     * @param shingleSize 片段长度
+     * @return 片段哈希值
+     */
+    private static long[] shingles(CharSequence text, int shingleSize) {
+        final int length = text.length();
+        if (0 == length) {
+            return new long[0];
+        }
+        final int size = Math.min(shingleSize, length);
+        final long[] hashes = new long[length - size + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            long h = size;
+            for (int j = i; j < i + size; j++) {
+                h = h * 31 + text.charAt(j);
+            }
+            hashes[i] = MurmurHash.fmix64(h);
+        }
+        Arrays.sort(hashes);
+
+        int distinct = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (0 == i || hashes[i] != hashes[i - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return (distinct == hashes.length) ? hashes : Arrays.copyOf(hashes, distinct);
+    }
+    // ---------------------------------------------------------------------------------------------------------- Private method end
+
+}
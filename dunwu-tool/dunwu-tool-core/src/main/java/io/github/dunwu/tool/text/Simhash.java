@@ -1,12 +1,17 @@
 package io.github.dunwu.tool.text;
 
+import io.github.dunwu.tool.io.IORuntimeException;
+import io.github.dunwu.tool.lang.Assert;
 import io.github.dunwu.tool.lang.MurmurHash;
 
-import java.math.BigInteger;
-import java.util.*;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 /**
  * <p>
@@ -17,11 +22,26 @@ import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
  * 局部敏感hash定义：假定两个字符串具有一定的相似性，在hash之后，仍然能保持这种相似性，就称之为局部敏感hash。
  * </p>
  *
+ * <p>
+ * 存储时将64位的simhash按位切分为若干段，每段一个以段值为键的索引，查找时只需比较至少一段相同的simhash。
+ * 各段索引使用开放寻址的long键哈希表，值为long数组，各自持有读写锁，不同段之间的读写互不阻塞。
+ * </p>
+ *
  * @author Looly, litaoxiao
  * @since 4.3.3
  */
 public class Simhash {
 
+    /**
+     * 持久化文件的标识
+     */
+    private static final int FILE_MAGIC = 0x53484958;
+
+    /**
+     * 持久化文件的头部长度：标识、段数、汉明距离标准、数量
+     */
+    private static final int FILE_HEADER_SIZE = 4 + 4 + 4 + 8;
+
     private final int bitNum = 64;
 
     /**
@@ -31,6 +51,11 @@ public class Simhash {
 
     private final int fracBitNum;
 
+    /**
+     * 段值的掩码
+     */
+    private final long fracMask;
+
     /**
      * 汉明距离的衡量标准，小于此距离标准表示相似
      */
@@ -39,9 +64,7 @@ public class Simhash {
     /**
      * 按照分段存储simhash，查找更快速
      */
-    private List<Map<String, List<Long>>> storage;
-
-    private ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Band[] storage;
 
     /**
      * 构造
@@ -53,16 +76,18 @@ public class Simhash {
     /**
      * 构造
      *
-     * @param fracCount     存储段数
+     * @param fracCount     存储段数，1到64之间
      * @param hammingThresh 汉明距离的衡量标准
      */
     public Simhash(int fracCount, int hammingThresh) {
+        Assert.isTrue(fracCount > 0 && fracCount <= bitNum, "Frac count must be between 1 and {}", bitNum);
         this.fracCount = fracCount;
         this.fracBitNum = bitNum / fracCount;
+        this.fracMask = (fracBitNum == bitNum) ? -1L : (1L << fracBitNum) - 1;
         this.hammingThresh = hammingThresh;
-        this.storage = new ArrayList<>(fracCount);
+        this.storage = new Band[fracCount];
         for (int i = 0; i < fracCount; i++) {
-            storage.add(new HashMap<String, List<Long>>());
+            storage[i] = new Band();
         }
     }
 
@@ -73,33 +98,38 @@ public class Simhash {
      * @return 是否重复
      */
     public boolean equals(Collection<? extends CharSequence> segList) {
-        long simhash = hash(segList);
-        final List<String> fracList = splitSimhash(simhash);
-        final int hammingThresh = this.hammingThresh;
-
-        String frac;
-        Map<String, List<Long>> fracMap;
-        final ReadLock readLock = this.lock.readLock();
-        readLock.lock();
-        try {
-            for (int i = 0; i < fracCount; i++) {
-                frac = fracList.get(i);
-                fracMap = storage.get(i);
-                if (fracMap.containsKey(frac)) {
-                    for (Long simhash2 : fracMap.get(frac)) {
-                        // 当汉明距离小于标准时相似
-                        if (hamming(simhash, simhash2) < hammingThresh) {
-                            return true;
-                        }
-                    }
-                }
+        return contains(hash(segList));
+    }
+
+    /**
+     * 判断simhash是否与已存储的数据重复，即存在汉明距离小于标准的simhash
+     *
+     * @param simhash Simhash值
+     * @return 是否重复
+     */
+    public boolean contains(long simhash) {
+        for (int i = 0; i < fracCount; i++) {
+            if (storage[i].containsNear(frac(simhash, i), simhash, hammingThresh)) {
+                return true;
             }
-        } finally {
-            readLock.unlock();
         }
         return false;
     }
 
+    /**
+     * 批量判断simhash是否与已存储的数据重复，每段索引只加锁一次
+     *
+     * @param simhashes Simhash值
+     * @return 与参数一一对应的是否重复
+     */
+    public boolean[] queryAll(long... simhashes) {
+        final boolean[] result = new boolean[simhashes.length];
+        for (int i = 0; i < fracCount; i++) {
+            storage[i].containsNearAll(this, i, simhashes, result);
+        }
+        return result;
+    }
+
     /**
      * 指定文本计算simhash值
      *
@@ -114,88 +144,291 @@ public class Simhash {
         for (CharSequence seg : segList) {
             wordHash = MurmurHash.hash64(seg);
             for (int i = 0; i < bitNum; i++) {
-                if (((wordHash >> i) & 1) == 1) { weight[i] += 1; } else { weight[i] -= 1; }
+                weight[i] += (int) ((wordHash >>> i & 1L) << 1) - 1;
             }
         }
 
-        // 计算得到Simhash值
-        final StringBuilder sb = new StringBuilder();
+        // 计算得到Simhash值，第i位的权重对应结果的第(bitNum - 1 - i)位
+        long simhash = 0;
         for (int i = 0; i < bitNum; i++) {
-            sb.append((weight[i] > 0) ? 1 : 0);
+            if (weight[i] > 0) {
+                simhash |= 1L << (bitNum - 1 - i);
+            }
         }
+        return simhash;
+    }
 
-        return new BigInteger(sb.toString(), 2).longValue();
+    /**
+     * 按照(frac, 《simhash, content》)索引进行存储
+     *
+     * @param simhash Simhash值
+     */
+    public void store(Long simhash) {
+        final long value = simhash;
+        for (int i = 0; i < fracCount; i++) {
+            storage[i].add(frac(value, i), value);
+        }
     }
 
     /**
-     * 计算汉明距离
+     * 批量存储，每段索引只加锁一次
      *
-     * @param s1 值1
-     * @param s2 值2
-     * @return 汉明距离
+     * @param simhashes Simhash值
      */
-    private int hamming(Long s1, Long s2) {
-        final int bitNum = this.bitNum;
-        int dis = 0;
-        for (int i = 0; i < bitNum; i++) {
-            if ((s1 >> i & 1) != (s2 >> i & 1)) { dis++; }
+    public void storeAll(long... simhashes) {
+        for (int i = 0; i < fracCount; i++) {
+            storage[i].addAll(this, i, simhashes);
         }
-        return dis;
     }
 
-    //------------------------------------------------------------------------------------------------------ Private method start
+    /**
+     * 已存储的simhash数量
+     *
+     * @return 数量
+     */
+    public long size() {
+        return storage[0].valueCount();
+    }
 
     /**
-     * 将simhash分成n段
+     * 将已存储的simhash保存到文件，文件通过内存映射写入
      *
-     * @param simhash Simhash值
-     * @return N段Simhash
+     * @param path 文件路径，已存在时覆盖
+     * @throws IORuntimeException IO异常
      */
-    private List<String> splitSimhash(Long simhash) {
-        final int bitNum = this.bitNum;
-        final int fracBitNum = this.fracBitNum;
+    public void save(Path path) throws IORuntimeException {
+        final long[] values = storage[0].values();
+        final long fileSize = FILE_HEADER_SIZE + (long) values.length * Long.BYTES;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            buffer.putInt(FILE_MAGIC).putInt(fracCount).putInt(hammingThresh).putLong(values.length);
+            buffer.asLongBuffer().put(values);
+            buffer.force();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
 
-        final List<String> ls = new ArrayList<>();
-        final StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < bitNum; i++) {
-            sb.append(simhash >> i & 1);
-            if ((i + 1) % fracBitNum == 0) {
-                ls.add(sb.toString());
-                sb.setLength(0);
+    /**
+     * 从{@link #save(Path)}保存的文件加载，段数和汉明距离标准与保存时一致
+     *
+     * @param path 文件路径
+     * @return Simhash
+     * @throws IORuntimeException IO异常或文件格式错误
+     */
+    public static Simhash load(Path path) throws IORuntimeException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long fileSize = channel.size();
+            if (fileSize < FILE_HEADER_SIZE) {
+                throw new IORuntimeException("Invalid simhash file: {}", path);
             }
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (FILE_MAGIC != buffer.getInt()) {
+                throw new IORuntimeException("Invalid simhash file: {}", path);
+            }
+            final Simhash simhash = new Simhash(buffer.getInt(), buffer.getInt());
+            final long count = buffer.getLong();
+            if (count < 0 || count > (fileSize - FILE_HEADER_SIZE) / Long.BYTES) {
+                throw new IORuntimeException("Invalid simhash file: {}", path);
+            }
+            final long[] values = new long[(int) count];
+            buffer.asLongBuffer().get(values);
+            simhash.storeAll(values);
+            return simhash;
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
         }
-        return ls;
     }
 
+    //------------------------------------------------------------------------------------------------------ Private method start
+
     /**
-     * 按照(frac, 《simhash, content》)索引进行存储
+     * 计算汉明距离
+     *
+     * @param s1 值1
+     * @param s2 值2
+     * @return 汉明距离
+     */
+    private static int hamming(long s1, long s2) {
+        return Long.bitCount(s1 ^ s2);
+    }
+
+    /**
+     * 取simhash的第index段，第index段由第index * fracBitNum位开始的fracBitNum位组成
      *
      * @param simhash Simhash值
+     * @param index   段序号
+     * @return 段值
      */
-    public void store(Long simhash) {
-        final int fracCount = this.fracCount;
-        final List<Map<String, List<Long>>> storage = this.storage;
-        final List<String> lFrac = splitSimhash(simhash);
-
-        String frac;
-        Map<String, List<Long>> fracMap;
-        final WriteLock writeLock = this.lock.writeLock();
-        writeLock.lock();
-        try {
-            for (int i = 0; i < fracCount; i++) {
-                frac = lFrac.get(i);
-                fracMap = storage.get(i);
-                if (fracMap.containsKey(frac)) {
-                    fracMap.get(frac).add(simhash);
-                } else {
-                    final List<Long> ls = new ArrayList<>();
-                    ls.add(simhash);
-                    fracMap.put(frac, ls);
+    private long frac(long simhash, int index) {
+        return (simhash >>> (index * fracBitNum)) & fracMask;
+    }
+
+    /**
+     * 一段的索引，开放寻址（线性探测）的long键哈希表，值为simhash数组
+     */
+    private static final class Band {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        private boolean[] used = new boolean[INITIAL_CAPACITY];
+
+        private long[][] buckets = new long[INITIAL_CAPACITY][];
+
+        private int[] bucketSizes = new int[INITIAL_CAPACITY];
+
+        private int keyCount;
+
+        private long valueCount;
+
+        void add(long key, long simhash) {
+            lock.writeLock().lock();
+            try {
+                addInternal(key, simhash);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void addAll(Simhash owner, int index, long[] simhashes) {
+            lock.writeLock().lock();
+            try {
+                for (long simhash : simhashes) {
+                    addInternal(owner.frac(simhash, index), simhash);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        boolean containsNear(long key, long simhash, int hammingThresh) {
+            lock.readLock().lock();
+            try {
+                return containsNearInternal(key, simhash, hammingThresh);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void containsNearAll(Simhash owner, int index, long[] simhashes, boolean[] result) {
+            lock.readLock().lock();
+            try {
+                for (int i = 0; i < simhashes.length; i++) {
+                    if (false == result[i]) {
+                        result[i] = containsNearInternal(owner.frac(simhashes[i], index), simhashes[i],
+                            owner.hammingThresh);
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long valueCount() {
+            lock.readLock().lock();
+            try {
+                return valueCount;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        long[] values() {
+            lock.readLock().lock();
+            try {
+                final long[] values = new long[(int) valueCount];
+                int pos = 0;
+                for (int i = 0; i < keys.length; i++) {
+                    if (used[i]) {
+                        System.arraycopy(buckets[i], 0, values, pos, bucketSizes[i]);
+                        pos += bucketSizes[i];
+                    }
                 }
+                return values;
+            } finally {
+                lock.readLock().unlock();
             }
-        } finally {
-            writeLock.unlock();
         }
+
+        private boolean containsNearInternal(long key, long simhash, int hammingThresh) {
+            final int slot = find(keys, used, key);
+            if (false == used[slot]) {
+                return false;
+            }
+            final long[] bucket = buckets[slot];
+            final int size = bucketSizes[slot];
+            for (int i = 0; i < size; i++) {
+                // 当汉明距离小于标准时相似
+                if (hamming(simhash, bucket[i]) < hammingThresh) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addInternal(long key, long simhash) {
+            int slot = find(keys, used, key);
+            if (false == used[slot]) {
+                if ((keyCount + 1) << 1 > keys.length) {
+                    // 负载因子不超过0.5
+                    resize();
+                    slot = find(keys, used, key);
+                }
+                used[slot] = true;
+                keys[slot] = key;
+                buckets[slot] = new long[2];
+                keyCount++;
+            }
+            long[] bucket = buckets[slot];
+            final int size = bucketSizes[slot];
+            if (size == bucket.length) {
+                bucket = Arrays.copyOf(bucket, size << 1);
+                buckets[slot] = bucket;
+            }
+            bucket[size] = simhash;
+            bucketSizes[slot] = size + 1;
+            valueCount++;
+        }
+
+        private void resize() {
+            final long[] oldKeys = keys;
+            final boolean[] oldUsed = used;
+            final long[][] oldBuckets = buckets;
+            final int[] oldSizes = bucketSizes;
+            final int capacity = oldKeys.length << 1;
+            keys = new long[capacity];
+            used = new boolean[capacity];
+            buckets = new long[capacity][];
+            bucketSizes = new int[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    final int slot = find(keys, used, oldKeys[i]);
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    buckets[slot] = oldBuckets[i];
+                    bucketSizes[slot] = oldSizes[i];
+                }
+            }
+        }
+
+        /**
+         * 查找键所在的槽位，不存在时返回应插入的空槽位
+         */
+        private static int find(long[] keys, boolean[] used, long key) {
+            final int mask = keys.length - 1;
+            // 打散段值的低位
+            int slot = (int) MurmurHash.fmix64(key) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
     }
     //------------------------------------------------------------------------------------------------------ Private method end
 }
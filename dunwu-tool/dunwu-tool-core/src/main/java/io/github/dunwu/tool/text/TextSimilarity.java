@@ -3,8 +3,17 @@ package io.github.dunwu.tool.text;
 import io.github.dunwu.tool.util.NumberUtil;
 import io.github.dunwu.tool.util.StringUtil;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
 /**
  * 文本相似度计算<br> 工具类提供者：【杭州】fineliving
+ * <p>
+ * 相似度为最长公共子序列长度与较长字符串长度之比。最长公共子序列使用位并行算法计算，以较短字符串为模式串，为其中每个不同字符保存一个位图，
+ * 内存占用为O(不同字符数 × m/64)，m为较短字符串长度，不会分配m×n的二维矩阵；超大文本的近似比较见{@link MinHash}。
+ * </p>
  *
  * @author fanqun
  * @since 3.2.3
@@ -46,10 +55,82 @@ public class TextSimilarity {
             return 1;
         }
 
-        int temp2 = longestCommonSubstring(newStrA, newStrB).length();
+        int temp2 = lcsLength(newStrA, newStrB);
         return NumberUtil.div(temp2, temp);
     }
 
+    /**
+     * 判断相似度是否不低于阈值，结果与{@code similar(strA, strB) >= threshold}一致<br> 计算过程中确定无法达到阈值时提前结束
+     *
+     * @param strA      字符串1
+     * @param strB      字符串2
+     * @param threshold 相似度阈值，0到1之间
+     * @return 是否相似
+     * @since 2026-10-18
+     */
+    public static boolean isSimilar(String strA, String strB, double threshold) {
+        final String newStrA = removeSign(strA);
+        final String newStrB = removeSign(strB);
+        final int max = Math.max(newStrA.length(), newStrB.length());
+        if (0 == max) {
+            return 1 >= threshold;
+        }
+
+        final int minLength = minLcsLength(max, threshold);
+        if (minLength > Math.min(newStrA.length(), newStrB.length())) {
+            return false;
+        }
+        return new LcsPattern(newStrA).lcsLength(newStrB, minLength) >= minLength;
+    }
+
+    /**
+     * 计算一个字符串与多个字符串的相似度，使用{@link ForkJoinPool#commonPool()}并行计算
+     *
+     * @param source  字符串
+     * @param targets 被比较的字符串列表
+     * @return 与targets一一对应的相似度
+     * @since 2026-10-18
+     */
+    public static double[] similarAll(String source, List<String> targets) {
+        return similarAll(source, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 计算一个字符串与多个字符串的相似度，在指定的{@link ForkJoinPool}上并行计算<br> source只预处理一次，各次比较共用
+     *
+     * @param source  字符串
+     * @param targets 被比较的字符串列表
+     * @param pool    并行计算使用的线程池
+     * @return 与targets一一对应的相似度，结果与{@link #similar(String, String)}一致
+     * @since 2026-10-18
+     */
+    public static double[] similarAll(String source, List<String> targets, ForkJoinPool pool) {
+        final String newSource = removeSign(source);
+        final LcsPattern pattern = new LcsPattern(newSource);
+        final double[] result = new double[targets.size()];
+        pool.submit(() -> IntStream.range(0, result.length).parallel().forEach(i -> {
+            final String newTarget = removeSign(targets.get(i));
+            final int max = Math.max(newSource.length(), newTarget.length());
+            result[i] = (0 == max) ? 1 : NumberUtil.div(pattern.lcsLength(newTarget, 0), max);
+        })).join();
+        return result;
+    }
+
+    /**
+     * 计算最长公共子序列（不要求连续）的长度<br> 采用位并行算法，时间复杂度O(m·n/64)，内存占用O(k·m/64)，m为较短字符串长度，k为其中不同字符的个数
+     *
+     * @param strA 字符串1
+     * @param strB 字符串2
+     * @return 最长公共子序列的长度
+     * @since 2026-10-18
+     */
+    public static int lcsLength(CharSequence strA, CharSequence strB) {
+        if (strA.length() > strB.length()) {
+            return new LcsPattern(strB).lcsLength(strA, 0);
+        }
+        return new LcsPattern(strA).lcsLength(strB, 0);
+    }
+
     // --------------------------------------------------------------------------------------------------- Private method start
 
     /**
@@ -87,46 +168,128 @@ public class TextSimilarity {
     }
 
     /**
-     * 求公共子串，采用动态规划算法。 其不要求所求得的字符在所给的字符串中是连续的。
+     * 相似度达到阈值所需的最短公共子序列长度，按{@link NumberUtil#div(float, float)}的舍入规则计算
      *
-     * @param strA 字符串1
-     * @param strB 字符串2
-     * @return 公共子串
+     * @param max       较长字符串的长度
+     * @param threshold 相似度阈值
+     * @return 最短长度，无法达到时返回max + 1
      */
-    private static String longestCommonSubstring(String strA, String strB) {
-        char[] chars_strA = strA.toCharArray();
-        char[] chars_strB = strB.toCharArray();
-        int m = chars_strA.length;
-        int n = chars_strB.length;
-
-        // 初始化矩阵数据,matrix[0][0]的值为0， 如果字符数组chars_strA和chars_strB的对应位相同，则matrix[i][j]的值为左上角的值加1， 否则，matrix[i][j]的值等于左上方最近两个位置的较大值， 矩阵中其余各点的值为0.
-        int[][] matrix = new int[m + 1][n + 1];
-        for (int i = 1; i <= m; i++) {
-            for (int j = 1; j <= n; j++) {
-                if (chars_strA[i - 1] == chars_strB[j - 1]) {
-                    matrix[i][j] = matrix[i - 1][j - 1] + 1;
-                } else {
-                    matrix[i][j] = Math.max(matrix[i][j - 1], matrix[i - 1][j]);
+    private static int minLcsLength(int max, double threshold) {
+        int length = (int) Math.max(0, Math.min(max + 1, Math.ceil(threshold * max)));
+        while (length > 0 && NumberUtil.div(length - 1, max) >= threshold) {
+            length--;
+        }
+        while (length <= max && NumberUtil.div(length, max) < threshold) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * 位并行最长公共子序列计算的模式串，预先计算每个字符在模式串中出现位置的位图，可对多个文本重复使用
+     */
+    private static final class LcsPattern {
+
+        /**
+         * 每处理多少个字符检查一次能否提前结束
+         */
+        private static final int CHECK_INTERVAL = 32;
+
+        private final int length;
+
+        private final int words;
+
+        /**
+         * 模式串中的字符，已排序去重
+         */
+        private final char[] chars;
+
+        /**
+         * 与chars对应的出现位置位图
+         */
+        private final long[][] masks;
+
+        /**
+         * 最后一个字的有效位
+         */
+        private final long lastWordMask;
+
+        LcsPattern(CharSequence pattern) {
+            this.length = pattern.length();
+            this.words = (length + 63) >>> 6;
+            this.lastWordMask = (0 == (length & 63)) ? -1L : (1L << (length & 63)) - 1;
+
+            final char[] sorted = pattern.toString().toCharArray();
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (0 == i || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
                 }
             }
+            this.chars = Arrays.copyOf(sorted, distinct);
+            this.masks = new long[distinct][words];
+            for (int i = 0; i < length; i++) {
+                masks[Arrays.binarySearch(chars, pattern.charAt(i))][i >>> 6] |= 1L << i;
+            }
         }
 
-        // 矩阵中，如果matrix[m][n]的值不等于matrix[m-1][n]的值也不等于matrix[m][n-1]的值， 则matrix[m][n]对应的字符为相似字符元，并将其存入result数组中。
-        char[] result = new char[matrix[m][n]];
-        int currentIndex = result.length - 1;
-        while (matrix[m][n] != 0) {
-            if (matrix[m][n] == matrix[m][n - 1]) {
-                n--;
-            } else if (matrix[m][n] == matrix[m - 1][n]) {
-                m--;
-            } else {
-                result[currentIndex] = chars_strA[m - 1];
-                currentIndex--;
-                n--;
-                m--;
+        /**
+         * 计算与文本的最长公共子序列长度<br> 维护位向量V，处理文本的每个字符c：U = V &amp; M[c]，V = (V + U) | (V &amp; ~M[c])，V中0的个数即为长度
+         *
+         * @param text      文本
+         * @param minLength 所需的最短长度，确定无法达到时提前返回小于此值的结果，0表示不提前结束
+         * @return 最长公共子序列长度
+         */
+        int lcsLength(CharSequence text, int minLength) {
+            final int n = text.length();
+            if (0 == length || 0 == n) {
+                return 0;
             }
+            final int words = this.words;
+            final long[] v = new long[words];
+            Arrays.fill(v, -1L);
+
+            int index;
+            long[] mask;
+            long vw, u, sum, carry;
+            for (int j = 0; j < n; j++) {
+                index = Arrays.binarySearch(chars, text.charAt(j));
+                if (index >= 0) {
+                    mask = masks[index];
+                    carry = 0;
+                    for (int w = 0; w < words; w++) {
+                        vw = v[w];
+                        u = vw & mask[w];
+                        sum = vw + u + carry;
+                        // 无符号加法的进位
+                        carry = ((vw & u) | ((vw | u) & ~sum)) >>> 63;
+                        v[w] = sum | (vw & ~mask[w]);
+                    }
+                }
+                if (minLength > 0 && 0 == (j + 1) % CHECK_INTERVAL && count(v) + (n - j - 1) < minLength) {
+                    // 剩余字符全部匹配也无法达到所需长度
+                    return count(v);
+                }
+            }
+            return count(v);
+        }
+
+        /**
+         * 位向量中有效位上0的个数
+         *
+         * @param v 位向量
+         * @return 0的个数
+         */
+        private int count(long[] v) {
+            int ones = 0;
+            for (int w = 0; w < words - 1; w++) {
+                ones += Long.bitCount(v[w]);
+            }
+            ones += Long.bitCount(v[words - 1] & lastWordMask);
+            return length - ones;
         }
-        return new String(result);
+
     }
     // --------------------------------------------------------------------------------------------------- Private method end
 }
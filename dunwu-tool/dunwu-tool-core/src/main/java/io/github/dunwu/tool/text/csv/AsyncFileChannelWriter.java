@@ -0,0 +1,239 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.io.IoUtil;
+import io.github.dunwu.tool.thread.ThreadUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 异步写出到{@link FileChannel}的{@link Writer}
+ * <p>
+ * 字符在调用线程中编码到字节缓冲区，缓冲区写满后交给后台线程写入文件，调用线程继续使用另一个缓冲区。
+ * 缓冲区数量固定，后台写入跟不上时调用线程等待空闲缓冲区，内存占用有上限。
+ * 后台线程为守护线程，空闲一段时间后自动退出，即使忘记关闭也不会一直占用线程（但文件句柄仍需关闭释放）。
+ * </p>
+ * 此类非线程安全。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class AsyncFileChannelWriter extends Writer {
+
+    /**
+     * 缓冲区数量：一个用于编码，其余等待写入
+     */
+    private static final int BUFFER_COUNT = 3;
+
+    /**
+     * 后台线程空闲多久后退出，单位秒
+     */
+    private static final long KEEP_ALIVE_SECONDS = 1;
+
+    private final FileChannel channel;
+
+    private final CharsetEncoder encoder;
+
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+
+    private final ExecutorService executor;
+
+    /**
+     * 当前编码使用的缓冲区
+     */
+    private ByteBuffer current;
+
+    /**
+     * 上次写出时末尾未配对的高代理项
+     */
+    private CharBuffer pending;
+
+    /**
+     * 后台写入时发生的异常
+     */
+    private volatile IOException failure;
+
+    private boolean closed;
+
+    /**
+     * 构造
+     *
+     * @param file       文件
+     * @param charset    编码
+     * @param isAppend   是否追加
+     * @param bufferSize 每个字节缓冲区的大小（字节数）
+     * @throws IOException 打开文件失败
+     */
+    AsyncFileChannelWriter(File file, Charset charset, boolean isAppend, int bufferSize) throws IOException {
+        this.channel = isAppend
+            ? FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)
+            : FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // 保证每个缓冲区都能容纳至少一个字符的编码结果
+        final int capacity = Math.max(bufferSize, (int) Math.ceil(encoder.maxBytesPerChar()) * 2);
+        this.freeBuffers = new ArrayBlockingQueue<>(BUFFER_COUNT);
+        for (int i = 1; i < BUFFER_COUNT; i++) {
+            freeBuffers.add(ByteBuffer.allocate(capacity));
+        }
+        this.current = ByteBuffer.allocate(capacity);
+        // 守护线程，空闲后自动退出，未关闭的写出器不会一直占用线程
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), ThreadUtil.newNamedThreadFactory("csv-flush-", true));
+        executor.allowCoreThreadTimeOut(true);
+        this.executor = executor;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        ensureOpen();
+        if (null != pending) {
+            // 补全上次末尾的代理对
+            if (len == 0) {
+                return;
+            }
+            final CharBuffer pair = CharBuffer.wrap(new char[] { pending.get(), cbuf[off] });
+            pending = null;
+            encode(pair, false);
+            off++;
+            len--;
+        }
+        encode(CharBuffer.wrap(cbuf, off, len), false);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        ensureOpen();
+        final char[] chars = new char[len];
+        str.getChars(off, off + len, chars, 0);
+        write(chars, 0, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (current.position() > 0) {
+            submit(current);
+            current = takeBuffer();
+        }
+        awaitWritten();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            encode(null == pending ? CharBuffer.allocate(0) : pending, true);
+            pending = null;
+            while (encoder.flush(current).isOverflow()) {
+                submit(current);
+                current = takeBuffer();
+            }
+            flush();
+        } finally {
+            closed = true;
+            executor.shutdown();
+            IoUtil.close(channel);
+        }
+    }
+
+    //--------------------------------------------------------------------------------------------- Private method start
+
+    private void encode(CharBuffer in, boolean endOfInput) throws IOException {
+        while (true) {
+            final CoderResult result = encoder.encode(in, current, endOfInput);
+            if (result.isOverflow()) {
+                submit(current);
+                current = takeBuffer();
+            } else {
+                break;
+            }
+        }
+        if (in.hasRemaining()) {
+            // 未完成的代理对，等待下一次写出
+            pending = CharBuffer.wrap(new char[] { in.get() });
+        }
+    }
+
+    /**
+     * 提交缓冲区到后台线程写入，写入完成后缓冲区归还
+     */
+    private void submit(ByteBuffer buffer) {
+        buffer.flip();
+        executor.execute(() -> {
+            try {
+                if (null == failure) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                buffer.clear();
+                freeBuffers.add(buffer);
+            }
+        });
+    }
+
+    private ByteBuffer takeBuffer() throws IOException {
+        checkFailure();
+        try {
+            return freeBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+    }
+
+    /**
+     * 等待已提交的缓冲区全部写入
+     */
+    private void awaitWritten() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        final IOException e = failure;
+        if (null != e) {
+            throw e;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Writer closed");
+        }
+    }
+
+}
@@ -193,14 +193,46 @@ public class CsvBaseReader implements Serializable {
     }
 
     /**
-     * 从Reader中读取CSV数据，读取后关闭Reader
+     * 从Reader中读取CSV数据，读取后关闭Reader<br> 整个读取过程复用同一个行对象，行处理器通过{@link CsvRowHandler#handle(CsvRowView)}接收数据
      *
      * @param reader     Reader
      * @param rowHandler 行处理器，用于一行一行的处理数据
      * @throws IORuntimeException IO异常
      */
     public void read(Reader reader, CsvRowHandler rowHandler) throws IORuntimeException {
-        read(parse(reader), rowHandler);
+        final CsvCursor cursor = cursor(reader);
+        try {
+            while (cursor.next()) {
+                rowHandler.handle(cursor.getRow());
+            }
+        } finally {
+            IoUtil.close(cursor);
+        }
+    }
+
+    /**
+     * 创建CSV流式游标，游标使用完毕后需关闭
+     *
+     * @param reader Reader
+     * @return {@link CsvCursor}
+     * @since 2026-10-18
+     */
+    public CsvCursor cursor(Reader reader) {
+        return new CsvCursor(parse(reader));
+    }
+
+    /**
+     * 创建CSV文件的流式游标，游标使用完毕后需关闭
+     *
+     * @param path    CSV文件
+     * @param charset 文件编码
+     * @return {@link CsvCursor}
+     * @throws IORuntimeException IO异常
+     * @since 2026-10-18
+     */
+    public CsvCursor cursor(Path path, Charset charset) throws IORuntimeException {
+        Assert.notNull(path, "path must not be null");
+        return cursor(FileUtil.getReader(path, charset));
     }
     //--------------------------------------------------------------------------------------------- Private method start
 }
@@ -0,0 +1,78 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.bean.BeanDesc;
+import io.github.dunwu.tool.bean.BeanUtil;
+import io.github.dunwu.tool.util.ModifierUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bean写出为CSV行的列计划<br> 按{@link BeanDesc}中属性的顺序预先确定可读取的列，写出时按下标依次取值，不再查找属性
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class CsvBeanPlan {
+
+    /**
+     * 列计划引用了类的getter和字段，使用{@link ClassValue}保存在类自身上，类卸载时一同回收
+     */
+    private static final ClassValue<CsvBeanPlan> CACHE = new ClassValue<CsvBeanPlan>() {
+        @Override
+        protected CsvBeanPlan computeValue(Class<?> type) {
+            return new CsvBeanPlan(type);
+        }
+    };
+
+    /**
+     * 标题行，即属性名
+     */
+    private final String[] header;
+
+    private final BeanDesc.PropDesc[] props;
+
+    private CsvBeanPlan(Class<?> beanClass) {
+        final List<BeanDesc.PropDesc> readable = new ArrayList<>();
+        for (BeanDesc.PropDesc prop : BeanUtil.getBeanDesc(beanClass).getProps()) {
+            if (null != prop.getGetter() || (null != prop.getField() && ModifierUtil.isPublic(prop.getField()))) {
+                readable.add(prop);
+            }
+        }
+        this.props = readable.toArray(new BeanDesc.PropDesc[0]);
+        this.header = new String[props.length];
+        for (int i = 0; i < props.length; i++) {
+            header[i] = props[i].getFieldName();
+        }
+    }
+
+    /**
+     * 获取Bean类型对应的列计划，计划创建后缓存
+     *
+     * @param beanClass Bean类型
+     * @return 列计划
+     */
+    static CsvBeanPlan of(Class<?> beanClass) {
+        return CACHE.get(beanClass);
+    }
+
+    String[] getHeader() {
+        return header;
+    }
+
+    int size() {
+        return props.length;
+    }
+
+    /**
+     * 获取Bean第index列的值
+     *
+     * @param bean  Bean
+     * @param index 列下标
+     * @return 值
+     */
+    Object getValue(Object bean, int index) {
+        return props[index].getValue(bean);
+    }
+
+}
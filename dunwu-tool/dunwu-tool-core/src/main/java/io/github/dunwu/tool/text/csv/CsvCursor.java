@@ -0,0 +1,85 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.io.IORuntimeException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * CSV流式游标<br> 逐行读取CSV，所有行共用同一个{@link CsvRowView}，适合读取大文件：
+ *
+ * <pre>
+ * try (CsvCursor cursor = CsvUtil.getReader().cursor(reader)) {
+ *     while (cursor.next()) {
+ *         CsvRowView row = cursor.getRow();
+ *         long id = row.getLong(0);
+ *         double amount = row.getDouble("amount");
+ *     }
+ * }
+ * </pre>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class CsvCursor implements Closeable {
+
+    private final CsvParser parser;
+
+    private final CsvRowView row = new CsvRowView();
+
+    /**
+     * 构造
+     *
+     * @param reader Reader
+     * @param config 配置，null则为默认配置
+     */
+    public CsvCursor(Reader reader, CsvReadConfig config) {
+        this(new CsvParser(reader, config));
+    }
+
+    /**
+     * 构造
+     *
+     * @param parser CSV解析器
+     */
+    CsvCursor(CsvParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * 移动到下一行
+     *
+     * @return 是否有下一行
+     * @throws IORuntimeException IO读取异常
+     */
+    public boolean next() throws IORuntimeException {
+        return parser.nextRow(row);
+    }
+
+    /**
+     * 获取当前行，内容在调用{@link #next()}后被覆盖
+     *
+     * @return 当前行
+     */
+    public CsvRowView getRow() {
+        return row;
+    }
+
+    /**
+     * 获取头部字段列表，如果containsHeader设置为false则抛出异常
+     *
+     * @return 头部列表
+     * @throws IllegalStateException 如果不解析头部或者没有调用next()方法
+     */
+    public List<String> getHeader() {
+        return parser.getHeader();
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+}
@@ -0,0 +1,710 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.io.FileUtil;
+import io.github.dunwu.tool.io.IORuntimeException;
+import io.github.dunwu.tool.io.IoUtil;
+import io.github.dunwu.tool.lang.Assert;
+import io.github.dunwu.tool.util.CharUtil;
+import io.github.dunwu.tool.util.ObjectUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * CSV并行读取器，用于读取本地磁盘上的大文件
+ * <p>
+ * 读取过程：
+ * <ol>
+ * <li>将整个文件内存映射一次，按{@link #setChunkSize(long)}切分，并行统计每段中的文本包装符（引号）数和换行数</li>
+ * <li>根据包装符数的奇偶性得到每个切分点是否位于引号内，将切分点后移到第一个不在引号内的换行之后，保证每段都从一条完整记录开始</li>
+ * <li>各段共享同一映射，在{@link ForkJoinPool}中各自用{@link CsvParser}解析，标题行、行号和字段数检查与顺序读取保持一致</li>
+ * </ol>
+ * 按字节切分要求编码兼容ASCII（如UTF-8、GBK），且字段分隔符和文本包装符为ASCII字符，否则退化为顺序读取。
+ * </p>
+ * <p>
+ * 有序模式下，各段的行在调用线程中按文件顺序传给{@link CsvRowHandler#handle(CsvRow)}，同时解析的段数有上限，
+ * 每段解析出的行按批放入容量有限的队列，队列满时解析暂停，内存占用与分段大小无关；
+ * 无序模式下，各工作线程直接将可复用的行传给{@link CsvRowHandler#handle(CsvRowView)}，行处理器须线程安全。
+ * </p>
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public class CsvParallelReader {
+
+    /**
+     * 默认分段大小：32MB
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 32L * 1024 * 1024;
+
+    private final CsvReadConfig config;
+
+    private long chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private boolean ordered = true;
+
+    private ForkJoinPool pool;
+
+    /**
+     * 构造，使用默认配置项
+     */
+    public CsvParallelReader() {
+        this(null);
+    }
+
+    /**
+     * 构造
+     *
+     * @param config 配置项，null则为默认配置
+     */
+    public CsvParallelReader(CsvReadConfig config) {
+        this.config = ObjectUtil.defaultIfNull(config, CsvReadConfig.defaultConfig());
+    }
+
+    /**
+     * 设置分段大小，默认32MB
+     *
+     * @param chunkSize 分段字节数
+     * @return this
+     */
+    public CsvParallelReader setChunkSize(long chunkSize) {
+        Assert.isTrue(chunkSize > 0, "Chunk size must be positive");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * 设置是否按文件顺序传递行，默认true
+     *
+     * @param ordered 是否按文件顺序传递行
+     * @return this
+     */
+    public CsvParallelReader setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * 设置执行解析的线程池，不设置时每次读取创建与CPU核数相同并行度的线程池，读取结束后关闭
+     *
+     * @param pool 线程池
+     * @return this
+     */
+    public CsvParallelReader setPool(ForkJoinPool pool) {
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * 并行读取CSV文件
+     *
+     * @param path       CSV文件
+     * @param charset    文件编码
+     * @param rowHandler 行处理器
+     * @throws IORuntimeException IO异常
+     */
+    public void read(Path path, Charset charset, CsvRowHandler rowHandler) throws IORuntimeException {
+        Assert.notNull(path, "path must not be null");
+        Assert.notNull(rowHandler, "rowHandler must not be null");
+        charset = ObjectUtil.defaultIfNull(charset, CsvBaseReader.DEFAULT_CHARSET);
+
+        if (false == isSplittable(charset)) {
+            new CsvReader(config).read(FileUtil.getReader(path, charset), rowHandler);
+            return;
+        }
+
+        final ForkJoinPool localPool = null == this.pool ? new ForkJoinPool() : this.pool;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedFile file = new MappedFile(channel);
+            final List<Chunk> chunks = split(file, charset, localPool);
+            if (ordered) {
+                readOrdered(file, charset, chunks, rowHandler, localPool);
+            } else {
+                readUnordered(file, charset, chunks, rowHandler, localPool);
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        } finally {
+            if (null == this.pool) {
+                localPool.shutdown();
+            }
+        }
+    }
+
+    //--------------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 编码兼容ASCII且分隔符、包装符都是单字节时才能按字节切分
+     */
+    private boolean isSplittable(Charset charset) {
+        if (config.fieldSeparator >= 0x80 || config.textDelimiter >= 0x80) {
+            return false;
+        }
+        final String probe = new String(new char[] { CharUtil.CR, CharUtil.LF, config.fieldSeparator,
+            config.textDelimiter });
+        final byte[] bytes = probe.getBytes(charset);
+        if (bytes.length != probe.length()) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != probe.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 切分文件，返回对齐到记录边界的分段
+     */
+    private List<Chunk> split(MappedFile file, Charset charset, ForkJoinPool localPool) {
+        final long size = file.size;
+        final List<Chunk> chunks = new ArrayList<>();
+        if (size == 0) {
+            return chunks;
+        }
+
+        // 读取标题行或第一行，确定数据起始位置、标题和第一行字段数
+        final Prelude prelude = readPrelude(file, charset);
+        if (prelude.dataStart >= size) {
+            return chunks;
+        }
+
+        // 并行统计每个原始分段中的包装符数和换行数
+        final int rawCount = (int) ((size + chunkSize - 1) / chunkSize);
+        final List<Future<long[]>> futures = new ArrayList<>(rawCount);
+        for (int i = 0; i < rawCount; i++) {
+            final long start = i * chunkSize;
+            final long end = Math.min(size, start + chunkSize);
+            futures.add(localPool.submit(() -> count(file, start, end)));
+        }
+
+        long quotes = 0;
+        long lines = 0;
+        long chunkStart = prelude.dataStart;
+        long chunkLineNo = prelude.lineNo;
+        for (int i = 0; i < rawCount; i++) {
+            final long rawStart = i * chunkSize;
+            if (rawStart > chunkStart) {
+                // 从原始切分点向后找到第一个不在引号内的换行
+                final long[] boundary = nextRecordStart(file, rawStart, (quotes & 1) == 1);
+                if (boundary[0] > chunkStart) {
+                    chunks.add(new Chunk(chunkStart, boundary[0], chunkLineNo, prelude.header,
+                        prelude.firstLineFieldCount));
+                    chunkStart = boundary[0];
+                    chunkLineNo = lines + boundary[1];
+                }
+            }
+            final long[] counts = getResult(futures.get(i));
+            lines += counts[(quotes & 1) == 1 ? 2 : 1];
+            quotes += counts[0];
+        }
+        if (chunkStart < size) {
+            chunks.add(new Chunk(chunkStart, size, chunkLineNo, prelude.header, prelude.firstLineFieldCount));
+        }
+        return chunks;
+    }
+
+    /**
+     * 读取文件开头，直到读出标题行（无标题时为第一行数据）
+     */
+    private Prelude readPrelude(MappedFile file, Charset charset) {
+        final Prelude prelude = new Prelude();
+        if (false == config.containsHeader && false == config.errorOnDifferentFieldCount) {
+            // 无需任何上下文，从头开始并行读取
+            return prelude;
+        }
+
+        final long size = file.size;
+        long end = 0;
+        long lines = 0;
+        while (end < size) {
+            final long[] boundary = nextRecordStart(file, end, false);
+            end = boundary[0];
+            lines += boundary[1];
+
+            final CsvParser parser = new CsvParser(newReader(file, 0, end, charset), config);
+            try {
+                final boolean hasRow = parser.nextRow(new CsvRowView());
+                if (config.containsHeader ? null != parser.getHeaderRow() : hasRow) {
+                    prelude.header = parser.getHeaderRow();
+                    prelude.firstLineFieldCount = parser.getFirstLineFieldCount();
+                    if (config.containsHeader) {
+                        prelude.dataStart = end;
+                        prelude.lineNo = lines;
+                    }
+                    return prelude;
+                }
+            } finally {
+                IoUtil.close(parser);
+            }
+        }
+        // 全部为空行
+        prelude.dataStart = size;
+        return prelude;
+    }
+
+    /**
+     * 统计分段中的包装符数和换行数
+     * <p>
+     * 换行的计数规则与{@link CsvParser}一致：LF紧跟CR时不计数；引号外的CR总是计数，引号内的CR紧跟CR时不计数。
+     * 由于分段起始处是否在引号内要等前面各段统计完才知道，这里按两种情况分别计数。
+     * </p>
+     *
+     * @return [包装符数, 起始处在引号外时的换行数, 起始处在引号内时的换行数]
+     */
+    private long[] count(MappedFile file, long start, long end) {
+        final byte quote = (byte) config.textDelimiter;
+        int pre = start > 0 ? file.get(start - 1) : -1;
+        // 假设起始处在引号外时当前是否在引号内，另一种情况总是与之相反
+        boolean inQuotes = false;
+        long quotes = 0;
+        long lines = 0;
+        long outsideOnly = 0;
+        long insideOnly = 0;
+        long pos = start;
+        while (pos < end) {
+            final ByteBuffer buffer = file.buffer(pos, end);
+            pos += buffer.remaining();
+            while (buffer.hasRemaining()) {
+                final byte b = buffer.get();
+                if (b == quote) {
+                    quotes++;
+                    inQuotes = false == inQuotes;
+                } else if (pre != CharUtil.CR) {
+                    if (b == CharUtil.CR || b == CharUtil.LF) {
+                        lines++;
+                    }
+                } else if (b == CharUtil.CR) {
+                    if (inQuotes) {
+                        insideOnly++;
+                    } else {
+                        outsideOnly++;
+                    }
+                }
+                pre = b;
+            }
+        }
+        return new long[] { quotes, lines + outsideOnly, lines + insideOnly };
+    }
+
+    /**
+     * 从指定位置向后查找下一条记录的起始位置，换行的计数规则与{@link #count(MappedFile, long, long)}相同
+     *
+     * @param file     文件
+     * @param position 查找起始位置
+     * @param inQuotes 起始位置是否在引号内
+     * @return [下一条记录的起始位置, 经过的换行数]，找不到时起始位置为文件末尾
+     */
+    private long[] nextRecordStart(MappedFile file, long position, boolean inQuotes) {
+        final long size = file.size;
+        final byte quote = (byte) config.textDelimiter;
+        int pre = position > 0 ? file.get(position - 1) : -1;
+        long lines = 0;
+        long pos = position;
+        boolean crPending = false;
+        while (pos < size) {
+            final ByteBuffer buffer = file.buffer(pos, size);
+            while (buffer.hasRemaining()) {
+                final byte b = buffer.get();
+                if (crPending) {
+                    // CR之后紧跟LF时，记录从LF之后开始
+                    return new long[] { b == CharUtil.LF ? pos + 1 : pos, lines };
+                }
+                if (b == quote) {
+                    inQuotes = false == inQuotes;
+                } else if (b == CharUtil.CR) {
+                    if (false == inQuotes) {
+                        lines++;
+                        crPending = true;
+                    } else if (pre != CharUtil.CR) {
+                        lines++;
+                    }
+                } else if (b == CharUtil.LF) {
+                    if (pre != CharUtil.CR) {
+                        lines++;
+                        if (false == inQuotes) {
+                            return new long[] { pos + 1, lines };
+                        }
+                    } else if (false == inQuotes && pos == position) {
+                        // 从CRLF中间开始查找，该LF属于上一条记录
+                        return new long[] { pos + 1, lines };
+                    }
+                }
+                pre = b;
+                pos++;
+            }
+        }
+        return new long[] { size, lines };
+    }
+
+    private void readOrdered(MappedFile file, Charset charset, List<Chunk> chunks, CsvRowHandler rowHandler,
+        ForkJoinPool localPool) {
+        // 限制同时解析的段数，各段的队列容量有限，解析结果占用的内存与分段大小无关
+        final int window = Math.max(2, localPool.getParallelism() * 2);
+        final Deque<RowQueue> pending = new ArrayDeque<>(window);
+        RowQueue current = null;
+        int next = 0;
+        try {
+            while (next < chunks.size() || false == pending.isEmpty()) {
+                while (next < chunks.size() && pending.size() < window) {
+                    final Chunk chunk = chunks.get(next++);
+                    final RowQueue rows = new RowQueue();
+                    rows.future = localPool.submit(() -> {
+                        try {
+                            parse(file, charset, chunk, rows::add);
+                        } finally {
+                            rows.end();
+                        }
+                    });
+                    pending.add(rows);
+                }
+                current = pending.poll();
+                List<CsvRow> batch;
+                while (RowQueue.END != (batch = current.take())) {
+                    for (CsvRow row : batch) {
+                        rowHandler.handle(row);
+                    }
+                }
+                getResult(current.future);
+                current = null;
+            }
+        } finally {
+            if (null != current) {
+                current.cancel();
+            }
+            for (RowQueue rows : pending) {
+                rows.cancel();
+            }
+        }
+    }
+
+    private void readUnordered(MappedFile file, Charset charset, List<Chunk> chunks, CsvRowHandler rowHandler,
+        ForkJoinPool localPool) {
+        final List<Future<?>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            futures.add(localPool.submit(() -> parse(file, charset, chunk, rowHandler::handle)));
+        }
+        try {
+            for (Future<?> future : futures) {
+                getResult(future);
+            }
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 解析一个分段
+     */
+    private void parse(MappedFile file, Charset charset, Chunk chunk, RowViewConsumer consumer) {
+        final CsvParser parser = new CsvParser(newReader(file, chunk.start, chunk.end, charset), config);
+        parser.continueFrom(chunk.header, chunk.firstLineFieldCount, chunk.lineNo);
+        final CsvRowView row = new CsvRowView();
+        try {
+            while (parser.nextRow(row)) {
+                consumer.accept(row);
+            }
+        } finally {
+            IoUtil.close(parser);
+        }
+    }
+
+    private static Reader newReader(MappedFile file, long start, long end, Charset charset) {
+        return new InputStreamReader(new MappedInputStream(file, start, end), charset);
+    }
+
+    private static <T> T getResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IORuntimeException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IORuntimeException(cause);
+        }
+    }
+
+    /**
+     * 行消费者
+     */
+    @FunctionalInterface
+    private interface RowViewConsumer {
+
+        void accept(CsvRowView row);
+
+    }
+
+    /**
+     * 有序模式下一个分段的解析结果，解析线程按批放入容量有限的队列，调用线程按顺序取出
+     */
+    private static class RowQueue {
+
+        /**
+         * 分段结束标记，按引用比较
+         */
+        private static final List<CsvRow> END = new ArrayList<>(0);
+
+        private static final int BATCH_SIZE = 1024;
+
+        private static final int CAPACITY = 4;
+
+        private final BlockingQueue<List<CsvRow>> queue = new ArrayBlockingQueue<>(CAPACITY);
+
+        private List<CsvRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        private volatile boolean cancelled;
+
+        private Future<?> future;
+
+        /**
+         * 在解析线程中添加一行，攒满一批后放入队列
+         */
+        void add(CsvRowView row) {
+            batch.add(row.toCsvRow());
+            if (batch.size() == BATCH_SIZE) {
+                put(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        /**
+         * 在解析线程中结束分段，解析失败时也需调用，以免调用线程一直等待
+         */
+        void end() {
+            if (cancelled) {
+                return;
+            }
+            if (false == batch.isEmpty()) {
+                put(batch);
+            }
+            put(END);
+        }
+
+        /**
+         * 在调用线程中取出下一批行
+         *
+         * @return 一批行，分段结束时返回{@link #END}
+         */
+        List<CsvRow> take() {
+            try {
+                return queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IORuntimeException(e);
+            }
+        }
+
+        /**
+         * 取消分段的解析，清空队列以唤醒等待中的解析线程
+         */
+        void cancel() {
+            cancelled = true;
+            future.cancel(true);
+            queue.clear();
+        }
+
+        /**
+         * 放入队列，队列满时通过{@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)}等待，线程池可补充线程
+         */
+        private void put(List<CsvRow> rows) {
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            try {
+                ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                    private boolean done;
+
+                    @Override
+                    public boolean block() throws InterruptedException {
+                        if (false == done) {
+                            queue.put(rows);
+                            done = true;
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isReleasable() {
+                        return done || (done = queue.offer(rows));
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IORuntimeException(e);
+            }
+        }
+
+    }
+
+    /**
+     * 文件开头的标题行信息
+     */
+    private static class Prelude {
+
+        private long dataStart;
+
+        private long lineNo;
+
+        private CsvRow header;
+
+        private int firstLineFieldCount = -1;
+
+    }
+
+    /**
+     * 对齐到记录边界的分段
+     */
+    private static class Chunk {
+
+        private final long start;
+
+        private final long end;
+
+        /**
+         * 分段之前的行数
+         */
+        private final long lineNo;
+
+        private final CsvRow header;
+
+        private final int firstLineFieldCount;
+
+        Chunk(long start, long end, long lineNo, CsvRow header, int firstLineFieldCount) {
+            this.start = start;
+            this.end = end;
+            this.lineNo = lineNo;
+            this.header = header;
+            this.firstLineFieldCount = firstLineFieldCount;
+        }
+
+    }
+
+    /**
+     * 只读映射的整个文件，超过{@link Integer#MAX_VALUE}字节时分为多个映射区，各线程共享
+     */
+    private static class MappedFile {
+
+        private static final long SEGMENT_SIZE = Integer.MAX_VALUE;
+
+        private final long size;
+
+        private final MappedByteBuffer[] segments;
+
+        MappedFile(FileChannel channel) throws IOException {
+            this.size = channel.size();
+            this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                final long start = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+            }
+        }
+
+        byte get(long position) {
+            return segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+        }
+
+        /**
+         * 获取从指定位置开始的一段缓冲区视图，不超过所在映射区的末尾，视图的位置互不影响
+         *
+         * @param start 起始位置
+         * @param end   结束位置（不包含）
+         * @return 缓冲区视图，剩余字节数可能小于{@code end - start}
+         */
+        ByteBuffer buffer(long start, long end) {
+            final ByteBuffer segment = segments[(int) (start / SEGMENT_SIZE)].duplicate();
+            final int offset = (int) (start % SEGMENT_SIZE);
+            segment.limit((int) Math.min(segment.capacity(), offset + end - start));
+            segment.position(offset);
+            return segment;
+        }
+
+    }
+
+    /**
+     * 读取{@link MappedFile}中一段内容的输入流
+     */
+    private static class MappedInputStream extends InputStream {
+
+        private final MappedFile file;
+
+        private final long end;
+
+        private long position;
+
+        private ByteBuffer buffer;
+
+        MappedInputStream(MappedFile file, long start, long end) {
+            this.file = file;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            return fill() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (false == fill()) {
+                return -1;
+            }
+            final int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, end - position + (null == buffer ? 0 : buffer.remaining()));
+        }
+
+        /**
+         * 当前视图读完时切换到下一个映射区
+         */
+        private boolean fill() {
+            if (null != buffer && buffer.hasRemaining()) {
+                return true;
+            }
+            if (position >= end) {
+                return false;
+            }
+            buffer = file.buffer(position, end);
+            position += buffer.remaining();
+            return true;
+        }
+
+    }
+
+}
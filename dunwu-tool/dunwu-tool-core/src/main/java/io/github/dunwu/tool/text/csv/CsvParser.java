@@ -2,7 +2,6 @@ package io.github.dunwu.tool.text.csv;
 
 import io.github.dunwu.tool.io.IORuntimeException;
 import io.github.dunwu.tool.io.IoUtil;
-import io.github.dunwu.tool.text.StrBuilder;
 import io.github.dunwu.tool.util.CharUtil;
 import io.github.dunwu.tool.util.ObjectUtil;
 import io.github.dunwu.tool.util.StringUtil;
@@ -22,8 +21,6 @@ public final class CsvParser implements Closeable, Serializable {
 
     private static final long serialVersionUID = 1L;
 
-    private static final int DEFAULT_ROW_CAPACITY = 10;
-
     private final Reader reader;
 
     private final CsvReadConfig config;
@@ -31,9 +28,9 @@ public final class CsvParser implements Closeable, Serializable {
     private final char[] buf = new char[IoUtil.DEFAULT_LARGE_BUFFER_SIZE];
 
     /**
-     * 当前读取字段
+     * {@link #nextRow()}使用的行缓冲，每行读取后复制为{@link CsvRow}
      */
-    private final StrBuilder currentField = new StrBuilder(512);
+    private transient CsvRowView lineBuffer;
 
     /**
      * 当前位置
@@ -117,6 +114,37 @@ public final class CsvParser implements Closeable, Serializable {
         return header.fields;
     }
 
+    /**
+     * 从文件中间的某一行开始解析时，设置之前已读取的上下文，用于并行分段读取
+     *
+     * @param header              标题行，无标题时为null
+     * @param firstLineFieldCount 第一行字段数，未知时为-1
+     * @param lineNo              分段起始位置之前的行数
+     */
+    void continueFrom(final CsvRow header, final int firstLineFieldCount, final long lineNo) {
+        this.header = header;
+        this.firstLineFieldCount = firstLineFieldCount;
+        this.lineNo = lineNo;
+    }
+
+    /**
+     * 获取标题行
+     *
+     * @return 标题行，未读取到时为null
+     */
+    CsvRow getHeaderRow() {
+        return header;
+    }
+
+    /**
+     * 获取第一行字段数
+     *
+     * @return 第一行字段数，未读取或未开启字段数检查时为-1
+     */
+    int getFirstLineFieldCount() {
+        return firstLineFieldCount;
+    }
+
     /**
      * 读取下一行数据
      *
@@ -124,23 +152,32 @@ public final class CsvParser implements Closeable, Serializable {
      * @throws IORuntimeException IO读取异常
      */
     public CsvRow nextRow() throws IORuntimeException {
+        if (null == lineBuffer) {
+            lineBuffer = new CsvRowView();
+        }
+        return nextRow(lineBuffer) ? lineBuffer.toCsvRow() : null;
+    }
+
+    /**
+     * 读取下一行数据到可复用的行对象中，读取过程中不为字段创建{@link String}<br> 行对象中的内容在下一次调用此方法时被覆盖
+     *
+     * @param row 可复用的行对象
+     * @return 是否读取到数据，{@code false}表示已读取结束
+     * @throws IORuntimeException IO读取异常
+     */
+    public boolean nextRow(final CsvRowView row) throws IORuntimeException {
         long startingLineNo;
-        List<String> currentFields;
         int fieldCount;
         while (false == finished) {
             startingLineNo = ++lineNo;
-            currentFields = readLine();
-            if (null == currentFields) {
-                break;
-            }
-            fieldCount = currentFields.size();
+            fieldCount = readLine(row);
             // 末尾
             if (fieldCount == 0) {
                 break;
             }
 
             // 跳过空行
-            if (config.skipEmptyRows && fieldCount == 1 && currentFields.get(0).isEmpty()) {
+            if (config.skipEmptyRows && fieldCount == 1 && row.getLength(0) == 0) {
                 continue;
             }
 
@@ -162,26 +199,29 @@ public final class CsvParser implements Closeable, Serializable {
 
             //初始化标题
             if (config.containsHeader && null == header) {
-                initHeader(currentFields);
+                initHeader(row);
                 // 作为标题行后，此行跳过，下一行做为第一行
                 continue;
             }
 
-            return new CsvRow(startingLineNo, null == header ? null : header.headerMap, currentFields);
+            row.setLine(startingLineNo, null == header ? null : header.headerMap);
+            return true;
         }
 
-        return null;
+        return false;
     }
 
     /**
      * 当前行做为标题行
      *
-     * @param currentFields 当前行字段列表
+     * @param row 当前行
      */
-    private void initHeader(final List<String> currentFields) {
-        final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(currentFields.size());
-        for (int i = 0; i < currentFields.size(); i++) {
-            final String field = currentFields.get(i);
+    private void initHeader(final CsvRowView row) {
+        final List<String> currentFields = new ArrayList<>(row.size());
+        final Map<String, Integer> localHeaderMap = new LinkedHashMap<>(row.size());
+        for (int i = 0; i < row.size(); i++) {
+            final String field = row.getString(i);
+            currentFields.add(field);
             if (StringUtil.isNotEmpty(field) && false == localHeaderMap.containsKey(field)) {
                 localHeaderMap.put(field, i);
             }
@@ -192,27 +232,29 @@ public final class CsvParser implements Closeable, Serializable {
     }
 
     /**
-     * 读取一行数据
+     * 读取一行数据，字段内容追加到行缓冲中，不创建字符串
      *
-     * @return 一行数据
+     * @param row 行缓冲
+     * @return 字段数
      * @throws IORuntimeException IO异常
      */
-    private List<String> readLine() throws IORuntimeException {
-        final List<String> currentFields = new ArrayList<>(maxFieldCount > 0 ? maxFieldCount : DEFAULT_ROW_CAPACITY);
+    private int readLine(final CsvRowView row) throws IORuntimeException {
+        row.reset();
 
-        final StrBuilder localCurrentField = currentField;
         final char[] localBuf = this.buf;
+        final char textDelimiter = config.textDelimiter;
         int localBufPos = bufPos;//当前位置
         int localPreChar = preChar;//前一个特殊分界字符
         int localCopyStart = copyStart;//拷贝起始位置
         int copyLen = 0; //拷贝长度
+        int fieldStart = 0; //当前字段在行缓冲中的起始位置
 
         while (true) {
             if (bufLen == localBufPos) {
                 // 此Buffer读取结束，开始读取下一段
 
                 if (copyLen > 0) {
-                    localCurrentField.append(localBuf, localCopyStart, copyLen);
+                    row.append(localBuf, localCopyStart, copyLen);
                 }
                 try {
                     bufLen = reader.read(localBuf);
@@ -224,10 +266,9 @@ public final class CsvParser implements Closeable, Serializable {
                     // CSV读取结束
                     finished = true;
 
-                    if (localPreChar == config.fieldSeparator || localCurrentField.hasContent()) {
+                    if (localPreChar == config.fieldSeparator || row.charLength() > fieldStart) {
                         //剩余部分作为一个字段
-                        currentFields.add(
-                            StringUtil.unWrap(localCurrentField.toStringAndReset(), config.textDelimiter));
+                        row.endField(fieldStart, textDelimiter);
                     }
                     break;
                 }
@@ -240,7 +281,7 @@ public final class CsvParser implements Closeable, Serializable {
 
             if (inQuotes) {
                 //引号内，做为内容，直到引号结束
-                if (c == config.textDelimiter) {
+                if (c == textDelimiter) {
                     // End of quoted text
                     inQuotes = false;
                 } else {
@@ -253,30 +294,29 @@ public final class CsvParser implements Closeable, Serializable {
                 if (c == config.fieldSeparator) {
                     //一个字段结束
                     if (copyLen > 0) {
-                        localCurrentField.append(localBuf, localCopyStart, copyLen);
+                        row.append(localBuf, localCopyStart, copyLen);
                         copyLen = 0;
                     }
-                    currentFields.add(StringUtil.unWrap(localCurrentField.toStringAndReset(), config.textDelimiter));
+                    fieldStart = row.endField(fieldStart, textDelimiter);
                     localCopyStart = localBufPos;
-                } else if (c == config.textDelimiter) {
+                } else if (c == textDelimiter) {
                     // 引号开始
                     inQuotes = true;
                     copyLen++;
                 } else if (c == CharUtil.CR) {
                     if (copyLen > 0) {
-                        localCurrentField.append(localBuf, localCopyStart, copyLen);
+                        row.append(localBuf, localCopyStart, copyLen);
                     }
-                    currentFields.add(StringUtil.unWrap(localCurrentField.toStringAndReset(), config.textDelimiter));
+                    row.endField(fieldStart, textDelimiter);
                     localPreChar = c;
                     localCopyStart = localBufPos;
                     break;
                 } else if (c == CharUtil.LF) {
                     if (localPreChar != CharUtil.CR) {
                         if (copyLen > 0) {
-                            localCurrentField.append(localBuf, localCopyStart, copyLen);
+                            row.append(localBuf, localCopyStart, copyLen);
                         }
-                        currentFields.add(
-                            StringUtil.unWrap(localCurrentField.toStringAndReset(), config.textDelimiter));
+                        row.endField(fieldStart, textDelimiter);
                         localPreChar = c;
                         localCopyStart = localBufPos;
                         break;
@@ -295,7 +335,7 @@ public final class CsvParser implements Closeable, Serializable {
         preChar = localPreChar;
         copyStart = localCopyStart;
 
-        return currentFields;
+        return row.size();
     }
 
 }
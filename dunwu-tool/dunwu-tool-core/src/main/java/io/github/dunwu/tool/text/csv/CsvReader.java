@@ -118,4 +118,14 @@ public class CsvReader extends CsvBaseReader {
         read(this.reader, rowHandler);
     }
 
+    /**
+     * 创建CSV流式游标，此方法只能调用一次<br> 调用此方法的前提是构造中传入文件路径或Reader
+     *
+     * @return {@link CsvCursor}
+     * @since 2026-10-18
+     */
+    public CsvCursor cursor() {
+        return cursor(this.reader);
+    }
+
 }
@@ -16,4 +16,14 @@ public interface CsvRowHandler {
      */
     void handle(CsvRow row);
 
+    /**
+     * 处理可复用的行数据，{@link CsvBaseReader#read(java.io.Reader, CsvRowHandler)}等流式读取方法调用此方法<br>
+     * 默认复制为{@link CsvRow}后调用{@link #handle(CsvRow)}；需要避免每行创建对象时覆盖此方法，行数据只在此方法内有效
+     *
+     * @param row 行数据
+     */
+    default void handle(CsvRowView row) {
+        handle(row.toCsvRow());
+    }
+
 }
@@ -0,0 +1,403 @@
+package io.github.dunwu.tool.text.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 可复用的CSV行<br> 由{@link CsvParser#nextRow(CsvRowView)}填充，每次读取下一行时覆盖上一行的内容，读取过程中不为字段创建{@link String}。
+ * <p>
+ * 字段以{@link CharSequence}视图的形式提供，视图直接指向行缓冲区，只在读取下一行之前有效；需要保留字段值时使用{@link #getString(int)}，
+ * 需要保留整行时使用{@link #toCsvRow()}。{@link #getInt(int)}、{@link #getLong(int)}、{@link #getDouble(int)}直接从字符缓冲区解析数值。
+ * </p>
+ * 此类非线程安全。
+ *
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+public final class CsvRowView {
+
+    private static final int DEFAULT_ROW_CAPACITY = 10;
+
+    /**
+     * 不经舍入即可精确表示的10的幂，用于快速解析小数
+     */
+    private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /**
+     * 本行字符缓冲区
+     */
+    private char[] chars = new char[512];
+
+    private int length;
+
+    private int[] starts = new int[DEFAULT_ROW_CAPACITY];
+
+    private int[] ends = new int[DEFAULT_ROW_CAPACITY];
+
+    private int fieldCount;
+
+    /**
+     * 字段视图，按字段下标复用
+     */
+    private FieldView[] views = new FieldView[DEFAULT_ROW_CAPACITY];
+
+    private Map<String, Integer> headerMap;
+
+    private long originalLineNumber;
+
+    /**
+     * 获取原始行号，多行情况下为首行行号。
+     *
+     * @return 行号
+     */
+    public long getOriginalLineNumber() {
+        return originalLineNumber;
+    }
+
+    /**
+     * 获取字段数
+     *
+     * @return 字段数
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * 获取字段视图，视图在读取下一行之前有效
+     *
+     * @param index 字段下标
+     * @return 字段视图
+     * @throws IndexOutOfBoundsException 下标越界
+     */
+    public CharSequence get(int index) {
+        checkIndex(index);
+        FieldView view = views[index];
+        if (null == view) {
+            view = new FieldView(index);
+            views[index] = view;
+        }
+        return view;
+    }
+
+    /**
+     * 获取标题对应的字段视图
+     *
+     * @param name 标题名
+     * @return 字段视图，null表示无此字段值
+     * @throws IllegalStateException CSV文件无标题行抛出此异常
+     */
+    public CharSequence getByName(String name) {
+        final int index = indexOf(name);
+        return index < 0 ? null : get(index);
+    }
+
+    /**
+     * 获取字段值
+     *
+     * @param index 字段下标
+     * @return 字段值
+     */
+    public String getString(int index) {
+        checkIndex(index);
+        return new String(chars, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * 字段长度
+     *
+     * @param index 字段下标
+     * @return 字段长度
+     */
+    public int getLength(int index) {
+        checkIndex(index);
+        return ends[index] - starts[index];
+    }
+
+    /**
+     * 将字段解析为int，规则同{@link Integer#parseInt(String)}
+     *
+     * @param index 字段下标
+     * @return int值
+     * @throws NumberFormatException 字段不是合法的整数
+     */
+    public int getInt(int index) {
+        final long value = getLong(index);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw numberFormatException(index);
+        }
+        return (int) value;
+    }
+
+    /**
+     * 将标题对应的字段解析为int
+     *
+     * @param name 标题名
+     * @return int值
+     * @throws NumberFormatException 字段不存在或不是合法的整数
+     */
+    public int getInt(String name) {
+        return getInt(requiredIndexOf(name));
+    }
+
+    /**
+     * 将字段解析为long，规则同{@link Long#parseLong(String)}
+     *
+     * @param index 字段下标
+     * @return long值
+     * @throws NumberFormatException 字段不是合法的整数
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        int pos = starts[index];
+        final int end = ends[index];
+        if (pos == end) {
+            throw numberFormatException(index);
+        }
+        final boolean negative = chars[pos] == '-';
+        if (negative || chars[pos] == '+') {
+            pos++;
+            if (pos == end) {
+                throw numberFormatException(index);
+            }
+        }
+        // 以负数累加，避免Long.MIN_VALUE溢出
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiMin = limit / 10;
+        long result = 0;
+        while (pos < end) {
+            final int digit = chars[pos++] - '0';
+            if (digit < 0 || digit > 9 || result < multiMin) {
+                throw numberFormatException(index);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw numberFormatException(index);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * 将标题对应的字段解析为long
+     *
+     * @param name 标题名
+     * @return long值
+     * @throws NumberFormatException 字段不存在或不是合法的整数
+     */
+    public long getLong(String name) {
+        return getLong(requiredIndexOf(name));
+    }
+
+    /**
+     * 将字段解析为double，规则同{@link Double#parseDouble(String)}<br> 有效数字不超过15位且无指数的常见小数直接从字符缓冲区精确计算，其它情况交给{@link Double#parseDouble(String)}
+     *
+     * @param index 字段下标
+     * @return double值
+     * @throws NumberFormatException 字段不是合法的数字
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        int pos = starts[index];
+        final int end = ends[index];
+        if (pos < end) {
+            final boolean negative = chars[pos] == '-';
+            if (negative || chars[pos] == '+') {
+                pos++;
+            }
+            long mantissa = 0;
+            int totalDigits = 0;
+            int significantDigits = 0;
+            int fractionDigits = 0;
+            boolean dot = false;
+            boolean simple = true;
+            for (; pos < end && simple; pos++) {
+                final char c = chars[pos];
+                if (c >= '0' && c <= '9') {
+                    totalDigits++;
+                    if (mantissa != 0 || c != '0') {
+                        significantDigits++;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (dot) {
+                        fractionDigits++;
+                    }
+                } else if (c == '.' && false == dot) {
+                    dot = true;
+                } else {
+                    simple = false;
+                }
+            }
+            // 有效数字和10的幂都能精确表示时，一次除法的结果就是正确舍入的
+            if (simple && totalDigits > 0 && significantDigits <= 15
+                && fractionDigits < EXACT_POWERS_OF_TEN.length) {
+                final double value = mantissa / EXACT_POWERS_OF_TEN[fractionDigits];
+                return negative ? -value : value;
+            }
+        }
+        try {
+            return Double.parseDouble(getString(index));
+        } catch (NumberFormatException e) {
+            throw numberFormatException(index);
+        }
+    }
+
+    /**
+     * 将标题对应的字段解析为double
+     *
+     * @param name 标题名
+     * @return double值
+     * @throws NumberFormatException 字段不存在或不是合法的数字
+     */
+    public double getDouble(String name) {
+        return getDouble(requiredIndexOf(name));
+    }
+
+    /**
+     * 复制当前行为独立的{@link CsvRow}
+     *
+     * @return {@link CsvRow}
+     */
+    public CsvRow toCsvRow() {
+        final List<String> fields = new ArrayList<>(fieldCount);
+        for (int i = 0; i < fieldCount; i++) {
+            fields.add(getString(i));
+        }
+        return new CsvRow(originalLineNumber, headerMap, fields);
+    }
+
+    @Override
+    public String toString() {
+        return toCsvRow().toString();
+    }
+
+    //--------------------------------------------------------------------------------------------- Package method start
+
+    /**
+     * 清空本行，开始新的一行
+     */
+    void reset() {
+        length = 0;
+        fieldCount = 0;
+    }
+
+    void setLine(long originalLineNumber, Map<String, Integer> headerMap) {
+        this.originalLineNumber = originalLineNumber;
+        this.headerMap = headerMap;
+    }
+
+    /**
+     * 当前行已读取的字符数
+     */
+    int charLength() {
+        return length;
+    }
+
+    /**
+     * 追加当前字段的内容
+     */
+    void append(char[] src, int offset, int len) {
+        if (length + len > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length << 1, length + len));
+        }
+        System.arraycopy(src, offset, chars, length, len);
+        length += len;
+    }
+
+    /**
+     * 结束当前字段，字段首尾都为包装符时去掉包装符
+     *
+     * @param start         字段起始位置
+     * @param textDelimiter 文本包装符
+     * @return 下一个字段的起始位置
+     */
+    int endField(int start, char textDelimiter) {
+        int end = length;
+        if (end - start >= 2 && chars[start] == textDelimiter && chars[end - 1] == textDelimiter) {
+            start++;
+            end--;
+        }
+        if (fieldCount == starts.length) {
+            final int newCapacity = fieldCount << 1;
+            starts = Arrays.copyOf(starts, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+            views = Arrays.copyOf(views, newCapacity);
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+        return length;
+    }
+
+    //--------------------------------------------------------------------------------------------- Private method start
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + fieldCount);
+        }
+    }
+
+    private int indexOf(String name) {
+        if (headerMap == null) {
+            throw new IllegalStateException("No header available");
+        }
+        final Integer col = headerMap.get(name);
+        return (null == col || col >= fieldCount) ? -1 : col;
+    }
+
+    private int requiredIndexOf(String name) {
+        final int index = indexOf(name);
+        if (index < 0) {
+            throw new NumberFormatException("No field named [" + name + "]");
+        }
+        return index;
+    }
+
+    private NumberFormatException numberFormatException(int index) {
+        return new NumberFormatException("For input string: \"" + getString(index) + "\"");
+    }
+
+    /**
+     * 字段视图，内容随所在行变化
+     */
+    private final class FieldView implements CharSequence {
+
+        private final int index;
+
+        FieldView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return ends[index] - starts[index];
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) {
+                throw new StringIndexOutOfBoundsException(i);
+            }
+            return chars[starts[index] + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new StringIndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+            }
+            return new String(chars, starts[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return getString(index);
+        }
+
+    }
+
+}
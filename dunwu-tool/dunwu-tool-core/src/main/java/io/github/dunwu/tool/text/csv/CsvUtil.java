@@ -33,6 +33,30 @@ public class CsvUtil {
         return new CsvReader();
     }
 
+    /**
+     * 获取CSV并行读取器，用于读取本地大文件
+     *
+     * @param config 配置，null则使用默认配置
+     * @return {@link CsvParallelReader}
+     * @since 2026-10-18
+     */
+    public static CsvParallelReader getParallelReader(CsvReadConfig config) {
+        return new CsvParallelReader(config);
+    }
+
+    /**
+     * 使用默认配置并行读取CSV文件
+     *
+     * @param file       CSV文件
+     * @param charset    文件编码
+     * @param rowHandler 行处理器，无序读取时须线程安全
+     * @param ordered    是否按文件顺序传递行
+     * @since 2026-10-18
+     */
+    public static void readParallel(File file, Charset charset, CsvRowHandler rowHandler, boolean ordered) {
+        new CsvParallelReader().setOrdered(ordered).read(file.toPath(), charset, rowHandler);
+    }
+
     //----------------------------------------------------------------------------------------------------------- Writer
 
     /**
@@ -23,6 +23,21 @@ public class CsvWriteConfig extends CsvConfig implements Serializable {
      */
     protected char[] lineDelimiter = { CharUtil.CR, CharUtil.LF };
 
+    /**
+     * 写出缓冲区大小（字符数），默认8192
+     */
+    protected int bufferSize = 8192;
+
+    /**
+     * 异步写入时每个字节缓冲区的大小（字节数），默认65536，共3个
+     */
+    protected int asyncBufferSize = 64 * 1024;
+
+    /**
+     * 写出到文件时是否由后台线程异步写入，默认false
+     */
+    protected boolean asyncFlush;
+
     /**
      * 默认配置
      *
@@ -32,6 +47,15 @@ public class CsvWriteConfig extends CsvConfig implements Serializable {
         return new CsvWriteConfig();
     }
 
+    /**
+     * 设置异步写入时每个字节缓冲区的大小（字节数），与{@link #setBufferSize(int)}的字符缓冲区相互独立，只在{@link #setAsyncFlush(boolean)}开启时有效
+     *
+     * @param asyncBufferSize 字节缓冲区大小
+     */
+    public void setAsyncBufferSize(int asyncBufferSize) {
+        this.asyncBufferSize = asyncBufferSize;
+    }
+
     /**
      * 设置是否始终使用文本分隔符，文本包装符，默认false，按需添加
      *
@@ -50,4 +74,22 @@ public class CsvWriteConfig extends CsvConfig implements Serializable {
         this.lineDelimiter = lineDelimiter;
     }
 
+    /**
+     * 设置写出缓冲区大小（字符数），导出大量数据时可以适当调大
+     *
+     * @param bufferSize 写出缓冲区大小
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * 设置写出到文件时是否由后台线程异步写入<br> 开启后写出线程只负责格式化和编码，文件IO由后台线程完成，只对写出到文件的构造方法有效
+     *
+     * @param asyncFlush 是否异步写入
+     */
+    public void setAsyncFlush(boolean asyncFlush) {
+        this.asyncFlush = asyncFlush;
+    }
+
 }
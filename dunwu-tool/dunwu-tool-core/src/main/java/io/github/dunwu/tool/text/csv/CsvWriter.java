@@ -24,6 +24,8 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    private static final int MIN_BUFFER_SIZE = 64;
+
     /**
      * 写出器
      */
@@ -34,6 +36,21 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
      */
     private final CsvWriteConfig config;
 
+    /**
+     * 写出缓冲区，写满后一次性写出到{@link #writer}
+     */
+    private final char[] buffer;
+
+    /**
+     * 写出缓冲区中已使用的字符数
+     */
+    private int bufferPos;
+
+    /**
+     * 数字转为字符时使用的临时缓冲区
+     */
+    private final char[] digits = new char[20];
+
     /**
      * 是否处于新行开始
      */
@@ -89,7 +106,7 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
      * @param config   写出配置，null则使用默认配置
      */
     public CsvWriter(File file, Charset charset, boolean isAppend, CsvWriteConfig config) {
-        this(FileUtil.getWriter(file, charset, isAppend), config);
+        this(createWriter(file, charset, isAppend, config), config);
     }
 
     /**
@@ -99,8 +116,9 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
      * @param config 写出配置，null则使用默认配置
      */
     public CsvWriter(Writer writer, CsvWriteConfig config) {
-        this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+        this.writer = writer;
         this.config = ObjectUtil.defaultIfNull(config, CsvWriteConfig.defaultConfig());
+        this.buffer = new char[Math.max(MIN_BUFFER_SIZE, this.config.bufferSize)];
     }
 
     /**
@@ -148,7 +166,11 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 
     @Override
     public void close() {
-        IoUtil.close(this.writer);
+        try {
+            flushBuffer();
+        } finally {
+            IoUtil.close(this.writer);
+        }
     }
 
     /**
@@ -193,6 +215,7 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
     @Override
     public void flush() throws IORuntimeException {
         try {
+            doFlushBuffer();
             writer.flush();
         } catch (IOException e) {
             throw new IORuntimeException(e);
@@ -224,42 +247,104 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
             for (int i = 0; i < fields.length; i++) {
                 appendField(fields[i]);
             }
-            writer.write(config.lineDelimiter);
-            newline = true;
+            endLine();
+        }
+    }
+
+    /**
+     * 追加一行，行数据为字符串数组、数组或集合时直接逐个写出字段，其它类型转换为字符串数组后写出
+     *
+     * @param values 行数据
+     * @throws IOException IO异常
+     */
+    private void doAppendValues(final Object values) throws IOException {
+        if (values instanceof String[]) {
+            doAppendLine((String[]) values);
+        } else if (values instanceof Object[]) {
+            for (Object value : (Object[]) values) {
+                appendValue(value);
+            }
+            endLine();
+        } else if (values instanceof Collection) {
+            for (Object value : (Collection<?>) values) {
+                appendValue(value);
+            }
+            endLine();
+        } else {
+            doAppendLine(Convert.toStrArray(values));
         }
     }
 
     // --------------------------------------------------------------------------------------------------- Private method start
 
     /**
-     * 在当前行追加字段值，自动添加字段分隔符，如果有必要，自动包装字段
+     * 在当前行追加字段值，整数直接写出字符，其它值转为字符串后写出
      *
      * @param value 字段值，{@code null} 会被做为空串写出
      * @throws IOException IO异常
      */
-    private void appendField(final String value) throws IOException {
-        boolean alwaysDelimitText = config.alwaysDelimitText;
-        char textDelimiter = config.textDelimiter;
-        char fieldSeparator = config.fieldSeparator;
-
-        if (false == newline) {
-            writer.write(fieldSeparator);
+    private void appendValue(final Object value) throws IOException {
+        if (value instanceof String) {
+            appendField((String) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+            || value instanceof Byte) {
+            appendLong(((Number) value).longValue());
         } else {
-            newline = false;
+            appendField(null == value ? null : Convert.toStr(value));
         }
+    }
+
+    /**
+     * 在当前行追加整数字段，不创建字符串
+     *
+     * @param value 整数值
+     * @throws IOException IO异常
+     */
+    private void appendLong(final long value) throws IOException {
+        if (value == Long.MIN_VALUE || config.alwaysDelimitText || isNumberChar(config.fieldSeparator)
+            || isNumberChar(config.textDelimiter)) {
+            // 极端情况走通用逻辑
+            appendField(String.valueOf(value));
+            return;
+        }
+        startField();
+        long v = Math.abs(value);
+        int pos = digits.length;
+        do {
+            digits[--pos] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        if (value < 0) {
+            digits[--pos] = '-';
+        }
+        write(digits, pos, digits.length - pos);
+    }
+
+    /**
+     * 在当前行追加字段值，自动添加字段分隔符，如果有必要，自动包装字段<br> 只扫描一遍字段值确定是否需要包装，不需要转义时整体复制到缓冲区
+     *
+     * @param value 字段值，{@code null} 会被做为空串写出
+     * @throws IOException IO异常
+     */
+    private void appendField(final String value) throws IOException {
+        final char textDelimiter = config.textDelimiter;
+        final char fieldSeparator = config.fieldSeparator;
+
+        startField();
 
         if (null == value) {
-            if (alwaysDelimitText) {
-                writer.write(new char[] { textDelimiter, textDelimiter });
+            if (config.alwaysDelimitText) {
+                write(textDelimiter);
+                write(textDelimiter);
             }
             return;
         }
 
-        final char[] valueChars = value.toCharArray();
-        boolean needsTextDelimiter = alwaysDelimitText;
+        final int length = value.length();
+        boolean needsTextDelimiter = config.alwaysDelimitText;
         boolean containsTextDelimiter = false;
-
-        for (final char c : valueChars) {
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
             if (c == textDelimiter) {
                 // 字段值中存在包装符
                 containsTextDelimiter = needsTextDelimiter = true;
@@ -272,28 +357,121 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
 
         // 包装符开始
         if (needsTextDelimiter) {
-            writer.write(textDelimiter);
+            write(textDelimiter);
         }
 
         // 正文
         if (containsTextDelimiter) {
-            for (final char c : valueChars) {
+            for (int i = 0; i < length; i++) {
+                final char c = value.charAt(i);
                 // 转义文本包装符
                 if (c == textDelimiter) {
-                    writer.write(textDelimiter);
+                    write(textDelimiter);
                 }
-                writer.write(c);
+                write(c);
             }
         } else {
-            writer.write(valueChars);
+            write(value);
         }
 
         // 包装符结尾
         if (needsTextDelimiter) {
-            writer.write(textDelimiter);
+            write(textDelimiter);
+        }
+    }
+
+    /**
+     * 字段开始，非行首时先写出字段分隔符
+     */
+    private void startField() throws IOException {
+        if (false == newline) {
+            write(config.fieldSeparator);
+        } else {
+            newline = false;
         }
     }
 
+    /**
+     * 结束当前行
+     */
+    private void endLine() throws IOException {
+        final char[] lineDelimiter = config.lineDelimiter;
+        write(lineDelimiter, 0, lineDelimiter.length);
+        newline = true;
+    }
+
+    private void write(final char c) throws IOException {
+        if (bufferPos == buffer.length) {
+            doFlushBuffer();
+        }
+        buffer[bufferPos++] = c;
+    }
+
+    private void write(final String str) throws IOException {
+        int offset = 0;
+        int remaining = str.length();
+        while (remaining > 0) {
+            if (bufferPos == buffer.length) {
+                doFlushBuffer();
+            }
+            final int n = Math.min(remaining, buffer.length - bufferPos);
+            str.getChars(offset, offset + n, buffer, bufferPos);
+            bufferPos += n;
+            offset += n;
+            remaining -= n;
+        }
+    }
+
+    private void write(final char[] chars, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (bufferPos == buffer.length) {
+                doFlushBuffer();
+            }
+            final int n = Math.min(length, buffer.length - bufferPos);
+            System.arraycopy(chars, offset, buffer, bufferPos, n);
+            bufferPos += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * 将缓冲区中的内容写出到{@link #writer}
+     */
+    private void flushBuffer() throws IORuntimeException {
+        try {
+            doFlushBuffer();
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+    }
+
+    private void doFlushBuffer() throws IOException {
+        if (bufferPos > 0) {
+            writer.write(buffer, 0, bufferPos);
+            bufferPos = 0;
+        }
+    }
+
+    private static boolean isNumberChar(final char c) {
+        return (c >= '0' && c <= '9') || c == '-';
+    }
+
+    /**
+     * 创建写出到文件的{@link Writer}，配置了异步写入时使用{@link AsyncFileChannelWriter}
+     */
+    private static Writer createWriter(File file, Charset charset, boolean isAppend, CsvWriteConfig config) {
+        if (null != config && config.asyncFlush) {
+            try {
+                return new AsyncFileChannelWriter(FileUtil.touch(file),
+                    ObjectUtil.defaultIfNull(charset, CharsetUtil.CHARSET_UTF_8), isAppend, config.asyncBufferSize);
+            } catch (IOException e) {
+                throw new IORuntimeException(e);
+            }
+        }
+        return FileUtil.getWriter(file, charset, isAppend);
+    }
+
     /**
      * 将多行写出到Writer
      *
@@ -303,14 +481,56 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
      */
     public CsvWriter write(Collection<?> lines) throws IORuntimeException {
         if (CollectionUtil.isNotEmpty(lines)) {
-            for (Object values : lines) {
-                appendLine(Convert.toStrArray(values));
+            try {
+                for (Object values : lines) {
+                    doAppendValues(values);
+                }
+            } catch (IOException e) {
+                throw new IORuntimeException(e);
             }
             flush();
         }
         return this;
     }
 
+    /**
+     * 将多个Bean写出为多行，列为Bean中可读取的属性，顺序同{@link io.github.dunwu.tool.bean.BeanDesc#getProps()}<br>
+     * 每个Bean类型的列在首次写出时解析并缓存，写出时直接按列取值，{@code null}元素被跳过
+     *
+     * @param <T>         Bean类型
+     * @param beanClass   Bean类型
+     * @param beans       Bean列表
+     * @param writeHeader 是否先写出标题行（属性名）
+     * @return this
+     * @throws IORuntimeException IO异常
+     * @since 2026-10-18
+     */
+    public <T> CsvWriter writeBeans(Class<T> beanClass, Iterable<? extends T> beans, boolean writeHeader)
+        throws IORuntimeException {
+        final CsvBeanPlan plan = CsvBeanPlan.of(beanClass);
+        try {
+            if (writeHeader) {
+                doAppendLine(plan.getHeader());
+            }
+            if (null != beans) {
+                final int size = plan.size();
+                for (T bean : beans) {
+                    if (null == bean) {
+                        continue;
+                    }
+                    for (int i = 0; i < size; i++) {
+                        appendValue(plan.getValue(bean, i));
+                    }
+                    endLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new IORuntimeException(e);
+        }
+        flush();
+        return this;
+    }
+
     /**
      * 追加新行（换行）
      *
@@ -318,11 +538,10 @@ public final class CsvWriter implements Closeable, Flushable, Serializable {
      */
     public void writeLine() throws IORuntimeException {
         try {
-            writer.write(config.lineDelimiter);
+            endLine();
         } catch (IOException e) {
             throw new IORuntimeException(e);
         }
-        newline = true;
     }
     // --------------------------------------------------------------------------------------------------- Private method end
 }
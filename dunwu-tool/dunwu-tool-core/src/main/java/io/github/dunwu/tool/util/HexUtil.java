@@ -1,6 +1,11 @@
 package io.github.dunwu.tool.util;
 
+import io.github.dunwu.tool.codec.BaseNCodec;
+import io.github.dunwu.tool.exceptions.UtilException;
+
 import java.awt.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 
 /**
@@ -229,6 +234,30 @@ public class HexUtil {
         return out;
     }
 
+    /**
+     * 将缓冲区中的字节编码为十六进制字符写入目标缓冲区，不分配新数组<br> 处理到源读完或目标空间不足为止，可分块多次调用
+     *
+     * @param src         字节
+     * @param dst         目标
+     * @param toLowerCase <code>true</code> 传换成小写格式 ， <code>false</code> 传换成大写格式
+     * @since 2026-10-18
+     */
+    public static void encodeHex(ByteBuffer src, CharBuffer dst, boolean toLowerCase) {
+        (toLowerCase ? BaseNCodec.HEX : BaseNCodec.HEX_UPPERCASE).encode(src, dst, true);
+    }
+
+    /**
+     * 将缓冲区中的十六进制字符解码写入目标缓冲区，不分配新数组<br> 处理到源中不足两个字符或目标空间不足为止，可分块多次调用
+     *
+     * @param src 十六进制字符
+     * @param dst 目标
+     * @throws UtilException 包含非十六进制字符
+     * @since 2026-10-18
+     */
+    public static void decodeHex(CharBuffer src, ByteBuffer dst) {
+        BaseNCodec.HEX.decode(src, dst, false);
+    }
+
     // ---------------------------------------------------------------------------------------- Color
 
     /**
@@ -46,6 +46,20 @@ public class IdUtil {
         return new Snowflake(workerId, datacenterId);
     }
 
+    /**
+     * 创建Twitter的Snowflake 算法生成器<br> 生成器无锁，支持{@link Snowflake#nextIds(int)}批量获取ID，时钟回拨在允许范围内时继续生成有序ID
+     *
+     * @param workerId          终端ID
+     * @param datacenterId      数据中心ID
+     * @param isUseSystemClock  是否使用{@link io.github.dunwu.tool.date.SystemClock} 获取当前时间戳
+     * @param maxBackwardMillis 允许的时钟回拨毫秒数
+     * @return {@link Snowflake}
+     */
+    public static Snowflake createSnowflake(long workerId, long datacenterId, boolean isUseSystemClock,
+        long maxBackwardMillis) {
+        return new Snowflake(workerId, datacenterId, isUseSystemClock, maxBackwardMillis);
+    }
+
     /**
      * 简化的UUID，去掉了横线，使用性能更好的ThreadLocalRandom生成UUID
      *
@@ -91,6 +105,20 @@ public class IdUtil {
         return Singleton.get(Snowflake.class, workerId, datacenterId);
     }
 
+    /**
+     * 获取单例的Twitter的Snowflake 算法生成器对象<br> 生成器无锁，支持{@link Snowflake#nextIds(int)}批量获取ID，时钟回拨在允许范围内时继续生成有序ID
+     *
+     * @param workerId          终端ID
+     * @param datacenterId      数据中心ID
+     * @param isUseSystemClock  是否使用{@link io.github.dunwu.tool.date.SystemClock} 获取当前时间戳
+     * @param maxBackwardMillis 允许的时钟回拨毫秒数
+     * @return {@link Snowflake}
+     */
+    public static Snowflake getSnowflake(long workerId, long datacenterId, boolean isUseSystemClock,
+        long maxBackwardMillis) {
+        return Singleton.get(Snowflake.class, workerId, datacenterId, isUseSystemClock, maxBackwardMillis);
+    }
+
     /**
      * 创建MongoDB ID生成策略实现<br> ObjectId由以下几部分组成：
      *
@@ -1,5 +1,6 @@
 package io.github.dunwu.tool.util;
 
+import io.github.dunwu.tool.clone.DeepCloner;
 import io.github.dunwu.tool.collection.IterUtil;
 import io.github.dunwu.tool.comparator.CompareUtil;
 import io.github.dunwu.tool.convert.Convert;
@@ -40,7 +41,8 @@ public class ObjectUtil {
     }
 
     /**
-     * 克隆对象<br> 如果对象实现Cloneable接口，调用其clone方法<br> 如果实现Serializable接口，执行深度克隆<br> 否则返回<code>null</code>
+     * 克隆对象<br> 如果对象实现Cloneable接口，调用其clone方法<br> 如果实现Serializable接口，使用{@link DeepCloner}执行深度克隆<br>
+     * 否则返回<code>null</code>
      *
      * @param <T> 对象类型
      * @param obj 被克隆对象
@@ -51,15 +53,15 @@ public class ObjectUtil {
         if (null == result) {
             if (obj instanceof Cloneable) {
                 result = ReflectUtil.invoke(obj, "clone");
-            } else {
-                result = cloneByStream(obj);
+            } else if (obj instanceof Serializable) {
+                result = DeepCloner.clone(obj);
             }
         }
         return result;
     }
 
     /**
-     * 序列化后拷贝流的方式克隆<br> 对象必须实现Serializable接口
+     * 序列化后拷贝流的方式克隆<br> 对象必须实现Serializable接口<br> 序列化会完整写出对象图，速度较慢，一般使用{@link DeepCloner#clone(Object)}
      *
      * @param <T> 对象类型
      * @param obj 被克隆对象
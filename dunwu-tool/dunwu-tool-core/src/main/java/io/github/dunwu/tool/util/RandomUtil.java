@@ -6,6 +6,7 @@ import io.github.dunwu.tool.date.DatePattern;
 import io.github.dunwu.tool.date.DateTime;
 import io.github.dunwu.tool.date.DateUtil;
 import io.github.dunwu.tool.exceptions.UtilException;
+import io.github.dunwu.tool.lang.AliasRandom;
 import io.github.dunwu.tool.lang.WeightRandom;
 
 import java.awt.*;
@@ -557,6 +558,18 @@ public class RandomUtil {
         return new WeightRandom<>(weightObjs);
     }
 
+    /**
+     * 基于别名表的权重随机生成器，每次随机为常数时间，可在多个线程间共享
+     *
+     * @param <T>        随机对象类型
+     * @param weightObjs 带有权重的对象列表
+     * @return {@link AliasRandom}
+     * @since 2026-10-18
+     */
+    public static <T> AliasRandom<T> aliasRandom(Iterable<WeightRandom.WeightObj<T>> weightObjs) {
+        return AliasRandom.of(weightObjs);
+    }
+
     /**
      * 返回无锁的 ThreadLocalRandom
      */
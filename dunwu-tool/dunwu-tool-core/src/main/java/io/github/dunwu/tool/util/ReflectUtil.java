@@ -77,13 +77,7 @@ public class ReflectUtil {
     @SuppressWarnings("unchecked")
     public static <T> Constructor<T>[] getConstructors(Class<T> beanClass) throws SecurityException {
         Assert.notNull(beanClass);
-        Constructor<?>[] constructors = CONSTRUCTORS_CACHE.get(beanClass);
-        if (null != constructors) {
-            return (Constructor<T>[]) constructors;
-        }
-
-        constructors = getConstructorsDirectly(beanClass);
-        return (Constructor<T>[]) CONSTRUCTORS_CACHE.put(beanClass, constructors);
+        return (Constructor<T>[]) CONSTRUCTORS_CACHE.get(beanClass, () -> getConstructorsDirectly(beanClass));
     }
 
     /**
@@ -317,13 +311,7 @@ public class ReflectUtil {
      * @throws SecurityException 安全检查异常
      */
     public static Method[] getMethods(Class<?> beanClass) throws SecurityException {
-        Method[] allMethods = METHODS_CACHE.get(beanClass);
-        if (null != allMethods) {
-            return allMethods;
-        }
-
-        allMethods = getMethodsDirectly(beanClass, true);
-        return METHODS_CACHE.put(beanClass, allMethods);
+        return METHODS_CACHE.get(beanClass, () -> getMethodsDirectly(beanClass, true));
     }
 
     /**
@@ -522,13 +510,7 @@ public class ReflectUtil {
      * @throws SecurityException 安全检查异常
      */
     public static Field[] getFields(Class<?> beanClass) throws SecurityException {
-        Field[] allFields = FIELDS_CACHE.get(beanClass);
-        if (null != allFields) {
-            return allFields;
-        }
-
-        allFields = getFieldsDirectly(beanClass, true);
-        return FIELDS_CACHE.put(beanClass, allFields);
+        return FIELDS_CACHE.get(beanClass, () -> getFieldsDirectly(beanClass, true));
     }
 
     /**
@@ -3,6 +3,7 @@ package io.github.dunwu.tool.util;
 import io.github.dunwu.tool.collection.CollectionUtil;
 import io.github.dunwu.tool.exceptions.UtilException;
 import io.github.dunwu.tool.lang.Holder;
+import io.github.dunwu.tool.lang.PatternPool;
 import io.github.dunwu.tool.lang.func.Func1;
 
 import java.util.*;
@@ -251,7 +252,7 @@ public class RegexUtil {
             return false;
         }
 
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         return contains(text, pattern);
     }
 
@@ -284,7 +285,7 @@ public class RegexUtil {
             return 0;
         }
 
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         return count(text, pattern);
     }
 
@@ -469,7 +470,7 @@ public class RegexUtil {
         if (StringUtil.isBlank(regex)) {
             return null;
         }
-        return Pattern.compile(regex, flag);
+        return PatternPool.get(regex, flag);
     }
 
     /**
@@ -487,7 +488,7 @@ public class RegexUtil {
             return collection;
         }
 
-        return RegexUtil.getAll(text, Pattern.compile(regex, Pattern.DOTALL), group, collection);
+        return RegexUtil.getAll(text, PatternPool.get(regex, Pattern.DOTALL), group, collection);
     }
 
     /**
@@ -573,7 +574,7 @@ public class RegexUtil {
     }
 
     public static List<String> getAll(final CharSequence text, final String regex) {
-        return getAll(text, Pattern.compile(regex));
+        return getAll(text, PatternPool.get(regex));
     }
 
     public static List<String> getAll(final CharSequence text, final Pattern pattern) {
@@ -606,7 +607,7 @@ public class RegexUtil {
             return null;
         }
 
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         return get(text, pattern, group);
     }
 
@@ -657,7 +658,7 @@ public class RegexUtil {
         if (StringUtil.isBlank(text) || StringUtil.isBlank(regex)) {
             return false;
         }
-        Pattern pattern = Pattern.compile(regex, flag);
+        Pattern pattern = PatternPool.get(regex, flag);
         return matches(text, pattern);
     }
 
@@ -797,7 +798,7 @@ public class RegexUtil {
         if (StringUtil.isBlank(text) || StringUtil.isBlank(regex) || replacement == null) {
             return StringUtil.str(text);
         }
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         return replaceAll(text, pattern, replacement);
     }
 
@@ -850,7 +851,10 @@ public class RegexUtil {
      * @return 移除后的字符串
      */
     public static String removeFirst(final CharSequence text, final String regex) {
-        Pattern pattern = Pattern.compile(regex);
+        if (null == text || null == regex) {
+            return StringUtil.str(text);
+        }
+        Pattern pattern = PatternPool.get(regex);
         return removeFirst(text, pattern);
     }
 
@@ -868,7 +872,7 @@ public class RegexUtil {
             return StringUtil.str(text);
         }
 
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         Matcher matcher = pattern.matcher(text);
         if (matcher.find()) {
             return StringUtil.sub(text, matcher.end(), text.length());
@@ -886,7 +890,7 @@ public class RegexUtil {
      * @since 4.2.2
      */
     public static String replaceAll(final CharSequence text, final String regex, Func1<Matcher, String> callback) {
-        return replaceAll(text, Pattern.compile(regex), callback);
+        return replaceAll(text, PatternPool.get(regex), callback);
     }
 
     /**
@@ -975,7 +979,7 @@ public class RegexUtil {
         if (StringUtil.isBlank(text) || StringUtil.isBlank(regex) || replacement == null) {
             return StringUtil.str(text);
         }
-        Pattern pattern = Pattern.compile(regex);
+        Pattern pattern = PatternPool.get(regex);
         return replaceFirst(text, pattern, replacement);
     }
 
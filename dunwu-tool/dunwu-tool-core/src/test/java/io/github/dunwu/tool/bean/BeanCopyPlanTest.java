@@ -0,0 +1,242 @@
+package io.github.dunwu.tool.bean;
+
+import io.github.dunwu.tool.bean.support.BeanCopier;
+import io.github.dunwu.tool.bean.support.BeanCopyPlan;
+import io.github.dunwu.tool.bean.support.BeanOptions;
+import io.github.dunwu.tool.collection.CollectionUtil;
+import io.github.dunwu.tool.map.MapUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link BeanCopyPlan} 单元测试类
+ */
+public class BeanCopyPlanTest {
+
+    @Test
+    public void copyTest() {
+        BeanCopyPlan<Source, Dest> plan = BeanCopier.plan(Source.class, Dest.class, BeanOptions.create());
+
+        Source source = new Source();
+        source.setName("张三");
+        source.setAge("18");
+        source.setEnabled(true);
+        Dest dest = plan.copy(source);
+
+        Assertions.assertEquals("张三", dest.getName());
+        Assertions.assertEquals(18, dest.getAge());
+        Assertions.assertTrue(dest.isEnabled());
+    }
+
+    @Test
+    public void copyWithOptionsTest() {
+        BeanOptions options = BeanOptions.create()
+            .setIgnoreNullValue(true)
+            .setIgnoreProperties("age")
+            .setFieldMapping(MapUtil.of("name", "alias"));
+        BeanCopyPlan<Source, Dest> plan = BeanCopier.plan(Source.class, Dest.class, options);
+
+        Source source = new Source();
+        source.setName("张三");
+        source.setAge("18");
+        Dest dest = new Dest();
+        dest.setAlias("李四");
+        plan.copy(source, dest);
+
+        Assertions.assertEquals("张三", dest.getAlias());
+        Assertions.assertEquals("张三", dest.getName());
+        Assertions.assertEquals(0, dest.getAge());
+    }
+
+    @Test
+    public void copyListTest() {
+        BeanCopyPlan<Source, Dest> plan = BeanCopier.plan(Source.class, Dest.class,
+            BeanOptions.create().setIgnoreNullValue(true));
+
+        Source source1 = new Source();
+        source1.setName("a");
+        Source source2 = new Source();
+        source2.setName("b");
+        List<Dest> list = plan.copyList(CollectionUtil.newArrayList(source1, null, source2));
+
+        Assertions.assertEquals(3, list.size());
+        Assertions.assertEquals("a", list.get(0).getName());
+        Assertions.assertNull(list.get(1));
+        Assertions.assertEquals("b", list.get(2).getName());
+    }
+
+    @Test
+    public void copyGenericTest() {
+        BeanCopyPlan<GenericSource, GenericDest> plan =
+            BeanCopier.plan(GenericSource.class, GenericDest.class, BeanOptions.create());
+
+        GenericSource source = new GenericSource();
+        source.setIds(CollectionUtil.newArrayList("1", "2"));
+        source.setScores(MapUtil.of("a", "90"));
+        source.setTags(CollectionUtil.newArrayList("x"));
+        GenericDest dest = plan.copy(source);
+
+        // 按Setter的泛型参数转换元素
+        Assertions.assertEquals(CollectionUtil.newArrayList(1L, 2L), dest.getIds());
+        Assertions.assertEquals(Long.class, ((List<?>) dest.getIds()).get(0).getClass());
+        Assertions.assertEquals(Integer.valueOf(90), dest.getScores().get("a"));
+        Assertions.assertEquals(source.getTags(), dest.getTags());
+
+        // 与BeanUtil.copyProperties结果一致
+        GenericDest expected = new GenericDest();
+        BeanUtil.copyProperties(source, expected);
+        Assertions.assertEquals(expected.getIds(), dest.getIds());
+        Assertions.assertEquals(expected.getScores(), dest.getScores());
+        Assertions.assertEquals(expected.getTags(), dest.getTags());
+    }
+
+    public static class Source {
+
+        private String name;
+
+        private String age;
+
+        private boolean enabled;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getAge() {
+            return age;
+        }
+
+        public void setAge(String age) {
+            this.age = age;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    public static class Dest {
+
+        private String name;
+
+        private String alias;
+
+        private int age;
+
+        private boolean enabled;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+
+        public void setAlias(String alias) {
+            this.alias = alias;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+    public static class GenericSource {
+
+        private List<String> ids;
+
+        private Map<String, String> scores;
+
+        private List<String> tags;
+
+        public List<String> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<String> ids) {
+            this.ids = ids;
+        }
+
+        public Map<String, String> getScores() {
+            return scores;
+        }
+
+        public void setScores(Map<String, String> scores) {
+            this.scores = scores;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+    }
+
+    public static class GenericDest {
+
+        private List<Long> ids;
+
+        private Map<String, Integer> scores;
+
+        private List<String> tags;
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public void setIds(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        public Map<String, Integer> getScores() {
+            return scores;
+        }
+
+        public void setScores(Map<String, Integer> scores) {
+            this.scores = scores;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+    }
+
+}
@@ -1,8 +1,11 @@
 package io.github.dunwu.tool.bean;
 
+import io.github.dunwu.tool.exceptions.UtilException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 /**
  * {@link BeanDesc} 单元测试类
  *
@@ -64,6 +67,72 @@ public class BeanDescTest {
         Assertions.assertEquals("张三", value);
     }
 
+    @Test
+    public void primitiveGetSetTest() {
+        BeanDesc desc = BeanUtil.getBeanDesc(User.class);
+
+        User user = new User();
+        // setAge为返回this的链式Setter
+        desc.getProp("age").setValue(user, 18);
+        desc.getProp("isAdmin").setValue(user, true);
+        Assertions.assertEquals(18, user.getAge());
+        Assertions.assertEquals(18, desc.getProp("age").getValue(user));
+        Assertions.assertEquals(true, desc.getProp("isAdmin").getValue(user));
+
+        Assertions.assertThrows(UtilException.class, () -> desc.getProp("age").setValue(user, null));
+        Assertions.assertThrows(UtilException.class, () -> desc.getProp("age").setValue(user, "18"));
+    }
+
+    @Test
+    public void privateClassGetSetTest() {
+        BeanDesc desc = BeanUtil.getBeanDesc(PrivateBean.class);
+
+        PrivateBean bean = new PrivateBean();
+        desc.getProp("code").setValue(bean, 100L);
+        Assertions.assertEquals(100L, desc.getProp("code").getValue(bean));
+    }
+
+    @Test
+    public void checkedExceptionTest() {
+        BeanDesc desc = BeanUtil.getBeanDesc(CheckedBean.class);
+
+        // Getter、Setter声明的受检异常包装为UtilException
+        UtilException e = Assertions.assertThrows(UtilException.class,
+            () -> desc.getProp("path").getValue(new CheckedBean()));
+        Assertions.assertTrue(e.getCause() instanceof IOException);
+        e = Assertions.assertThrows(UtilException.class,
+            () -> desc.getProp("path").setValue(new CheckedBean(), "a"));
+        Assertions.assertTrue(e.getCause() instanceof IOException);
+    }
+
+    public static class CheckedBean {
+
+        private String path;
+
+        public String getPath() throws IOException {
+            throw new IOException(path);
+        }
+
+        public void setPath(String path) throws IOException {
+            throw new IOException(path);
+        }
+
+    }
+
+    private static class PrivateBean {
+
+        private long code;
+
+        private long getCode() {
+            return code;
+        }
+
+        private void setCode(long code) {
+            this.code = code;
+        }
+
+    }
+
     public static class User {
 
         private String name;
@@ -0,0 +1,124 @@
+package io.github.dunwu.tool.builder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link EqualsBuilder#reflectionEquals}、{@link HashCodeBuilder#reflectionHashCode}、
+ * {@link CompareToBuilder#reflectionCompare} 单元测试
+ */
+public class ReflectionBuilderTest {
+
+    @Test
+    public void reflectionEqualsTest() {
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(new Child(1, "a"), new Child(1, "a")));
+        Assertions.assertFalse(EqualsBuilder.reflectionEquals(new Child(1, "a"), new Child(2, "a")));
+
+        Child nan = new Child(1, "a");
+        nan.ratio = Double.NaN;
+        Child nan2 = new Child(1, "a");
+        nan2.ratio = Double.NaN;
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(nan, nan2));
+        nan2.ratio = -0.0;
+        nan.ratio = 0.0;
+        Assertions.assertFalse(EqualsBuilder.reflectionEquals(nan, nan2));
+
+        // transient和排除的字段不参与比较
+        Child lhs = new Child(1, "a");
+        Child rhs = new Child(1, "a");
+        rhs.cache = 100;
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs));
+        Assertions.assertFalse(EqualsBuilder.reflectionEquals(lhs, rhs, true));
+        rhs.name = "b";
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs, "name"));
+
+        // 父类字段不同
+        rhs = new Child(1, "a");
+        rhs.id = 2L;
+        Assertions.assertFalse(EqualsBuilder.reflectionEquals(lhs, rhs));
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(lhs, rhs, false, Child.class));
+
+        // 子类有字段时与父类对象不相等
+        Assertions.assertFalse(EqualsBuilder.reflectionEquals(new Parent(), lhs));
+        Assertions.assertTrue(EqualsBuilder.reflectionEquals(new Parent(), new Parent()));
+    }
+
+    @Test
+    public void reflectionHashCodeTest() {
+        Child child = new Child(3, "a");
+        child.ratio = 0.5;
+        child.flag = true;
+        child.code = 'x';
+        child.id = Long.MIN_VALUE;
+        // 结果与逐个追加装箱后的字段相同
+        int expected = new HashCodeBuilder(17, 37)
+            .append(Integer.valueOf(child.count))
+            .append(Character.valueOf(child.code))
+            .append(Double.valueOf(child.ratio))
+            .append(Boolean.valueOf(child.flag))
+            .append(child.name)
+            .append(child.values)
+            .append(Long.valueOf(child.id))
+            .toHashCode();
+        Assertions.assertEquals(expected, HashCodeBuilder.reflectionHashCode(child));
+        Assertions.assertEquals(expected, HashCodeBuilder.reflectionHashCode(child));
+
+        Child other = new Child(3, "a");
+        other.ratio = 0.5;
+        other.flag = true;
+        other.code = 'x';
+        other.id = Long.MIN_VALUE;
+        other.cache = 1;
+        Assertions.assertEquals(expected, HashCodeBuilder.reflectionHashCode(other));
+        Assertions.assertNotEquals(HashCodeBuilder.reflectionHashCode(child, true),
+            HashCodeBuilder.reflectionHashCode(other, true));
+    }
+
+    @Test
+    public void reflectionCompareTest() {
+        Assertions.assertEquals(0, CompareToBuilder.reflectionCompare(new Child(1, "a"), new Child(1, "a")));
+        Assertions.assertEquals(-1, CompareToBuilder.reflectionCompare(new Child(1, "a"), new Child(2, "a")));
+        Assertions.assertTrue(CompareToBuilder.reflectionCompare(new Child(1, "b"), new Child(1, "a")) > 0);
+
+        Child lhs = new Child(1, "a");
+        Child rhs = new Child(1, "a");
+        lhs.code = 'a';
+        rhs.code = 'c';
+        // 与Character.compareTo相同，返回差值
+        Assertions.assertEquals(-2, CompareToBuilder.reflectionCompare(lhs, rhs));
+        rhs.code = 'a';
+        lhs.ratio = Double.NaN;
+        Assertions.assertEquals(1, CompareToBuilder.reflectionCompare(lhs, rhs));
+        Assertions.assertEquals(0, CompareToBuilder.reflectionCompare(lhs, rhs, false, null, "ratio"));
+    }
+
+    static class Parent {
+
+        long id;
+
+        static int instances;
+    }
+
+    static class Child extends Parent {
+
+        int count;
+
+        char code;
+
+        double ratio;
+
+        boolean flag;
+
+        String name;
+
+        int[] values = { 1, 2 };
+
+        transient int cache;
+
+        Child(int count, String name) {
+            this.count = count;
+            this.name = name;
+        }
+    }
+
+}
@@ -1,8 +1,26 @@
 package io.github.dunwu.tool.clone;
 
+import io.github.dunwu.tool.lang.Dict;
+import io.github.dunwu.tool.util.ObjectUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 /**
  * 克隆单元测试
  *
@@ -24,8 +42,188 @@ public class CloneTest {
         Assertions.assertEquals(dog, dog2);
     }
 
+    @Test
+    public void deepCloneTest() {
+        Node root = new Node("root");
+        Node child = new Node("child");
+        root.children.add(child);
+        root.children.add(child);
+        child.parent = root;
+        root.attrs.put("date", new Date(1000L));
+        root.attrs.put("day", LocalDate.of(2020, 1, 1));
+        root.attrs.put("tags", new String[] { "a", "b" });
+        root.attrs.put("sorted", new TreeMap<String, Integer>(Comparator.reverseOrder()));
+        root.weights = new int[] { 1, 2, 3 };
+        root.cache = "cache";
+
+        Node copy = DeepCloner.clone(root);
+        Assertions.assertNotSame(root, copy);
+        Assertions.assertEquals("root", copy.name);
+        Assertions.assertSame(root.name, copy.name);
+        Assertions.assertArrayEquals(root.weights, copy.weights);
+        Assertions.assertNotSame(root.weights, copy.weights);
+        // transient字段不复制，保留构造方法中的值
+        Assertions.assertNull(copy.cache);
+
+        // 同一对象只复制一次，循环引用指向副本
+        Node childCopy = copy.children.get(0);
+        Assertions.assertNotSame(child, childCopy);
+        Assertions.assertSame(childCopy, copy.children.get(1));
+        Assertions.assertSame(copy, childCopy.parent);
+
+        Assertions.assertEquals(root.attrs.get("date"), copy.attrs.get("date"));
+        Assertions.assertNotSame(root.attrs.get("date"), copy.attrs.get("date"));
+        Assertions.assertSame(root.attrs.get("day"), copy.attrs.get("day"));
+        Assertions.assertArrayEquals((String[]) root.attrs.get("tags"), (String[]) copy.attrs.get("tags"));
+        Assertions.assertEquals(new ArrayList<>(root.attrs.keySet()), new ArrayList<>(copy.attrs.keySet()));
+        TreeMap<?, ?> sorted = (TreeMap<?, ?>) copy.attrs.get("sorted");
+        Assertions.assertSame(Comparator.reverseOrder(), sorted.comparator());
+
+        // 修改副本不影响原对象
+        copy.weights[0] = 100;
+        childCopy.name = "changed";
+        Assertions.assertEquals(1, root.weights[0]);
+        Assertions.assertEquals("child", child.name);
+    }
+
+    @Test
+    public void deepCloneCollectionTest() {
+        Map<String, List<Integer>> map = new LinkedHashMap<>(16, 0.75f, true);
+        map.put("a", new ArrayList<>(Arrays.asList(1, 2)));
+        map.put("b", Collections.singletonList(3));
+        map.get("a");
+        Map<String, List<Integer>> copy = DeepCloner.clone(map);
+        Assertions.assertEquals(map, copy);
+        Assertions.assertNotSame(map.get("a"), copy.get("a"));
+        // 保留访问顺序
+        Assertions.assertEquals(Arrays.asList("b", "a"), new ArrayList<>(copy.keySet()));
+        copy.get("b");
+        Assertions.assertEquals(Arrays.asList("a", "b"), new ArrayList<>(copy.keySet()));
+
+        LocalDate day = LocalDate.of(2020, 1, 1);
+        Dict dict = Dict.create().set("name", "dict").set("list", new ArrayList<>(Arrays.asList("x"))).set("day", day);
+        Dict dictCopy = DeepCloner.clone(dict);
+        Assertions.assertEquals(dict, dictCopy);
+        Assertions.assertNotSame(dict.get("list"), dictCopy.get("list"));
+        Assertions.assertEquals(day, dictCopy.get("day"));
+
+        Object[] objects = { new HashMap<>(), "s", null };
+        Object[] objectsCopy = DeepCloner.clone(objects);
+        Assertions.assertNotSame(objects[0], objectsCopy[0]);
+        Assertions.assertSame(objects[1], objectsCopy[1]);
+        Assertions.assertNull(objectsCopy[2]);
+    }
+
+    @Test
+    public void deepCloneFallbackTest() {
+        // 没有无参构造，使用序列化复制
+        Immutable immutable = new Immutable(new StringBuilder("value"));
+        Immutable immutableCopy = DeepCloner.clone(immutable);
+        Assertions.assertNotSame(immutable.builder, immutableCopy.builder);
+        Assertions.assertEquals("value", immutableCopy.builder.toString());
+
+        Assertions.assertThrows(CloneRuntimeException.class, () -> DeepCloner.clone(new Unsupported(1)));
+        Assertions.assertTrue(DeepCloner.isImmutable("str"));
+        Assertions.assertFalse(DeepCloner.isImmutable(new Date()));
+    }
+
+    @Test
+    public void deepCloneSerializationHookTest() {
+        // 自定义了序列化过程的对象使用序列化复制，不逐字段复制
+        CustomSerialized custom = new CustomSerialized();
+        custom.data = new int[] { 1, 2, 3 };
+        CustomSerialized customCopy = ObjectUtil.clone(custom);
+        Assertions.assertNotSame(custom, customCopy);
+        Assertions.assertArrayEquals(new int[] { 1, 2, 3 }, customCopy.data);
+
+        Assertions.assertSame(Singleton.INSTANCE, ObjectUtil.clone(Singleton.INSTANCE));
+        Assertions.assertSame(Singleton.INSTANCE, DeepCloner.clone(Singleton.INSTANCE));
+    }
+
     //------------------------------------------------------------------------------- private Class for test
 
+    private static class Node {
+
+        private String name;
+
+        private Node parent;
+
+        private final List<Node> children = new ArrayList<>();
+
+        private Map<String, Object> attrs = new TreeMap<>();
+
+        private int[] weights;
+
+        private transient String cache;
+
+        private Node() {
+        }
+
+        private Node(String name) {
+            this.name = name;
+        }
+
+    }
+
+    private static class Immutable implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final StringBuilder builder;
+
+        private Immutable(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+    }
+
+    private static class CustomSerialized implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient int[] data = new int[0];
+
+        private CustomSerialized() {
+        }
+
+        private void writeObject(ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeObject(data);
+        }
+
+        private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            data = (int[]) in.readObject();
+        }
+
+    }
+
+    private static class Singleton implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final Singleton INSTANCE = new Singleton();
+
+        private Singleton() {
+        }
+
+        private Object readResolve() {
+            return INSTANCE;
+        }
+
+    }
+
+    private static class Unsupported {
+
+        private final int value;
+
+        private Unsupported(int value) {
+            this.value = value;
+        }
+
+    }
+
+
     /**
      * 猫猫类，使用实现Cloneable方式
      *
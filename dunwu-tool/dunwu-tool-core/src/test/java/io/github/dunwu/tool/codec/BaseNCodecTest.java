@@ -0,0 +1,162 @@
+package io.github.dunwu.tool.codec;
+
+import io.github.dunwu.tool.exceptions.UtilException;
+import io.github.dunwu.tool.io.IoUtil;
+import io.github.dunwu.tool.util.HexUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * {@link BaseNCodec} 单元测试
+ */
+public class BaseNCodecTest {
+
+    private final Random random = new Random(11);
+
+    @Test
+    public void compatibleTest() {
+        for (int length = 0; length < 100; length++) {
+            byte[] data = randomBytes(length);
+            Assertions.assertEquals(Base64.encode(data), BaseNCodec.BASE64.encodeToString(data));
+            Assertions.assertEquals(Base64.encodeUrlSafe(data), BaseNCodec.BASE64_URL.encodeToString(data));
+            Assertions.assertEquals(Base32.encode(data), BaseNCodec.BASE32.encodeToString(data));
+            Assertions.assertEquals(HexUtil.encodeHexStr(data), BaseNCodec.HEX.encodeToString(data));
+            Assertions.assertEquals(HexUtil.encodeHexStr(data, false), BaseNCodec.HEX_UPPERCASE.encodeToString(data));
+
+            Assertions.assertArrayEquals(data, BaseNCodec.BASE64.decode(Base64.encode(data)));
+            Assertions.assertArrayEquals(data, BaseNCodec.BASE64.decode(Base64.encodeUrlSafe(data)));
+            Assertions.assertArrayEquals(data, BaseNCodec.BASE32.decode(Base32.encode(data).toLowerCase()));
+            Assertions.assertArrayEquals(data, BaseNCodec.HEX.decode(HexUtil.encodeHexStr(data, false)));
+        }
+    }
+
+    @Test
+    public void bufferTest() {
+        byte[] data = randomBytes(1000);
+        String expected = Base64.encode(data);
+
+        // 源和目标都很小时分块处理，结果与一次性编码相同
+        ByteBuffer src = ByteBuffer.allocateDirect(7);
+        CharBuffer dst = CharBuffer.allocate(10);
+        StringBuilder encoded = new StringBuilder();
+        int offset = 0;
+        while (true) {
+            int n = Math.min(src.remaining(), data.length - offset);
+            src.put(data, offset, n);
+            offset += n;
+            src.flip();
+            BaseNCodec.BASE64.encode(src, dst, offset == data.length);
+            dst.flip();
+            encoded.append(dst);
+            dst.clear();
+            src.compact();
+            if (offset == data.length && 0 == src.position()) {
+                break;
+            }
+        }
+        Assertions.assertEquals(expected, encoded.toString());
+
+        // 混有换行等非Base64字符
+        CharBuffer text = CharBuffer.wrap("\r\n" + expected.substring(0, 100) + "\r\n" + expected.substring(100));
+        ByteBuffer decoded = ByteBuffer.allocate(1000);
+        BaseNCodec.BASE64.decode(text, decoded, true);
+        Assertions.assertFalse(text.hasRemaining());
+        Assertions.assertArrayEquals(data, decoded.array());
+    }
+
+    @Test
+    public void streamTest() {
+        byte[] data = randomBytes(100000);
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        Base64.encode(new ByteArrayInputStream(data), encoded, false);
+        Assertions.assertEquals(Base64.encode(data), new String(encoded.toByteArray(), StandardCharsets.ISO_8859_1));
+        Assertions.assertEquals(Base64.encode(data), Base64.encode(new ByteArrayInputStream(data)));
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        Base64.decode(new ByteArrayInputStream(encoded.toByteArray()), decoded);
+        Assertions.assertArrayEquals(data, decoded.toByteArray());
+
+        byte[] hex = IoUtil.readBytes(BaseNCodec.HEX.encodingStream(new ByteArrayInputStream(data)));
+        Assertions.assertEquals(HexUtil.encodeHexStr(data), new String(hex, StandardCharsets.ISO_8859_1));
+        Assertions.assertArrayEquals(data,
+            IoUtil.readBytes(BaseNCodec.HEX.decodingStream(new ByteArrayInputStream(hex))));
+    }
+
+    @Test
+    public void streamIgnoredTest() {
+        // 不完整的组之后跟着超过缓冲区大小的被忽略字符
+        byte[] newLines = new byte[BaseNOutputStream.BUFFER_SIZE + 1000];
+        Arrays.fill(newLines, (byte) '\n');
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        text.write('Q');
+        text.write(newLines, 0, newLines.length);
+        text.write(new byte[] { 'U', 'J', 'D' }, 0, 3);
+        byte[] encoded = text.toByteArray();
+        byte[] expected = { 'A', 'B', 'C' };
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+            try (OutputStream out = BaseNCodec.BASE64.decodingStream(decoded)) {
+                out.write(encoded);
+            }
+            Assertions.assertArrayEquals(expected, decoded.toByteArray());
+
+            decoded.reset();
+            try (OutputStream out = BaseNCodec.BASE64.decodingStream(decoded)) {
+                for (byte b : encoded) {
+                    out.write(b);
+                }
+            }
+            Assertions.assertArrayEquals(expected, decoded.toByteArray());
+
+            Assertions.assertArrayEquals(expected,
+                IoUtil.readBytes(BaseNCodec.BASE64.decodingStream(new ByteArrayInputStream(encoded))));
+        });
+    }
+
+    @Test
+    public void skipTest() throws IOException {
+        InputStream in = BaseNCodec.HEX.decodingStream(new ByteArrayInputStream("0a1b2c".getBytes()));
+        Assertions.assertEquals(0, in.skip(-1));
+        Assertions.assertEquals(1, in.skip(1));
+        Assertions.assertEquals(0x1b, in.read());
+        Assertions.assertEquals(1, in.skip(5));
+        Assertions.assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void hexTest() {
+        CharBuffer src = CharBuffer.wrap("0a1B2");
+        ByteBuffer dst = ByteBuffer.allocate(8);
+        HexUtil.decodeHex(src, dst);
+        Assertions.assertEquals(2, dst.position());
+        Assertions.assertEquals(4, src.position());
+
+        Assertions.assertThrows(UtilException.class, () -> BaseNCodec.HEX.decode("0x1f"));
+        Assertions.assertThrows(UtilException.class, () -> BaseNCodec.HEX.decode("abc"));
+
+        CharBuffer chars = CharBuffer.allocate(4);
+        HexUtil.encodeHex(ByteBuffer.wrap(new byte[] { 0x1f, (byte) 0xa0 }), chars, false);
+        Assertions.assertEquals("1FA0", chars.flip().toString());
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return data;
+    }
+
+}
@@ -48,6 +48,8 @@ public class CollectionUtilTest {
         Collection<String> union = CollectionUtil.union(list1, list2);
 
         Assertions.assertEquals(3, CollectionUtil.count(union, t -> t.equals("b")));
+        Assertions.assertEquals(CollectionUtil.newArrayList("a", "b", "b", "c", "d", "x", "b"), union);
+        Assertions.assertEquals(list2, CollectionUtil.union(null, list2));
     }
 
     @Test
@@ -57,6 +59,8 @@ public class CollectionUtilTest {
 
         Collection<String> union = CollectionUtil.intersection(list1, list2);
         Assertions.assertEquals(2, CollectionUtil.count(union, t -> t.equals("b")));
+        Assertions.assertEquals(CollectionUtil.newArrayList("a", "b", "b", "c", "d"), union);
+        Assertions.assertTrue(CollectionUtil.intersection(list1, new ArrayList<>()).isEmpty());
     }
 
     @Test
@@ -73,6 +77,7 @@ public class CollectionUtilTest {
         Assertions.assertTrue(disjunction2.contains("b"));
         Assertions.assertTrue(disjunction2.contains("x2"));
         Assertions.assertTrue(disjunction2.contains("x"));
+        Assertions.assertEquals(CollectionUtil.newArrayList("b", "x2", "x"), disjunction2);
     }
 
     @Test
@@ -497,6 +502,36 @@ public class CollectionUtilTest {
         Assertions.assertEquals(CollectionUtil.newArrayList(4, 3, 2, 1), sortPageAll);
     }
 
+    @Test
+    public void sortPageAllStableTest() {
+        // 按十位排序，十位相同的元素保持原有顺序
+        ArrayList<Integer> list1 = CollectionUtil.newArrayList(31, 12, 25, 11, 38);
+        ArrayList<Integer> list2 = CollectionUtil.newArrayList(22, 15, 33, 14);
+        Comparator<Integer> comparator = Comparator.comparing(i -> i / 10);
+        Assertions.assertEquals(CollectionUtil.newArrayList(12, 11, 15),
+            CollectionUtil.sortPageAll(1, 3, comparator, list1, list2));
+        Assertions.assertEquals(CollectionUtil.newArrayList(14, 25, 22),
+            CollectionUtil.sortPageAll(2, 3, comparator, list1, list2));
+        Assertions.assertEquals(CollectionUtil.newArrayList(38, 22),
+            CollectionUtil.sortPageAll(3, 2, null, list1, list2));
+    }
+
+    @Test
+    public void sortPageAllParallelTest() {
+        Random random = new Random(1);
+        List<Integer> list1 = new ArrayList<>();
+        List<Integer> list2 = new ArrayList<>();
+        for (int i = 0; i < 50000; i++) {
+            list1.add(random.nextInt(1000));
+            list2.add(random.nextInt(1000));
+        }
+        Comparator<Integer> comparator = Comparator.comparing(i -> i % 100);
+        for (int pageNo = 1; pageNo <= 5; pageNo++) {
+            Assertions.assertEquals(CollectionUtil.sortPageAll(pageNo, 20, comparator, list1, list2),
+                CollectionUtil.sortPageAllParallel(1000, pageNo, 20, comparator, list1, list2));
+        }
+    }
+
     @Test
     public void containsAnyTest() {
         ArrayList<Integer> list1 = CollectionUtil.newArrayList(1, 2, 3, 4, 5);
@@ -0,0 +1,95 @@
+package io.github.dunwu.tool.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * {@link TopK}、{@link LongTopK}、{@link DoubleTopK} 单元测试
+ */
+public class TopKTest {
+
+    @Test
+    public void topKTest() {
+        TopK<Integer> topK = new TopK<>(3);
+        for (int i : new int[] { 5, 1, 9, 3, 7, 9, 2 }) {
+            topK.offer(i);
+        }
+        Assertions.assertEquals(Arrays.asList(9, 9, 7), topK.toList());
+        Assertions.assertFalse(topK.offer(7));
+        Assertions.assertTrue(topK.offer(8));
+        Assertions.assertEquals(Arrays.asList(9, 9, 8), topK.toList());
+
+        List<String> shortest = Arrays.asList("ccc", "a", "bbbb", "dd").stream()
+            .collect(TopK.collector(2, Comparator.comparing(String::length).reversed()));
+        Assertions.assertEquals(Arrays.asList("a", "dd"), shortest);
+    }
+
+    @Test
+    public void longTopKTest() {
+        final Random random = new Random(7);
+        final long[] data = LongStream.generate(random::nextLong).limit(100000).toArray();
+        final List<Long> expected = Arrays.stream(data).boxed().sorted(Comparator.reverseOrder()).limit(100)
+            .collect(Collectors.toList());
+
+        LongTopK<String> topK = IntStream.range(0, data.length).parallel().boxed()
+            .collect(LongTopK.collector(100, i -> data[i], i -> "v" + data[i]));
+        Assertions.assertEquals(100, topK.size());
+        Assertions.assertEquals(expected, Arrays.stream(topK.scores()).boxed().collect(Collectors.toList()));
+        Assertions.assertEquals("v" + expected.get(0), topK.values().get(0));
+        Assertions.assertEquals((long) expected.get(99), topK.threshold());
+    }
+
+    @Test
+    public void doubleTopKTest() {
+        DoubleTopK<String> topK = new DoubleTopK<>(4);
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, topK.threshold());
+        topK.offer(-1.5, "a");
+        topK.offer(0.0, "b");
+        topK.offer(-0.0, "c");
+        topK.offer(Double.NaN, "d");
+        topK.offer(Double.NEGATIVE_INFINITY, "e");
+        topK.offer(2.5, "f");
+
+        Assertions.assertArrayEquals(new double[] { Double.NaN, 2.5, 0.0, -0.0 }, topK.scores());
+        Assertions.assertEquals(Arrays.asList("d", "f", "b", "c"), topK.values());
+        Assertions.assertEquals(-0.0, topK.threshold());
+    }
+
+    @Test
+    public void threadLocalAccumulatorTest() throws InterruptedException {
+        ThreadLocalAccumulator<LongTopK<Integer>> accumulator =
+            new ThreadLocalAccumulator<>(() -> new LongTopK<>(10));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            final int start = t * 1000;
+            executor.execute(() -> {
+                for (int i = start; i < start + 1000; i++) {
+                    accumulator.get().offer(i, i);
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        LongTopK<Integer> topK = accumulator.merge(LongTopK::merge);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 3999; i >= 3990; i--) {
+            expected.add(i);
+        }
+        Assertions.assertEquals(expected, topK.values());
+        Assertions.assertEquals(0, new ThreadLocalAccumulator<>(() -> new LongTopK<>(10)).merge(LongTopK::merge).size());
+    }
+
+}
@@ -1,8 +1,12 @@
 package io.github.dunwu.tool.convert;
 
+import io.github.dunwu.tool.lang.TypeReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 /**
  * ConverterRegistry 单元测试
  *
@@ -31,6 +35,50 @@ public class ConverterRegistryTest {
         Assertions.assertEquals("Custom: 454553", result);
     }
 
+    @Test
+    public void convertToPrimitiveTest() {
+        ConverterRegistry registry = new ConverterRegistry();
+        Object[] values = { "12", " -34 ", "+5", "12.9", "-.5", ".5", "0x1F", "12L", "abc", "", "  ", "\u3000 7 ",
+            "99999999999", "-9223372036854775808", "1e3", "NaN", 3.7D, -2.5F, 7L, new BigDecimal("8.9"), true, false,
+            'c', new StringBuilder("42") };
+        for (Object value : values) {
+            Assertions.assertEquals(quietly(registry, Integer.class, value, -1).intValue(),
+                registry.convertToInt(value, -1), String.valueOf(value));
+            Assertions.assertEquals(quietly(registry, Long.class, value, -1L).longValue(),
+                registry.convertToLong(value, -1L), String.valueOf(value));
+            Assertions.assertEquals(quietly(registry, Double.class, value, -1D).doubleValue(),
+                registry.convertToDouble(value, -1D), String.valueOf(value));
+            Assertions.assertEquals(quietly(registry, Float.class, value, -1F).floatValue(),
+                registry.convertToFloat(value, -1F), String.valueOf(value));
+            Assertions.assertEquals(quietly(registry, Boolean.class, value, false),
+                registry.convertToBoolean(value, false), String.valueOf(value));
+        }
+        Assertions.assertEquals(-1, registry.convertToInt(null, -1));
+
+        // 自定义转换器优先
+        registry.putCustom(Integer.class, (Converter<Integer>) (value, defaultValue) -> 100);
+        Assertions.assertEquals(100, registry.convertToInt("12", -1));
+    }
+
+    @Test
+    public void lookupTest() {
+        ConverterRegistry registry = new ConverterRegistry();
+        Converter<Integer> intConverter = registry.lookup(Integer.class);
+        Assertions.assertEquals(Integer.valueOf(12), intConverter.convert("12", null));
+        Assertions.assertEquals(Integer.valueOf(-1), intConverter.convert(null, -1));
+
+        Converter<List<Integer>> listConverter = registry.lookup(new TypeReference<List<Integer>>() {});
+        Assertions.assertEquals(3, listConverter.convert("1,2,3", null).get(2).intValue());
+    }
+
+    private static <T> T quietly(ConverterRegistry registry, Class<T> type, Object value, T defaultValue) {
+        try {
+            return registry.convert(type, value, defaultValue);
+        } catch (Exception e) {
+            return defaultValue;
+        }
+    }
+
     public static class CustomConverter implements Converter<CharSequence> {
 
         @Override
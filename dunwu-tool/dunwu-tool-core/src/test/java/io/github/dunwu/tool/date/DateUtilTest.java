@@ -492,6 +492,36 @@ public class DateUtilTest {
         Assertions.assertEquals("2019-05-16 17:57:18", time.toString());
     }
 
+    @Test
+    public void parseSnifferTest() {
+        // 快速路径的结果需要与按格式解析一致
+        Assertions.assertEquals(DateUtil.parse("2019-06-04 16:25:15.123", DatePattern.NORM_DATETIME_MS_FORMAT),
+            DateUtil.parse("2019-06-04 16:25:15.123"));
+        Assertions.assertEquals(DateUtil.parse("2019-06-04 16:25:15", DatePattern.NORM_DATETIME_FORMAT),
+            DateUtil.parse("2019/06/04 16:25:15"));
+        Assertions.assertEquals(DateUtil.parse("2019-06-04 16:25", DatePattern.NORM_DATETIME_MINUTE_FORMAT),
+            DateUtil.parse("2019.06.04 16:25"));
+        Assertions.assertEquals(DateUtil.parse("2019-06-04", DatePattern.NORM_DATE_FORMAT),
+            DateUtil.parse("2019-06-04"));
+        Assertions.assertEquals(DateUtil.parse("20190604162515123", DatePattern.PURE_DATETIME_MS_FORMAT),
+            DateUtil.parse("20190604162515123"));
+        Assertions.assertEquals(DateUtil.parse("20190604162515", DatePattern.PURE_DATETIME_FORMAT),
+            DateUtil.parse("20190604162515"));
+        Assertions.assertEquals(DateUtil.parse("20190604", DatePattern.PURE_DATE_FORMAT),
+            DateUtil.parse("20190604"));
+        Assertions.assertEquals("2019-06-04T08:25:15.123Z",
+            DateUtil.parse("2019-06-04T16:25:15.123+08:00").toInstant().toString());
+        Assertions.assertEquals("2019-06-04T16:25:15Z", DateUtil.parse("2019-06-04T16:25:15Z").toInstant().toString());
+        Assertions.assertEquals("2019-06-04T08:25:15Z",
+            DateUtil.parse("Tue Jun 4 16:25:15 +0800 2019").toInstant().toString());
+
+        // 非法或不常见的输入交给原有流程处理
+        Assertions.assertNull(DateSniffer.parse("2019-02-30"));
+        Assertions.assertNull(DateSniffer.parse("2019-06-04 24:00:00"));
+        Assertions.assertNull(DateSniffer.parse("Mon Jun 4 16:25:15 +0800 2019"));
+        Assertions.assertNull(DateSniffer.parse("Tue Jun 4 16:25:15 CST 2019"));
+    }
+
     @Test
     public void endOfYearTest() {
         DateTime date = DateUtil.toDateTime();
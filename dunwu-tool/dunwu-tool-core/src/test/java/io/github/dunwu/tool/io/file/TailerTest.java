@@ -1,10 +1,24 @@
 package io.github.dunwu.tool.io.file;
 
 import io.github.dunwu.tool.io.FileUtil;
+import io.github.dunwu.tool.io.IORuntimeException;
 import io.github.dunwu.tool.util.CharsetUtil;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 public class TailerTest {
 
     @Test
@@ -20,4 +34,163 @@ public class TailerTest {
         tailer.start();
     }
 
+    @Test
+    public void readTailTest() throws IOException {
+        File file = File.createTempFile("tailer", ".log");
+        try {
+            // 超过一个缓冲区，验证按块向前扫描
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 20000; i++) {
+                content.append("行").append(i).append(i % 3 == 0 ? "\r\n" : "\n");
+            }
+            write(file, content.toString(), false);
+
+            Assertions.assertEquals(Arrays.asList("行19997", "行19998", "行19999"), readTail(file, 3));
+            Assertions.assertEquals(20000, readTail(file, 100000).size());
+
+            write(file, "a\r\rb\n\nc", false);
+            Assertions.assertEquals(Arrays.asList("", "b", "", "c"), readTail(file, 4));
+            Assertions.assertEquals(Arrays.asList("a", "", "b", "", "c"), readTail(file, 10));
+
+            write(file, "", false);
+            Assertions.assertEquals(Collections.emptyList(), readTail(file, 10));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void followTest() throws Exception {
+        File file = File.createTempFile("tailer", ".log");
+        File rotated = new File(file.getPath() + ".1");
+        List<String> lines = new CopyOnWriteArrayList<>();
+        try (TailerEngine engine = new TailerEngine(1)) {
+            write(file, "a\nb\n", false);
+            Tailer tailer = new Tailer(file, CharsetUtil.CHARSET_UTF_8, lines::add, 1, 10, engine);
+            tailer.start(true);
+            Assertions.assertEquals(Collections.singletonList("b"), lines);
+
+            // 未换行的内容等待换行后输出，CRLF跨越两次写入
+            write(file, "c\r", true);
+            waitFor(lines, 2);
+            write(file, "\nd", true);
+            Thread.sleep(100);
+            Assertions.assertEquals(Arrays.asList("b", "c"), lines);
+            write(file, "1\n", true);
+            waitFor(lines, 3);
+            Assertions.assertEquals("d1", lines.get(2));
+
+            // 截断后从头读取
+            write(file, "e\n", false);
+            waitFor(lines, 4);
+            Assertions.assertEquals("e", lines.get(3));
+
+            // 轮转后读完旧文件再跟随新文件
+            Assertions.assertTrue(file.renameTo(rotated));
+            write(rotated, "f\n", true);
+            write(file, "g\n", false);
+            waitFor(lines, 6);
+            Assertions.assertEquals(Arrays.asList("b", "c", "d1", "e", "f", "g"), new ArrayList<>(lines));
+
+            tailer.stop();
+        } finally {
+            Files.deleteIfExists(file.toPath());
+            Files.deleteIfExists(rotated.toPath());
+        }
+    }
+
+    @Test
+    public void maxLineTest() throws IOException {
+        File file = File.createTempFile("tailer", ".log");
+        try {
+            // 一直不写换行符时按上限分段输出，不无限暂存
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 200000; i++) {
+                content.append((char) ('a' + i % 26));
+            }
+            write(file, content.toString(), false);
+            List<String> lines = new ArrayList<>();
+            try (TailFile tailFile = new TailFile(file.toPath(), CharsetUtil.CHARSET_UTF_8, lines::add, 1000)) {
+                tailFile.open();
+                tailFile.poll();
+            }
+            Assertions.assertTrue(lines.size() > 1);
+            for (String line : lines) {
+                Assertions.assertTrue(line.length() < 1000 + TailFile.BUFFER_SIZE);
+            }
+            Assertions.assertEquals(content.toString(), String.join("", lines));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void closeWaitsForPollTest() throws Exception {
+        File file = File.createTempFile("tailer", ".log");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> lines = new CopyOnWriteArrayList<>();
+        try {
+            write(file, "a\nb\n", false);
+            TailFile tailFile = new TailFile(file.toPath(), CharsetUtil.CHARSET_UTF_8, line -> {
+                lines.add(line);
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            tailFile.open();
+            Thread poller = new Thread(() -> {
+                try {
+                    tailFile.poll();
+                } catch (IOException e) {
+                    throw new IORuntimeException(e);
+                }
+            });
+            poller.start();
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            // 读取进行中，关闭需等待其结束
+            Thread closer = new Thread(tailFile::close);
+            closer.start();
+            closer.join(100);
+            Assertions.assertTrue(closer.isAlive());
+            release.countDown();
+            closer.join(5000);
+            poller.join(5000);
+            Assertions.assertFalse(closer.isAlive());
+            Assertions.assertEquals(Arrays.asList("a", "b"), lines);
+
+            // 关闭后不再读取
+            write(file, "c\n", true);
+            tailFile.poll();
+            Assertions.assertEquals(2, lines.size());
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    private static List<String> readTail(File file, int lineCount) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (TailFile tailFile = new TailFile(file.toPath(), CharsetUtil.CHARSET_UTF_8, lines::add)) {
+            tailFile.open();
+            tailFile.readTail(lineCount);
+        }
+        return lines;
+    }
+
+    private static void write(File file, String content, boolean append) throws IOException {
+        Files.write(file.toPath(), content.getBytes(CharsetUtil.CHARSET_UTF_8), StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static void waitFor(List<String> lines, int size) throws InterruptedException {
+        for (int i = 0; i < 500 && lines.size() < size; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(size, lines.size(), lines.toString());
+    }
+
 }
@@ -0,0 +1,205 @@
+package io.github.dunwu.tool.io.watch.watchers;
+
+import io.github.dunwu.tool.io.watch.BatchWatcher;
+import io.github.dunwu.tool.io.watch.PathChange;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link BatchDelayWatcher} 单元测试类
+ */
+public class BatchDelayWatcherTest {
+
+    private final Path dir = Paths.get("watch-test");
+
+    @Test
+    public void coalesceTest() {
+        RecordWatcher record = new RecordWatcher();
+        BatchDelayWatcher watcher = new BatchDelayWatcher(record, TimeUnit.HOURS.toMillis(1));
+
+        watcher.onCreate(event("a.txt"), dir);
+        watcher.onModify(event("a.txt"), dir);
+        watcher.onModify(event("b.txt"), dir);
+        watcher.onModify(event("b.txt"), dir);
+        watcher.onCreate(event("c.txt"), dir);
+        watcher.onDelete(event("c.txt"), dir);
+        watcher.onDelete(event("d.txt"), dir);
+        watcher.onCreate(event("d.txt"), dir);
+        watcher.onModify(event("e.txt"), dir);
+        watcher.onDelete(event("e.txt"), dir);
+        watcher.flush();
+
+        Assertions.assertEquals(1, record.batches.size());
+        Assertions.assertEquals("[CREATE:" + dir.resolve("a.txt") + ", MODIFY:" + dir.resolve("b.txt") + ", MODIFY:"
+                + dir.resolve("d.txt") + ", DELETE:" + dir.resolve("e.txt") + "]",
+            record.batches.get(0).toString());
+
+        // 已投递的变化不会重复投递
+        watcher.flush();
+        Assertions.assertEquals(1, record.batches.size());
+    }
+
+    @Test
+    public void overflowTest() {
+        RecordWatcher record = new RecordWatcher();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            BatchDelayWatcher watcher = new BatchDelayWatcher(record, TimeUnit.HOURS.toMillis(1), 100, scheduler);
+            Path other = Paths.get("watch-test-other");
+            for (int i = 0; i < 1000; i++) {
+                watcher.onModify(event(i + ".txt"), dir);
+            }
+            watcher.onModify(event("x.txt"), other);
+            watcher.onOverflow(event(null), other);
+            watcher.close();
+
+            // 超过上限的目录折叠为溢出，只保留目录
+            Assertions.assertEquals(1, record.overflows.size());
+            Assertions.assertTrue(record.overflows.get(0).contains(dir));
+            Assertions.assertTrue(record.overflows.get(0).contains(other));
+            Assertions.assertEquals(1, record.batches.size());
+            Assertions.assertEquals(1, record.batches.get(0).size());
+
+            // 关闭后的事件被忽略
+            watcher.onModify(event("y.txt"), other);
+            watcher.flush();
+            Assertions.assertEquals(1, record.batches.size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void delayTest() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<List<PathChange>> batches = new ArrayList<>();
+        BatchDelayWatcher watcher = new BatchDelayWatcher(new BatchWatcher() {
+            @Override
+            public void onChanges(List<PathChange> changes) {
+                batches.add(changes);
+                latch.countDown();
+            }
+
+            @Override
+            public void onOverflow(Set<Path> dirs) {
+            }
+        }, 50);
+
+        for (int i = 0; i < 100; i++) {
+            watcher.onModify(event("a.txt"), dir);
+        }
+        Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1, batches.get(0).size());
+        Assertions.assertEquals(PathChange.Type.MODIFY, batches.get(0).get(0).getType());
+    }
+
+    @Test
+    public void serialDeliverTest() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicBoolean onSchedulerThread = new AtomicBoolean();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<PathChange>> batches = new ArrayList<>();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "timer"));
+        try {
+            BatchDelayWatcher watcher = new BatchDelayWatcher(new BatchWatcher() {
+                @Override
+                public void onChanges(List<PathChange> changes) {
+                    if (running.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    if ("timer".equals(Thread.currentThread().getName())) {
+                        onSchedulerThread.set(true);
+                    }
+                    synchronized (batches) {
+                        batches.add(changes);
+                    }
+                    entered.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                }
+
+                @Override
+                public void onOverflow(Set<Path> dirs) {
+                }
+            }, 10, 100, scheduler);
+
+            // 定时投递阻塞在回调中，此时flush需等待其完成，不能同时进入回调
+            watcher.onModify(event("a.txt"), dir);
+            Assertions.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            watcher.onModify(event("b.txt"), dir);
+            Thread flusher = new Thread(watcher::flush);
+            flusher.start();
+            Thread.sleep(100);
+            release.countDown();
+            flusher.join(5000);
+
+            Assertions.assertFalse(overlapped.get());
+            Assertions.assertFalse(onSchedulerThread.get());
+            Assertions.assertEquals(2, batches.size());
+            Assertions.assertEquals(dir.resolve("a.txt"), batches.get(0).get(0).getPath());
+            Assertions.assertEquals(dir.resolve("b.txt"), batches.get(1).get(0).getPath());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static WatchEvent<Path> event(String name) {
+        final Path context = (null == name) ? null : Paths.get(name);
+        return new WatchEvent<Path>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Kind<Path> kind() {
+                return (Kind<Path>) (Kind<?>) StandardWatchEventKinds.ENTRY_MODIFY;
+            }
+
+            @Override
+            public int count() {
+                return 1;
+            }
+
+            @Override
+            public Path context() {
+                return context;
+            }
+        };
+    }
+
+    private static class RecordWatcher implements BatchWatcher {
+
+        private final List<List<PathChange>> batches = new ArrayList<>();
+
+        private final List<Set<Path>> overflows = new ArrayList<>();
+
+        @Override
+        public void onChanges(List<PathChange> changes) {
+            batches.add(changes);
+        }
+
+        @Override
+        public void onOverflow(Set<Path> dirs) {
+            overflows.add(dirs);
+        }
+
+    }
+
+}
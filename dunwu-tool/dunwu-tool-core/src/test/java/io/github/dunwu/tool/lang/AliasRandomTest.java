@@ -0,0 +1,58 @@
+package io.github.dunwu.tool.lang;
+
+import io.github.dunwu.tool.lang.WeightRandom.WeightObj;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class AliasRandomTest {
+
+    @Test
+    public void distributionTest() {
+        AliasRandom<String> random = AliasRandom.of(new WeightObj<>("A", 1), new WeightObj<>("B", 2),
+            new WeightObj<>("C", 3), new WeightObj<>("D", 4), new WeightObj<>("E", 0));
+        Assertions.assertEquals(4, random.size());
+
+        Map<String, Integer> counts = sample(random, 100000);
+        Assertions.assertNull(counts.get("E"));
+        Assertions.assertEquals(0.1, counts.get("A") / 100000D, 0.01);
+        Assertions.assertEquals(0.2, counts.get("B") / 100000D, 0.01);
+        Assertions.assertEquals(0.3, counts.get("C") / 100000D, 0.01);
+        Assertions.assertEquals(0.4, counts.get("D") / 100000D, 0.01);
+    }
+
+    @Test
+    public void updateTest() {
+        AliasRandom<String> random = AliasRandom.of(new WeightObj<>("A", 1), new WeightObj<>("B", 1));
+
+        AliasRandom<String> updated = random.update("A", 3).update("C", 4).update("B", 0);
+        // 原实例不变
+        Assertions.assertEquals(2, random.size());
+        Assertions.assertEquals(1, random.getWeight("A"));
+
+        Assertions.assertEquals(2, updated.size());
+        Assertions.assertEquals(3, updated.getWeight("A"));
+        Assertions.assertEquals(0, updated.getWeight("B"));
+        Map<String, Integer> counts = sample(updated, 100000);
+        Assertions.assertEquals(0.43, counts.get("A") / 100000D, 0.01);
+        Assertions.assertEquals(0.57, counts.get("C") / 100000D, 0.01);
+
+        AliasRandom<String> empty = updated.update("A", 0).update("C", 0);
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertNull(empty.next());
+        Assertions.assertSame(empty, empty.update("X", -1));
+    }
+
+    private static Map<String, Integer> sample(AliasRandom<String> random, int times) {
+        final Random rnd = new Random(42);
+        final Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < times; i++) {
+            counts.merge(random.next(rnd), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+}
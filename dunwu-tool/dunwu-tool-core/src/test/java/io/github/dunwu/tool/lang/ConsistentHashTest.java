@@ -0,0 +1,100 @@
+package io.github.dunwu.tool.lang;
+
+import io.github.dunwu.tool.collection.CollectionUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ConsistentHashTest {
+
+    private final List<String> nodes = CollectionUtil.newArrayList("node-1", "node-2", "node-3", "node-4");
+
+    @Test
+    public void getTest() {
+        ConsistentHash<String> hash = new ConsistentHash<>(100, nodes);
+        String node = hash.get("key-1");
+        Assertions.assertTrue(nodes.contains(node));
+        Assertions.assertEquals(node, hash.get("key-1"));
+
+        // 移除节点后只有原本落在此节点上的键迁移
+        Map<String, String> before = route(hash);
+        hash.remove("node-2");
+        Map<String, String> after = route(hash);
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            if (false == "node-2".equals(entry.getValue())) {
+                Assertions.assertEquals(entry.getValue(), after.get(entry.getKey()));
+            }
+        }
+        Assertions.assertFalse(after.containsValue("node-2"));
+
+        hash.add("node-2");
+        Assertions.assertEquals(before, route(hash));
+
+        Assertions.assertNull(new ConsistentHash<String>(10, CollectionUtil.newArrayList()).get("key"));
+    }
+
+    @Test
+    public void murmurTest() {
+        ConsistentHash<String> hash = ConsistentHash.murmur(160, nodes);
+        Map<String, Integer> counts = new HashMap<>();
+        for (String node : route(hash).values()) {
+            counts.merge(node, 1, Integer::sum);
+        }
+        Assertions.assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            Assertions.assertTrue(count > 1500 && count < 3500, "unbalanced: " + counts);
+        }
+
+        Map<String, String> before = route(hash);
+        hash.add("node-5");
+        hash.remove("node-5");
+        Assertions.assertEquals(before, route(hash));
+    }
+
+    @Test
+    public void jumpTest() {
+        // 桶数增加时键要么不动，要么移到新桶
+        for (long key = 0; key < 10000; key++) {
+            int previous = JumpConsistentHash.bucket(key, 1);
+            Assertions.assertEquals(0, previous);
+            for (int buckets = 2; buckets <= 20; buckets++) {
+                int current = JumpConsistentHash.bucket(key, buckets);
+                Assertions.assertTrue(current == previous || current == buckets - 1);
+                previous = current;
+            }
+        }
+
+        JumpConsistentHash<String> hash = new JumpConsistentHash<>(nodes);
+        Map<String, String> before = route(hash);
+        hash.add("node-5");
+        Map<String, String> after = route(hash);
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            if (false == "node-5".equals(entry.getValue())) {
+                Assertions.assertEquals(before.get(entry.getKey()), entry.getValue());
+            }
+        }
+        hash.remove("node-5");
+        Assertions.assertEquals(before, route(hash));
+        Assertions.assertEquals(4, hash.size());
+    }
+
+    private static Map<String, String> route(ConsistentHash<String> hash) {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            result.put("key-" + i, hash.get("key-" + i));
+        }
+        return result;
+    }
+
+    private static Map<String, String> route(JumpConsistentHash<String> hash) {
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            result.put("key-" + i, hash.get("key-" + i));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.github.dunwu.tool.lang;
+
+import io.github.dunwu.tool.util.RegexUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * {@link PatternPool} 单元测试类
+ */
+public class PatternPoolTest {
+
+    @Test
+    public void getTest() {
+        Pattern pattern = PatternPool.get("pool-test-\\d+");
+        Assertions.assertSame(pattern, PatternPool.get("pool-test-\\d+"));
+        Assertions.assertSame(pattern, PatternPool.get("pool-test-\\d+", 0));
+
+        Pattern ignoreCase = PatternPool.get("pool-test-\\d+", Pattern.CASE_INSENSITIVE);
+        Assertions.assertNotSame(pattern, ignoreCase);
+        Assertions.assertEquals(Pattern.CASE_INSENSITIVE, ignoreCase.flags());
+
+        Assertions.assertSame(pattern, PatternPool.remove("pool-test-\\d+", 0));
+        Assertions.assertNotSame(pattern, PatternPool.get("pool-test-\\d+"));
+    }
+
+    @Test
+    public void statsTest() {
+        long hit = PatternPool.getHitCount();
+        long miss = PatternPool.getMissCount();
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(RegexUtil.contains("stats-test-1", "stats-test-\\d"));
+        }
+        Assertions.assertTrue(PatternPool.getMissCount() - miss >= 1);
+        Assertions.assertTrue(PatternPool.getHitCount() - hit >= 9);
+        Assertions.assertTrue(PatternPool.getHitRate() > 0);
+    }
+
+    @Test
+    public void invalidRegexTest() {
+        Assertions.assertThrows(PatternSyntaxException.class, () -> PatternPool.get("invalid-[", 0));
+        Assertions.assertNull(PatternPool.remove("invalid-[", 0));
+    }
+
+    @Test
+    public void capacityTest() {
+        for (int i = 0; i < PatternPool.DEFAULT_CAPACITY * 3; i++) {
+            PatternPool.get("capacity-test-" + i);
+        }
+        Assertions.assertTrue(PatternPool.size() <= PatternPool.DEFAULT_CAPACITY);
+        Assertions.assertTrue(PatternPool.getEvictionCount() > 0);
+    }
+
+}
@@ -5,6 +5,10 @@ import io.github.dunwu.tool.util.StringUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
 public class SimhashTest {
 
     @Test
@@ -21,4 +25,43 @@ public class SimhashTest {
         Assertions.assertTrue(duplicate);
     }
 
+    @Test
+    public void hammingTest() {
+        Simhash simhash = new Simhash(4, 3);
+        long hash = 0x0123456789ABCDEFL;
+        simhash.store(hash);
+        // 汉明距离小于3视为重复
+        Assertions.assertTrue(simhash.contains(hash));
+        Assertions.assertTrue(simhash.contains(hash ^ 0x8001L));
+        Assertions.assertFalse(simhash.contains(hash ^ 0x8003L));
+        Assertions.assertFalse(simhash.contains(~hash));
+    }
+
+    @Test
+    public void storeAllTest() throws IOException {
+        Simhash simhash = new Simhash();
+        long[] hashes = new long[10000];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = MurmurHash.hash64(String.valueOf(i));
+        }
+        simhash.storeAll(hashes);
+        Assertions.assertEquals(hashes.length, simhash.size());
+
+        long[] queries = { hashes[0], hashes[1] ^ 1L, hashes[2] ^ 7L, ~hashes[3] };
+        Assertions.assertArrayEquals(new boolean[] { true, true, false, false }, simhash.queryAll(queries));
+        for (int i = 0; i < queries.length; i++) {
+            Assertions.assertEquals(simhash.contains(queries[i]), simhash.queryAll(queries)[i]);
+        }
+
+        File file = File.createTempFile("simhash", ".bin");
+        try {
+            simhash.save(file.toPath());
+            Simhash loaded = Simhash.load(file.toPath());
+            Assertions.assertEquals(simhash.size(), loaded.size());
+            Assertions.assertArrayEquals(simhash.queryAll(queries), loaded.queryAll(queries));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
 }
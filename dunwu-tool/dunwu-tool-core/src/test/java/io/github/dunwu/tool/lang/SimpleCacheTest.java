@@ -0,0 +1,122 @@
+package io.github.dunwu.tool.lang;
+
+import io.github.dunwu.tool.thread.ThreadUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SimpleCache单元测试
+ */
+public class SimpleCacheTest {
+
+    @Test
+    public void getWithSupplierTest() {
+        SimpleCache<String, String> cache = new SimpleCache<>();
+        Assertions.assertEquals("value1", cache.get("key1", () -> "value1"));
+        Assertions.assertEquals("value1", cache.get("key1", () -> "value2"));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+
+        Assertions.assertEquals("value1", cache.remove("key1"));
+        Assertions.assertNull(cache.get("key1"));
+    }
+
+    @Test
+    public void nullKeyTest() {
+        SimpleCache<String, String> cache = new SimpleCache<>();
+        cache.put(null, "nullValue");
+        Assertions.assertEquals("nullValue", cache.get(null));
+    }
+
+    @Test
+    public void concurrentComputeOnceTest() throws InterruptedException {
+        final SimpleCache<String, Integer> cache = new SimpleCache<>(0, SimpleCache.EvictionPolicy.LRU);
+        final AtomicInteger counter = new AtomicInteger();
+        final int threadCount = 32;
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            ThreadUtil.execute(() -> {
+                try {
+                    cache.get("key", () -> {
+                        ThreadUtil.sleep(10);
+                        return counter.incrementAndGet();
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        Assertions.assertEquals(1, counter.get());
+        Assertions.assertEquals(Integer.valueOf(1), cache.get("key"));
+    }
+
+    @Test
+    public void crossKeySupplierTest() {
+        // 键x的回调读取键y，同时键y的回调读取键x，不能互相等待
+        final SimpleCache<String, String> cache = new SimpleCache<>();
+        final CountDownLatch started = new CountDownLatch(2);
+        final String[] results = new String[2];
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            final Thread x = new Thread(() -> results[0] = cache.get("x", () -> {
+                started.countDown();
+                started.await();
+                return cache.get("y", () -> "y1") + "x";
+            }));
+            final Thread y = new Thread(() -> results[1] = cache.get("y", () -> {
+                started.countDown();
+                started.await();
+                return cache.get("x", () -> "x1") + "y";
+            }));
+            x.start();
+            y.start();
+            x.join();
+            y.join();
+        });
+        // 回调中读到的可能是另一线程的结果，也可能是内层回调的结果，缓存中保存的是外层回调的结果
+        Assertions.assertTrue(results[0].endsWith("x"));
+        Assertions.assertTrue(results[1].endsWith("y"));
+        Assertions.assertEquals(results[0], cache.get("x"));
+        Assertions.assertEquals(results[1], cache.get("y"));
+    }
+
+    @Test
+    public void lruEvictionTest() {
+        SimpleCache<Integer, Integer> cache = new SimpleCache<>(8, SimpleCache.EvictionPolicy.LRU);
+        for (int i = 0; i < 8; i++) {
+            cache.put(i, i);
+        }
+        // 访问0，使其成为最近使用
+        ThreadUtil.sleep(1);
+        cache.get(0);
+        cache.put(8, 8);
+
+        Assertions.assertTrue(cache.size() <= 8);
+        Assertions.assertEquals(Integer.valueOf(0), cache.get(0));
+        Assertions.assertNull(cache.get(1));
+        Assertions.assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    public void lfuEvictionTest() {
+        SimpleCache<Integer, Integer> cache = new SimpleCache<>(8, SimpleCache.EvictionPolicy.LFU);
+        for (int i = 0; i < 8; i++) {
+            cache.put(i, i);
+        }
+        for (int i = 1; i < 8; i++) {
+            for (int j = 0; j < i; j++) {
+                cache.get(i);
+            }
+        }
+        cache.put(8, 8);
+
+        Assertions.assertTrue(cache.size() <= 8);
+        Assertions.assertNull(cache.get(0));
+        Assertions.assertEquals(Integer.valueOf(7), cache.get(7));
+    }
+
+}
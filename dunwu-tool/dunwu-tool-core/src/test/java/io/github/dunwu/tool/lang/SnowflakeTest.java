@@ -1,9 +1,13 @@
 package io.github.dunwu.tool.lang;
 
+import io.github.dunwu.tool.thread.ThreadUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * Snowflake单元测试
@@ -33,6 +37,41 @@ public class SnowflakeTest {
         Assertions.assertEquals(1000L, hashSet.size());
     }
 
+    @Test
+    public void nextIdsTest() {
+        Snowflake idWorker = new Snowflake(1, 2);
+        long[] ids = idWorker.nextIds(10000);
+        Assertions.assertEquals(10000, ids.length);
+        for (int i = 1; i < ids.length; i++) {
+            Assertions.assertTrue(ids[i] > ids[i - 1]);
+            Assertions.assertEquals(1, idWorker.getWorkerId(ids[i]));
+            Assertions.assertEquals(2, idWorker.getDataCenterId(ids[i]));
+        }
+        Assertions.assertTrue(idWorker.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    public void concurrentNextIdTest() throws InterruptedException {
+        final Snowflake idWorker = new Snowflake(0, 0);
+        final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        final int threadCount = 16;
+        final int perThread = 5000;
+        final CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            ThreadUtil.execute(() -> {
+                try {
+                    for (int j = 0; j < perThread; j++) {
+                        ids.add(idWorker.nextId());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        Assertions.assertEquals(threadCount * perThread, ids.size());
+    }
+
     @Test
     public void snowflakeGetTest() {
         //构建Snowflake，提供终端ID和数据中心ID
@@ -1,9 +1,13 @@
 package io.github.dunwu.tool.lang;
 
+import io.github.dunwu.tool.text.MinHash;
 import io.github.dunwu.tool.text.TextSimilarity;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * 文本相似度计算工具类单元测试
  *
@@ -23,4 +27,61 @@ public class TextSimilarityTest {
         Assertions.assertEquals("85.71%", similarPercent);
     }
 
+    @Test
+    public void lcsLengthTest() {
+        Assertions.assertEquals(0, TextSimilarity.lcsLength("", "abc"));
+        Assertions.assertEquals(4, TextSimilarity.lcsLength("ABCBDAB", "BDCABA"));
+
+        // 超过64个字符时跨字计算
+        StringBuilder a = new StringBuilder();
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            a.append((char) ('a' + i % 7));
+            b.append((char) ('a' + i % 5));
+        }
+        Assertions.assertEquals(TextSimilarity.lcsLength(b, a), TextSimilarity.lcsLength(a, b));
+        Assertions.assertEquals(200, TextSimilarity.lcsLength(a, a));
+    }
+
+    @Test
+    public void isSimilarTest() {
+        String a = "我是一个文本，独一无二的文本";
+        String b = "一个文本，独一无二的文本";
+
+        Assertions.assertTrue(TextSimilarity.isSimilar(a, b, TextSimilarity.similar(a, b)));
+        Assertions.assertTrue(TextSimilarity.isSimilar(a, b, 0.8));
+        Assertions.assertFalse(TextSimilarity.isSimilar(a, b, 0.9));
+        Assertions.assertTrue(TextSimilarity.isSimilar("", "", 1));
+    }
+
+    @Test
+    public void similarAllTest() {
+        String a = "我是一个文本，独一无二的文本";
+        List<String> targets = Arrays.asList("一个文本，独一无二的文本", a, "", "毫不相关");
+
+        double[] degrees = TextSimilarity.similarAll(a, targets);
+        Assertions.assertEquals(targets.size(), degrees.length);
+        for (int i = 0; i < degrees.length; i++) {
+            Assertions.assertEquals(TextSimilarity.similar(a, targets.get(i)), degrees[i]);
+        }
+    }
+
+    @Test
+    public void minHashTest() {
+        String a = "我是一个文本，独一无二的文本";
+        String b = "一个文本，独一无二的文本";
+
+        Assertions.assertEquals(1D, MinHash.jaccard(a, a, 3));
+        Assertions.assertEquals(0D, MinHash.jaccard("abc", "xyz", 3));
+        Assertions.assertEquals(10D / 12, MinHash.jaccard(a, b, 3));
+
+        MinHash minHash = new MinHash(256, 3);
+        Assertions.assertEquals(1D, minHash.similar(a, a));
+        Assertions.assertEquals(10D / 12, minHash.similar(a, b), 0.15);
+
+        double[] degrees = minHash.similarAll(a, Arrays.asList(a, b));
+        Assertions.assertEquals(1D, degrees[0]);
+        Assertions.assertEquals(minHash.similar(a, b), degrees[1]);
+    }
+
 }
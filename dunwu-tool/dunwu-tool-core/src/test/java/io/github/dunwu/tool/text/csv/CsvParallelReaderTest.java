@@ -0,0 +1,212 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.util.CharsetUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link CsvParallelReader} 单元测试类
+ */
+public class CsvParallelReaderTest {
+
+    @Test
+    public void readOrderedTest() throws IOException {
+        final String csv = randomCsv(new Random(7), 500);
+        final Path path = write(csv);
+        try {
+            for (boolean containsHeader : new boolean[] { true, false }) {
+                final CsvReadConfig config = CsvReadConfig.defaultConfig();
+                config.setContainsHeader(containsHeader);
+                final List<CsvRow> expected = readSequential(csv, config);
+
+                for (long chunkSize : new long[] { 1, 7, 64, 1024, CsvParallelReader.DEFAULT_CHUNK_SIZE }) {
+                    final List<CsvRow> actual = new ArrayList<>();
+                    new CsvParallelReader(config).setChunkSize(chunkSize)
+                        .setPool(new ForkJoinPool(4))
+                        .read(path, CharsetUtil.CHARSET_UTF_8, actual::add);
+                    assertRowsEquals(expected, actual);
+                }
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void readOrderedLargeChunkTest() throws IOException {
+        // 单个分段的行数远多于队列容量，解析线程需等待调用线程取走
+        final String csv = randomCsv(new Random(13), 30000);
+        final Path path = write(csv);
+        try {
+            final CsvReadConfig config = CsvReadConfig.defaultConfig();
+            config.setContainsHeader(true);
+            final List<CsvRow> expected = readSequential(csv, config);
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                final List<CsvRow> actual = new ArrayList<>();
+                new CsvParallelReader(config).setChunkSize(csv.length() / 3).setPool(new ForkJoinPool(1))
+                    .read(path, CharsetUtil.CHARSET_UTF_8, actual::add);
+                assertRowsEquals(expected, actual);
+
+                // 行处理器出错时取消其余分段，不会一直等待
+                final List<CsvRow> handled = new ArrayList<>();
+                Assertions.assertThrows(IllegalStateException.class, () -> new CsvParallelReader(config)
+                    .setChunkSize(csv.length() / 3).setPool(new ForkJoinPool(2))
+                    .read(path, CharsetUtil.CHARSET_UTF_8, row -> {
+                        if (handled.size() == 5000) {
+                            throw new IllegalStateException("stop");
+                        }
+                        handled.add(row);
+                    }));
+                Assertions.assertEquals(5000, handled.size());
+            });
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void readUnorderedTest() throws IOException {
+        final String csv = randomCsv(new Random(11), 500);
+        final Path path = write(csv);
+        try {
+            final CsvReadConfig config = CsvReadConfig.defaultConfig();
+            config.setContainsHeader(true);
+            final List<CsvRow> expected = readSequential(csv, config);
+
+            final List<CsvRow> actual = Collections.synchronizedList(new ArrayList<>());
+            new CsvParallelReader(config).setChunkSize(100).setOrdered(false)
+                .read(path, CharsetUtil.CHARSET_UTF_8, new CsvRowHandler() {
+                    @Override
+                    public void handle(CsvRow row) {
+                        Assertions.fail("handle(CsvRowView) should be called");
+                    }
+
+                    @Override
+                    public void handle(CsvRowView row) {
+                        actual.add(row.toCsvRow());
+                    }
+                });
+            actual.sort(Comparator.comparingLong(CsvRow::getOriginalLineNumber));
+            assertRowsEquals(expected, actual);
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void readUtilTest() throws IOException {
+        final Path path = write("a,b\n1,\"x\r\ny\"\n2,z\n");
+        try {
+            final List<CsvRow> rows = new ArrayList<>();
+            CsvUtil.readParallel(path.toFile(), CharsetUtil.CHARSET_UTF_8, rows::add, true);
+            Assertions.assertEquals(3, rows.size());
+            Assertions.assertEquals("x\r\ny", rows.get(1).get(1));
+            Assertions.assertEquals(4, rows.get(2).getOriginalLineNumber());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void multiLineFieldTest() throws IOException {
+        // 引号内的CRLF、连续CR按顺序读取的规则计算行号，每个位置都可能是切分点
+        final String csv = "a,b\r\n1,\"x\r\ny\"\r\n2,\"\r\r\n\"\r\n3,z\r\n";
+        final Path path = write(csv);
+        try {
+            final CsvReadConfig config = CsvReadConfig.defaultConfig();
+            config.setContainsHeader(true);
+            final List<CsvRow> expected = readSequential(csv, config);
+            Assertions.assertEquals(3, expected.size());
+            Assertions.assertEquals("x\r\ny", expected.get(0).get(1));
+            Assertions.assertEquals(6, expected.get(2).getOriginalLineNumber());
+
+            for (long chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+                final List<CsvRow> actual = new ArrayList<>();
+                new CsvParallelReader(config).setChunkSize(chunkSize)
+                    .read(path, CharsetUtil.CHARSET_UTF_8, actual::add);
+                assertRowsEquals(expected, actual);
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void differentFieldCountTest() throws IOException {
+        final Path path = write("a,b\n1,2\n3,4\n5\n");
+        try {
+            final CsvReadConfig config = CsvReadConfig.defaultConfig();
+            config.setErrorOnDifferentFieldCount(true);
+            final CsvParallelReader reader = new CsvParallelReader(config).setChunkSize(4);
+            Assertions.assertThrows(RuntimeException.class,
+                () -> reader.read(path, CharsetUtil.CHARSET_UTF_8, row -> { }));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    private static List<CsvRow> readSequential(String csv, CsvReadConfig config) {
+        final List<CsvRow> rows = new ArrayList<>();
+        new CsvReader(config).read(new StringReader(csv), rows::add);
+        return rows;
+    }
+
+    private static void assertRowsEquals(List<CsvRow> expected, List<CsvRow> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getRawList(), actual.get(i).getRawList());
+            Assertions.assertEquals(expected.get(i).getOriginalLineNumber(), actual.get(i).getOriginalLineNumber());
+            if (null != expected.get(i).headerMap) {
+                Assertions.assertEquals(expected.get(i).getFieldMap(), actual.get(i).getFieldMap());
+            }
+        }
+    }
+
+    private static Path write(String csv) throws IOException {
+        final Path path = Files.createTempFile("csv-parallel", ".csv");
+        Files.write(path, csv.getBytes(CharsetUtil.CHARSET_UTF_8));
+        return path;
+    }
+
+    /**
+     * 生成包含引号内换行、CRLF、空行和中文的CSV
+     */
+    private static String randomCsv(Random random, int rows) {
+        final String[] newLines = { "\n", "\r\n", "\r" };
+        final StringBuilder builder = new StringBuilder("名称,值,备注\n");
+        for (int i = 0; i < rows; i++) {
+            if (random.nextInt(20) == 0) {
+                builder.append(newLines[random.nextInt(newLines.length)]);
+            }
+            builder.append("名").append(i).append(',').append(random.nextInt(1000)).append(',');
+            switch (random.nextInt(4)) {
+                case 0:
+                    builder.append('"').append("多行").append(newLines[random.nextInt(newLines.length)])
+                        .append("内容,含\"\"引号\"\"").append('"');
+                    break;
+                case 1:
+                    builder.append("\"a,b\"");
+                    break;
+                case 2:
+                    break;
+                default:
+                    builder.append("plain");
+            }
+            builder.append(newLines[random.nextInt(newLines.length)]);
+        }
+        return builder.toString();
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.github.dunwu.tool.text.csv;
 
+import io.github.dunwu.tool.collection.CollectionUtil;
 import io.github.dunwu.tool.io.IoUtil;
 import io.github.dunwu.tool.util.StringUtil;
 import org.junit.jupiter.api.Assertions;
@@ -45,4 +46,60 @@ public class CsvParserTest {
         IoUtil.close(parser);
     }
 
+    @Test
+    public void nextRowViewTest() {
+        StringReader reader = StringUtil.getReader("id,name,amount\r\n1,\"张\n三\",12.50\n-2,李四,1e3\n\n3,,\"\"");
+        CsvReadConfig config = CsvReadConfig.defaultConfig();
+        config.setContainsHeader(true);
+        CsvParser parser = new CsvParser(reader, config);
+        CsvRowView row = new CsvRowView();
+
+        Assertions.assertTrue(parser.nextRow(row));
+        Assertions.assertEquals(3, row.size());
+        Assertions.assertEquals(1, row.getInt("id"));
+        Assertions.assertEquals("张\n三", row.get(1).toString());
+        Assertions.assertEquals(12.5, row.getDouble(2));
+        Assertions.assertEquals(2, row.getOriginalLineNumber());
+        CharSequence name = row.getByName("name");
+
+        Assertions.assertTrue(parser.nextRow(row));
+        Assertions.assertEquals(-2L, row.getLong(0));
+        Assertions.assertEquals(1000.0, row.getDouble("amount"));
+        // 视图随行对象复用
+        Assertions.assertEquals("李四", name.toString());
+        Assertions.assertEquals(4, row.getOriginalLineNumber());
+
+        Assertions.assertTrue(parser.nextRow(row));
+        Assertions.assertEquals(3, row.getInt(0));
+        Assertions.assertEquals(0, row.get(1).length());
+        Assertions.assertEquals("", row.getString(2));
+        Assertions.assertThrows(NumberFormatException.class, () -> row.getInt(2));
+
+        Assertions.assertFalse(parser.nextRow(row));
+        Assertions.assertEquals(CollectionUtil.newArrayList("id", "name", "amount"), parser.getHeader());
+        IoUtil.close(parser);
+    }
+
+    @Test
+    public void typedFieldTest() {
+        StringReader reader = StringUtil.getReader(
+            "2147483647,-2147483648,2147483648,9223372036854775807,-9223372036854775808,0.1,-0.0,.5,123456789.123456789,abc");
+        CsvParser parser = new CsvParser(reader, null);
+        CsvRowView row = new CsvRowView();
+        Assertions.assertTrue(parser.nextRow(row));
+
+        Assertions.assertEquals(Integer.MAX_VALUE, row.getInt(0));
+        Assertions.assertEquals(Integer.MIN_VALUE, row.getInt(1));
+        Assertions.assertThrows(NumberFormatException.class, () -> row.getInt(2));
+        Assertions.assertEquals(2147483648L, row.getLong(2));
+        Assertions.assertEquals(Long.MAX_VALUE, row.getLong(3));
+        Assertions.assertEquals(Long.MIN_VALUE, row.getLong(4));
+        for (int i = 0; i < 9; i++) {
+            Assertions.assertEquals(Double.parseDouble(row.getString(i)), row.getDouble(i));
+        }
+        Assertions.assertThrows(NumberFormatException.class, () -> row.getDouble(9));
+        Assertions.assertThrows(NumberFormatException.class, () -> row.getLong(9));
+        IoUtil.close(parser);
+    }
+
 }
@@ -5,6 +5,10 @@ import io.github.dunwu.tool.util.CharsetUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 public class CsvReaderTest {
 
     @Test
@@ -14,4 +18,47 @@ public class CsvReaderTest {
         Assertions.assertEquals("关注\"对象\"", data.getRow(0).get(2));
     }
 
+    @Test
+    public void readWithRowHandlerTest() {
+        CsvReader reader = new CsvReader();
+        CsvData data = reader.read(ResourceUtil.getReader("test.csv", CharsetUtil.CHARSET_UTF_8));
+
+        List<CsvRow> rows = new ArrayList<>();
+        reader.read(ResourceUtil.getReader("test.csv", CharsetUtil.CHARSET_UTF_8), rows::add);
+        Assertions.assertEquals(data.getRowCount(), rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(data.getRow(i).getRawList(), rows.get(i).getRawList());
+        }
+
+        // 覆盖可复用行的处理方法，不创建CsvRow
+        List<String> firstFields = new ArrayList<>();
+        reader.read(ResourceUtil.getReader("test.csv", CharsetUtil.CHARSET_UTF_8), new CsvRowHandler() {
+            @Override
+            public void handle(CsvRow row) {
+                Assertions.fail("handle(CsvRowView) should be called");
+            }
+
+            @Override
+            public void handle(CsvRowView row) {
+                firstFields.add(row.getString(0));
+            }
+        });
+        Assertions.assertEquals(rows.size(), firstFields.size());
+        Assertions.assertEquals(rows.get(0).get(0), firstFields.get(0));
+    }
+
+    @Test
+    public void cursorTest() throws IOException {
+        CsvReader reader = new CsvReader();
+        CsvData data = reader.read(ResourceUtil.getReader("test.csv", CharsetUtil.CHARSET_UTF_8));
+        int count = 0;
+        try (CsvCursor cursor = reader.cursor(ResourceUtil.getReader("test.csv", CharsetUtil.CHARSET_UTF_8))) {
+            while (cursor.next()) {
+                Assertions.assertEquals(data.getRow(count).getRawList(), cursor.getRow().toCsvRow().getRawList());
+                count++;
+            }
+        }
+        Assertions.assertEquals(data.getRowCount(), count);
+    }
+
 }
@@ -5,6 +5,9 @@ import io.github.dunwu.tool.util.CharsetUtil;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.List;
 
 public class CsvUtilTest {
@@ -29,13 +32,20 @@ public class CsvUtilTest {
     }
 
     @Test
-    public void writeTest() {
-        CsvWriter writer = CsvUtil.getWriter("d:/testWrite.csv", CharsetUtil.CHARSET_UTF_8);
-        writer.write(
-            new String[] { "a1", "b1", "c1", "123345346456745756756785656" },
-            new String[] { "a2", "b2", "c2" },
-            new String[] { "a3", "b3", "c3" }
-        );
+    public void writeTest() throws IOException {
+        File file = File.createTempFile("testWrite", ".csv");
+        try {
+            CsvWriter writer = CsvUtil.getWriter(file, CharsetUtil.CHARSET_UTF_8);
+            writer.write(
+                new String[] { "a1", "b1", "c1", "123345346456745756756785656" },
+                new String[] { "a2", "b2", "c2" },
+                new String[] { "a3", "b3", "c3" }
+            );
+            writer.close();
+            Assertions.assertThat(FileUtil.readUtf8Lines(file)).hasSize(3);
+        } finally {
+            Files.delete(file.toPath());
+        }
     }
 
 }
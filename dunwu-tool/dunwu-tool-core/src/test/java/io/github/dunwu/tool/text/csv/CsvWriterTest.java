@@ -0,0 +1,169 @@
+package io.github.dunwu.tool.text.csv;
+
+import io.github.dunwu.tool.collection.CollectionUtil;
+import io.github.dunwu.tool.util.CharsetUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link CsvWriter} 单元测试类
+ */
+public class CsvWriterTest {
+
+    @Test
+    public void writeEscapeTest() {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.write(new String[] { "a", "b,c", "d\"e", null, "f\ng" });
+        Assertions.assertEquals("a,\"b,c\",\"d\"\"e\",,\"f\ng\"\r\n", out.toString());
+
+        out = new StringWriter();
+        writer = new CsvWriter(out).setAlwaysDelimitText(true);
+        writer.write(new String[] { "a", null });
+        Assertions.assertEquals("\"a\",\"\"\r\n", out.toString());
+    }
+
+    @Test
+    public void writeSmallBufferTest() {
+        CsvWriteConfig config = CsvWriteConfig.defaultConfig();
+        config.setBufferSize(1);
+        StringWriter out = new StringWriter();
+        List<String[]> lines = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            String value = "值" + i + "-abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz";
+            lines.add(new String[] { value, "x\"" + i });
+            expected.append(value).append(",\"x\"\"").append(i).append("\"\r\n");
+        }
+        new CsvWriter(out, config).write(lines);
+        Assertions.assertEquals(expected.toString(), out.toString());
+    }
+
+    @Test
+    public void writeMixedValuesTest() {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).write(CollectionUtil.newArrayList(
+            new Object[] { 1, -20L, (short) 3, 1.5, null, "s" },
+            CollectionUtil.newArrayList(Long.MIN_VALUE, true, 'c')));
+        Assertions.assertEquals("1,-20,3,1.5,,s\r\n" + Long.MIN_VALUE + ",true,c\r\n", out.toString());
+
+        // 分隔符为数字字符时整数也需要包装
+        CsvWriteConfig config = CsvWriteConfig.defaultConfig();
+        config.setFieldSeparator('1');
+        out = new StringWriter();
+        new CsvWriter(out, config).write(Collections.singletonList(CollectionUtil.newArrayList(10, 2)));
+        Assertions.assertEquals("\"10\"12\r\n", out.toString());
+    }
+
+    @Test
+    public void writeBeansTest() {
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("苹果", 3, "红,大"));
+        items.add(null);
+        items.add(new Item(null, -1, "x"));
+
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeBeans(Item.class, items, true);
+        // null元素被跳过，不写出空行
+        Assertions.assertEquals("name,count,remark\r\n苹果,3,\"红,大\"\r\n,-1,x\r\n", out.toString());
+
+        // 写出结果可以按标题读回
+        CsvReadConfig readConfig = CsvReadConfig.defaultConfig();
+        readConfig.setContainsHeader(true);
+        CsvData data = new CsvReader(readConfig).read(new StringReader(out.toString()));
+        Assertions.assertEquals("红,大", data.getRow(0).getByName("remark"));
+    }
+
+    @Test
+    public void asyncFlushTest() throws IOException {
+        File file = File.createTempFile("csv-async", ".csv");
+        try {
+            CsvWriteConfig config = CsvWriteConfig.defaultConfig();
+            config.setAsyncFlush(true);
+            config.setAsyncBufferSize(7);
+            StringBuilder expected = new StringBuilder();
+            CsvWriter writer = new CsvWriter(file, CharsetUtil.CHARSET_UTF_8, false, config);
+            for (int i = 0; i < 1000; i++) {
+                // 包含代理对，验证跨缓冲区的编码
+                String value = "行" + i + "😀";
+                writer.write(new String[] { value, String.valueOf(i) });
+                expected.append(value).append(',').append(i).append("\r\n");
+            }
+            writer.close();
+            Assertions.assertEquals(expected.toString(),
+                new String(Files.readAllBytes(file.toPath()), CharsetUtil.CHARSET_UTF_8));
+
+            writer = new CsvWriter(file, CharsetUtil.CHARSET_UTF_8, true, config);
+            writer.write(new String[] { "end" });
+            writer.close();
+            Assertions.assertTrue(new String(Files.readAllBytes(file.toPath()), CharsetUtil.CHARSET_UTF_8)
+                .endsWith("999\r\nend\r\n"));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+
+    @Test
+    public void asyncFlushThreadTest() throws Exception {
+        File file = File.createTempFile("csv-async", ".csv");
+        CsvWriteConfig config = CsvWriteConfig.defaultConfig();
+        config.setAsyncFlush(true);
+        CsvWriter writer = new CsvWriter(file, CharsetUtil.CHARSET_UTF_8, false, config);
+        try {
+            writer.write(new String[] { "a" });
+            // 未关闭时后台线程空闲后也会退出
+            boolean alive = true;
+            for (int i = 0; i < 100 && alive; i++) {
+                Thread.sleep(50);
+                alive = Thread.getAllStackTraces().keySet().stream()
+                    .anyMatch(t -> t.getName().startsWith("csv-flush-"));
+            }
+            Assertions.assertFalse(alive);
+
+            // 线程退出后仍可继续写出
+            writer.write(new String[] { "b" });
+        } finally {
+            writer.close();
+        }
+        Assertions.assertEquals("a\r\nb\r\n", new String(Files.readAllBytes(file.toPath()), CharsetUtil.CHARSET_UTF_8));
+        Files.delete(file.toPath());
+    }
+
+    public static class Item {
+
+        private String name;
+
+        private int count;
+
+        private String remark;
+
+        public Item(String name, int count, String remark) {
+            this.name = name;
+            this.count = count;
+            this.remark = remark;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getRemark() {
+            return remark;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.github.dunwu.util.net;
 
 import io.github.dunwu.tool.convert.Convert;
+import io.github.dunwu.tool.io.IoUtil;
 import io.github.dunwu.tool.util.ArrayUtil;
 import io.github.dunwu.tool.util.StringUtil;
 import io.github.dunwu.tool.util.ValidatorUtil;
@@ -8,7 +9,6 @@ import io.github.dunwu.util.net.bean.City;
 import io.github.dunwu.util.net.bean.County;
 import io.github.dunwu.util.net.bean.Province;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.net.Inet6Address;
 import java.net.InetAddress;
@@ -17,7 +17,8 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Ip 工具类 (数据来自 IPIP)
@@ -43,15 +44,47 @@ public class IpUtils {
 
     private static final int IP_DB_INDEX_LENGTH = 256;
 
+    /**
+     * 文件头（索引长度）字节数
+     */
+    private static final int IP_DB_HEADER_LENGTH = 4;
+
+    /**
+     * 索引记录起始位置（文件头 + 256 个前缀索引）
+     */
+    private static final int IP_DB_RECORD_START = IP_DB_HEADER_LENGTH + IP_DB_INDEX_LENGTH * 4;
+
+    /**
+     * 每条索引记录字节数：4 字节结束 IP + 3 字节数据偏移 + 1 字节数据长度
+     */
+    private static final int IP_DB_RECORD_LENGTH = 8;
+
     private static final int[] IP_INDEXES = new int[IP_DB_INDEX_LENGTH];
 
+    /**
+     * 数据区起始位置（即索引长度）
+     */
     private static int offset;
 
+    /**
+     * 索引记录数
+     */
+    private static int recordCount;
+
+    /**
+     * IP 数据库只读缓冲区，只使用绝对位置读取，多线程查询无需加锁
+     */
     private static ByteBuffer dataBuffer;
 
-    private static ByteBuffer indexBuffer;
+    /**
+     * 按索引记录下标缓存的地域记录，命中时无锁、无对象分配
+     */
+    private static AtomicReferenceArray<RegionRecord> recordCache;
 
-    private static ReentrantLock lock = new ReentrantLock();
+    /**
+     * 按数据偏移驻留的地域记录，多条索引记录指向同一数据时共享同一对象
+     */
+    private static final Map<Integer, RegionRecord> RECORDS_BY_OFFSET = new ConcurrentHashMap<>();
 
     static {
         loadData();
@@ -153,35 +186,8 @@ public class IpUtils {
      * @return 所属地的编码
      */
     public static String getRegionCode(final String ip) {
-        String[] regionNames = getFullRegionName(ip);
-        if (REGION_CHINA.equals(regionNames[0])) {
-            if (StringUtil.isBlank(ArrayUtil.get(regionNames, 1))) {
-                return null;
-            }
-
-            Province province = RegionUtils.getProvinceByName(regionNames[1]);
-            if (province == null) {
-                return null;
-            }
-
-            if (StringUtil.isBlank(ArrayUtil.get(regionNames, 2))) {
-                return province.getCode();
-            }
-            City city = RegionUtils.getCityByName(regionNames[2]);
-            if (city == null) {
-                // 如果省级行政单位名和市级行政单位名同名，视其为直辖市
-                // 对于直辖市，第一个区号名为市辖区
-                if (regionNames[1].equals(regionNames[2])) {
-                    city = RegionUtils.getCityByName("市辖区");
-                    return city != null ? city.getCode() : null;
-                }
-                return null;
-            }
-
-            return city.getCode();
-        } else {
-            return null;
-        }
+        RegionRecord record = getRegionRecord(ip);
+        return record == null ? null : record.regionCode;
     }
 
     // getRegion
@@ -194,44 +200,168 @@ public class IpUtils {
      * @return 所属地的名称数组
      */
     public static String[] getFullRegionName(final String ip) {
+        RegionRecord record = getRegionRecord(ip);
+        if (record == null || record.regionNames == null) {
+            return null;
+        }
+        return record.regionNames.clone();
+    }
+
+    /**
+     * 查询 IP 地址对应的地域记录。在前缀对应的索引区间内二分查找，命中的记录按数据偏移驻留缓存
+     *
+     * @param ip IP 地址
+     * @return 地域记录，IP 不在数据库范围内返回 null
+     */
+    private static RegionRecord getRegionRecord(final String ip) {
         if (StringUtil.isBlank(ip)) {
             throw new IllegalArgumentException(ip + " must not be null");
         }
 
-        if (!isValidIpv4(ip)) {
+        long ipValue = parseIpv4(ip);
+        if (ipValue < 0) {
             throw new IllegalArgumentException(ip + " is not valid ipv4 address");
         }
+        if (dataBuffer == null) {
+            throw new IllegalStateException("IP 数据库文件 " + IP_DB_FILE + " 未加载");
+        }
 
-        int ipPrefixValue = new Integer(ip.substring(0, ip.indexOf(".")));
-        long ip2longValue = ipv4StrToInt(ip);
-        int start = IP_INDEXES[ipPrefixValue];
-        int maxCompLen = offset - 1028;
-        long indexOffset = -1;
-        int indexLength = -1;
-        byte b = 0;
-        for (start = start * 8 + 1024; start < maxCompLen; start += 8) {
-            if (indexBuffer.getInt(start) >= ip2longValue) {
-                indexOffset = Convert.bytesToLong(b, indexBuffer.get(start + 6),
-                    indexBuffer.get(start + 5), indexBuffer.get(start + 4));
-                indexLength = 0xFF & indexBuffer.get(start + 7);
-                break;
+        int index = searchRecord((int) (ipValue >>> 24), ipValue);
+        if (index < 0) {
+            return null;
+        }
+        RegionRecord record = recordCache.get(index);
+        if (record == null) {
+            record = loadRecord(index);
+            recordCache.lazySet(index, record);
+        }
+        return record;
+    }
+
+    /**
+     * 二分查找第一条结束 IP 大于等于指定 IP 的索引记录
+     *
+     * @param prefix  IP 第一段
+     * @param ipValue IP 的无符号数值
+     * @return 索引记录下标，不存在返回 -1
+     */
+    private static int searchRecord(final int prefix, final long ipValue) {
+        int low = IP_INDEXES[prefix];
+        int high = recordCount - 1;
+        if (prefix + 1 < IP_DB_INDEX_LENGTH) {
+            // 下一个前缀的首条记录可能覆盖当前前缀的末尾区间，因此包含在查找范围内
+            int nextStart = IP_INDEXES[prefix + 1];
+            if (nextStart < high && recordEndIp(nextStart) >= ipValue) {
+                high = nextStart;
             }
         }
+        if (low > high || recordEndIp(high) < ipValue) {
+            return -1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (recordEndIp(mid) >= ipValue) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static long recordEndIp(final int index) {
+        return dataBuffer.getInt(IP_DB_RECORD_START + index * IP_DB_RECORD_LENGTH) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * 读取索引记录指向的地域数据，同一数据偏移只解析一次
+     */
+    private static RegionRecord loadRecord(final int index) {
+        int position = IP_DB_RECORD_START + index * IP_DB_RECORD_LENGTH;
+        int dataOffset = (dataBuffer.get(position + 4) & 0xFF) | (dataBuffer.get(position + 5) & 0xFF) << 8
+            | (dataBuffer.get(position + 6) & 0xFF) << 16;
+        int dataLength = dataBuffer.get(position + 7) & 0xFF;
+        return RECORDS_BY_OFFSET.computeIfAbsent(dataOffset, key -> {
+            byte[] bytes = new byte[dataLength];
+            ByteBuffer buffer = dataBuffer.duplicate();
+            buffer.position(offset + key - 1024);
+            buffer.get(bytes, 0, dataLength);
+            String[] regions = new String(bytes, StandardCharsets.UTF_8).split("\t");
+            return new RegionRecord(toStandardRegionNames(regions));
+        });
+    }
 
-        byte[] bytes;
-        lock.lock();
-        try {
-            dataBuffer.position(offset + (int) indexOffset - 1024);
-            bytes = new byte[indexLength];
-            dataBuffer.get(bytes, 0, indexLength);
-        } finally {
-            lock.unlock();
+    /**
+     * 解析 IPv4 地址为无符号数值，不创建中间对象。规则与 {@link ValidatorUtil#isIpv4(CharSequence)} 一致
+     *
+     * @param ip IPv4 地址
+     * @return IP 数值，无效地址返回 -1
+     */
+    private static long parseIpv4(final String ip) {
+        long result = 0;
+        int part = 0;
+        int digits = 0;
+        int value = 0;
+        int firstDigit = 0;
+        for (int i = 0, len = ip.length(); i <= len; i++) {
+            char c = i < len ? ip.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                if (digits == 0) {
+                    firstDigit = c - '0';
+                }
+                if (++digits > 3) {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            } else if (c == '.') {
+                // 三位数不能以 0 开头，且不超过 255
+                if (digits == 0 || value > 255 || (digits == 3 && firstDigit == 0)) {
+                    return -1;
+                }
+                result = (result << 8) | value;
+                if (++part > IPV4_PART_COUNT) {
+                    return -1;
+                }
+                digits = 0;
+                value = 0;
+            } else {
+                return -1;
+            }
         }
+        return part == IPV4_PART_COUNT ? result : -1;
+    }
 
-        String temp = new String(bytes, StandardCharsets.UTF_8);
-        String[] regions = temp.split("\t");
+    /**
+     * 根据标准地名计算所属地编码（能得到的最小行政单位）
+     */
+    private static String toRegionCode(final String[] regionNames) {
+        if (ArrayUtil.isEmpty(regionNames) || !REGION_CHINA.equals(regionNames[0])) {
+            return null;
+        }
+        if (StringUtil.isBlank(ArrayUtil.get(regionNames, 1))) {
+            return null;
+        }
+
+        Province province = RegionUtils.getProvinceByName(regionNames[1]);
+        if (province == null) {
+            return null;
+        }
 
-        return toStandardRegionNames(regions);
+        if (StringUtil.isBlank(ArrayUtil.get(regionNames, 2))) {
+            return province.getCode();
+        }
+        City city = RegionUtils.getCityByName(regionNames[2]);
+        if (city == null) {
+            // 如果省级行政单位名和市级行政单位名同名，视其为直辖市
+            // 对于直辖市，第一个区号名为市辖区
+            if (regionNames[1].equals(regionNames[2])) {
+                city = RegionUtils.getCityByName("市辖区");
+                return city != null ? city.getCode() : null;
+            }
+            return null;
+        }
+
+        return city.getCode();
     }
 
     /**
@@ -323,18 +453,8 @@ public class IpUtils {
      * @return 所属地的名称
      */
     public static String getRegionName(final String ip) {
-        String[] regionNames = getFullRegionName(ip);
-        if (ArrayUtil.isEmpty(regionNames)) {
-            return null;
-        }
-
-        int end = regionNames.length - 1;
-        for (int i = end; i >= 0; i--) {
-            if (StringUtil.isNotBlank(regionNames[i])) {
-                return regionNames[i];
-            }
-        }
-        return null;
+        RegionRecord record = getRegionRecord(ip);
+        return record == null ? null : record.regionName;
     }
 
     public static String ipv4ToIpv6(final String ipv4Str) throws UnknownHostException {
@@ -357,45 +477,51 @@ public class IpUtils {
     }
 
     private static void loadData() {
+        InputStream fis = IpUtils.class.getClassLoader().getResourceAsStream(IP_DB_FILE);
+        if (fis == null) {
+            System.out.printf("加载 IP 数据库文件 %s 失败\n", IP_DB_FILE);
+            return;
+        }
+        byte[] bytes = IoUtil.readBytes(fis);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        offset = buffer.getInt(0);
+        ByteBuffer littleEndianBuffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < IP_DB_INDEX_LENGTH; i++) {
+            IP_INDEXES[i] = littleEndianBuffer.getInt(IP_DB_HEADER_LENGTH + i * 4);
+        }
+        // 与索引区末尾保留的 1024 字节对齐
+        recordCount = (offset - IP_DB_RECORD_START - 1024 + IP_DB_RECORD_LENGTH - 1) / IP_DB_RECORD_LENGTH;
+        recordCache = new AtomicReferenceArray<>(recordCount);
+        dataBuffer = buffer;
+    }
 
-        InputStream fis = null;
-        lock.lock();
-        try {
-            fis = IpUtils.class.getClassLoader().getResourceAsStream(IP_DB_FILE);
-            if (fis == null) {
-                System.out.printf("加载 IP 数据库文件 %s 失败\n", IP_DB_FILE);
-                return;
-            }
-            dataBuffer = ByteBuffer.allocate(fis.available());
-            byte[] chunk = new byte[4096];
-            while (fis.available() > 0) {
-                int len = fis.read(chunk);
-                dataBuffer.put(chunk, 0, len);
-            }
-            dataBuffer.position(0);
-            int indexLength = dataBuffer.getInt();
-            byte[] indexBytes = new byte[indexLength];
-            dataBuffer.get(indexBytes, 0, indexLength - 4);
-            indexBuffer = ByteBuffer.wrap(indexBytes);
-            indexBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            offset = indexLength;
-
-            int loop = 0;
-            while (loop++ < IP_DB_INDEX_LENGTH) {
-                IP_INDEXES[loop - 1] = indexBuffer.getInt();
+    /**
+     * 地域记录，缓存标准化后的地名、最小行政单位名称和编码
+     */
+    private static final class RegionRecord {
+
+        private final String[] regionNames;
+
+        private final String regionName;
+
+        private final String regionCode;
+
+        private RegionRecord(final String[] regionNames) {
+            this.regionNames = regionNames;
+            this.regionName = toRegionName(regionNames);
+            this.regionCode = toRegionCode(regionNames);
+        }
+
+        private static String toRegionName(final String[] regionNames) {
+            if (ArrayUtil.isEmpty(regionNames)) {
+                return null;
             }
-            indexBuffer.order(ByteOrder.BIG_ENDIAN);
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                if (fis != null) {
-                    fis.close();
+            for (int i = regionNames.length - 1; i >= 0; i--) {
+                if (StringUtil.isNotBlank(regionNames[i])) {
+                    return regionNames[i];
                 }
-            } catch (IOException e) {
-                e.printStackTrace();
             }
-            lock.unlock();
+            return null;
         }
     }
 
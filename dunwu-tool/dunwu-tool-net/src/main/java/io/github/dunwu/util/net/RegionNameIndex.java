@@ -0,0 +1,178 @@
+package io.github.dunwu.util.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 行政单位名称索引（不可变）
+ * <p>
+ * 同时维护精确名称索引和后缀树索引：后缀树的每个节点记录名称中包含该路径字符串的所有元素下标（按原始顺序升序），
+ * 因此“名称包含关键字”的模糊查询只需沿关键字走一遍后缀树，耗时与关键字长度成正比，与数据量无关。
+ * <p>
+ * 行政单位名称都很短（一般不超过 10 个字），后缀树的节点数量可控。
+ *
+ * @param <T> 元素类型
+ * @author <a href="mailto:forbreak@163.com">Zhang Peng</a>
+ * @since 2026-10-18
+ */
+final class RegionNameIndex<T> {
+
+    private static final int[] EMPTY_IDS = new int[0];
+
+    private final List<T> items;
+
+    /**
+     * 精确名称 -> 同名元素中的第一个元素下标
+     */
+    private final Map<String, Integer> exactIndex;
+
+    private final Node root;
+
+    RegionNameIndex(final List<T> items, final Function<T, String> nameGetter) {
+        this.items = items;
+        this.exactIndex = new HashMap<>(items.size() * 4 / 3 + 1);
+
+        BuildNode buildRoot = new BuildNode();
+        for (int i = 0; i < items.size(); i++) {
+            String name = nameGetter.apply(items.get(i));
+            if (name == null) {
+                continue;
+            }
+            exactIndex.putIfAbsent(name, i);
+            buildRoot.add(i);
+            for (int start = 0; start < name.length(); start++) {
+                BuildNode node = buildRoot;
+                for (int pos = start; pos < name.length(); pos++) {
+                    node = node.child(name.charAt(pos));
+                    node.add(i);
+                }
+            }
+        }
+        this.root = buildRoot.freeze();
+    }
+
+    /**
+     * 查询名称与关键字完全相同的第一个元素
+     *
+     * @param name 名称
+     * @return 元素，不存在返回 null
+     */
+    T getByExactName(final String name) {
+        if (name == null) {
+            return null;
+        }
+        Integer id = exactIndex.get(name);
+        return id == null ? null : items.get(id);
+    }
+
+    /**
+     * 查询名称包含关键字的第一个元素（按原始顺序）
+     *
+     * @param keyword 关键字
+     * @return 元素，不存在返回 null
+     */
+    T getFirstContaining(final String keyword) {
+        int[] ids = find(keyword);
+        return ids.length == 0 ? null : items.get(ids[0]);
+    }
+
+    /**
+     * 查询名称包含关键字的所有元素（按原始顺序）
+     *
+     * @param keyword 关键字
+     * @return 元素列表，不存在返回空列表
+     */
+    List<T> getAllContaining(final String keyword) {
+        int[] ids = find(keyword);
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+        List<T> result = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            result.add(items.get(id));
+        }
+        return result;
+    }
+
+    private int[] find(final String keyword) {
+        if (keyword == null) {
+            return EMPTY_IDS;
+        }
+        Node node = root;
+        for (int i = 0; i < keyword.length() && node != null; i++) {
+            node = node.child(keyword.charAt(i));
+        }
+        return node == null ? EMPTY_IDS : node.ids;
+    }
+
+    /**
+     * 冻结后的后缀树节点，子节点按字符排序后二分查找
+     */
+    private static final class Node {
+
+        private final char[] keys;
+
+        private final Node[] children;
+
+        private final int[] ids;
+
+        private Node(final char[] keys, final Node[] children, final int[] ids) {
+            this.keys = keys;
+            this.children = children;
+            this.ids = ids;
+        }
+
+        private Node child(final char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index < 0 ? null : children[index];
+        }
+
+    }
+
+    /**
+     * 构建期使用的可变节点
+     */
+    private static final class BuildNode {
+
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+
+        private int[] ids = new int[2];
+
+        private int size;
+
+        private BuildNode child(final char c) {
+            return children.computeIfAbsent(c, key -> new BuildNode());
+        }
+
+        private void add(final int id) {
+            // 元素按下标顺序加入，只需和最后一个比较即可去重
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            ids[size++] = id;
+        }
+
+        private Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, BuildNode> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, nodes, Arrays.copyOf(ids, size));
+        }
+
+    }
+
+}
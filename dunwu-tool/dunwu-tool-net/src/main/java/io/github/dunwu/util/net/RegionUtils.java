@@ -9,10 +9,15 @@ import io.github.dunwu.util.net.bean.County;
 import io.github.dunwu.util.net.bean.Province;
 
 import java.net.URL;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 /**
  * 中国省市区查询工具类
@@ -27,11 +32,31 @@ public class RegionUtils {
 
     private static final String JSON_DATA_FILE = "db/cn-area-info.json";
 
-    private static List<Province> provinces = new LinkedList<>();
+    /**
+     * 省、市、区/县按层级顺序存放在数组中，同一省的市、同一市的区/县是连续的
+     */
+    private static List<Province> provinces = Collections.emptyList();
+
+    private static List<City> cities = Collections.emptyList();
+
+    private static List<County> counties = Collections.emptyList();
+
+    private static Map<String, Province> provinceCodeIndex = Collections.emptyMap();
+
+    private static Map<String, City> cityCodeIndex = Collections.emptyMap();
+
+    private static Map<String, County> countyCodeIndex = Collections.emptyMap();
+
+    /**
+     * 市编码 + 区/县名称 -> 区/县
+     */
+    private static Map<String, County> cityCountyNameIndex = Collections.emptyMap();
+
+    private static RegionNameIndex<Province> provinceNameIndex;
 
-    private static List<City> cities = new LinkedList<>();
+    private static RegionNameIndex<City> cityNameIndex;
 
-    private static List<County> counties = new LinkedList<>();
+    private static RegionNameIndex<County> countyNameIndex;
 
     static {
         loadData();
@@ -43,7 +68,7 @@ public class RegionUtils {
     /**
      * 获取所有（地级行政单位）集合
      *
-     * @return Set<Province>
+     * @return 不可修改的 List<City>
      */
     public static List<City> getAllCities() {
         return cities;
@@ -52,7 +77,7 @@ public class RegionUtils {
     /**
      * 获取所有（县级行政单位）集合
      *
-     * @return Set<Province>
+     * @return 不可修改的 List<County>
      */
     public static List<County> getAllCounties() {
         return counties;
@@ -61,7 +86,7 @@ public class RegionUtils {
     /**
      * 获取所有（省级行政单位）集合
      *
-     * @return Set<Province>
+     * @return 不可修改的 List<Province>
      */
     public static List<Province> getAllProvinces() {
         return provinces;
@@ -74,12 +99,7 @@ public class RegionUtils {
      * @return City
      */
     public static City getCityByCode(String code) {
-        if (CollectionUtil.isEmpty(cities)) {
-            return null;
-        }
-
-        return cities.stream().filter(item -> item.getCode().equals(code)).findAny()
-            .orElse(null);
+        return code == null ? null : cityCodeIndex.get(code);
     }
 
     /**
@@ -89,12 +109,7 @@ public class RegionUtils {
      * @return County
      */
     public static County getCountyByCode(String code) {
-        if (CollectionUtil.isEmpty(counties)) {
-            return null;
-        }
-
-        return counties.stream().filter(item -> item.getCode().equals(code)).findAny()
-            .orElse(null);
+        return code == null ? null : countyCodeIndex.get(code);
     }
 
     /**
@@ -106,12 +121,11 @@ public class RegionUtils {
      * @return Set<County>
      */
     public static Set<County> getCountyByName(String name) {
-        if (CollectionUtil.isEmpty(counties)) {
+        if (countyNameIndex == null) {
             return null;
         }
 
-        return counties.stream().filter(item -> item.getName().contains(name))
-            .collect(Collectors.toSet());
+        return new LinkedHashSet<>(countyNameIndex.getAllContaining(name));
     }
 
     public static County getCountyByName(String cityName, String countyName) {
@@ -126,12 +140,21 @@ public class RegionUtils {
      * @return City
      */
     public static City getCityByName(String name) {
-        if (CollectionUtil.isEmpty(cities)) {
+        if (cityNameIndex == null) {
             return null;
         }
 
-        return cities.stream().filter(item -> item.getName().contains(name)).findAny()
-            .orElse(null);
+        return cityNameIndex.getFirstContaining(name);
+    }
+
+    /**
+     * 根据完整名称查询（地级行政单位）
+     *
+     * @param name 完整名称，如：南京市
+     * @return City
+     */
+    public static City getCityByExactName(String name) {
+        return cityNameIndex == null ? null : cityNameIndex.getByExactName(name);
     }
 
     public static County getCountyByName(City city, String countyName) {
@@ -139,6 +162,11 @@ public class RegionUtils {
             return null;
         }
 
+        if (city == cityCodeIndex.get(city.getCode())) {
+            return cityCountyNameIndex.get(city.getCode() + ":" + countyName);
+        }
+
+        // 非本工具类加载的 City 对象，遍历其下辖区/县
         Set<County> counties = city.getCounties();
         if (CollectionUtil.isEmpty(counties)) {
             return null;
@@ -159,12 +187,7 @@ public class RegionUtils {
      * @return Province
      */
     public static Province getProvinceByCode(String code) {
-        if (CollectionUtil.isEmpty(provinces)) {
-            return null;
-        }
-
-        return provinces.stream().filter(item -> item.getName().equals(code)).findAny()
-            .orElse(null);
+        return code == null ? null : provinceCodeIndex.get(code);
     }
 
     /**
@@ -174,12 +197,21 @@ public class RegionUtils {
      * @return Province
      */
     public static Province getProvinceByName(String name) {
-        if (CollectionUtil.isEmpty(provinces)) {
+        if (provinceNameIndex == null) {
             return null;
         }
 
-        return provinces.stream().filter(item -> item.getName().contains(name)).findAny()
-            .orElse(null);
+        return provinceNameIndex.getFirstContaining(name);
+    }
+
+    /**
+     * 根据完整名称查询（省级行政单位）
+     *
+     * @param name 完整名称，如：江苏省
+     * @return Province
+     */
+    public static Province getProvinceByExactName(String name) {
+        return provinceNameIndex == null ? null : provinceNameIndex.getByExactName(name);
     }
 
     private static void loadData() {
@@ -189,25 +221,50 @@ public class RegionUtils {
     }
 
     private static void parseRegionsFromJson(final String json) {
-        provinces.clear();
-        cities.clear();
-        counties.clear();
-
-        provinces = JSON.parseArray(json, Province.class);
-        if (CollectionUtil.isEmpty(provinces)) {
+        List<Province> provinceList = JSON.parseArray(json, Province.class);
+        if (CollectionUtil.isEmpty(provinceList)) {
             return;
         }
-        for (Province province : provinces) {
+
+        List<City> cityList = new ArrayList<>();
+        List<County> countyList = new ArrayList<>();
+        Map<String, County> cityCountyNames = new HashMap<>();
+        for (Province province : provinceList) {
             for (City city : province.getCities()) {
                 city.setProvince(province);
                 for (County county : city.getCounties()) {
                     county.setProvince(province);
                     county.setCity(city);
-                    counties.add(county);
+                    countyList.add(county);
+                    cityCountyNames.putIfAbsent(city.getCode() + ":" + county.getName(), county);
                 }
-                cities.add(city);
+                cityList.add(city);
             }
         }
+
+        Province[] provinceArray = provinceList.toArray(new Province[0]);
+        City[] cityArray = cityList.toArray(new City[0]);
+        County[] countyArray = countyList.toArray(new County[0]);
+        provinces = Collections.unmodifiableList(Arrays.asList(provinceArray));
+        cities = Collections.unmodifiableList(Arrays.asList(cityArray));
+        counties = Collections.unmodifiableList(Arrays.asList(countyArray));
+
+        provinceCodeIndex = toCodeIndex(provinceArray, Province::getCode);
+        cityCodeIndex = toCodeIndex(cityArray, City::getCode);
+        countyCodeIndex = toCodeIndex(countyArray, County::getCode);
+        cityCountyNameIndex = Collections.unmodifiableMap(cityCountyNames);
+
+        provinceNameIndex = new RegionNameIndex<>(provinces, Province::getName);
+        cityNameIndex = new RegionNameIndex<>(cities, City::getName);
+        countyNameIndex = new RegionNameIndex<>(counties, County::getName);
+    }
+
+    private static <T> Map<String, T> toCodeIndex(final T[] items, final Function<T, String> codeGetter) {
+        Map<String, T> index = new HashMap<>(items.length * 4 / 3 + 1);
+        for (T item : items) {
+            index.putIfAbsent(codeGetter.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
     }
 
 }
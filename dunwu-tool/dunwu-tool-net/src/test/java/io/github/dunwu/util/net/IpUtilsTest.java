@@ -5,8 +5,10 @@ import io.github.dunwu.tool.util.StringUtil;
 import org.junit.jupiter.api.Test;
 
 import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class IpUtilsTest {
 
@@ -72,6 +74,40 @@ class IpUtilsTest {
         System.out.println("平均耗时：" + (time / ips.length));
     }
 
+    @Test
+    void getRegionConcurrently() throws InterruptedException {
+        String[] ips = { "117.136.45.132", "8.8.8.8", "218.93.179.246", "202.21.96.90", "1.0.1.0" };
+        String[] expected = new String[ips.length];
+        for (int i = 0; i < ips.length; i++) {
+            expected[i] = StringUtil.join(",", IpUtils.getFullRegionName(ips[i]));
+        }
+
+        AtomicInteger mismatch = new AtomicInteger();
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 1000; round++) {
+                    int i = round % ips.length;
+                    if (!expected[i].equals(StringUtil.join(",", IpUtils.getFullRegionName(ips[i])))) {
+                        mismatch.incrementAndGet();
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(mismatch.get()).isZero();
+
+        // 返回的数组是副本，修改不影响后续查询
+        IpUtils.getFullRegionName(ips[0])[0] = "";
+        assertThat(StringUtil.join(",", IpUtils.getFullRegionName(ips[0]))).isEqualTo(expected[0]);
+
+        assertThatThrownBy(() -> IpUtils.getFullRegionName("256.1.1.1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IpUtils.getFullRegionName("01.1.1")).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void test() throws UnknownHostException {
         String ipv6Str = IpUtils.ipv4ToIpv6("127.0.0.1");
@@ -90,4 +90,35 @@ class RegionUtilsTest {
         });
     }
 
+    @Test
+    void getByCode() {
+        assertThat(RegionUtils.getProvinceByCode("32").getName()).isEqualTo("江苏省");
+        assertThat(RegionUtils.getCityByCode("3201").getName()).isEqualTo("南京市");
+        County county = RegionUtils.getCountyByCode("320102");
+        assertThat(county.getName()).isEqualTo("玄武区");
+        assertThat(county.getCity().getCode()).isEqualTo("3201");
+        assertThat(county.getProvince().getCode()).isEqualTo("32");
+        assertThat(RegionUtils.getCityByCode("0000")).isNull();
+        assertThat(RegionUtils.getCityByCode(null)).isNull();
+    }
+
+    @Test
+    void getByExactName() {
+        assertThat(RegionUtils.getProvinceByExactName("江苏省").getCode()).isEqualTo("32");
+        assertThat(RegionUtils.getProvinceByExactName("江苏")).isNull();
+        assertThat(RegionUtils.getCityByExactName("南京市").getCode()).isEqualTo("3201");
+        assertThat(RegionUtils.getCountyByName("南京", "玄武区").getCode()).isEqualTo("320102");
+        assertThat(RegionUtils.getCountyByName("南京", "玄武")).isNull();
+    }
+
+    @Test
+    void getByNameContains() {
+        assertThat(RegionUtils.getProvinceByName("江苏").getCode()).isEqualTo("32");
+        assertThat(RegionUtils.getCityByName("京市").getCode()).isEqualTo("3201");
+        assertThat(RegionUtils.getCityByName("不存在的市")).isNull();
+        Set<County> counties = RegionUtils.getCountyByName("鼓楼区");
+        long expected = RegionUtils.getAllCounties().stream().filter(item -> item.getName().contains("鼓楼区")).count();
+        assertThat(counties).hasSize((int) expected).isNotEmpty();
+    }
+
 }